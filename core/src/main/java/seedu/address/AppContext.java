@@ -0,0 +1,366 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Version;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScheduleFileWatcher;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Schedule;
+import seedu.address.model.ScheduleLoader;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.archive.ArchivePolicy;
+import seedu.address.model.archive.EventArchive;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.reminder.Reminder;
+import seedu.address.reminder.ReminderEngine;
+import seedu.address.server.ScheduleServer;
+import seedu.address.storage.JsonEventArchiveStorage;
+import seedu.address.storage.JsonScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PartitionedScheduleStorage;
+import seedu.address.storage.ScheduleStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.tenant.TenantHost;
+
+/**
+ * Wires up the config, storage, model and logic of the application.
+ * Does not depend on JavaFX, so it is shared by the GUI and the command line front ends.
+ */
+public class AppContext {
+
+    public static final Version VERSION = new Version(1, 4, 0, true);
+
+    private static final Logger logger = LogsCenter.getLogger(AppContext.class);
+    private static final long WRITER_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    protected Config config;
+    protected Storage storage;
+    protected Model model;
+    protected Logic logic;
+    protected ExecutorService writer;
+    protected ScheduleServer server;
+    protected TenantHost tenantHost;
+    protected ScheduleFileWatcher watcher;
+    protected ReminderEngine reminders;
+
+    /**
+     * Loads the config at {@code configFilePath}, or the default config if it is null,
+     * followed by the user prefs and schedule that it points to.
+     */
+    public void init(Path configFilePath) {
+        logger.info("=============================[ Initializing Schedule ]===========================");
+        config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        ScheduleStorage scheduleStorage = userPrefs.isSchedulePartitioned()
+                ? new PartitionedScheduleStorage(userPrefs.getScheduleFilePath())
+                : new JsonScheduleStorage(userPrefs.getScheduleFilePath());
+        storage = new StorageManager(scheduleStorage, userPrefsStorage);
+
+        initLogging(config);
+
+        JsonEventArchiveStorage archiveStorage = new JsonEventArchiveStorage(
+                JsonEventArchiveStorage.getArchiveFilePath(userPrefs.getScheduleFilePath()));
+        model = initModelManager(storage, archiveStorage, userPrefs,
+                scheduleStorage instanceof ScheduleLoader ? (ScheduleLoader) scheduleStorage : null);
+        model.setEventArchive(new EventArchive(() -> readArchive(archiveStorage)));
+
+        logic = new LogicManager(model, storage);
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the single thread that every command of the application, from any front end, must run on.
+     */
+    public Executor getWriter() {
+        return writer;
+    }
+
+    /**
+     * Starts the local HTTP API on the port in the config, if it is turned on.
+     * Commands received by the API are run on the writer, with all other commands.
+     */
+    public void startServer() {
+        if (config.getServerPort() <= 0) {
+            return;
+        }
+        try {
+            server = new ScheduleServer(logic, writer,
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), config.getServerPort()));
+            if (config.getTenantDirectory() != null) {
+                tenantHost = new TenantHost(config.getTenantDirectory(), config.getTenantCapacity());
+                server.hostTenants(tenantHost);
+            }
+            server.start();
+        } catch (IOException e) {
+            logger.warning("Failed to start the schedule API : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Starts reloading the changes that other programs make to the schedule file. The file is read with a storage of
+     * its own, and the changes are reloaded on the writer. A schedule partitioned by month is not watched.
+     */
+    public void watchScheduleFile() {
+        if (model.getUserPrefs().isSchedulePartitioned()) {
+            return;
+        }
+        try {
+            watcher = new ScheduleFileWatcher(logic, writer, new JsonScheduleStorage(storage.getScheduleFilePath()));
+            watcher.start();
+        } catch (IOException e) {
+            logger.warning("Failed to watch the schedule file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Starts reminding the user of upcoming events, {@code ReminderEngine#DEFAULT_LEAD_TIME} before they start, by
+     * passing the reminders to {@code notifier} on the reminder thread.
+     */
+    public void startReminders(Consumer<Reminder> notifier) {
+        reminders = new ReminderEngine(logic, writer, ReminderEngine.DEFAULT_LEAD_TIME, Clock.systemDefaultZone(),
+                notifier);
+        reminders.start();
+    }
+
+    /**
+     * Stops the local HTTP API, the schedule file watcher and the reminders, if they were started, waits for the
+     * commands already submitted to the writer, and saves the tenant schedules and the user prefs.
+     */
+    public void stop() {
+        logger.info("============================ [ Stopping Schedule ] =============================");
+        if (server != null) {
+            server.stop();
+        }
+        if (watcher != null) {
+            watcher.stop();
+        }
+        if (reminders != null) {
+            reminders.stop();
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(WRITER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + WRITER_SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (tenantHost != null) {
+            try {
+                tenantHost.flush();
+            } catch (IOException e) {
+                logger.severe("Failed to save tenant schedules " + StringUtil.getDetails(e));
+            }
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}, which
+     * loads the rest of the schedule from {@code scheduleLoader} if storage only read part of it. <br>
+     * The events that {@code userPrefs} says are old enough are first moved to {@code archiveStorage}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, JsonEventArchiveStorage archiveStorage,
+            ReadOnlyUserPrefs userPrefs, ScheduleLoader scheduleLoader) {
+        Optional<ReadOnlySchedule> scheduleOptional;
+        ReadOnlySchedule initialData;
+        try {
+            scheduleOptional = storage.readSchedule();
+            if (!scheduleOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample Schedule");
+            }
+            initialData = scheduleOptional.isPresent()
+                    ? archivePastEvents(scheduleOptional.get(), storage, archiveStorage,
+                            new ArchivePolicy(userPrefs.getArchiveAfterDays()), scheduleLoader)
+                    : SampleDataUtil.getSampleSchedule();
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty Schedule");
+            initialData = new Schedule();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty Schedule");
+            initialData = new Schedule();
+        }
+
+        return new ModelManager(initialData, userPrefs, scheduleLoader);
+    }
+
+    /**
+     * Moves the events of {@code schedule} that {@code policy} says are old enough to {@code archiveStorage}, and
+     * returns the rest of the schedule, which is saved to {@code storage}. If storage only read part of the schedule,
+     * the parts that may hold such events are first loaded from {@code scheduleLoader} and added to
+     * {@code schedule}. The archive is saved first, so that no event is lost if either save fails. If the archive
+     * cannot be read or saved, nothing is archived.
+     */
+    private ReadOnlySchedule archivePastEvents(ReadOnlySchedule schedule, Storage storage,
+            JsonEventArchiveStorage archiveStorage, ArchivePolicy policy, ScheduleLoader scheduleLoader) {
+        LocalDate today = LocalDate.now();
+        if (policy.isEnabled() && scheduleLoader != null) {
+            ReadOnlySchedule pastPartitions = scheduleLoader.loadWithEventsBefore(policy.getCutoff(today));
+            if (!pastPartitions.getEventList().isEmpty() || !pastPartitions.getBlockedSlotList().isEmpty()) {
+                Schedule withPastPartitions = new Schedule(schedule);
+                pastPartitions.getEventList().forEach(withPastPartitions::addEvent);
+                pastPartitions.getBlockedSlotList().forEach(withPastPartitions::addBlockedSlot);
+                schedule = withPastPartitions;
+            }
+        }
+        List<Event> pastEvents = policy.getEventsToArchive(schedule, today);
+        if (pastEvents.isEmpty()) {
+            return schedule;
+        }
+        try {
+            List<Event> archived = new ArrayList<>(archiveStorage.readArchive().orElse(List.of()));
+            archived.addAll(pastEvents);
+            archiveStorage.saveArchive(archived);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to archive past events : " + StringUtil.getDetails(e));
+            return schedule;
+        }
+
+        Schedule hotSchedule = new Schedule(schedule);
+        pastEvents.forEach(hotSchedule::removeEvent);
+        try {
+            storage.saveSchedule(hotSchedule);
+        } catch (IOException e) {
+            // the events are archived, and are only removed from the file the next time it is saved
+            logger.warning("Failed to save the schedule without the archived events : " + StringUtil.getDetails(e));
+        }
+        logger.info("Archived " + pastEvents.size() + " past events");
+        return hotSchedule;
+    }
+
+    private static List<Event> readArchive(JsonEventArchiveStorage archiveStorage) {
+        try {
+            return archiveStorage.readArchive().orElse(List.of());
+        } catch (DataConversionException e) {
+            logger.warning("Archive file not in the correct format. No archived events will be shown");
+            return List.of();
+        }
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    protected Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty Schedule");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.observable.SequenceChangeListener;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandWriter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.event.Event;
+
+/**
+ * Runs the application without a GUI, reading commands from standard input and printing the results to
+ * standard output. Never loads JavaFX.
+ */
+public class CliMain {
+
+    public static final String CONFIG_OPTION = "--config=";
+    public static final String PROMPT = "> ";
+
+    private static final Logger logger = LogsCenter.getLogger(CliMain.class);
+
+    private final Logic logic;
+    private final CommandWriter commandWriter;
+    private final PrintStream out;
+    private boolean isListChanged;
+
+    /**
+     * Creates a {@code CliMain} that executes commands with {@code logic} on {@code writer}
+     * and prints to {@code out}.
+     */
+    public CliMain(Logic logic, Executor writer, PrintStream out) {
+        this.logic = logic;
+        this.commandWriter = new CommandWriter(logic, writer);
+        this.out = out;
+    }
+
+    /**
+     * Loads the schedule from the config given with {@code --config=}, or the default config,
+     * and executes the commands read from standard input.
+     */
+    public static void main(String[] args) throws IOException {
+        AppContext context = new AppContext();
+        context.init(parseConfigPath(args));
+        logger.info("Starting Schedule " + AppContext.VERSION + " on the command line");
+
+        context.startServer();
+        context.watchScheduleFile();
+        context.startReminders(reminder -> System.out.println(reminder.getMessage()));
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        new CliMain(context.getLogic(), context.getWriter(), System.out).run(in);
+        context.stop();
+    }
+
+    /**
+     * Returns the path given with {@code --config=}, or null if there is none or it is not a valid path.
+     */
+    static Path parseConfigPath(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith(CONFIG_OPTION)) {
+                continue;
+            }
+            String configPath = arg.substring(CONFIG_OPTION.length());
+            if (FileUtil.isValidPath(configPath)) {
+                return Paths.get(configPath);
+            }
+            logger.warning("Invalid config path " + configPath + ". Using default config path.");
+        }
+        return null;
+    }
+
+    /**
+     * Executes the commands read from {@code in}, one per line, until the input ends or the exit command is given.
+     * The event list is printed after each command that changed it.
+     */
+    public void run(BufferedReader in) throws IOException {
+        SequenceChangeListener<Event> listener = unused -> isListChanged = true;
+        logic.getFilteredEventList().addListener(listener);
+        try {
+            printEvents(logic.getFilteredEventList());
+            out.print(PROMPT);
+            out.flush();
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                if (!line.isBlank() && execute(line)) {
+                    return;
+                }
+                out.print(PROMPT);
+                out.flush();
+            }
+        } finally {
+            logic.getFilteredEventList().removeListener(listener);
+        }
+    }
+
+    /**
+     * Executes {@code commandText} on the writer, waits for it to finish and prints its result.
+     * @return true if the command asked the application to exit.
+     */
+    private boolean execute(String commandText) {
+        isListChanged = false;
+        try {
+            CommandResult commandResult = commandWriter.submit(commandText).get();
+            out.println(commandResult.getFullFeedbackToUser());
+            if (isListChanged) {
+                printEvents(logic.getFilteredEventList());
+            }
+            return commandResult.isExit();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            out.println(e.getCause().getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    private void printEvents(List<Event> events) {
+        for (int i = 0; i < events.size(); i++) {
+            out.println((i + 1) + ". " + events.get(i).getName() + " " + events.get(i).getDate() + " "
+                    + events.get(i).getTimeSlot());
+        }
+    }
+}
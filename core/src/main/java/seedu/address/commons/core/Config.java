@@ -15,6 +15,12 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    /** Port of the local HTTP API, or 0 if the API is turned off. */
+    private int serverPort = 0;
+    /** Directory of the schedules served to other tenants by the HTTP API, or null if there are none. */
+    private Path tenantDirectory = null;
+    /** Number of tenant schedules kept in memory. */
+    private int tenantCapacity = 16;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +38,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(int serverPort) {
+        this.serverPort = serverPort;
+    }
+
+    public Path getTenantDirectory() {
+        return tenantDirectory;
+    }
+
+    public void setTenantDirectory(Path tenantDirectory) {
+        this.tenantDirectory = tenantDirectory;
+    }
+
+    public int getTenantCapacity() {
+        return tenantCapacity;
+    }
+
+    public void setTenantCapacity(int tenantCapacity) {
+        this.tenantCapacity = tenantCapacity;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +74,15 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && serverPort == o.serverPort
+                && Objects.equals(tenantDirectory, o.tenantDirectory)
+                && tenantCapacity == o.tenantCapacity;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, serverPort, tenantDirectory, tenantCapacity);
     }
 
     @Override
@@ -57,6 +90,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nServer port : " + serverPort);
         return sb.toString();
     }
 
@@ -0,0 +1,42 @@
+package seedu.address.commons.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A skeletal {@code ObservableSequence} that keeps track of its listeners.
+ * Subclasses implement {@code get} and {@code size}, and call {@link #fireChange} after each change.
+ * The sequence cannot be modified through the {@code List} interface.
+ */
+public abstract class AbstractObservableSequence<T> extends AbstractList<T> implements ObservableSequence<T> {
+
+    private final List<SequenceChangeListener<? super T>> listeners = new ArrayList<>();
+
+    @Override
+    public void addListener(SequenceChangeListener<? super T> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(SequenceChangeListener<? super T> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Tells every listener that the elements in {@code removed} starting at {@code from} were replaced by
+     * the elements in {@code added}. Does nothing if both are empty.
+     */
+    protected void fireChange(int from, List<T> removed, List<T> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        SequenceChange<T> change = new SequenceChange<>(from, removed, added);
+        for (SequenceChangeListener<? super T> listener : new ArrayList<>(listeners)) {
+            listener.onChanged(change);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.commons.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An {@code ObservableSequence} of the elements of a source sequence that satisfy a predicate.
+ * Each change to the source is turned into at most one change to this sequence, covering only the elements
+ * that satisfy the predicate.
+ */
+public class FilteredSequence<T> extends AbstractObservableSequence<T> {
+
+    private final ObservableSequence<T> source;
+    private Predicate<? super T> predicate;
+    /** Indexes in {@code source} of the elements in this sequence, in increasing order. */
+    private int[] indexes = new int[0];
+    private int size;
+
+    /**
+     * Creates a sequence of all the elements of {@code source}.
+     */
+    public FilteredSequence(ObservableSequence<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(this::onSourceChanged);
+        refilter();
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return source.get(indexes[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Keeps only the elements of the source that satisfy {@code predicate}, or all of them if it is null.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        this.predicate = predicate;
+        List<T> removed = copyElements();
+        refilter();
+        fireChange(0, removed, copyElements());
+    }
+
+    private boolean matches(T element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    // Both walk the source with its iterator, as looking up each index separately is slower on a large source.
+    private void refilter() {
+        indexes = new int[source.size()];
+        size = 0;
+        int i = 0;
+        for (T element : source) {
+            if (matches(element)) {
+                indexes[size++] = i;
+            }
+            i++;
+        }
+    }
+
+    private List<T> copyElements() {
+        List<T> elements = new ArrayList<>(size);
+        Iterator<T> iterator = source.iterator();
+        for (int i = 0; elements.size() < size; i++) {
+            T element = iterator.next();
+            if (i == indexes[elements.size()]) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    private void onSourceChanged(SequenceChange<? extends T> change) {
+        int from = change.getFrom();
+        int removedCount = change.getRemoved().size();
+        int lo = firstIndexAtLeast(from);
+        int hi = firstIndexAtLeast(from + removedCount);
+
+        List<T> removed = new ArrayList<>();
+        for (int i = lo; i < hi; i++) {
+            removed.add(change.getRemoved().get(indexes[i] - from));
+        }
+        List<T> added = new ArrayList<>();
+        int[] addedIndexes = new int[change.getAdded().size()];
+        for (int j = 0; j < change.getAdded().size(); j++) {
+            T element = change.getAdded().get(j);
+            if (matches(element)) {
+                addedIndexes[added.size()] = from + j;
+                added.add(element);
+            }
+        }
+
+        int shift = change.getAdded().size() - removedCount;
+        int[] updated = new int[Math.max(size - removed.size() + added.size(), indexes.length)];
+        System.arraycopy(indexes, 0, updated, 0, lo);
+        System.arraycopy(addedIndexes, 0, updated, lo, added.size());
+        for (int i = hi; i < size; i++) {
+            updated[i - removed.size() + added.size()] = indexes[i] + shift;
+        }
+        size = size - removed.size() + added.size();
+        indexes = updated;
+
+        fireChange(lo, removed, added);
+    }
+
+    /**
+     * Returns the position of the first element of this sequence whose index in the source is at least
+     * {@code sourceIndex}.
+     */
+    private int firstIndexAtLeast(int sourceIndex) {
+        int position = Arrays.binarySearch(indexes, 0, size, sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+}
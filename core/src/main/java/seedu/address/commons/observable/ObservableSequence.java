@@ -0,0 +1,20 @@
+package seedu.address.commons.observable;
+
+import java.util.List;
+
+/**
+ * A read-only {@code List} that reports every change to its elements to its listeners.
+ * It has no dependency on any Ui toolkit, so the model can be used without one.
+ */
+public interface ObservableSequence<T> extends List<T> {
+
+    /**
+     * Adds {@code listener}, which will be told about every later change to this sequence.
+     */
+    void addListener(SequenceChangeListener<? super T> listener);
+
+    /**
+     * Removes {@code listener} if it was added before.
+     */
+    void removeListener(SequenceChangeListener<? super T> listener);
+}
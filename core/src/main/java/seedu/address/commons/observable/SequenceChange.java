@@ -0,0 +1,65 @@
+package seedu.address.commons.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes a single change to an {@code ObservableSequence}: the elements in {@code removed} that started at
+ * {@code from} were replaced by the elements in {@code added}.
+ * Guarantees: immutable; at least one of {@code removed} and {@code added} is not empty.
+ */
+public final class SequenceChange<T> {
+
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Constructs a {@code SequenceChange}.
+     *
+     * @param from Index of the first changed element.
+     * @param removed Elements that were removed from {@code from} onwards.
+     * @param added Elements that now start at {@code from}.
+     */
+    public SequenceChange(int from, List<T> removed, List<T> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        if (removed.isEmpty() && added.isEmpty()) {
+            throw new IllegalArgumentException("A change must remove or add an element");
+        }
+        this.from = from;
+        this.removed = Collections.unmodifiableList(removed);
+        this.added = Collections.unmodifiableList(added);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    public boolean wasAdded() {
+        return !added.isEmpty();
+    }
+
+    public boolean wasRemoved() {
+        return !removed.isEmpty();
+    }
+
+    public boolean wasReplaced() {
+        return wasAdded() && wasRemoved();
+    }
+
+    @Override
+    public String toString() {
+        return "from " + from + " removed " + removed + " added " + added;
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.observable;
+
+/**
+ * Listens to the changes made to an {@code ObservableSequence}.
+ */
+@FunctionalInterface
+public interface SequenceChangeListener<T> {
+
+    /**
+     * Called after {@code change} was made, when the sequence already holds its new elements.
+     */
+    void onChanged(SequenceChange<? extends T> change);
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Submits commands to be executed by a {@code Logic} on a writer, without waiting for them.
+ * The writer must run one task at a time, in order, so that commands from every front end are applied one at a
+ * time, in the order they were submitted.
+ */
+public class CommandWriter {
+
+    private final Logic logic;
+    private final Executor writer;
+
+    /**
+     * Creates a {@code CommandWriter} that executes commands with {@code logic} on {@code writer}.
+     */
+    public CommandWriter(Logic logic, Executor writer) {
+        requireAllNonNull(logic, writer);
+        this.logic = logic;
+        this.writer = writer;
+    }
+
+    /**
+     * Executes {@code commandText} on the writer once all earlier commands are done.
+     * The returned future completes with the result of the command, or with the {@code CommandException} or
+     * {@code ParseException} that it threw.
+     *
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        writer.execute(() -> {
+            try {
+                result.complete(logic.execute(commandText));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+}
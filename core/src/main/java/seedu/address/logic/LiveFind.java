@@ -0,0 +1,109 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FindCommand;
+
+/**
+ * Filters the list of events while a {@code find} command is being typed, before it is entered.
+ * Events are shown if a word in their name starts with any of the keywords typed so far.
+ * <p>
+ * The filter is only worked out once typing pauses for {@link #DEBOUNCE_MILLIS}, and is then applied on the writer.
+ * Each new text replaces the filter for the previous one if that has not been applied yet, so only the filter for
+ * the latest text is ever applied.
+ */
+public class LiveFind {
+
+    public static final long DEBOUNCE_MILLIS = 60;
+
+    private static final Pattern FIND_COMMAND_FORMAT =
+            Pattern.compile("\\s*" + FindCommand.COMMAND_WORD + "(?<keywords>\\s.*)?");
+
+    private final Logic logic;
+    private final Executor writer;
+    private final ScheduledExecutorService timer;
+    private final long debounceMillis;
+    private final AtomicLong latestUpdate = new AtomicLong();
+    private Future<?> pendingUpdate;
+    private boolean isFiltering;
+
+    /**
+     * Creates a {@code LiveFind} that filters the events of {@code logic} on {@code writer}.
+     */
+    public LiveFind(Logic logic, Executor writer) {
+        this(logic, writer, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-find");
+            thread.setDaemon(true);
+            return thread;
+        }), DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Creates a {@code LiveFind} that waits on {@code timer} for {@code debounceMillis} before each filter.
+     */
+    LiveFind(Logic logic, Executor writer, ScheduledExecutorService timer, long debounceMillis) {
+        requireAllNonNull(logic, writer, timer);
+        this.logic = logic;
+        this.writer = writer;
+        this.timer = timer;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Filters the events by the keywords in {@code commandText} if it is a {@code find} command.
+     * Otherwise, shows all events again if they were filtered as the text was typed.
+     */
+    public synchronized void update(String commandText) {
+        Matcher matcher = FIND_COMMAND_FORMAT.matcher(commandText);
+        boolean isFindCommand = matcher.matches();
+        if (!isFindCommand && !isFiltering) {
+            return;
+        }
+        isFiltering = isFindCommand;
+        schedule(isFindCommand ? parseKeywords(matcher.group("keywords")) : Collections.emptyList());
+    }
+
+    /**
+     * Drops the filter that has not been applied yet, and leaves the events as they are when the text changes next.
+     * Called when the command is entered, so that it is not followed by a stale filter.
+     */
+    public synchronized void cancel() {
+        latestUpdate.incrementAndGet();
+        if (pendingUpdate != null) {
+            pendingUpdate.cancel(false);
+        }
+        isFiltering = false;
+    }
+
+    private void schedule(List<String> prefixes) {
+        long update = latestUpdate.incrementAndGet();
+        if (pendingUpdate != null) {
+            pendingUpdate.cancel(false);
+        }
+        pendingUpdate = timer.schedule(() -> writer.execute(() -> {
+            // a newer text may have been typed while this waited for the writer
+            if (update == latestUpdate.get()) {
+                logic.filterEventsByNamePrefixes(prefixes);
+            }
+        }), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static List<String> parseKeywords(String keywords) {
+        if (keywords == null || keywords.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(keywords.trim().split("\\s+"));
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.observable.ObservableSequence;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.ScheduleSnapshot;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.change.ScheduleChangeStream;
+import seedu.address.model.event.Event;
+import seedu.address.model.sync.ChangeBundle;
+
+/**
+ * API of the Logic component
+ */
+public interface Logic {
+    /**
+     * Executes the command and returns the result.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult execute(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Returns the Schedule.
+     *
+     * @see seedu.address.model.Model#getSchedule()
+     */
+    ReadOnlySchedule getSchedule();
+
+    /**
+     * Returns the contents of the Schedule as of the end of the last command.
+     * Unlike the other methods, this can be called from any thread.
+     */
+    ScheduleSnapshot getScheduleSnapshot();
+
+    /**
+     * Changes the schedule to {@code newData}, such as the schedule file after it was changed by another program,
+     * applying only the events and blocked slots that differ as an undoable change. The schedule is not saved.
+     * Like a command, this must only be called on the writer.
+     * @return true if the schedule was changed.
+     */
+    boolean reloadSchedule(ReadOnlySchedule newData);
+
+    /**
+     * Returns the number of times the schedule has been saved.
+     * Unlike the other methods, this can be called from any thread.
+     */
+    long getScheduleSaveCount();
+
+    /**
+     * Returns the stream of the changes to the schedule, to which integrations can listen or subscribe.
+     *
+     * @see seedu.address.model.Model#getScheduleChanges()
+     */
+    ScheduleChangeStream getScheduleChanges();
+
+    /**
+     * Returns the latest changes to the events and blocked slots changed after position {@code seq} of the
+     * schedule's change feed, for another copy of the schedule to apply.
+     * Like a command, this must only be called on the writer.
+     */
+    ChangeBundle exportChanges(long seq);
+
+    /**
+     * Applies the changes in {@code bundle}, made to another copy of the schedule, as an undoable change and saves
+     * the schedule. Changes to an event or blocked slot that was changed later here are left out.
+     * Like a command, this must only be called on the writer.
+     * @return the number of changes that were applied.
+     * @throws IOException if the schedule could not be saved.
+     */
+    int importChanges(ChangeBundle bundle) throws IOException;
+
+    /** Returns an unmodifiable view of the filtered list of events */
+    ObservableSequence<Event> getFilteredEventList();
+
+    /** Returns an unmodifiable view of the filtered list of blocked slots */
+    ObservableSequence<BlockedSlot> getFilteredBlockedSlotList();
+
+    /**
+     * Filters the list of events to those with a word in their name that starts with any of {@code prefixes},
+     * or shows all events if there are none. Like a command, this must only be called on the writer.
+     *
+     * @see seedu.address.model.Model#updateFilteredEventListByNamePrefixes(List)
+     */
+    void filterEventsByNamePrefixes(List<String> prefixes);
+
+    /**
+     * Loads the dates from {@code from} to {@code to} inclusive, which have come into view, into the lists that show
+     * the whole schedule. Like a command, this must only be called on the writer.
+     *
+     * @see seedu.address.model.Model#showDates(LocalDate, LocalDate)
+     */
+    void showDates(LocalDate from, LocalDate to);
+
+    /**
+     * Returns {@code commandText} with its last part replaced by its {@code choice}-th completion.
+     * Unlike the other methods, this can be called from any thread.
+     *
+     * @see seedu.address.logic.completion.CommandCompleter#complete(String, int)
+     */
+    String complete(String commandText, int choice);
+
+    /**
+     * Returns the user prefs' address book file path.
+     */
+    Path getScheduleFilePath();
+
+    /**
+     * Returns the user prefs' GUI settings.
+     */
+    GuiSettings getGuiSettings();
+
+    /**
+     * Set the user prefs' GUI settings.
+     */
+    void setGuiSettings(GuiSettings guiSettings);
+}
@@ -0,0 +1,170 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.observable.ObservableSequence;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.completion.CommandCompleter;
+import seedu.address.logic.parser.ScheduleParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.ScheduleSnapshot;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.change.ScheduleChangeStream;
+import seedu.address.model.event.Event;
+import seedu.address.model.sync.ChangeBundle;
+import seedu.address.storage.Storage;
+
+/**
+ * The main LogicManager of the app.
+ */
+public class LogicManager implements Logic {
+    public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final ScheduleParser scheduleParser;
+    private final CommandCompleter commandCompleter;
+    private volatile ScheduleSnapshot scheduleSnapshot;
+    private volatile long scheduleSaveCount;
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     */
+    public LogicManager(Model model, Storage storage) {
+        this.model = model;
+        this.storage = storage;
+        scheduleParser = new ScheduleParser(storage.getValuePool());
+        commandCompleter = new CommandCompleter(model.getSchedule().getEventList());
+        scheduleSnapshot = model.getScheduleSnapshot();
+    }
+
+    @Override
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+
+        CommandResult commandResult;
+        Command command = scheduleParser.parseCommand(commandText);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            scheduleSnapshot = model.getScheduleSnapshot();
+        }
+
+        try {
+            storage.saveSchedule(model.getSchedule());
+            scheduleSaveCount++;
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+        // only once saved, so that nothing is dropped before it is on disk
+        model.trimSchedule();
+
+        return commandResult;
+    }
+
+    @Override
+    public ReadOnlySchedule getSchedule() {
+        return model.getSchedule();
+    }
+
+    @Override
+    public ScheduleSnapshot getScheduleSnapshot() {
+        return scheduleSnapshot;
+    }
+
+    @Override
+    public long getScheduleSaveCount() {
+        return scheduleSaveCount;
+    }
+
+    @Override
+    public boolean reloadSchedule(ReadOnlySchedule newData) {
+        if (!model.mergeSchedule(newData)) {
+            return false;
+        }
+        logger.info("Reloaded changes to the schedule from outside the application");
+        model.commitSchedule();
+        scheduleSnapshot = model.getScheduleSnapshot();
+        return true;
+    }
+
+    @Override
+    public ScheduleChangeStream getScheduleChanges() {
+        return model.getScheduleChanges();
+    }
+
+    @Override
+    public ChangeBundle exportChanges(long seq) {
+        return model.getChangesSince(seq);
+    }
+
+    @Override
+    public int importChanges(ChangeBundle bundle) throws IOException {
+        int appliedCount = model.applyChanges(bundle);
+        if (appliedCount == 0) {
+            return 0;
+        }
+        logger.info("Imported " + appliedCount + " changes from " + bundle.getReplicaId());
+        model.commitSchedule();
+        scheduleSnapshot = model.getScheduleSnapshot();
+        storage.saveSchedule(model.getSchedule());
+        scheduleSaveCount++;
+        model.trimSchedule();
+        return appliedCount;
+    }
+
+    @Override
+    public ObservableSequence<Event> getFilteredEventList() {
+        return model.getFilteredEventList();
+    }
+
+    @Override
+    public ObservableSequence<BlockedSlot> getFilteredBlockedSlotList() {
+        return model.getFilteredBlockedSlotList();
+    }
+
+    @Override
+    public void filterEventsByNamePrefixes(List<String> prefixes) {
+        if (prefixes.isEmpty()) {
+            model.updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
+            return;
+        }
+        model.updateFilteredEventListByNamePrefixes(prefixes);
+    }
+
+    @Override
+    public void showDates(LocalDate from, LocalDate to) {
+        model.showDates(from, to);
+    }
+
+    @Override
+    public String complete(String commandText, int choice) {
+        return commandCompleter.complete(commandText, choice);
+    }
+
+    @Override
+    public Path getScheduleFilePath() {
+        return model.getScheduleFilePath();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return model.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        model.setGuiSettings(guiSettings);
+    }
+}
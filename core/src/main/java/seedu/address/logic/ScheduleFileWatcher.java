@@ -0,0 +1,147 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.storage.ScheduleStorage;
+
+/**
+ * Watches the schedule file for changes made by other programs, such as a sync tool or another instance of the
+ * application, and reloads them into the schedule.
+ * <p>
+ * The file is read in the background once it has not changed for {@link #DEBOUNCE_MILLIS}. Only the events and
+ * blocked slots that differ from the schedule are then changed, on the writer, so a change to one event costs a
+ * sorted merge of the two schedules rather than a reload of every list that shows them. The application's own saves
+ * are read back too, and are found to change nothing.
+ */
+public class ScheduleFileWatcher {
+
+    public static final long DEBOUNCE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(ScheduleFileWatcher.class);
+
+    private final Logic logic;
+    private final Executor writer;
+    private final ScheduleStorage storage;
+    private final Path filePath;
+    private WatchService watchService;
+
+    /**
+     * Creates a {@code ScheduleFileWatcher} that reads the default file of {@code storage} when it changes, and
+     * reloads it into {@code logic} on {@code writer}.
+     */
+    public ScheduleFileWatcher(Logic logic, Executor writer, ScheduleStorage storage) {
+        requireAllNonNull(logic, writer, storage);
+        this.logic = logic;
+        this.writer = writer;
+        this.storage = storage;
+        this.filePath = storage.getScheduleFilePath().toAbsolutePath();
+    }
+
+    /**
+     * Starts watching the schedule file on a background thread.
+     *
+     * @throws IOException if the folder of the file could not be watched.
+     */
+    public void start() throws IOException {
+        Path folder = filePath.getParent();
+        Files.createDirectories(folder);
+        watchService = FileSystems.getDefault().newWatchService();
+        folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread thread = new Thread(this::watch, "schedule-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching " + filePath + " for changes");
+    }
+
+    /**
+     * Stops watching the schedule file. Changes already read are still reloaded.
+     */
+    public void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                if (!isFileChanged(watchService.take())) {
+                    continue;
+                }
+                // a file is often written in several steps, so it is only read once the steps stop
+                WatchKey key;
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isFileChanged(key);
+                }
+                reload();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching " + filePath);
+        }
+    }
+
+    /**
+     * Returns true if any of the events of {@code key} are about the schedule file, and resets {@code key}.
+     */
+    private boolean isFileChanged(WatchKey key) {
+        boolean isChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || filePath.getFileName().equals(event.context())) {
+                isChanged = true;
+            }
+        }
+        key.reset();
+        return isChanged;
+    }
+
+    /**
+     * Reads the schedule file and reloads it on the writer, unless the schedule is saved in the meantime, in which
+     * case the file is read again once that save is seen.
+     */
+    void reload() {
+        long saveCount = logic.getScheduleSaveCount();
+        Optional<ReadOnlySchedule> schedule;
+        try {
+            schedule = storage.readSchedule();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Ignoring the changed schedule file, which could not be read: "
+                    + StringUtil.getDetails(e));
+            return;
+        }
+        if (schedule.isEmpty()) {
+            return;
+        }
+
+        writer.execute(() -> {
+            // a save since the file was read would otherwise be undone by the older contents that were read
+            if (logic.getScheduleSaveCount() == saveCount) {
+                logic.reloadSchedule(schedule.get());
+            }
+        });
+    }
+}
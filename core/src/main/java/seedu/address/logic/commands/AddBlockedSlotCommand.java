@@ -2,7 +2,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.SlotBlockedException;
@@ -22,9 +25,15 @@ public class AddBlockedSlotCommand extends Command {
             + "Parameters: "
             + PREFIX_DATE + "DATE "
             + PREFIX_TIMESLOT + "TIMESLOT "
+            + "[" + PREFIX_EVERY + "RULE " + PREFIX_UNTIL + "DATE [" + PREFIX_EXCEPT + "DATE]...]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_DATE + "2021-11-13 "
-            + PREFIX_TIMESLOT + "1300-1400";
+            + PREFIX_TIMESLOT + "1300-1400\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "2021-08-09 "
+            + PREFIX_TIMESLOT + "1200-1300 "
+            + PREFIX_EVERY + "weekday "
+            + PREFIX_UNTIL + "2021-11-26";
 
     public static final String MESSAGE_SUCCESS = "New slot blocked out: %1$s\n";
 
@@ -49,6 +58,7 @@ public class AddBlockedSlotCommand extends Command {
             throw new SlotBlockedException(Event.SLOT_BLOCKED);
         }
         model.addBlockedSlot(blockedSlot);
+        model.commitSchedule();
         return new CommandResult(String.format(MESSAGE_SUCCESS, blockedSlot));
     }
 
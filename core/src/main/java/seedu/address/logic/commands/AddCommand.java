@@ -2,11 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.SlotBlockedException;
@@ -28,7 +31,8 @@ public class AddCommand extends Command {
             + PREFIX_TIMESLOT + "TIMESLOT "
             + PREFIX_LOCATION + "LOCATION "
             + "[" + PREFIX_TAG + "TAG]... "
-            + "[" + PREFIX_REMARK + "REMARK]\n"
+            + "[" + PREFIX_REMARK + "REMARK] "
+            + "[" + PREFIX_EVERY + "N(d|w) " + PREFIX_UNTIL + "DATE [" + PREFIX_EXCEPT + "DATE]...]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "Jacob Ng "
             + PREFIX_DATE + "2021-11-13 "
@@ -60,6 +64,7 @@ public class AddCommand extends Command {
             throw new SlotBlockedException(Event.SLOT_BLOCKED);
         }
         model.addEvent(toAdd);
+        model.commitSchedule();
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 
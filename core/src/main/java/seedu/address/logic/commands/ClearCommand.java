@@ -18,6 +18,7 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.setSchedule(new Schedule());
+        model.commitSchedule();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
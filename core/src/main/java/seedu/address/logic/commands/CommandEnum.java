@@ -12,11 +12,15 @@ public enum CommandEnum {
     DELETE_BLOCKED,
     EDIT,
     EXIT,
+    FILTER_TAG,
     FIND,
     HELP,
+    HISTORY,
     LIST,
     LIST_BLOCKED,
     LIST_FREE,
     NEXT_EVENT,
+    REDO,
+    UNDO,
     UPCOMING_EVENTS;
 }
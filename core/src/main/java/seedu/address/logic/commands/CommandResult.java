@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -11,6 +13,9 @@ public class CommandResult {
 
     private final String feedbackToUser;
 
+    /** Lines listed after the feedback, which are only formatted as they are read. */
+    private final List<String> resultLines;
+
     /** Help information should be shown to the user. */
     private final boolean showHelp;
 
@@ -22,25 +27,57 @@ public class CommandResult {
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean showCommands, boolean exit) {
+    public CommandResult(String feedbackToUser, List<String> resultLines, boolean showHelp, boolean showCommands,
+            boolean exit) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.resultLines = Collections.unmodifiableList(requireNonNull(resultLines));
         this.showHelp = showHelp;
         this.showCommands = showCommands;
         this.exit = exit;
     }
 
+    /**
+     * Constructs a {@code CommandResult} with the specified fields and no result lines.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean showCommands, boolean exit) {
+        this(feedbackToUser, Collections.emptyList(), showHelp, showCommands, exit);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} followed by {@code resultLines},
+     * and other fields set to their default time.
+     */
+    public CommandResult(String feedbackToUser, List<String> resultLines) {
+        this(feedbackToUser, resultLines, false, false, false);
+    }
+
     /**
      * Constructs a {@code CommandResult} with the specified {@code feedbackToUser},
      * and other fields set to their default time.
      */
     public CommandResult(String feedbackToUser) {
-        this(feedbackToUser, false, false, false);
+        this(feedbackToUser, Collections.emptyList());
     }
 
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
 
+    public List<String> getResultLines() {
+        return resultLines;
+    }
+
+    /**
+     * Returns the feedback followed by all the result lines, one per line. This formats every line, so it should
+     * not be used to show a long listing in the GUI.
+     */
+    public String getFullFeedbackToUser() {
+        if (resultLines.isEmpty()) {
+            return feedbackToUser;
+        }
+        return feedbackToUser + "\n" + String.join("\n", resultLines);
+    }
+
     public boolean isShowHelp() {
         return showHelp;
     }
@@ -66,6 +103,7 @@ public class CommandResult {
 
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
+                && resultLines.equals(otherCommandResult.resultLines)
                 && showHelp == otherCommandResult.showHelp
                 && showCommands == otherCommandResult.showCommands
                 && exit == otherCommandResult.exit;
@@ -73,7 +111,7 @@ public class CommandResult {
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, showCommands, exit);
+        return Objects.hash(feedbackToUser, resultLines, showHelp, showCommands, exit);
     }
 
 }
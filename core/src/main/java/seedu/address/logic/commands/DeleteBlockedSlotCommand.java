@@ -41,6 +41,7 @@ public class DeleteBlockedSlotCommand extends Command {
 
         BlockedSlot blockedSlotToDelete = lastShownList.get(targetIndex.getZeroBased());
         model.deleteBlockedSlot(blockedSlotToDelete);
+        model.commitSchedule();
         return new CommandResult(String.format(MESSAGE_DELETE_BLOCKED_SLOT_SUCCESS, blockedSlotToDelete));
     }
 
@@ -87,12 +87,13 @@ public class EditCommand extends Command {
         }
 
         model.setEvent(eventToEdit, editedEvent);
+        model.commitSchedule();
         return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, editedEvent));
     }
 
     /**
      * Creates and returns a {@code Event} with the details of {@code eventToEdit}
-     * edited with {@code editEventDescriptor}.
+     * edited with {@code editEventDescriptor}. The edited event keeps the id and recurrence of {@code eventToEdit}.
      */
     private static Event createEditedEvent(Event eventToEdit, EditEventDescriptor editEventDescriptor) {
         assert eventToEdit != null;
@@ -104,7 +105,8 @@ public class EditCommand extends Command {
         Set<Tag> updatedTags = editEventDescriptor.getTags().orElse(eventToEdit.getTags());
         Remark updatedRemark = editEventDescriptor.getRemark().orElse(eventToEdit.getRemark());
 
-        return new Event(updatedName, updatedDate, updatedTime, updatedLocation, updatedTags, updatedRemark);
+        return new Event(eventToEdit.getId(), updatedName, updatedDate, updatedTime, updatedLocation, updatedTags,
+                updatedRemark, eventToEdit.getRecurrence().orElse(null));
     }
 
     @Override
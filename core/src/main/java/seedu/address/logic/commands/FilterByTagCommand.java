@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_ARCHIVE;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.TagContainsKeywordsPredicate;
+
+public class FilterByTagCommand extends Command {
+    public static final String COMMAND_WORD = "filter_tag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all consultation events whose tags"
+            + " contain any of the specified keywords (case-insensitive)"
+            + " and displays them as an indexed list. With " + FLAG_ARCHIVE + ", archived events are"
+            + " searched too.\n"
+            + "Parameters: TAG_NAME [MORE_TAG_NAMES]... [" + FLAG_ARCHIVE + "]\n"
+            + "Example: " + COMMAND_WORD + " URGENT supplementary";
+
+    private final TagContainsKeywordsPredicate tagPredicate;
+    private final boolean isArchiveSearched;
+
+    public FilterByTagCommand(TagContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FilterByTagCommand that also lists the archived events that match {@code predicate} if
+     * {@code isArchiveSearched}.
+     */
+    public FilterByTagCommand(TagContainsKeywordsPredicate predicate, boolean isArchiveSearched) {
+        this.tagPredicate = predicate;
+        this.isArchiveSearched = isArchiveSearched;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredEventList(tagPredicate);
+        String feedback = String.format(Messages.MESSAGE_FILTERED_TAGS, model.getFilteredEventList().size());
+        if (!isArchiveSearched) {
+            return new CommandResult(feedback);
+        }
+        List<Event> archived = model.getEventArchive().findByTagWords(tagPredicate.getKeywords());
+        return new CommandResult(feedback + "\n" + String.format(Messages.MESSAGE_ARCHIVED_EVENTS_FOUND,
+                archived.size()), ResultLines.numbered(archived, Event::toString));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterByTagCommand // instanceof handles nulls
+                && tagPredicate.equals(((FilterByTagCommand) other).tagPredicate) // state check
+                && isArchiveSearched == ((FilterByTagCommand) other).isArchiveSearched);
+    }
+}
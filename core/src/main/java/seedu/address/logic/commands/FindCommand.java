@@ -1,9 +1,13 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_ARCHIVE;
+
+import java.util.List;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.NameContainsKeywordsPredicate;
 
 /**
@@ -16,28 +20,44 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all consultation events whose"
             + " names contain any of the specified keywords (case-insensitive) and displays them"
-            + " as an indexed list.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + " as an indexed list. With " + FLAG_ARCHIVE + ", archived events are searched too.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + FLAG_ARCHIVE + "]\n"
             + "Example: " + COMMAND_WORD + " Jacob Ng";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isArchiveSearched;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that also lists the archived events that match {@code predicate} if
+     * {@code isArchiveSearched}.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isArchiveSearched) {
         this.predicate = predicate;
+        this.isArchiveSearched = isArchiveSearched;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredEventList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_EVENT_LISTED_OVERVIEW, model.getFilteredEventList().size()));
+        String feedback = String.format(Messages.MESSAGE_EVENT_LISTED_OVERVIEW, model.getFilteredEventList().size());
+        if (!isArchiveSearched) {
+            return new CommandResult(feedback);
+        }
+        List<Event> archived = model.getEventArchive().findByNameWords(predicate.getKeywords());
+        return new CommandResult(feedback + "\n" + String.format(Messages.MESSAGE_ARCHIVED_EVENTS_FOUND,
+                archived.size()), ResultLines.numbered(archived, Event::toString));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate) // state check
+                && isArchiveSearched == ((FindCommand) other).isArchiveSearched);
     }
 }
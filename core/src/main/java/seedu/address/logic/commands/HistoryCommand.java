@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+
+/**
+ * Lists the archived events, or those whose names contain any of the argument keywords.
+ * Keyword matching is case insensitive.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the past events that have been archived,"
+            + " or those whose names contain any of the specified keywords (case-insensitive).\n"
+            + "Parameters: [KEYWORD]...\n"
+            + "Example: " + COMMAND_WORD + " Jacob Ng";
+
+    public static final String MESSAGE_SUCCESS = "%1$d archived events listed:";
+    public static final String MESSAGE_EMPTY = "No archived events found.";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a HistoryCommand that lists the archived events with any of {@code keywords} in their names, or every
+     * archived event if there are no keywords.
+     */
+    public HistoryCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Event> archived = keywords.isEmpty()
+                ? model.getEventArchive().getEvents()
+                : model.getEventArchive().findByNameWords(keywords);
+        if (archived.isEmpty()) {
+            return new CommandResult(MESSAGE_EMPTY);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, archived.size()),
+                ResultLines.numbered(archived, Event::toString));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HistoryCommand // instanceof handles nulls
+                && keywords.equals(((HistoryCommand) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+}
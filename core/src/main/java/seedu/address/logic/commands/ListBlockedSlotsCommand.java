@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_BLOCKED_SLOTS;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.blockedslot.BlockedSlot;
+
+/**
+ * Lists out all the blocked slots in the schedule.
+ */
+public class ListBlockedSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "list_blocked";
+    public static final String MESSAGE_SUCCESS_NONEMPTY = "Here are all your blocked slots:";
+    public static final String MESSAGE_SUCCESS_EMPTY = "You have not blocked any slots.";
+
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredBlockedSlotList(PREDICATE_SHOW_ALL_BLOCKED_SLOTS);
+        List<BlockedSlot> blockedSlots = model.getFilteredBlockedSlotList();
+        if (blockedSlots.isEmpty()) {
+            return new CommandResult(MESSAGE_SUCCESS_EMPTY);
+        }
+        return new CommandResult(MESSAGE_SUCCESS_NONEMPTY,
+                ResultLines.numbered(blockedSlots, blockedSlot -> blockedSlot.toString().strip()));
+    }
+}
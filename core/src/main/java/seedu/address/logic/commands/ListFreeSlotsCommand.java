@@ -38,10 +38,6 @@ public class ListFreeSlotsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         ArrayList<FreeSlot> freeSlots = model.getFreeSlots(today, now);
-        StringBuilder result = new StringBuilder(MESSAGE_SUCCESS);
-        for (FreeSlot f: freeSlots) {
-            result.append("\n" + f.toString());
-        }
-        return new CommandResult(result.toString());
+        return new CommandResult(MESSAGE_SUCCESS, ResultLines.of(freeSlots, FreeSlot::toString));
     }
 }
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * The lines of a {@code CommandResult} that lists many items, such as free or blocked slots.
+ * The items are kept as they are, and each line is only formatted when it is read, so that showing a few of the
+ * lines of a long listing does not format all of them.
+ */
+public class ResultLines<T> extends AbstractList<String> implements RandomAccess {
+
+    private final List<T> items;
+    private final Function<? super T, String> formatter;
+    private final boolean isNumbered;
+
+    private ResultLines(List<? extends T> items, Function<? super T, String> formatter, boolean isNumbered) {
+        requireNonNull(items);
+        requireNonNull(formatter);
+        this.items = List.copyOf(items);
+        this.formatter = formatter;
+        this.isNumbered = isNumbered;
+    }
+
+    /**
+     * Returns the lines of {@code items}, each formatted by {@code formatter}.
+     */
+    public static <T> ResultLines<T> of(List<? extends T> items, Function<? super T, String> formatter) {
+        return new ResultLines<>(items, formatter, false);
+    }
+
+    /**
+     * Returns the lines of {@code items}, each formatted by {@code formatter} and numbered from 1.
+     */
+    public static <T> ResultLines<T> numbered(List<? extends T> items, Function<? super T, String> formatter) {
+        return new ResultLines<>(items, formatter, true);
+    }
+
+    @Override
+    public String get(int index) {
+        String line = formatter.apply(items.get(index));
+        return isNumbered ? (index + 1) + ". " + line : line;
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
+
+import java.util.Locale;
+
+import seedu.address.commons.observable.ObservableSequence;
+import seedu.address.commons.observable.SequenceChange;
+import seedu.address.logic.commands.CommandEnum;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.event.Event;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Completes the last part of a command being typed: the command word, a prefix, or the name, location or tag after
+ * a prefix. The names, locations and tags are those of the events in a sequence, kept in tries that follow the
+ * changes to the sequence. Can be used from any thread.
+ */
+public class CommandCompleter {
+
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_DATE, PREFIX_LOCATION, PREFIX_TIMESLOT, PREFIX_TAG,
+        PREFIX_REMARK, PREFIX_EVERY, PREFIX_UNTIL, PREFIX_EXCEPT};
+
+    private final Trie commandWords = new Trie();
+    private final Trie prefixes = new Trie();
+    private final Trie names = new Trie();
+    private final Trie locations = new Trie();
+    private final Trie tags = new Trie();
+
+    /**
+     * Creates a {@code CommandCompleter} that completes the names, locations and tags of {@code events}.
+     */
+    public CommandCompleter(ObservableSequence<Event> events) {
+        requireNonNull(events);
+        for (CommandEnum command : CommandEnum.values()) {
+            commandWords.add(command.name().toLowerCase(Locale.ROOT));
+        }
+        for (Prefix prefix : PREFIXES) {
+            prefixes.add(prefix.getPrefix());
+        }
+        events.forEach(this::add);
+        events.addListener(this::update);
+    }
+
+    /**
+     * Returns {@code commandText} with its last part replaced by the {@code choice}-th completion of it, counting
+     * from 0 and starting over after the last one, or {@code commandText} itself if it has no completions.
+     * A completed command word is followed by a space.
+     */
+    public synchronized String complete(String commandText, int choice) {
+        requireNonNull(commandText);
+        int start = commandText.length() - commandText.stripLeading().length();
+        int wordEnd = indexOfWhitespace(commandText, start);
+        if (wordEnd == -1) {
+            String commandWord = getCompletion(commandWords, commandText.substring(start), choice);
+            return commandWord == null ? commandText : commandText.substring(0, start) + commandWord + " ";
+        }
+
+        Prefix lastPrefix = null;
+        int valueStart = -1;
+        for (Prefix prefix : PREFIXES) {
+            int prefixStart = commandText.lastIndexOf(prefix.getPrefix()) - 1;
+            while (prefixStart >= 0 && !Character.isWhitespace(commandText.charAt(prefixStart))) {
+                prefixStart = commandText.lastIndexOf(prefix.getPrefix(), prefixStart - 1) - 1;
+            }
+            if (prefixStart >= 0 && prefixStart + 1 + prefix.getPrefix().length() > valueStart) {
+                lastPrefix = prefix;
+                valueStart = prefixStart + 1 + prefix.getPrefix().length();
+            }
+        }
+        Trie values = getValues(lastPrefix);
+        if (values != null) {
+            String value = getCompletion(values, commandText.substring(valueStart), choice);
+            if (value != null) {
+                return commandText.substring(0, valueStart) + value;
+            }
+        }
+
+        int lastWordStart = lastIndexOfWhitespace(commandText) + 1;
+        String prefix = getCompletion(prefixes, commandText.substring(lastWordStart), choice);
+        return prefix == null ? commandText : commandText.substring(0, lastWordStart) + prefix;
+    }
+
+    private static String getCompletion(Trie trie, String prefix, int choice) {
+        int count = trie.countWithPrefix(prefix);
+        return count == 0 ? null : trie.getWithPrefix(prefix, Math.floorMod(choice, count));
+    }
+
+    /**
+     * Returns the trie of the values that can follow {@code prefix}, or null if they are not completed.
+     */
+    private Trie getValues(Prefix prefix) {
+        if (PREFIX_NAME.equals(prefix)) {
+            return names;
+        } else if (PREFIX_LOCATION.equals(prefix)) {
+            return locations;
+        } else if (PREFIX_TAG.equals(prefix)) {
+            return tags;
+        } else {
+            return null;
+        }
+    }
+
+    private static int indexOfWhitespace(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfWhitespace(String text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private synchronized void update(SequenceChange<? extends Event> change) {
+        change.getRemoved().forEach(this::remove);
+        change.getAdded().forEach(this::add);
+    }
+
+    private void add(Event event) {
+        names.add(event.getName().fullName);
+        locations.add(event.getLocation().value);
+        for (Tag tag : event.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    private void remove(Event event) {
+        names.remove(event.getName().fullName);
+        locations.remove(event.getLocation().value);
+        for (Tag tag : event.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+}
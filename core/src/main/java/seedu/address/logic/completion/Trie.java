@@ -0,0 +1,165 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A multiset of words, ordered and looked up by prefix ignoring case.
+ * Words that differ only in case are kept once, with the spelling they were first added with.
+ * <p>
+ * Each node counts the distinct words below it, so the i-th word with a prefix is found by walking down from the
+ * prefix without visiting the other words, and lookups do not allocate anything but the nodes' own arrays.
+ * Not thread-safe.
+ */
+public class Trie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds one occurrence of {@code word}.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        Node node = find(word);
+        if (node != null && node.occurrences > 0) {
+            node.occurrences++;
+            return;
+        }
+
+        node = root;
+        node.wordCount++;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrAddChild(toKey(word.charAt(i)));
+            node.wordCount++;
+        }
+        node.occurrences = 1;
+        node.word = word;
+    }
+
+    /**
+     * Removes one occurrence of {@code word}, if there is any.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Node node = find(word);
+        if (node == null || node.occurrences == 0) {
+            return;
+        }
+        if (node.occurrences > 1) {
+            node.occurrences--;
+            return;
+        }
+
+        node = root;
+        node.wordCount--;
+        for (int i = 0; i < word.length(); i++) {
+            Node child = node.getChild(toKey(word.charAt(i)));
+            child.wordCount--;
+            if (child.wordCount == 0) {
+                node.removeChild(toKey(word.charAt(i)));
+                return;
+            }
+            node = child;
+        }
+        node.occurrences = 0;
+        node.word = null;
+    }
+
+    /**
+     * Returns the number of distinct words that start with {@code prefix}.
+     */
+    public int countWithPrefix(String prefix) {
+        Node node = find(prefix);
+        return node == null ? 0 : node.wordCount;
+    }
+
+    /**
+     * Returns the {@code index}-th distinct word, from 0, that starts with {@code prefix}, in the order of their
+     * lower case forms, or null if there are not that many.
+     */
+    public String getWithPrefix(String prefix, int index) {
+        Node node = find(prefix);
+        if (node == null || index < 0 || index >= node.wordCount) {
+            return null;
+        }
+
+        int remaining = index;
+        while (true) {
+            if (node.occurrences > 0) {
+                if (remaining == 0) {
+                    return node.word;
+                }
+                remaining--;
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                Node child = node.children[i];
+                if (remaining < child.wordCount) {
+                    node = child;
+                    break;
+                }
+                remaining -= child.wordCount;
+            }
+        }
+    }
+
+    private Node find(String prefix) {
+        requireNonNull(prefix);
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.getChild(toKey(prefix.charAt(i)));
+        }
+        return node;
+    }
+
+    private static char toKey(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * A node of the trie, whose children are kept sorted by their key.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        /** Number of distinct words that end at or below this node. */
+        private int wordCount;
+        /** Number of times the word ending at this node was added, or 0 if no word ends here. */
+        private int occurrences;
+        private String word;
+
+        Node getChild(char key) {
+            int i = Arrays.binarySearch(keys, 0, childCount, key);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrAddChild(char key) {
+            int i = Arrays.binarySearch(keys, 0, childCount, key);
+            if (i >= 0) {
+                return children[i];
+            }
+
+            int insertion = -i - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertion, keys, insertion + 1, childCount - insertion);
+            System.arraycopy(children, insertion, children, insertion + 1, childCount - insertion);
+            keys[insertion] = key;
+            children[insertion] = new Node();
+            childCount++;
+            return children[insertion];
+        }
+
+        void removeChild(char key) {
+            int i = Arrays.binarySearch(keys, 0, childCount, key);
+            System.arraycopy(keys, i + 1, keys, i, childCount - i - 1);
+            System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+    }
+}
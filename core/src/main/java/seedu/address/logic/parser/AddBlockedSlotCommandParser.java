@@ -1,8 +1,12 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import java.util.stream.Stream;
 
@@ -10,13 +14,31 @@ import seedu.address.logic.commands.AddBlockedSlotCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.blockedslot.BlockedSlot;
 import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.TimeSlot;
+import seedu.address.model.util.IdGenerator;
+import seedu.address.model.util.ValuePool;
 
 /**
  * Parses input arguments and creates a new AddBlockedSlotCommand object
  */
 public class AddBlockedSlotCommandParser implements Parser<AddBlockedSlotCommand> {
 
+    private final ValuePool valuePool;
+
+    public AddBlockedSlotCommandParser() {
+        this(new ValuePool());
+    }
+
+    /**
+     * Creates an {@code AddBlockedSlotCommandParser} that shares the values of new blocked slots
+     * with {@code valuePool}.
+     */
+    public AddBlockedSlotCommandParser(ValuePool valuePool) {
+        requireNonNull(valuePool);
+        this.valuePool = valuePool;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of AddBlockedSlotCommand
      * and returns a AddBlockedSlotCommand object for execution.
@@ -26,10 +48,13 @@ public class AddBlockedSlotCommandParser implements Parser<AddBlockedSlotCommand
      */
     public AddBlockedSlotCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TIMESLOT);
+                ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TIMESLOT, PREFIX_EVERY, PREFIX_UNTIL,
+                        PREFIX_EXCEPT);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_TIMESLOT)
-                || !argMultimap.getPreamble().isEmpty()) {
+                || !argMultimap.getPreamble().isEmpty()
+                || arePrefixesPresent(argMultimap, PREFIX_EVERY) != arePrefixesPresent(argMultimap, PREFIX_UNTIL)
+                || (!arePrefixesPresent(argMultimap, PREFIX_EVERY) && arePrefixesPresent(argMultimap, PREFIX_EXCEPT))) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AddBlockedSlotCommand.MESSAGE_USAGE));
         }
@@ -37,9 +62,15 @@ public class AddBlockedSlotCommandParser implements Parser<AddBlockedSlotCommand
         Date date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
         TimeSlot timeSlot = ParserUtil.parseTimeSlot(argMultimap.getValue(PREFIX_TIMESLOT).get());
 
-        BlockedSlot blockedSlot = new BlockedSlot(date, timeSlot);
+        Recurrence recurrence = null;
+        if (arePrefixesPresent(argMultimap, PREFIX_EVERY)) {
+            recurrence = ParserUtil.parseRecurrence(date, argMultimap.getValue(PREFIX_EVERY).get(),
+                    argMultimap.getValue(PREFIX_UNTIL).get(), argMultimap.getAllValues(PREFIX_EXCEPT));
+        }
+
+        BlockedSlot blockedSlot = new BlockedSlot(IdGenerator.next(), date, timeSlot, recurrence);
 
-        return new AddBlockedSlotCommand(blockedSlot);
+        return new AddBlockedSlotCommand(valuePool.intern(blockedSlot));
     }
 
     /**
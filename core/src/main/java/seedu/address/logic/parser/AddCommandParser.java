@@ -1,12 +1,16 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import java.util.Set;
 import java.util.stream.Stream;
@@ -17,15 +21,32 @@ import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.Location;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Remark;
 import seedu.address.model.event.TimeSlot;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdGenerator;
+import seedu.address.model.util.ValuePool;
 
 /**
  * Parses input arguments and creates a new AddCommand object
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private final ValuePool valuePool;
+
+    public AddCommandParser() {
+        this(new ValuePool());
+    }
+
+    /**
+     * Creates an {@code AddCommandParser} that shares the values of new events with {@code valuePool}.
+     */
+    public AddCommandParser(ValuePool valuePool) {
+        requireNonNull(valuePool);
+        this.valuePool = valuePool;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -34,10 +55,12 @@ public class AddCommandParser implements Parser<AddCommand> {
     public AddCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DATE, PREFIX_TIMESLOT, PREFIX_LOCATION,
-                        PREFIX_TAG, PREFIX_REMARK);
+                        PREFIX_TAG, PREFIX_REMARK, PREFIX_EVERY, PREFIX_UNTIL, PREFIX_EXCEPT);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_LOCATION, PREFIX_DATE, PREFIX_TIMESLOT)
-                || !argMultimap.getPreamble().isEmpty()) {
+                || !argMultimap.getPreamble().isEmpty()
+                || arePrefixesPresent(argMultimap, PREFIX_EVERY) != arePrefixesPresent(argMultimap, PREFIX_UNTIL)
+                || (!arePrefixesPresent(argMultimap, PREFIX_EVERY) && arePrefixesPresent(argMultimap, PREFIX_EXCEPT))) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
         }
 
@@ -48,9 +71,15 @@ public class AddCommandParser implements Parser<AddCommand> {
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
         Remark remark = ParserUtil.parseRemark(argMultimap.getValue(PREFIX_REMARK).orElse(""));
 
-        Event event = new Event(name, date, timeSlot, location, tagList, remark);
+        Recurrence recurrence = null;
+        if (arePrefixesPresent(argMultimap, PREFIX_EVERY)) {
+            recurrence = ParserUtil.parseRecurrence(date, argMultimap.getValue(PREFIX_EVERY).get(),
+                    argMultimap.getValue(PREFIX_UNTIL).get(), argMultimap.getAllValues(PREFIX_EXCEPT));
+        }
+
+        Event event = new Event(IdGenerator.next(), name, date, timeSlot, location, tagList, remark, recurrence);
 
-        return new AddCommand(event);
+        return new AddCommand(valuePool.intern(event));
     }
 
     /**
@@ -12,5 +12,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_TIMESLOT = new Prefix("t/");
     public static final Prefix PREFIX_TAG = new Prefix("tag/");
     public static final Prefix PREFIX_REMARK = new Prefix("r/");
+    public static final Prefix PREFIX_EVERY = new Prefix("every/");
+    public static final Prefix PREFIX_UNTIL = new Prefix("until/");
+    public static final Prefix PREFIX_EXCEPT = new Prefix("except/");
+
+    /* Flag definitions */
+    public static final String FLAG_ARCHIVE = "--archive";
 
 }
@@ -18,12 +18,27 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValuePool;
 
 /**
  * Parses input arguments and creates a new EditCommand object
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private final ValuePool valuePool;
+
+    public EditCommandParser() {
+        this(new ValuePool());
+    }
+
+    /**
+     * Creates an {@code EditCommandParser} that shares the values of edited events with {@code valuePool}.
+     */
+    public EditCommandParser(ValuePool valuePool) {
+        requireNonNull(valuePool);
+        this.valuePool = valuePool;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -45,21 +60,26 @@ public class EditCommandParser implements Parser<EditCommand> {
 
         EditCommand.EditEventDescriptor editEventDescriptor = new EditCommand.EditEventDescriptor();
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            editEventDescriptor.setName(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
+            editEventDescriptor.setName(valuePool.intern(
+                    ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get())));
         }
         if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
-            editEventDescriptor.setDate(ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get()));
+            editEventDescriptor.setDate(valuePool.intern(
+                    ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get())));
         }
         if (argMultimap.getValue(PREFIX_TIMESLOT).isPresent()) {
-            editEventDescriptor.setTimeSlot(ParserUtil.parseTimeSlot(argMultimap.getValue(PREFIX_TIMESLOT).get()));
+            editEventDescriptor.setTimeSlot(valuePool.intern(
+                    ParserUtil.parseTimeSlot(argMultimap.getValue(PREFIX_TIMESLOT).get())));
         }
         if (argMultimap.getValue(PREFIX_LOCATION).isPresent()) {
-            editEventDescriptor.setLocation(ParserUtil.parseLocation(argMultimap.getValue(PREFIX_LOCATION).get()));
+            editEventDescriptor.setLocation(valuePool.intern(
+                    ParserUtil.parseLocation(argMultimap.getValue(PREFIX_LOCATION).get())));
         }
         parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(editEventDescriptor::setTags);
 
         if (argMultimap.getValue(PREFIX_REMARK).isPresent()) {
-            editEventDescriptor.setRemark(ParserUtil.parseRemark(argMultimap.getValue(PREFIX_REMARK).get()));
+            editEventDescriptor.setRemark(valuePool.intern(
+                    ParserUtil.parseRemark(argMultimap.getValue(PREFIX_REMARK).get())));
         }
 
         if (!editEventDescriptor.isAnyFieldEdited()) {
@@ -81,7 +101,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             return Optional.empty();
         }
         Collection<String> tagSet = tags.size() == 1 && tags.contains("") ? Collections.emptySet() : tags;
-        return Optional.of(ParserUtil.parseTags(tagSet));
+        return Optional.of(valuePool.intern(ParserUtil.parseTags(tagSet)));
     }
 
 }
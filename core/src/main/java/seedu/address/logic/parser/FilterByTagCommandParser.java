@@ -1,8 +1,11 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_ARCHIVE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FilterByTagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,7 +26,13 @@ public class FilterByTagCommandParser implements Parser<FilterByTagCommand> {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterByTagCommand.MESSAGE_USAGE));
         }
-        String[] tagKeywords = trimmedArgs.split("\\s+");
-        return new FilterByTagCommand(new TagContainsKeywordsPredicate(Arrays.asList(tagKeywords)));
+        List<String> tagKeywords = new ArrayList<>(Arrays.asList(trimmedArgs.split("\\s+")));
+        boolean isArchiveSearched = tagKeywords.remove(FLAG_ARCHIVE);
+        if (tagKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterByTagCommand.MESSAGE_USAGE));
+        }
+
+        return new FilterByTagCommand(new TagContainsKeywordsPredicate(tagKeywords), isArchiveSearched);
     }
 }
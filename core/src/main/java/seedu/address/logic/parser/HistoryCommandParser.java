@@ -0,0 +1,24 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.HistoryCommand;
+
+/**
+ * Parses input arguments and creates a new HistoryCommand object
+ */
+public class HistoryCommandParser implements Parser<HistoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HistoryCommand
+     * and returns a HistoryCommand object for execution.
+     */
+    public HistoryCommand parse(String args) {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new HistoryCommand(List.of());
+        }
+        return new HistoryCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+}
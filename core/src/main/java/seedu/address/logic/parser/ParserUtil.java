@@ -12,6 +12,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.Date;
 import seedu.address.model.event.Location;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Remark;
 import seedu.address.model.event.TimeSlot;
 import seedu.address.model.tag.Tag;
@@ -129,6 +130,34 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses a {@code String rule}, a {@code String until} and {@code Collection<String> exceptions}
+     * into a {@code Recurrence} for an event whose first date is {@code start}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if any of the given values is invalid, or {@code until} is before {@code start}.
+     */
+    public static Recurrence parseRecurrence(Date start, String rule, String until, Collection<String> exceptions)
+            throws ParseException {
+        requireNonNull(start);
+        requireNonNull(rule);
+        requireNonNull(until);
+        requireNonNull(exceptions);
+        String trimmedRule = rule.trim();
+        if (!Recurrence.isValidRule(trimmedRule)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        Date untilDate = parseDate(until);
+        if (untilDate.compareTo(start) < 0) {
+            throw new ParseException(Recurrence.MESSAGE_UNTIL_BEFORE_START);
+        }
+        final Set<Date> exceptionSet = new HashSet<>();
+        for (String exception : exceptions) {
+            exceptionSet.add(parseDate(exception));
+        }
+        return new Recurrence(trimmedRule, untilDate, exceptionSet);
+    }
+
     /**
      * Parses a {@code String remark} into an {@code Remark}.
      */
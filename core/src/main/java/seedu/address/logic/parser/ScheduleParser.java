@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -19,13 +20,17 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterByTagCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListBlockedSlotsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListFreeSlotsCommand;
 import seedu.address.logic.commands.NextEventCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UpcomingEventsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.Date;
+import seedu.address.model.util.ValuePool;
 
 /**
  * Parses user input.
@@ -37,6 +42,20 @@ public class ScheduleParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final ValuePool valuePool;
+
+    public ScheduleParser() {
+        this(new ValuePool());
+    }
+
+    /**
+     * Creates a {@code ScheduleParser} that shares the values of new events with {@code valuePool}.
+     */
+    public ScheduleParser(ValuePool valuePool) {
+        requireNonNull(valuePool);
+        this.valuePool = valuePool;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -54,10 +73,10 @@ public class ScheduleParser {
         final String arguments = matcher.group("arguments");
         switch (commandWord) {
         case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
+            return new AddCommandParser(valuePool).parse(arguments);
 
         case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
+            return new EditCommandParser(valuePool).parse(arguments);
 
         case DeleteCommand.COMMAND_WORD:
             return new DeleteCommandParser().parse(arguments);
@@ -90,7 +109,7 @@ public class ScheduleParser {
             return new HelpCommand();
 
         case AddBlockedSlotCommand.COMMAND_WORD:
-            return new AddBlockedSlotCommandParser().parse(arguments);
+            return new AddBlockedSlotCommandParser(valuePool).parse(arguments);
 
         case ListBlockedSlotsCommand.COMMAND_WORD:
             return new ListBlockedSlotsCommand();
@@ -101,6 +120,15 @@ public class ScheduleParser {
         case DeleteBlockedSlotCommand.COMMAND_WORD:
             return new DeleteBlockedSlotCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case HistoryCommand.COMMAND_WORD:
+            return new HistoryCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Objects;
 
 import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.TimeSlot;
 
 public class FreeSlot implements Overlappable {
@@ -27,7 +28,7 @@ public class FreeSlot implements Overlappable {
 
     @Override
     public boolean isOverlappingWith(Overlappable o) {
-        if (this.date.equals(o.getDate())) {
+        if (Recurrence.occursOn(o, this.date)) {
             return this.timeSlot.isOverlappingWith(o.getTimeSlot());
         } else {
             return false;
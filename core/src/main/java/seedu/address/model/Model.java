@@ -1,16 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.observable.ObservableSequence;
 import seedu.address.logic.commands.exceptions.SlotBlockedException;
+import seedu.address.model.archive.EventArchive;
 import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.change.ScheduleChangeStream;
 import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
+import seedu.address.model.sync.ChangeBundle;
 
 /**
  * The API of the Model component.
@@ -55,9 +60,78 @@ public interface Model {
      */
     void setSchedule(ReadOnlySchedule schedule);
 
+    /**
+     * Changes schedule data to the data in {@code schedule}, removing and adding only the events and blocked slots
+     * that differ.
+     * @return true if the schedule was changed.
+     */
+    boolean mergeSchedule(ReadOnlySchedule schedule);
+
+    /**
+     * Returns the archive of the events that were moved out of the schedule once they were long past.
+     */
+    EventArchive getEventArchive();
+
+    /**
+     * Replaces the archive of past events with {@code eventArchive}.
+     */
+    void setEventArchive(EventArchive eventArchive);
+
+    /**
+     * Drops from memory the least recently used parts of the schedule that have been saved, if it holds more events
+     * and blocked slots than the user prefs allow. They are loaded again when they are needed.
+     */
+    void trimSchedule();
+
+    /**
+     * Returns the stream of the changes to the schedule, which are published after each operation that changes it.
+     */
+    ScheduleChangeStream getScheduleChanges();
+
+    /**
+     * Returns the latest changes to the events and blocked slots changed after position {@code seq} of the
+     * schedule's change feed.
+     */
+    ChangeBundle getChangesSince(long seq);
+
+    /**
+     * Applies the changes in {@code bundle}, made to another copy of the schedule, that are later than the latest
+     * changes to the same events and blocked slots here.
+     * @return the number of changes that were applied.
+     */
+    int applyChanges(ChangeBundle bundle);
+
     /** Returns the Schedule */
     ReadOnlySchedule getSchedule();
 
+    /** Returns an immutable copy of the current contents of the Schedule */
+    ScheduleSnapshot getScheduleSnapshot();
+
+    /**
+     * Returns true if the schedule has a previous state that can be restored.
+     */
+    boolean canUndoSchedule();
+
+    /**
+     * Returns true if the schedule has an undone state that can be restored.
+     */
+    boolean canRedoSchedule();
+
+    /**
+     * Restores the schedule to its previous state.
+     */
+    void undoSchedule();
+
+    /**
+     * Restores the schedule to its previously undone state.
+     */
+    void redoSchedule();
+
+    /**
+     * Saves the current state of the schedule for undo/redo.
+     */
+    void commitSchedule();
+
     /**
      * Deletes the given event.
      * The event must exist in the schedule.
@@ -120,10 +194,10 @@ public interface Model {
     boolean isBlockedByEvent(Overlappable overlappable, Overlappable excluding);
 
     /** Returns an unmodifiable view of the filtered event list */
-    ObservableList<Event> getFilteredEventList();
+    ObservableSequence<Event> getFilteredEventList();
 
     /** Returns an unmodifiable view of the filtered blocked slot list */
-    ObservableList<BlockedSlot> getFilteredBlockedSlotList();
+    ObservableSequence<BlockedSlot> getFilteredBlockedSlotList();
 
     /**
      * Updates the filter of the filtered event list to filter by the given {@code predicate}.
@@ -131,14 +205,25 @@ public interface Model {
      */
     void updateFilteredEventList(Predicate<Event> predicate);
 
+    /**
+     * Updates the filter of the filtered event list to show the events with a word in their name that starts with
+     * any of {@code prefixes}, ignoring case. Looks the words up in an index, instead of checking every event.
+     * @throws NullPointerException if {@code prefixes} is null.
+     */
+    void updateFilteredEventListByNamePrefixes(List<String> prefixes);
+
     /**
      * Updates the filter of the filtered blocked slot list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredBlockedSlotList(Predicate<BlockedSlot> predicate);
 
-    /** Returns the BlockedSlot list in String format */
-    String filteredBlockedSlotListToString();
+    /**
+     * Loads the dates from {@code from} to {@code to} inclusive, which are in view, and keeps them in memory until
+     * other dates are in view instead.
+     * @throws NullPointerException if {@code from} or {@code to} is null.
+     */
+    void showDates(LocalDate from, LocalDate to);
 
     /**
      * Gets the first event in the filtered list.
@@ -0,0 +1,575 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.observable.FilteredSequence;
+import seedu.address.commons.observable.ObservableSequence;
+import seedu.address.model.archive.EventArchive;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.change.ScheduleChange;
+import seedu.address.model.change.ScheduleChangeStream;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventNameIndex;
+import seedu.address.model.event.NameContainsPrefixesPredicate;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.sync.Change;
+import seedu.address.model.sync.ChangeBundle;
+import seedu.address.model.sync.ChangeFeed;
+
+/**
+ * Represents the in-memory model of the schedule data.
+ */
+public class ModelManager implements Model {
+    private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+
+    /** How many months before and after this month are always shown, and are never unloaded. */
+    private static final int VISIBLE_MONTHS = 1;
+
+    private final VersionedSchedule schedule;
+    private final UserPrefs userPrefs;
+    private final FilteredSequence<Event> filteredEvents;
+    private final FilteredSequence<BlockedSlot> filteredBlockedSlots;
+    private final EventNameIndex eventNameIndex;
+    private final ChangeFeed changeFeed;
+    private final ScheduleChangeStream scheduleChanges;
+    /** Loads the rest of the schedule when it is needed, or null once all of it has been loaded. */
+    private ScheduleLoader scheduleLoader;
+    private final PartitionCache partitionCache = new PartitionCache();
+    /** The months of the items changed since the model was created, which undoing or redoing may need. */
+    private final Set<YearMonth> changedMonths = new HashSet<>();
+    /** The dates that the event list shows while it shows the whole schedule, which stay loaded. */
+    private final ShownDates shownEventDates = new ShownDates();
+    /** The dates that the blocked slot list shows while it shows the whole schedule, which stay loaded. */
+    private final ShownDates shownBlockedSlotDates = new ShownDates();
+    /** The dates in view in the calendar, which stay loaded. */
+    private final ShownDates viewedDates = new ShownDates();
+    private boolean isLoading;
+    private EventArchive eventArchive = EventArchive.empty();
+
+    /**
+     * Initializes a ModelManager with the given schedule and userPrefs.
+     */
+    public ModelManager(ReadOnlySchedule schedule, ReadOnlyUserPrefs userPrefs) {
+        this(schedule, userPrefs, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given part of a schedule and userPrefs, which loads the rest of the
+     * schedule from {@code scheduleLoader} when an operation needs it. {@code scheduleLoader} may be null if
+     * {@code schedule} is the whole schedule.
+     */
+    public ModelManager(ReadOnlySchedule schedule, ReadOnlyUserPrefs userPrefs, ScheduleLoader scheduleLoader) {
+        super();
+        requireAllNonNull(schedule, userPrefs);
+
+        logger.fine("Initializing with schedule: " + schedule + " and user prefs " + userPrefs);
+
+        this.schedule = new VersionedSchedule(schedule);
+        this.userPrefs = new UserPrefs(userPrefs);
+        filteredEvents = new FilteredSequence<>(this.schedule.getEventList());
+        filteredBlockedSlots = new FilteredSequence<>(this.schedule.getBlockedSlotList());
+        eventNameIndex = new EventNameIndex(this.schedule.getEventList());
+        changeFeed = new ChangeFeed(this.schedule, ChangeFeed.newReplicaId());
+        scheduleChanges = new ScheduleChangeStream(this.schedule);
+        scheduleChanges.addListener(this::recordChangedMonths);
+        this.scheduleLoader = scheduleLoader;
+        touchPartitionsOf(this.schedule);
+        ensureLoaded(viewedDates.from, viewedDates.to);
+    }
+
+    public ModelManager() {
+        this(new Schedule(), new UserPrefs());
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        this.userPrefs.resetData(userPrefs);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        userPrefs.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public Path getScheduleFilePath() {
+        return userPrefs.getScheduleFilePath();
+    }
+
+    @Override
+    public void setScheduleFilePath(Path scheduleFilePath) {
+        requireNonNull(scheduleFilePath);
+        userPrefs.setScheduleFilePath(scheduleFilePath);
+    }
+
+    //=========== Schedule ================================================================================
+
+    @Override
+    public void setSchedule(ReadOnlySchedule schedule) {
+        // replaces every item, so all of them must be in memory to be removed
+        ensureLoaded(null, null);
+        this.schedule.resetData(schedule);
+        scheduleChanges.publishPending();
+    }
+
+    @Override
+    public boolean mergeSchedule(ReadOnlySchedule schedule) {
+        requireNonNull(schedule);
+        // compared item by item with the whole of the other schedule
+        ensureLoaded(null, null);
+        boolean isChanged = this.schedule.mergeFrom(schedule);
+        scheduleChanges.publishPending();
+        return isChanged;
+    }
+
+    @Override
+    public EventArchive getEventArchive() {
+        return eventArchive;
+    }
+
+    @Override
+    public void setEventArchive(EventArchive eventArchive) {
+        requireNonNull(eventArchive);
+        this.eventArchive = eventArchive;
+    }
+
+    @Override
+    public ScheduleChangeStream getScheduleChanges() {
+        return scheduleChanges;
+    }
+
+    @Override
+    public ChangeBundle getChangesSince(long seq) {
+        return changeFeed.getChangesSince(seq);
+    }
+
+    @Override
+    public int applyChanges(ChangeBundle bundle) {
+        requireNonNull(bundle);
+        Set<Long> ids = new HashSet<>();
+        for (Change change : bundle.getChanges()) {
+            ids.add(change.getId());
+            change.getItem().ifPresent(this::ensureLoaded);
+        }
+        ensureLoadedWithEventsMatching(event -> ids.contains(event.getId()));
+        ensureLoadedWithBlockedSlotsMatching(blockedSlot -> ids.contains(blockedSlot.getId()));
+        int appliedCount = changeFeed.apply(bundle);
+        scheduleChanges.publishPending();
+        return appliedCount;
+    }
+
+    /**
+     * Loads the parts of the schedule between {@code from} and {@code to} inclusive that have not been loaded yet.
+     * A null bound leaves that end of the range open.
+     */
+    private void ensureLoaded(LocalDate from, LocalDate to) {
+        if (scheduleLoader == null) {
+            return;
+        }
+        addLoaded(scheduleLoader.load(from, to), "from " + from + " to " + to);
+        partitionCache.touch(from, to);
+    }
+
+    /**
+     * Loads the parts of the schedule that {@code overlappable} could overlap with.
+     */
+    private void ensureLoaded(Overlappable overlappable) {
+        ensureLoaded(overlappable.getDate().date, Recurrence.getLastDate(overlappable).date);
+    }
+
+    /**
+     * Loads the parts of the schedule that have not been loaded yet and that hold an event that is
+     * {@code isWanted}, without loading the rest.
+     */
+    private void ensureLoadedWithEventsMatching(Predicate<? super Event> isWanted) {
+        if (scheduleLoader == null) {
+            return;
+        }
+        addLoaded(scheduleLoader.loadMatchingEvents(isWanted), "matching a search");
+    }
+
+    /**
+     * Loads the parts of the schedule that have not been loaded yet and that hold a blocked slot that is
+     * {@code isWanted}, without loading the rest.
+     */
+    private void ensureLoadedWithBlockedSlotsMatching(Predicate<? super BlockedSlot> isWanted) {
+        if (scheduleLoader == null) {
+            return;
+        }
+        addLoaded(scheduleLoader.loadMatchingBlockedSlots(isWanted), "matching a search");
+    }
+
+    /**
+     * Adds {@code loaded}, which was just loaded by the schedule loader, to the schedule in memory.
+     * {@code description} says which part of the schedule it is, for the log.
+     */
+    private void addLoaded(ReadOnlySchedule loaded, String description) {
+        if (scheduleLoader.isFullyLoaded() && userPrefs.getScheduleCacheCapacity() <= 0) {
+            // nothing is ever unloaded, so nothing is left to load
+            scheduleLoader = null;
+        }
+        if (!loaded.getEventList().isEmpty() || !loaded.getBlockedSlotList().isEmpty()) {
+            logger.fine("Loaded " + loaded.getEventList().size() + " events and "
+                    + loaded.getBlockedSlotList().size() + " blocked slots " + description);
+            isLoading = true;
+            try {
+                schedule.load(loaded);
+                scheduleChanges.publishPending();
+            } finally {
+                isLoading = false;
+            }
+            touchPartitionsOf(loaded);
+        }
+    }
+
+    /**
+     * Unloads the least recently used months of the schedule that have been saved, until it holds at most as many
+     * events and blocked slots as the user prefs allow. The months of the items on the dates that the lists and the
+     * calendar show, those changed since the model was created, and those of the items that a filtered list picks
+     * out of the schedule are kept, so that the lists, the calendar and undoing are not affected.
+     */
+    @Override
+    public void trimSchedule() {
+        int capacity = userPrefs.getScheduleCacheCapacity();
+        if (scheduleLoader == null || capacity <= 0) {
+            return;
+        }
+        Map<YearMonth, List<Event>> events = groupByPartition(schedule.getEventList());
+        Map<YearMonth, List<BlockedSlot>> blockedSlots = groupByPartition(schedule.getBlockedSlotList());
+        Map<YearMonth, Integer> sizes = new HashMap<>();
+        events.forEach((month, monthEvents) -> sizes.merge(month, monthEvents.size(), Integer::sum));
+        blockedSlots.forEach((month, monthBlockedSlots) -> sizes.merge(month, monthBlockedSlots.size(), Integer::sum));
+        Set<YearMonth> pinned = new HashSet<>(changedMonths);
+        pinShown(schedule.getEventList(), shownEventDates, pinned);
+        pinShown(schedule.getBlockedSlotList(), shownBlockedSlotDates, pinned);
+        pinShown(schedule.getEventList(), viewedDates, pinned);
+        pinShown(schedule.getBlockedSlotList(), viewedDates, pinned);
+        if (!isShowingAll(filteredEvents, PREDICATE_SHOW_ALL_EVENTS)) {
+            pinned.addAll(groupByPartition(filteredEvents).keySet());
+        }
+        if (!isShowingAll(filteredBlockedSlots, PREDICATE_SHOW_ALL_BLOCKED_SLOTS)) {
+            pinned.addAll(groupByPartition(filteredBlockedSlots).keySet());
+        }
+
+        List<YearMonth> evicted = partitionCache.evict(sizes, capacity, month -> !pinned.contains(month)
+                && scheduleLoader.unload(month, events.getOrDefault(month, List.of()),
+                blockedSlots.getOrDefault(month, List.of())));
+        if (evicted.isEmpty()) {
+            return;
+        }
+        Schedule unloaded = new Schedule();
+        for (YearMonth month : evicted) {
+            events.getOrDefault(month, List.of()).forEach(unloaded::addEvent);
+            blockedSlots.getOrDefault(month, List.of()).forEach(unloaded::addBlockedSlot);
+        }
+        changeFeed.runUnrecorded(() -> schedule.unload(unloaded));
+        // the items are only out of memory, and are still in the schedule
+        scheduleChanges.discardPending();
+        logger.fine("Unloaded " + evicted.size() + " months of the schedule");
+    }
+
+    private static <T extends Overlappable> void pinShown(List<T> items, ShownDates shownDates,
+            Set<YearMonth> pinned) {
+        for (T item : items) {
+            if (shownDates.isShown(item)) {
+                pinned.add(ScheduleLoader.getPartition(item));
+            }
+        }
+    }
+
+    private static <T> boolean isShowingAll(FilteredSequence<T> list, Predicate<T> showAll) {
+        return list.getPredicate() == null || list.getPredicate() == showAll;
+    }
+
+    private static <T extends Overlappable> Map<YearMonth, List<T>> groupByPartition(List<T> items) {
+        Map<YearMonth, List<T>> byMonth = new HashMap<>();
+        for (T item : items) {
+            byMonth.computeIfAbsent(ScheduleLoader.getPartition(item), unused -> new ArrayList<>()).add(item);
+        }
+        return byMonth;
+    }
+
+    private void touchPartitionsOf(ReadOnlySchedule loaded) {
+        loaded.getEventList().forEach(event -> partitionCache.touch(ScheduleLoader.getPartition(event)));
+        loaded.getBlockedSlotList().forEach(slot -> partitionCache.touch(ScheduleLoader.getPartition(slot)));
+    }
+
+    private void recordChangedMonths(ScheduleChange change) {
+        if (isLoading) {
+            return;
+        }
+        change.getOldItem().ifPresent(item -> changedMonths.add(ScheduleLoader.getPartition(item)));
+        change.getNewItem().ifPresent(item -> changedMonths.add(ScheduleLoader.getPartition(item)));
+    }
+
+    @Override
+    public ReadOnlySchedule getSchedule() {
+        return schedule;
+    }
+
+    @Override
+    public ScheduleSnapshot getScheduleSnapshot() {
+        return schedule.snapshot();
+    }
+
+    @Override
+    public boolean canUndoSchedule() {
+        return schedule.canUndo();
+    }
+
+    @Override
+    public boolean canRedoSchedule() {
+        return schedule.canRedo();
+    }
+
+    @Override
+    public void undoSchedule() {
+        schedule.undo();
+        scheduleChanges.publishPending();
+    }
+
+    @Override
+    public void redoSchedule() {
+        schedule.redo();
+        scheduleChanges.publishPending();
+    }
+
+    @Override
+    public void commitSchedule() {
+        schedule.commit();
+    }
+
+    @Override
+    public void deleteEvent(Event target) {
+        schedule.removeEvent(target);
+        scheduleChanges.publishPending();
+    }
+
+    @Override
+    public void addEvent(Event event) {
+        ensureLoaded(event);
+        schedule.addEvent(event);
+        scheduleChanges.publishPending();
+        // shows the loaded events only, rather than loading the whole schedule for every event added
+        filteredEvents.setPredicate(PREDICATE_SHOW_ALL_EVENTS);
+    }
+
+    @Override
+    public void setEvent(Event target, Event editedEvent) {
+        requireAllNonNull(target, editedEvent);
+        ensureLoaded(editedEvent);
+        schedule.setEvent(target, editedEvent);
+        scheduleChanges.publishPending();
+    }
+
+    @Override
+    public void addBlockedSlot(BlockedSlot blockedSlot) {
+        ensureLoaded(blockedSlot);
+        schedule.addBlockedSlot(blockedSlot);
+        scheduleChanges.publishPending();
+        filteredBlockedSlots.setPredicate(PREDICATE_SHOW_ALL_BLOCKED_SLOTS);
+    }
+
+    @Override
+    public void deleteBlockedSlot(BlockedSlot blockedSlot) {
+        schedule.removeBlockedSlot(blockedSlot);
+        scheduleChanges.publishPending();
+    }
+
+    @Override
+    public boolean isBlockedByBlockedSlot(Overlappable overlappable) {
+        ensureLoaded(overlappable);
+        return schedule.isBlockedByBlockedSlot(overlappable);
+    }
+
+    @Override
+    public boolean isBlockedByBlockedSlot(Overlappable overlappable, Overlappable excluding) {
+        ensureLoaded(overlappable);
+        return schedule.isBlockedByBlockedSlot(overlappable, excluding);
+    }
+
+    @Override
+    public boolean isBlockedByEvent(Overlappable overlappable) {
+        ensureLoaded(overlappable);
+        return schedule.isBlockedByEvent(overlappable);
+    }
+
+    @Override
+    public boolean isBlockedByEvent(Overlappable overlappable, Overlappable excluding) {
+        ensureLoaded(overlappable);
+        return schedule.isBlockedByEvent(overlappable, excluding);
+    }
+
+    //=========== Filtered Event List Accessors =============================================================
+
+    /**
+     * Returns an unmodifiable view of the list of {@code Event}s.
+     */
+    @Override
+    public ObservableSequence<Event> getFilteredEventList() {
+        return filteredEvents;
+    }
+
+    @Override
+    public void updateFilteredEventList(Predicate<Event> predicate) {
+        requireNonNull(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_EVENTS) {
+            shownEventDates.showAll();
+            ensureLoaded(null, null);
+        } else {
+            // the rest of the schedule is only searched, and stays in memory only while it matches
+            showAroundToday(shownEventDates);
+            ensureLoadedWithEventsMatching(predicate);
+        }
+        filteredEvents.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateFilteredEventListByNamePrefixes(List<String> prefixes) {
+        requireNonNull(prefixes);
+        showAroundToday(shownEventDates);
+        ensureLoadedWithEventsMatching(new NameContainsPrefixesPredicate(prefixes));
+        // every match is loaded by now, so the list is filtered without searching the schedule again
+        filteredEvents.setPredicate(eventNameIndex.findByPrefixes(prefixes)::contains);
+    }
+
+    //=========== Filtered Blocked Slot List Accessors =============================================================
+
+    /**
+     * Returns an unmodifiable view of the list of {@code BlockedSlot}s.
+     */
+    @Override
+    public ObservableSequence<BlockedSlot> getFilteredBlockedSlotList() {
+        return filteredBlockedSlots;
+    }
+
+    @Override
+    public void updateFilteredBlockedSlotList(Predicate<BlockedSlot> predicate) {
+        requireNonNull(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_BLOCKED_SLOTS) {
+            shownBlockedSlotDates.showAll();
+            ensureLoaded(null, null);
+        } else {
+            showAroundToday(shownBlockedSlotDates);
+            ensureLoadedWithBlockedSlotsMatching(predicate);
+        }
+        filteredBlockedSlots.setPredicate(predicate);
+    }
+
+    @Override
+    public void showDates(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        viewedDates.set(from, to);
+        ensureLoaded(from, to);
+    }
+
+    /**
+     * Makes {@code shownDates} the months around today only, which are loaded.
+     */
+    private void showAroundToday(ShownDates shownDates) {
+        shownDates.setAroundToday();
+        ensureLoaded(shownDates.from, shownDates.to);
+    }
+
+    @Override
+    public Event nextEventInTheList() {
+        if (filteredEvents.isEmpty()) {
+            return null;
+        } else {
+            return filteredEvents.get(0);
+        }
+
+    }
+
+    @Override
+    public ArrayList<FreeSlot> getFreeSlots(Date date, LocalTime now) {
+        ensureLoaded(date.date, null);
+        return schedule.getFreeSlots(date, now);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        // short circuit if same object
+        if (obj == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(obj instanceof ModelManager)) {
+            return false;
+        }
+
+        // state check
+        ModelManager other = (ModelManager) obj;
+        return schedule.equals(other.schedule)
+                && userPrefs.equals(other.userPrefs)
+                && filteredEvents.equals(other.filteredEvents)
+                && filteredBlockedSlots.equals(other.filteredBlockedSlots);
+    }
+
+    /**
+     * A range of dates that is shown, which starts as the months around today. A null bound leaves that end of the
+     * range open.
+     */
+    private static class ShownDates {
+        private LocalDate from;
+        private LocalDate to;
+
+        ShownDates() {
+            setAroundToday();
+        }
+
+        void set(LocalDate from, LocalDate to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        void setAroundToday() {
+            YearMonth thisMonth = YearMonth.now();
+            set(thisMonth.minusMonths(VISIBLE_MONTHS).atDay(1), thisMonth.plusMonths(VISIBLE_MONTHS).atEndOfMonth());
+        }
+
+        void showAll() {
+            set(null, null);
+        }
+
+        /**
+         * Returns true if {@code overlappable} takes place on a date in the range.
+         */
+        boolean isShown(Overlappable overlappable) {
+            return (from == null || !Recurrence.getLastDate(overlappable).date.isBefore(from))
+                    && (to == null || !overlappable.getDate().date.isAfter(to));
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.TimeSlot;
 
 /**
@@ -19,4 +22,11 @@ public interface Overlappable {
 
     TimeSlot getTimeSlot();
 
+    /**
+     * Returns how this Overlappable repeats after {@link #getDate()}, if it does.
+     */
+    default Optional<Recurrence> getRecurrence() {
+        return Optional.empty();
+    }
+
 }
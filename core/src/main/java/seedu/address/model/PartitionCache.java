@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Keeps track of which of the month partitions of a schedule in memory were used least recently, and picks those
+ * to unload when the schedule holds more items than it should.
+ * Not thread-safe.
+ */
+public class PartitionCache {
+
+    /** The months in memory, from the least to the most recently used. */
+    private final LinkedHashMap<YearMonth, Boolean> months = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Counts {@code month} as the most recently used.
+     */
+    public void touch(YearMonth month) {
+        requireNonNull(month);
+        months.put(month, Boolean.TRUE);
+    }
+
+    /**
+     * Counts the months in memory from {@code from} to {@code to} inclusive as the most recently used, in order.
+     * A null bound leaves that end of the range open.
+     */
+    public void touch(LocalDate from, LocalDate to) {
+        YearMonth first = from == null ? null : YearMonth.from(from);
+        YearMonth last = to == null ? null : YearMonth.from(to);
+        List<YearMonth> touched = new ArrayList<>();
+        for (YearMonth month : months.keySet()) {
+            if ((first == null || !month.isBefore(first)) && (last == null || !month.isAfter(last))) {
+                touched.add(month);
+            }
+        }
+        // touched after going through the months, since touching a month moves it
+        touched.sort(null);
+        touched.forEach(this::touch);
+    }
+
+    /**
+     * Returns the months in memory, from the least to the most recently used.
+     */
+    public List<YearMonth> getMonths() {
+        return new ArrayList<>(months.keySet());
+    }
+
+    /**
+     * Unloads months, from the least recently used, until the months left hold at most {@code capacity} items, by
+     * the number of items in each month in {@code sizes}. A month is unloaded by {@code unloader}, which returns
+     * false if it must stay in memory.
+     * @return the months that were unloaded.
+     */
+    public List<YearMonth> evict(Map<YearMonth, Integer> sizes, int capacity, Predicate<YearMonth> unloader) {
+        requireNonNull(sizes);
+        requireNonNull(unloader);
+        for (YearMonth month : sizes.keySet()) {
+            // not putIfAbsent(), which would count as a use of the month
+            if (!months.containsKey(month)) {
+                months.put(month, Boolean.TRUE);
+            }
+        }
+        months.keySet().retainAll(sizes.keySet());
+
+        int size = sizes.values().stream().mapToInt(Integer::intValue).sum();
+        List<YearMonth> evicted = new ArrayList<>();
+        for (YearMonth month : getMonths()) {
+            if (size <= capacity) {
+                break;
+            }
+            if (unloader.test(month)) {
+                months.remove(month);
+                size -= sizes.get(month);
+                evicted.add(month);
+            }
+        }
+        return evicted;
+    }
+}
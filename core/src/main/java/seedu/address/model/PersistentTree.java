@@ -0,0 +1,251 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable sequence of elements stored in a balanced (AVL) tree that is indexed by position.
+ * Every update returns a new tree that shares all but O(log n) of its nodes with the tree it was made from,
+ * so keeping many versions of a large sequence around is cheap.
+ */
+public final class PersistentTree<T> implements Iterable<T> {
+
+    private static final PersistentTree<?> EMPTY = new PersistentTree<>(null);
+
+    private final Node<T> root;
+
+    private PersistentTree(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty tree.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentTree<T> empty() {
+        return (PersistentTree<T>) EMPTY;
+    }
+
+    /**
+     * Returns a tree holding {@code elements} in the same order, built in O(n) time.
+     */
+    public static <T> PersistentTree<T> of(List<? extends T> elements) {
+        requireNonNull(elements);
+        return new PersistentTree<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a tree with {@code element} inserted at {@code index}.
+     */
+    public PersistentTree<T> insert(int index, T element) {
+        checkIndex(index, size() + 1);
+        return new PersistentTree<>(insertAt(root, index, element));
+    }
+
+    /**
+     * Returns a tree without the element at {@code index}.
+     */
+    public PersistentTree<T> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentTree<>(removeAt(root, index));
+    }
+
+    /**
+     * Returns a tree with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentTree<T> set(int index, T element) {
+        checkIndex(index, size());
+        return new PersistentTree<>(setAt(root, index, element));
+    }
+
+    /**
+     * Returns the index of the first element that does not satisfy {@code precedes}.
+     * {@code precedes} must hold for a prefix of this tree and for no element after it.
+     */
+    public int firstIndexNotMatching(Predicate<? super T> precedes) {
+        int index = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (precedes.test(node.value)) {
+                index += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns an iterator over the elements in order, which does not support removal.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <T> Node<T> build(List<? extends T> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements.get(mid), build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <T> Node<T> insertAt(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insertAt(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insertAt(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> removeAt(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, removeAt(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, removeAt(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, removeAt(node.right, 0));
+    }
+
+    private static <T> Node<T> setAt(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, setAt(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, setAt(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    /**
+     * Returns a node holding {@code value} over {@code left} and {@code right}, rotating once or twice
+     * if their heights differ by two.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                    new Node<>(value, pivot.right, right));
+        } else if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                    new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Walks the tree in order, keeping the path to the next element on a stack.
+     */
+    private class InOrderIterator implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+
+        private InOrderIterator() {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+
+        private void pushLeftSpine(Node<T> node) {
+            for (Node<T> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
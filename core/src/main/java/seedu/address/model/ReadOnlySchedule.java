@@ -1,6 +1,6 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.observable.ObservableSequence;
 import seedu.address.model.blockedslot.BlockedSlot;
 import seedu.address.model.event.Event;
 
@@ -12,11 +12,11 @@ public interface ReadOnlySchedule {
     /**
      * Returns an unmodifiable view of the events list.
      */
-    ObservableList<Event> getEventList();
+    ObservableSequence<Event> getEventList();
 
     /**
      * Returns an unmodifiable view of the blocked slots list.
      */
-    ObservableList<BlockedSlot> getBlockedSlotList();
+    ObservableSequence<BlockedSlot> getBlockedSlotList();
 
 }
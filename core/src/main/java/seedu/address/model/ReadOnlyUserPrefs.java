@@ -0,0 +1,33 @@
+package seedu.address.model;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.core.GuiSettings;
+
+/**
+ * Unmodifiable view of user prefs.
+ */
+public interface ReadOnlyUserPrefs {
+
+    GuiSettings getGuiSettings();
+
+    Path getScheduleFilePath();
+
+    /**
+     * Returns true if the schedule is stored as one file per month, with a manifest at the schedule file path.
+     */
+    boolean isSchedulePartitioned();
+
+    /**
+     * Returns the number of days after their last occurrence that events are moved to the archive, or 0 if they
+     * never are.
+     */
+    int getArchiveAfterDays();
+
+    /**
+     * Returns the most events and blocked slots of a partitioned schedule that are kept in memory beyond those that
+     * are shown or can be undone, or 0 if there is no limit.
+     */
+    int getScheduleCacheCapacity();
+
+}
@@ -5,14 +5,14 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.observable.ObservableSequence;
 import seedu.address.model.blockedslot.BlockedSlot;
 import seedu.address.model.blockedslot.SortedBlockedSlotList;
 import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.SortedEventList;
 import seedu.address.model.event.TimeSlot;
 
@@ -76,6 +76,37 @@ public class Schedule implements ReadOnlySchedule {
         setBlockedSlots(newData.getBlockedSlotList());
     }
 
+    /**
+     * Changes the contents of this {@code Schedule} to those of {@code newData}, removing and adding only the events
+     * and blocked slots that differ, so that listeners are told about each of them instead of a whole new list.
+     * @return true if this schedule was changed.
+     */
+    public boolean mergeFrom(ReadOnlySchedule newData) {
+        requireNonNull(newData);
+
+        boolean isEventsChanged = events.mergeFrom(newData.getEventList());
+        boolean isBlockedSlotsChanged = blockedSlots.mergeFrom(newData.getBlockedSlotList());
+        return isEventsChanged || isBlockedSlotsChanged;
+    }
+
+    /**
+     * Returns the current contents of this {@code Schedule}, which will not change as this schedule is modified.
+     */
+    public ScheduleSnapshot snapshot() {
+        return new ScheduleSnapshot(events.snapshot(), blockedSlots.snapshot());
+    }
+
+    /**
+     * Replaces the contents of this {@code Schedule} with {@code snapshot}, which must have been taken from
+     * this schedule.
+     */
+    public void restore(ScheduleSnapshot snapshot) {
+        requireNonNull(snapshot);
+
+        events.restore(snapshot.getEvents());
+        blockedSlots.restore(snapshot.getBlockedSlots());
+    }
+
     //// event-level operations
 
     /**
@@ -168,12 +199,12 @@ public class Schedule implements ReadOnlySchedule {
     }
 
     @Override
-    public ObservableList<Event> getEventList() {
+    public ObservableSequence<Event> getEventList() {
         return events.asUnmodifiableObservableList();
     }
 
     @Override
-    public ObservableList<BlockedSlot> getBlockedSlotList() {
+    public ObservableSequence<BlockedSlot> getBlockedSlotList() {
         return blockedSlots.asUnmodifiableObservableList();
     }
 
@@ -190,62 +221,83 @@ public class Schedule implements ReadOnlySchedule {
     }
 
     /**
-     * Comparator class to sort list of Overlappable
+     * Returns the events and blocked slots that do not repeat and are on or after {@code today},
+     * sorted chronologically.
      */
-    private class OverlappableComparator implements Comparator<Overlappable> {
-
-        @Override
-        public int compare(Overlappable o1, Overlappable o2) {
-            int compareDate = o1.getDate().compareTo(o2.getDate());
-            if (compareDate != 0) {
-                return compareDate;
-            } else {
-                return o1.getTimeSlot().compareTo(o2.getTimeSlot());
-            }
-        }
-    }
-
-    private ArrayList<Overlappable> merge() {
-        Iterator<Event> eventsIterator = events.iterator();
-        Iterator<BlockedSlot> blockedIterator = blockedSlots.iterator();
-        ArrayList<Overlappable> allOverlappables = new ArrayList<>();
-        eventsIterator.forEachRemaining(e -> allOverlappables.add(e));
-        blockedIterator.forEachRemaining(b -> allOverlappables.add(b));
-        allOverlappables.sort(new OverlappableComparator());
-        return allOverlappables;
+    private List<Overlappable> getSingleOverlappables(Date today) {
+        List<Overlappable> singles = new ArrayList<>();
+        events.iterator().forEachRemaining(singles::add);
+        blockedSlots.iterator().forEachRemaining(singles::add);
+        singles.removeIf(o -> o.getRecurrence().isPresent() || o.getDate().compareTo(today) < 0);
+        singles.sort(Comparator.comparing(Overlappable::getDate, Date::compareTo)
+                .thenComparing(Overlappable::getTimeSlot, TimeSlot::compareTo));
+        return singles;
     }
 
     /**
      * Goes through both sortedEventList and sortedBlockedSlotList to find free time slots
      * between events and blocked slots.
+     * Each day is worked out on its own: the events and blocked slots on that day, together with the recurring
+     * ones whose rules fall on it, are subtracted from the whole day. Recurring events and blocked slots are never
+     * expanded into their occurrences; each rule is checked once per day.
      *
      * @param today starting date
      * @param now time noe
      * @return ArrayList of FreeSlot between now to 2359 of date with last event/blocked slot
      */
     public ArrayList<FreeSlot> getFreeSlots(Date today, LocalTime now) {
-        ArrayList<Overlappable> allOverlappables = merge();
+        List<Overlappable> singles = getSingleOverlappables(today);
+        List<Overlappable> recurring = new ArrayList<>(events.getRecurringEvents());
+        recurring.addAll(blockedSlots.getRecurringBlockedSlots());
+
+        Date lastDate = singles.isEmpty() ? null : singles.get(singles.size() - 1).getDate();
+        for (Overlappable o : recurring) {
+            Date ruleLastDate = Recurrence.getLastDate(o);
+            if (ruleLastDate.compareTo(today) >= 0 && (lastDate == null || ruleLastDate.compareTo(lastDate) > 0)) {
+                lastDate = ruleLastDate;
+            }
+        }
         ArrayList<FreeSlot> freeSlots = new ArrayList<>();
-        if (allOverlappables.isEmpty()) {
+        if (lastDate == null) {
             return freeSlots;
         }
-        // adds FreeSlots from today 0000 to start time of first Overlappable
-        Overlappable first = allOverlappables.get(0);
-        addEmptyDates(freeSlots, today, first.getDate());
-        addToList(freeSlots, first.getDate(), "0000", first.getTimeSlot().startTimeToString());
-        // adds FreeSlots between all Overlappables
-        for (int i = 1; i < allOverlappables.size(); i++) {
-            Overlappable prev = allOverlappables.get(i - 1);
-            Overlappable curr = allOverlappables.get(i);
-            addFreeSlotBetween(freeSlots, prev, curr);
+
+        int next = 0;
+        for (Date date = today; date.compareTo(lastDate) <= 0; date = new Date(date.date.plusDays(1))) {
+            List<TimeSlot> busy = new ArrayList<>();
+            for (; next < singles.size() && singles.get(next).getDate().equals(date); next++) {
+                busy.add(singles.get(next).getTimeSlot());
+            }
+            for (Overlappable o : recurring) {
+                if (Recurrence.occursOn(o, date)) {
+                    busy.add(o.getTimeSlot());
+                }
+            }
+            addFreeSlotsOn(freeSlots, date, busy);
         }
-        // adds FreeSlot from end time of last overlappable to 2359
-        Overlappable last = allOverlappables.get(allOverlappables.size() - 1);
-        addToList(freeSlots, last.getDate(), last.getTimeSlot().endTimeToString(), "2359");
 
         return removePastFreeSlots(freeSlots, today, now);
     }
 
+    /**
+     * Adds freeSlots for the parts of date {@code d} that are not covered by any of {@code busy}.
+     *
+     * @param freeSlots list of freeSlots
+     * @param d date of freeSlots
+     * @param busy time slots taken up on {@code d}, in any order
+     */
+    private void addFreeSlotsOn(ArrayList<FreeSlot> freeSlots, Date d, List<TimeSlot> busy) {
+        busy.sort(TimeSlot::compareTo);
+        TimeSlot latest = null;
+        for (TimeSlot timeSlot : busy) {
+            addToList(freeSlots, d, latest == null ? "0000" : latest.endTimeToString(), timeSlot.startTimeToString());
+            if (latest == null || timeSlot.endTime.isAfter(latest.endTime)) {
+                latest = timeSlot;
+            }
+        }
+        addToList(freeSlots, d, latest == null ? "0000" : latest.endTimeToString(), "2359");
+    }
+
     /**
      * Creates a new ArrayList using given list containing all freeslots starting from now.
      *
@@ -278,7 +330,7 @@ public class Schedule implements ReadOnlySchedule {
     /**
      * Creates a freeSlot on date d and timeslot between start and end.
      * Adds freeSlot to list of freeSlots.
-     * Ignores if start and end are the same.
+     * Ignores if start is not before end.
      *
      * @param freeSlots list of freeSlots
      * @param d date of freeSlot
@@ -286,31 +338,11 @@ public class Schedule implements ReadOnlySchedule {
      * @param end end time of freeSlots
      */
     private void addToList(ArrayList<FreeSlot> freeSlots, Date d, String start, String end) {
-        if (!start.equals(end)) {
+        if (start.compareTo(end) < 0) {
             freeSlots.add(new FreeSlot(d, new TimeSlot(start, end)));
         }
     }
 
-    /**
-     * Adds freeSlots for timeslot between first and second events/blocked slots.
-     *
-     * @param freeSlots list of freeSlots
-     * @param first first event/blocked slot
-     * @param second second event/blocked slot
-     */
-    public void addFreeSlotBetween(ArrayList<FreeSlot> freeSlots, Overlappable first, Overlappable second) {
-        String firstEndTime = first.getTimeSlot().endTimeToString();
-        String secondStartTime = second.getTimeSlot().startTimeToString();
-
-        if (first.getDate().equals(second.getDate())) {
-            addToList(freeSlots, first.getDate(), firstEndTime, secondStartTime);
-        } else {
-            addToList(freeSlots, first.getDate(), firstEndTime, "2359");
-            addEmptyDates(freeSlots, new Date(first.getDate().date.plusDays(1)), second.getDate());
-            addToList(freeSlots, second.getDate(), "0000", secondStartTime);
-        }
-    }
-
     /**
      * Adds freeSlots for whole days between start (inclusive) and end (exclusive) dates.
      *  @param freeSlots list of freeSlots
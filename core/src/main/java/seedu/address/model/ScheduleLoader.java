@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+
+/**
+ * Loads the parts of a schedule that are kept out of memory until they are needed.
+ * <p>
+ * The schedule is loaded and unloaded one partition at a time, each partition holding the events and blocked slots
+ * whose first date is in one month.
+ */
+public interface ScheduleLoader {
+
+    /**
+     * Returns the events and blocked slots that have not been loaded yet, among which are all those that fall
+     * between {@code from} and {@code to} inclusive. A null bound leaves that end of the range open.
+     * Nothing is returned twice.
+     */
+    ReadOnlySchedule load(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the events and blocked slots that have not been loaded yet, among which are all the events whose last
+     * occurrence is before {@code date}. Nothing is returned twice.
+     */
+    ReadOnlySchedule loadWithEventsBefore(LocalDate date);
+
+    /**
+     * Returns the events and blocked slots that have not been loaded yet of the partitions that hold an event that is
+     * {@code isWanted}, among which are all such events. The other partitions are only searched, and stay unloaded.
+     * If {@code isWanted} is a {@link WordSearch}, the partitions without the words it needs are not even searched.
+     * Nothing is returned twice.
+     */
+    ReadOnlySchedule loadMatchingEvents(Predicate<? super Event> isWanted);
+
+    /**
+     * Returns the events and blocked slots that have not been loaded yet of the partitions that hold a blocked slot
+     * that is {@code isWanted}, among which are all such blocked slots. The other partitions are only searched, and
+     * stay unloaded. Nothing is returned twice.
+     */
+    ReadOnlySchedule loadMatchingBlockedSlots(Predicate<? super BlockedSlot> isWanted);
+
+    /**
+     * Returns true if every event and blocked slot has been loaded.
+     */
+    boolean isFullyLoaded();
+
+    /**
+     * Counts the partition of {@code month}, which now holds {@code events} and {@code blockedSlots}, as not loaded,
+     * so that it is loaded again the next time it is needed, if it was last saved with these very events and blocked
+     * slots.
+     * @return false if the partition has changed since it was last saved, in which case it stays loaded.
+     */
+    boolean unload(YearMonth month, List<Event> events, List<BlockedSlot> blockedSlots);
+
+    /**
+     * Returns the month of the partition that {@code overlappable} is kept in.
+     */
+    static YearMonth getPartition(Overlappable overlappable) {
+        return YearMonth.from(overlappable.getDate().date);
+    }
+}
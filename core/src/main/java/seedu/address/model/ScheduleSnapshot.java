@@ -0,0 +1,40 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+
+/**
+ * An immutable copy of the contents of a {@code Schedule} at one point in time.
+ * Snapshots of nearby states share almost all of their structure, so each one takes up O(log n) extra memory.
+ */
+public class ScheduleSnapshot {
+
+    private final PersistentTree<Event> events;
+    private final PersistentTree<BlockedSlot> blockedSlots;
+
+    ScheduleSnapshot(PersistentTree<Event> events, PersistentTree<BlockedSlot> blockedSlots) {
+        requireNonNull(events);
+        requireNonNull(blockedSlots);
+        this.events = events;
+        this.blockedSlots = blockedSlots;
+    }
+
+    public PersistentTree<Event> getEvents() {
+        return events;
+    }
+
+    public PersistentTree<BlockedSlot> getBlockedSlots() {
+        return blockedSlots;
+    }
+
+    /**
+     * Returns a new {@code Schedule} with the contents of this snapshot.
+     */
+    public Schedule toSchedule() {
+        Schedule schedule = new Schedule();
+        schedule.restore(this);
+        return schedule;
+    }
+}
@@ -0,0 +1,308 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.observable.AbstractObservableSequence;
+
+/**
+ * An {@code ObservableSequence} that keeps its elements sorted by the given {@code Comparator}.
+ * Elements are positioned by binary search and every mutation fires changes that describe
+ * exactly the elements that were added, removed or replaced.
+ *
+ * Elements that compare as equal are kept in insertion order.
+ * The list cannot be modified through the {@code List} interface, so it can be handed out as is.
+ *
+ * The elements are held in a {@link PersistentTree}, so a snapshot of the list can be taken in O(1) time
+ * and every mutation only allocates O(log n) new nodes.
+ */
+public class SortedObservableList<T> extends AbstractObservableSequence<T> {
+
+    private final Comparator<? super T> comparator;
+    private PersistentTree<T> elements = PersistentTree.empty();
+
+    /**
+     * Creates an empty list sorted by {@code comparator}.
+     */
+    public SortedObservableList(Comparator<? super T> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Inserts {@code element} at its sorted position, after any elements that compare as equal to it.
+     * @return the index the element was inserted at.
+     */
+    public int insert(T element) {
+        requireNonNull(element);
+        int index = upperBound(element);
+        elements = elements.insert(index, element);
+
+        fireChange(index, Collections.emptyList(), Collections.singletonList(element));
+        return index;
+    }
+
+    /**
+     * Removes the first element that is equal to {@code element}.
+     * @return true if an element was removed.
+     */
+    public boolean removeElement(T element) {
+        requireNonNull(element);
+        int index = indexOfElement(element);
+        if (index == -1) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes the element at {@code index}.
+     * @return the removed element.
+     */
+    public T removeAt(int index) {
+        T removed = elements.get(index);
+        elements = elements.remove(index);
+
+        fireChange(index, Collections.singletonList(removed), Collections.emptyList());
+        return removed;
+    }
+
+    /**
+     * Replaces the first element that is equal to {@code target} with {@code replacement},
+     * moving it to the sorted position of {@code replacement} if necessary.
+     * @return true if {@code target} was found and replaced.
+     */
+    public boolean replace(T target, T replacement) {
+        requireAllNonNull(target, replacement);
+        int oldIndex = indexOfElement(target);
+        if (oldIndex == -1) {
+            return false;
+        }
+        replaceAt(oldIndex, replacement);
+        return true;
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code replacement},
+     * moving it to the sorted position of {@code replacement} if necessary.
+     * A move is reported as a removal followed by an addition.
+     * @return the replaced element.
+     */
+    public T replaceAt(int index, T replacement) {
+        requireNonNull(replacement);
+        PersistentTree<T> original = elements;
+        T removed = original.get(index);
+        elements = original.remove(index);
+        int newIndex = upperBound(replacement);
+
+        if (newIndex == index) {
+            elements = original.set(index, replacement);
+            fireChange(index, Collections.singletonList(removed), Collections.singletonList(replacement));
+        } else {
+            fireChange(index, Collections.singletonList(removed), Collections.emptyList());
+            elements = elements.insert(newIndex, replacement);
+            fireChange(newIndex, Collections.emptyList(), Collections.singletonList(replacement));
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}, sorted.
+     */
+    public void resetTo(Collection<? extends T> replacement) {
+        requireAllNonNull(replacement);
+        List<T> sorted = new ArrayList<>(replacement);
+        sorted.sort(comparator);
+        List<T> removed = new ArrayList<>(this);
+        elements = PersistentTree.of(sorted);
+
+        fireChange(0, removed, sorted);
+    }
+
+    /**
+     * Changes the contents of this list to those of {@code sortedReplacement}, which must be sorted like this list,
+     * by removing and inserting only the elements that differ. The two are compared in one sorted merge, and each
+     * element that differs is reported as a change of its own.
+     * @return true if this list was changed.
+     */
+    public boolean mergeFrom(Iterable<? extends T> sortedReplacement) {
+        requireNonNull(sortedReplacement);
+        List<T> removed = new ArrayList<>();
+        List<T> added = new ArrayList<>();
+        Iterator<T> oldElements = elements.iterator();
+        Iterator<? extends T> newElements = sortedReplacement.iterator();
+        T oldElement = nextOrNull(oldElements);
+        T newElement = nextOrNull(newElements);
+        while (oldElement != null || newElement != null) {
+            int comparison = oldElement == null ? 1
+                    : newElement == null ? -1
+                    : comparator.compare(oldElement, newElement);
+            if (comparison < 0) {
+                removed.add(oldElement);
+                oldElement = nextOrNull(oldElements);
+            } else if (comparison > 0) {
+                added.add(newElement);
+                newElement = nextOrNull(newElements);
+            } else {
+                // elements that compare as equal may be in any order, so they are matched up by equality
+                T head = oldElement;
+                List<T> oldRun = new ArrayList<>();
+                while (oldElement != null && comparator.compare(oldElement, head) == 0) {
+                    oldRun.add(oldElement);
+                    oldElement = nextOrNull(oldElements);
+                }
+                while (newElement != null && comparator.compare(newElement, head) == 0) {
+                    if (!removeEqual(oldRun, newElement)) {
+                        added.add(newElement);
+                    }
+                    newElement = nextOrNull(newElements);
+                }
+                removed.addAll(oldRun);
+            }
+        }
+
+        for (T element : removed) {
+            removeAt(indexOfInstance(element));
+        }
+        for (T element : added) {
+            insert(element);
+        }
+        return !removed.isEmpty() || !added.isEmpty();
+    }
+
+    /**
+     * Returns the index of the first element that is equal to {@code element}, or -1 if there is none.
+     * Only the elements that compare as equal to {@code element} are inspected.
+     */
+    public int indexOfElement(T element) {
+        requireNonNull(element);
+        for (int i = lowerBound(element); i < elements.size()
+                && comparator.compare(elements.get(i), element) == 0; i++) {
+            if (elements.get(i).equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of {@code element} itself, rather than of an element equal to it, or -1 if it is not
+     * in this list. Only the elements that compare as equal to {@code element} are inspected.
+     */
+    public int indexOfInstance(T element) {
+        requireNonNull(element);
+        for (int i = lowerBound(element); i < elements.size()
+                && comparator.compare(elements.get(i), element) == 0; i++) {
+            if (elements.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element that does not satisfy {@code precedes}.
+     * {@code precedes} must hold for a prefix of this list and for no element after it,
+     * such as "starts before a given date".
+     */
+    public int firstIndexNotMatching(Predicate<? super T> precedes) {
+        return elements.firstIndexNotMatching(precedes);
+    }
+
+    /**
+     * Returns the current contents of this list, which will not change as this list is modified.
+     */
+    public PersistentTree<T> snapshot() {
+        return elements;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken from this list.
+     * The elements shared by the start and end of both versions are left out of the change that is fired,
+     * so restoring a nearby version only reports the elements that differ.
+     */
+    public void restore(PersistentTree<T> snapshot) {
+        requireNonNull(snapshot);
+        PersistentTree<T> current = elements;
+        if (current == snapshot) {
+            return;
+        }
+
+        int oldSize = current.size();
+        int newSize = snapshot.size();
+        int commonSize = Math.min(oldSize, newSize);
+        int prefix = 0;
+        Iterator<T> oldElements = current.iterator();
+        Iterator<T> newElements = snapshot.iterator();
+        while (prefix < commonSize && oldElements.next() == newElements.next()) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (prefix + suffix < commonSize
+                && current.get(oldSize - suffix - 1) == snapshot.get(newSize - suffix - 1)) {
+            suffix++;
+        }
+
+        List<T> removed = new ArrayList<>();
+        for (int i = prefix; i < oldSize - suffix; i++) {
+            removed.add(current.get(i));
+        }
+        List<T> added = new ArrayList<>();
+        for (int i = prefix; i < newSize - suffix; i++) {
+            added.add(snapshot.get(i));
+        }
+        elements = snapshot;
+
+        fireChange(prefix, removed, added);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return elements.iterator();
+    }
+
+    private static <E> E nextOrNull(Iterator<E> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Removes the first element of {@code run} that is equal to {@code element}.
+     * @return true if an element was removed.
+     */
+    private static <E> boolean removeEqual(List<E> run, E element) {
+        for (int i = 0; i < run.size(); i++) {
+            if (run.get(i).equals(element)) {
+                run.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int lowerBound(T element) {
+        return firstIndexNotMatching(other -> comparator.compare(other, element) < 0);
+    }
+
+    private int upperBound(T element) {
+        return firstIndexNotMatching(other -> comparator.compare(other, element) <= 0);
+    }
+}
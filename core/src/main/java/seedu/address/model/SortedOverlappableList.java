@@ -1,6 +1,6 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.observable.ObservableSequence;
 
 /**
  * Interface for a list of Overlappables.
@@ -22,10 +22,10 @@ public interface SortedOverlappableList<T extends Overlappable> extends Iterable
     void remove(T t);
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
-     * @return an ObservableList.
+     * Returns the backing list as an unmodifiable {@code ObservableSequence}.
+     * @return an ObservableSequence.
      */
-    ObservableList<T> asUnmodifiableObservableList();
+    ObservableSequence<T> asUnmodifiableObservableList();
 
     /**
      * Checks if the given Overlappable overlaps with any other in the list.
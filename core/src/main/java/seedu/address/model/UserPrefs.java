@@ -15,6 +15,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path scheduleFilePath = Paths.get("data", "schedule.json");
+    private boolean schedulePartitioned;
+    private int archiveAfterDays;
+    private int scheduleCacheCapacity;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setScheduleFilePath(newUserPrefs.getScheduleFilePath());
+        setSchedulePartitioned(newUserPrefs.isSchedulePartitioned());
+        setArchiveAfterDays(newUserPrefs.getArchiveAfterDays());
+        setScheduleCacheCapacity(newUserPrefs.getScheduleCacheCapacity());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.scheduleFilePath = scheduleFilePath;
     }
 
+    public boolean isSchedulePartitioned() {
+        return schedulePartitioned;
+    }
+
+    public void setSchedulePartitioned(boolean schedulePartitioned) {
+        this.schedulePartitioned = schedulePartitioned;
+    }
+
+    public int getArchiveAfterDays() {
+        return archiveAfterDays;
+    }
+
+    public void setArchiveAfterDays(int archiveAfterDays) {
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    public int getScheduleCacheCapacity() {
+        return scheduleCacheCapacity;
+    }
+
+    public void setScheduleCacheCapacity(int scheduleCacheCapacity) {
+        this.scheduleCacheCapacity = scheduleCacheCapacity;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +98,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && scheduleFilePath.equals(o.scheduleFilePath);
+                && scheduleFilePath.equals(o.scheduleFilePath)
+                && schedulePartitioned == o.schedulePartitioned
+                && archiveAfterDays == o.archiveAfterDays
+                && scheduleCacheCapacity == o.scheduleCacheCapacity;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, scheduleFilePath);
+        return Objects.hash(guiSettings, scheduleFilePath, schedulePartitioned, archiveAfterDays,
+                scheduleCacheCapacity);
     }
 
     @Override
@@ -81,6 +115,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + scheduleFilePath);
+        sb.append("\nPartitioned by month : " + schedulePartitioned);
+        sb.append("\nArchive events after days : " + archiveAfterDays);
+        sb.append("\nSchedule cache capacity : " + scheduleCacheCapacity);
         return sb.toString();
     }
 
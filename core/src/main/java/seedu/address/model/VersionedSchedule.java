@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.exceptions.NoRedoableStateException;
+import seedu.address.model.exceptions.NoUndoableStateException;
+
+/**
+ * A {@code Schedule} that remembers its committed states so that they can be undone and redone.
+ * States are kept as {@code ScheduleSnapshot}s, so a long history costs O(log n) memory per state
+ * instead of a full copy of the schedule.
+ */
+public class VersionedSchedule extends Schedule {
+
+    private final List<ScheduleSnapshot> scheduleStateList = new ArrayList<>();
+    private int currentStatePointer;
+
+    /**
+     * Creates a {@code VersionedSchedule} with the contents of {@code initialState} as its only state.
+     */
+    public VersionedSchedule(ReadOnlySchedule initialState) {
+        super(initialState);
+        scheduleStateList.add(snapshot());
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Saves the current contents of the schedule as a new state, discarding any states that were undone.
+     */
+    public void commit() {
+        scheduleStateList.subList(currentStatePointer + 1, scheduleStateList.size()).clear();
+        scheduleStateList.add(snapshot());
+        currentStatePointer++;
+    }
+
+    /**
+     * Restores the schedule to the state before the current one.
+     *
+     * @throws NoUndoableStateException if there is no earlier state.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        currentStatePointer--;
+        restore(scheduleStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Restores the schedule to the state that was last undone.
+     *
+     * @throws NoRedoableStateException if no state has been undone since the last commit.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        currentStatePointer++;
+        restore(scheduleStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Adds the events and blocked slots of {@code loaded}, which were read from storage, to the schedule and to
+     * every state in its history, so that undoing or redoing never takes them away again.
+     */
+    public void load(ReadOnlySchedule loaded) {
+        for (int i = 0; i < scheduleStateList.size(); i++) {
+            Schedule state = scheduleStateList.get(i).toSchedule();
+            addAll(state, loaded);
+            scheduleStateList.set(i, state.snapshot());
+        }
+        addAll(this, loaded);
+    }
+
+    /**
+     * Removes the events and blocked slots of {@code unloaded}, which are kept in storage, from the schedule and from
+     * every state in its history. They must be the same in every state, so that undoing or redoing never needs them.
+     */
+    public void unload(ReadOnlySchedule unloaded) {
+        for (int i = 0; i < scheduleStateList.size(); i++) {
+            Schedule state = scheduleStateList.get(i).toSchedule();
+            removeAll(state, unloaded);
+            scheduleStateList.set(i, state.snapshot());
+        }
+        removeAll(this, unloaded);
+    }
+
+    private static void addAll(Schedule schedule, ReadOnlySchedule loaded) {
+        loaded.getEventList().forEach(schedule::addEvent);
+        loaded.getBlockedSlotList().forEach(schedule::addBlockedSlot);
+    }
+
+    private static void removeAll(Schedule schedule, ReadOnlySchedule unloaded) {
+        unloaded.getEventList().forEach(schedule::removeEvent);
+        unloaded.getBlockedSlotList().forEach(schedule::removeBlockedSlot);
+    }
+
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    public boolean canRedo() {
+        return currentStatePointer < scheduleStateList.size() - 1;
+    }
+}
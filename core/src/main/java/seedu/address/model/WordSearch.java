@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A test of events that only passes events with certain words in their names or tags, so that the parts of a
+ * schedule whose events have none of those words can be skipped without being read.
+ */
+public interface WordSearch {
+
+    /**
+     * Returns false if no event whose name and tags are made up of {@code words}, in lower case, can pass the test.
+     */
+    boolean mayMatchWords(Set<String> words);
+
+    /**
+     * Returns the words in the name and tags of {@code event}, in lower case.
+     */
+    static Set<String> getWords(Event event) {
+        requireNonNull(event);
+        Set<String> words = new HashSet<>();
+        for (String word : event.getName().fullName.trim().split("\\s+")) {
+            words.add(toKey(word));
+        }
+        for (Tag tag : event.getTags()) {
+            words.add(toKey(tag.tagName));
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code word} as it is kept in the sets of words, trimmed and in lower case.
+     */
+    static String toKey(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
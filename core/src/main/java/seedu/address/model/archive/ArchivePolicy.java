@@ -0,0 +1,59 @@
+package seedu.address.model.archive;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
+
+/**
+ * Decides which events are old enough to be moved out of the schedule into the archive: those whose last
+ * occurrence was more than a given number of days ago.
+ */
+public class ArchivePolicy {
+
+    public static final String MESSAGE_CONSTRAINTS = "The age at which events are archived cannot be negative";
+
+    private final int archiveAfterDays;
+
+    /**
+     * Creates a policy that archives events {@code archiveAfterDays} days after their last occurrence, or none if
+     * it is 0.
+     */
+    public ArchivePolicy(int archiveAfterDays) {
+        checkArgument(archiveAfterDays >= 0, MESSAGE_CONSTRAINTS);
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    public boolean isEnabled() {
+        return archiveAfterDays > 0;
+    }
+
+    /**
+     * Returns the date before which the last occurrence of an event must be for it to be archived on {@code today}.
+     */
+    public LocalDate getCutoff(LocalDate today) {
+        requireNonNull(today);
+        return today.minusDays(archiveAfterDays);
+    }
+
+    /**
+     * Returns the events of {@code schedule} that should be archived on {@code today}.
+     */
+    public List<Event> getEventsToArchive(ReadOnlySchedule schedule, LocalDate today) {
+        requireNonNull(schedule);
+        requireNonNull(today);
+        if (!isEnabled()) {
+            return List.of();
+        }
+        LocalDate cutoff = getCutoff(today);
+        return schedule.getEventList().stream()
+                .filter(event -> Recurrence.getLastDate(event).date.isBefore(cutoff))
+                .collect(Collectors.toList());
+    }
+}
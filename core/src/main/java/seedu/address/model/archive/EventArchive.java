@@ -0,0 +1,126 @@
+package seedu.address.model.archive;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeSlot;
+
+/**
+ * The events that were moved out of the schedule into the archive once they were long past.
+ * <p>
+ * The events are only read from their source the first time they are asked for, and are then indexed by the words
+ * in their names and tags, so that a search looks up the matching words instead of going through every archived
+ * event. Words are matched whole and ignoring case, like {@code find} and {@code filter_tag} match the schedule.
+ */
+public class EventArchive {
+
+    private static final Comparator<Event> CHRONOLOGICAL = Comparator.comparing(Event::getDate, Date::compareTo)
+            .thenComparing(Event::getTimeSlot, TimeSlot::compareTo);
+
+    private final Supplier<List<Event>> source;
+    /** The archived events in chronological order, or null until they are read. */
+    private List<Event> events;
+    /** The positions in {@code events} of the events with each word in their names or tags. */
+    private Map<String, List<Integer>> positionsByNameWord;
+    private Map<String, List<Integer>> positionsByTagWord;
+
+    /**
+     * Creates an archive of the events that {@code source} reads when they are first asked for.
+     */
+    public EventArchive(Supplier<List<Event>> source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    /**
+     * Returns an archive with no events.
+     */
+    public static EventArchive empty() {
+        return new EventArchive(List::of);
+    }
+
+    /**
+     * Returns every archived event, in chronological order.
+     */
+    public synchronized List<Event> getEvents() {
+        load();
+        return events;
+    }
+
+    /**
+     * Returns the archived events with any of {@code keywords} as a word of their names, in chronological order.
+     */
+    public synchronized List<Event> findByNameWords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        load();
+        return find(positionsByNameWord, keywords);
+    }
+
+    /**
+     * Returns the archived events with any of {@code keywords} as a word of one of their tags, in chronological
+     * order.
+     */
+    public synchronized List<Event> findByTagWords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        load();
+        return find(positionsByTagWord, keywords);
+    }
+
+    private List<Event> find(Map<String, List<Integer>> positionsByWord, Collection<String> keywords) {
+        TreeSet<Integer> positions = new TreeSet<>();
+        for (String keyword : keywords) {
+            positions.addAll(positionsByWord.getOrDefault(toKey(keyword), List.of()));
+        }
+        List<Event> matches = new ArrayList<>(positions.size());
+        positions.forEach(position -> matches.add(events.get(position)));
+        return matches;
+    }
+
+    private void load() {
+        if (events != null) {
+            return;
+        }
+        List<Event> sorted = new ArrayList<>(source.get());
+        sorted.sort(CHRONOLOGICAL);
+        positionsByNameWord = index(sorted, event -> List.of(event.getName().fullName));
+        positionsByTagWord = index(sorted, EventArchive::getTagNames);
+        events = List.copyOf(sorted);
+    }
+
+    private static Map<String, List<Integer>> index(List<Event> events, Function<Event, List<String>> textsOf) {
+        Map<String, List<Integer>> positionsByWord = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            for (String text : textsOf.apply(events.get(i))) {
+                for (String word : text.split("\\s+")) {
+                    List<Integer> positions = positionsByWord.computeIfAbsent(toKey(word), unused -> new ArrayList<>());
+                    // a word that appears twice in one event is indexed once
+                    if (positions.isEmpty() || positions.get(positions.size() - 1) != i) {
+                        positions.add(i);
+                    }
+                }
+            }
+        }
+        return positionsByWord;
+    }
+
+    private static List<String> getTagNames(Event event) {
+        return event.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList());
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,9 +3,14 @@ package seedu.address.model.blockedslot;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+import java.util.Optional;
+
 import seedu.address.model.Overlappable;
 import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.TimeSlot;
+import seedu.address.model.util.IdGenerator;
 
 /**
  * Represents a blocked period of time which an Event should not overlap with.
@@ -14,19 +19,41 @@ public class BlockedSlot implements Overlappable {
 
     public static final String SLOT_BLOCKED = "This slot coincides with a blocked period.";
 
+    private final long id;
     private final Date date;
     private final TimeSlot timeSlot;
+    private final Recurrence recurrence;
 
     /**
-     * Constructs a BlockedSlot.
+     * Constructs a BlockedSlot that does not repeat, with a newly generated id.
      * @param date Date to block.
      * @param timeSlot TimeSlot to block.
      */
     public BlockedSlot(Date date, TimeSlot timeSlot) {
+        this(IdGenerator.next(), date, timeSlot, null);
+    }
+
+    /**
+     * Constructs a BlockedSlot.
+     * @param id Id of the BlockedSlot, which should be reserved with {@code IdGenerator}.
+     * @param date Date to block, or the first date to block if {@code recurrence} is given.
+     * @param timeSlot TimeSlot to block.
+     * @param recurrence How the block repeats, or null if it does not.
+     */
+    public BlockedSlot(long id, Date date, TimeSlot timeSlot, Recurrence recurrence) {
         requireNonNull(date);
         requireNonNull(timeSlot);
+        this.id = id;
         this.date = date;
         this.timeSlot = timeSlot;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Returns the id that identifies this BlockedSlot across saves.
+     */
+    public long getId() {
+        return id;
     }
 
     @Override
@@ -39,22 +66,26 @@ public class BlockedSlot implements Overlappable {
         return timeSlot;
     }
 
+    @Override
+    public Optional<Recurrence> getRecurrence() {
+        return Optional.ofNullable(recurrence);
+    }
+
     public boolean hasSameDate(Overlappable overlappable) {
         return this.date.hasSameDate(overlappable.getDate());
     }
 
     /**
-     * Checks if this BlockedSlot overlaps with another Overlappable.
+     * Checks if this BlockedSlot overlaps with another Overlappable on any date that the Overlappable occurs on.
      * @param overlappable Other Overlappable to check for overlaps.
      * @return True if overlapping, false otherwise.
      */
     @Override
     public boolean isOverlappingWith(Overlappable overlappable) {
-        boolean hasSameDate = this.hasSameDate(overlappable);
         boolean isTimeSlotOverlapping = this.timeSlot
                 .isOverlappingWith(overlappable.getTimeSlot());
 
-        return hasSameDate && isTimeSlotOverlapping;
+        return isTimeSlotOverlapping && Recurrence.haveCommonDate(this, overlappable);
     }
 
     /**
@@ -80,8 +111,9 @@ public class BlockedSlot implements Overlappable {
         builder.append("Date: ")
                 .append(getDate())
                 .append("; TimeSlot: ")
-                .append(getTimeSlot())
-                .append(";\n");
+                .append(getTimeSlot());
+        getRecurrence().ifPresent(r -> builder.append("; Repeats: ").append(r));
+        builder.append(";\n");
 
         return builder.toString();
     }
@@ -91,6 +123,7 @@ public class BlockedSlot implements Overlappable {
         return other == this // short circuit if same object
                 || (other instanceof BlockedSlot // instanceof handles nulls
                 && date.equals(((BlockedSlot) other).date))
-                && timeSlot.equals(((BlockedSlot) other).timeSlot);
+                && timeSlot.equals(((BlockedSlot) other).timeSlot)
+                && Objects.equals(recurrence, ((BlockedSlot) other).recurrence);
     }
 }
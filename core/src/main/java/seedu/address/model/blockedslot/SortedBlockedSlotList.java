@@ -0,0 +1,164 @@
+package seedu.address.model.blockedslot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.observable.ObservableSequence;
+import seedu.address.commons.observable.SequenceChange;
+import seedu.address.model.Overlappable;
+import seedu.address.model.PersistentTree;
+import seedu.address.model.SortedObservableList;
+import seedu.address.model.SortedOverlappableList;
+import seedu.address.model.blockedslot.exceptions.BlockedSlotNotFoundException;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
+
+/**
+ * A list of blocked slots is sorted chronologically and does not allow nulls.
+ * A recurring blocked slot is stored once, on its first date, and checked by its rule.
+ */
+public class SortedBlockedSlotList implements SortedOverlappableList<BlockedSlot> {
+
+    private final SortedObservableList<BlockedSlot> internalList =
+            new SortedObservableList<>(BlockedSlot::compareTo);
+    private final Map<Long, BlockedSlot> blockedSlotsById = new HashMap<>();
+    private final List<BlockedSlot> recurringBlockedSlots = new ArrayList<>();
+
+    /**
+     * Creates an empty list.
+     */
+    public SortedBlockedSlotList() {
+        internalList.addListener(this::updateBlockedSlotsById);
+    }
+
+    @Override
+    public void add(BlockedSlot toAdd) {
+        requireNonNull(toAdd);
+        internalList.insert(toAdd);
+    }
+
+    @Override
+    public void remove(BlockedSlot toRemove) {
+        requireNonNull(toRemove);
+        BlockedSlot withSameId = blockedSlotsById.get(toRemove.getId());
+        int index = withSameId != null && withSameId.equals(toRemove)
+                ? internalList.indexOfInstance(withSameId)
+                : internalList.indexOfElement(toRemove);
+        if (index == -1) {
+            throw new BlockedSlotNotFoundException();
+        }
+        internalList.removeAt(index);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code BlockedSlots}.
+     */
+    public void setBlockedSlot(List<BlockedSlot> blockSlots) {
+        requireAllNonNull(blockSlots);
+        internalList.resetTo(blockSlots);
+    }
+
+    /**
+     * Changes the contents of this list to {@code sortedReplacement}, which must be sorted chronologically,
+     * by removing and adding only the blocked slots that differ.
+     * @return true if this list was changed.
+     * @see SortedObservableList#mergeFrom(Iterable)
+     */
+    public boolean mergeFrom(List<BlockedSlot> sortedReplacement) {
+        requireAllNonNull(sortedReplacement);
+        return internalList.mergeFrom(sortedReplacement);
+    }
+
+    /**
+     * Returns the current contents of this list, which will not change as this list is modified.
+     */
+    public PersistentTree<BlockedSlot> snapshot() {
+        return internalList.snapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken from this list.
+     */
+    public void restore(PersistentTree<BlockedSlot> snapshot) {
+        internalList.restore(snapshot);
+    }
+
+    /**
+     * Keeps {@code blockedSlotsById} and {@code recurringBlockedSlots} in step with every change to the list.
+     */
+    private void updateBlockedSlotsById(SequenceChange<? extends BlockedSlot> change) {
+        for (BlockedSlot removed : change.getRemoved()) {
+            blockedSlotsById.remove(removed.getId(), removed);
+            if (removed.getRecurrence().isPresent()) {
+                recurringBlockedSlots.removeIf(blockedSlot -> blockedSlot == removed);
+            }
+        }
+        for (BlockedSlot added : change.getAdded()) {
+            blockedSlotsById.put(added.getId(), added);
+            if (added.getRecurrence().isPresent()) {
+                recurringBlockedSlots.add(added);
+            }
+        }
+    }
+
+    /**
+     * Returns the recurring blocked slots in this list.
+     */
+    public List<BlockedSlot> getRecurringBlockedSlots() {
+        return Collections.unmodifiableList(recurringBlockedSlots);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortedBlockedSlotList // instanceof handles nulls
+                && internalList.equals(((SortedBlockedSlotList) other).internalList));
+    }
+
+    @Override
+    public ObservableSequence<BlockedSlot> asUnmodifiableObservableList() {
+        return internalList;
+    }
+
+    @Override
+    public boolean isOverlappingWith(Overlappable overlappable) {
+        return isOverlappingWith(overlappable, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the blocked slots between the first and last dates that {@code overlappable} can occur on are inspected,
+     * and each recurring blocked slot is checked once by its rule.
+     */
+    @Override
+    public boolean isOverlappingWith(Overlappable overlappable, Overlappable excluding) {
+        Date firstDate = overlappable.getDate();
+        Date lastDate = Recurrence.getLastDate(overlappable);
+        int start = internalList.firstIndexNotMatching(b -> b.getDate().compareTo(firstDate) < 0);
+        for (int i = start; i < internalList.size() && internalList.get(i).getDate().compareTo(lastDate) <= 0; i++) {
+            BlockedSlot b = internalList.get(i);
+            if (b.getRecurrence().isEmpty() && !b.equals(excluding) && b.isOverlappingWith(overlappable)) {
+                return true;
+            }
+        }
+        for (BlockedSlot b : recurringBlockedSlots) {
+            if (!b.equals(excluding) && b.isOverlappingWith(overlappable)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Iterator<BlockedSlot> iterator() {
+        return internalList.iterator();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.change;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.model.change.exceptions.SubscriptionOverflowException;
+
+/**
+ * Reads the changes published by a {@code ScheduleChangeStream} from its own cursor, on any thread.
+ * The stream holds back the writer while the subscription falls behind, for a while; a subscription that falls too
+ * far behind is ended, and must subscribe again and start from the current schedule.
+ */
+public class ChangeSubscription implements AutoCloseable {
+
+    private final ScheduleChangeStream stream;
+    /** Position of the next change to read. Guarded by the stream, like the state below. */
+    private long cursor;
+    private boolean isOverflowed;
+    private boolean isClosed;
+
+    ChangeSubscription(ScheduleChangeStream stream, long cursor) {
+        this.stream = stream;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns up to {@code maxCount} of the changes that have not been read yet, without waiting for any.
+     *
+     * @throws SubscriptionOverflowException if changes that had not been read were dropped.
+     */
+    public List<ScheduleChange> poll(int maxCount) {
+        synchronized (stream) {
+            checkOpen();
+            List<ScheduleChange> changes = stream.read(cursor, maxCount);
+            cursor += changes.size();
+            stream.notifyAll();
+            return changes;
+        }
+    }
+
+    /**
+     * Returns up to {@code maxCount} of the changes that have not been read yet, waiting up to {@code timeout} for
+     * one to be published if there are none. Returns an empty list if none was published in time, or if the
+     * subscription was closed.
+     *
+     * @throws SubscriptionOverflowException if changes that had not been read were dropped.
+     * @throws InterruptedException if the thread was interrupted while waiting.
+     */
+    public List<ScheduleChange> take(int maxCount, long timeout, TimeUnit unit) throws InterruptedException {
+        synchronized (stream) {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            long remainingNanos;
+            while (!isOverflowed && !isClosed && cursor == stream.getNextSeq()
+                    && (remainingNanos = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(stream, remainingNanos);
+            }
+            return isClosed && !isOverflowed ? List.of() : poll(maxCount);
+        }
+    }
+
+    /**
+     * Returns the number of changes published that have not been read yet.
+     */
+    public long getBacklog() {
+        synchronized (stream) {
+            return stream.getNextSeq() - cursor;
+        }
+    }
+
+    /**
+     * Stops reading changes, so that the stream no longer waits for this subscription.
+     */
+    @Override
+    public void close() {
+        synchronized (stream) {
+            isClosed = true;
+            stream.unsubscribe(this);
+        }
+    }
+
+    long getCursor() {
+        return cursor;
+    }
+
+    void overflow() {
+        isOverflowed = true;
+    }
+
+    private void checkOpen() {
+        if (isOverflowed) {
+            throw new SubscriptionOverflowException();
+        }
+        if (isClosed) {
+            throw new IllegalStateException("The subscription is closed");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.change;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.Overlappable;
+
+/**
+ * One change to a schedule, as published by a {@code ScheduleChangeStream}: an event added, edited or deleted, or a
+ * blocked slot added or removed.
+ * Guarantees: immutable; the old item is present unless something was added, and the new item is present unless
+ * something was deleted or removed.
+ */
+public final class ScheduleChange {
+
+    /**
+     * The kinds of changes to a schedule.
+     */
+    public enum Type {
+        EVENT_ADDED, EVENT_EDITED, EVENT_DELETED, BLOCKED_SLOT_ADDED, BLOCKED_SLOT_REMOVED
+    }
+
+    private final long seq;
+    private final Type type;
+    private final Overlappable oldItem;
+    private final Overlappable newItem;
+
+    /**
+     * Constructs a {@code ScheduleChange}.
+     *
+     * @param seq Position of the change in the stream, counting from 0.
+     * @param type Kind of change.
+     * @param oldItem Event or blocked slot before the change, or null if it was added.
+     * @param newItem Event or blocked slot after the change, or null if it was deleted or removed.
+     */
+    public ScheduleChange(long seq, Type type, Overlappable oldItem, Overlappable newItem) {
+        requireNonNull(type);
+        this.seq = seq;
+        this.type = type;
+        this.oldItem = oldItem;
+        this.newItem = newItem;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Optional<Overlappable> getOldItem() {
+        return Optional.ofNullable(oldItem);
+    }
+
+    public Optional<Overlappable> getNewItem() {
+        return Optional.ofNullable(newItem);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ScheduleChange)) {
+            return false;
+        }
+
+        ScheduleChange otherChange = (ScheduleChange) other;
+        return seq == otherChange.seq
+                && type == otherChange.type
+                && Objects.equals(oldItem, otherChange.oldItem)
+                && Objects.equals(newItem, otherChange.newItem);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(seq, type, oldItem, newItem);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + seq + " " + type + " " + (newItem == null ? oldItem : newItem);
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model.change;
+
+/**
+ * Listens to the changes published by a {@code ScheduleChangeStream}.
+ */
+@FunctionalInterface
+public interface ScheduleChangeListener {
+
+    /**
+     * Called on the thread that changed the schedule, after the change was made.
+     */
+    void onChange(ScheduleChange change);
+}
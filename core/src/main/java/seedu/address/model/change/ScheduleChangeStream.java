@@ -0,0 +1,222 @@
+package seedu.address.model.change;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.observable.SequenceChange;
+import seedu.address.model.Overlappable;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+
+/**
+ * Publishes every change to the events and blocked slots of a schedule as a typed {@code ScheduleChange}, so that
+ * integrations learn what changed without comparing lists.
+ * <p>
+ * The lists of the schedule are followed as they change, and the items removed and added by one operation on the
+ * model are paired up by id when it {@link #publishPending() publishes} them, so an edit that moves an event is
+ * published as one edit. Listeners are called synchronously on the writer. Asynchronous consumers
+ * {@link #subscribe() subscribe} instead, and read the changes at their own pace from a ring buffer of the latest
+ * {@code capacity} changes, each from its own cursor. When the buffer is full, the writer waits up to
+ * {@code maxBlockMillis} for the slowest subscriptions to catch up before dropping changes they have not read; such a
+ * subscription is then ended with a {@code SubscriptionOverflowException}.
+ */
+public class ScheduleChangeStream {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final long DEFAULT_MAX_BLOCK_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(ScheduleChangeStream.class);
+
+    private final ScheduleChange[] ring;
+    private final long maxBlockMillis;
+    private final List<ScheduleChangeListener> listeners = new CopyOnWriteArrayList<>();
+    /** Guarded by this stream, like {@code nextSeq} and the ring. */
+    private final List<ChangeSubscription> subscriptions = new ArrayList<>();
+    /** The old and new versions of the items changed since the changes were last published, by id. */
+    private final Map<Long, Overlappable[]> pendingEvents = new LinkedHashMap<>();
+    private final Map<Long, Overlappable[]> pendingBlockedSlots = new LinkedHashMap<>();
+    private long nextSeq;
+
+    /**
+     * Creates a stream of the changes to {@code schedule} with the default capacity.
+     */
+    public ScheduleChangeStream(ReadOnlySchedule schedule) {
+        this(schedule, DEFAULT_CAPACITY, DEFAULT_MAX_BLOCK_MILLIS);
+    }
+
+    /**
+     * Creates a stream of the changes to {@code schedule} that keeps the latest {@code capacity} changes for its
+     * subscriptions, and waits up to {@code maxBlockMillis} for them to read a change before dropping it.
+     */
+    public ScheduleChangeStream(ReadOnlySchedule schedule, int capacity, long maxBlockMillis) {
+        requireNonNull(schedule);
+        checkArgument(capacity > 0, "Capacity must be positive");
+        checkArgument(maxBlockMillis >= 0, "Waiting time must not be negative");
+        ring = new ScheduleChange[capacity];
+        this.maxBlockMillis = maxBlockMillis;
+        schedule.getEventList().addListener(change -> collect(change, pendingEvents, Event::getId));
+        schedule.getBlockedSlotList().addListener(change -> collect(change, pendingBlockedSlots,
+                BlockedSlot::getId));
+    }
+
+    /**
+     * Calls {@code listener} with every change published from now on.
+     */
+    public void addListener(ScheduleChangeListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    public void removeListener(ScheduleChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns a subscription that reads the changes published from now on, from any thread.
+     */
+    public synchronized ChangeSubscription subscribe() {
+        ChangeSubscription subscription = new ChangeSubscription(this, nextSeq);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Publishes the changes made to the schedule since they were last published.
+     * Must be called on the thread that changes the schedule, after each operation on it.
+     */
+    public void publishPending() {
+        if (pendingEvents.isEmpty() && pendingBlockedSlots.isEmpty()) {
+            return;
+        }
+        List<ScheduleChange> changes = new ArrayList<>();
+        synchronized (this) {
+            for (Overlappable[] versions : pendingEvents.values()) {
+                if (versions[0] == null && versions[1] == null) {
+                    continue;
+                } else if (versions[0] == null) {
+                    changes.add(append(ScheduleChange.Type.EVENT_ADDED, null, versions[1]));
+                } else if (versions[1] == null) {
+                    changes.add(append(ScheduleChange.Type.EVENT_DELETED, versions[0], null));
+                } else if (!versions[0].equals(versions[1])) {
+                    changes.add(append(ScheduleChange.Type.EVENT_EDITED, versions[0], versions[1]));
+                }
+            }
+            for (Overlappable[] versions : pendingBlockedSlots.values()) {
+                if (versions[0] != null && versions[0].equals(versions[1])) {
+                    continue;
+                }
+                if (versions[0] != null) {
+                    changes.add(append(ScheduleChange.Type.BLOCKED_SLOT_REMOVED, versions[0], null));
+                }
+                if (versions[1] != null) {
+                    changes.add(append(ScheduleChange.Type.BLOCKED_SLOT_ADDED, null, versions[1]));
+                }
+            }
+        }
+        pendingEvents.clear();
+        pendingBlockedSlots.clear();
+
+        for (ScheduleChange change : changes) {
+            for (ScheduleChangeListener listener : listeners) {
+                listener.onChange(change);
+            }
+        }
+    }
+
+    /**
+     * Forgets the changes made to the schedule since they were last published, without publishing them.
+     * Used when the items were only dropped from memory, which is not a change to the schedule.
+     */
+    public void discardPending() {
+        pendingEvents.clear();
+        pendingBlockedSlots.clear();
+    }
+
+    /**
+     * Records the items removed and added by {@code change} to one of the lists of the schedule in {@code pending},
+     * keeping the version of each item from before the first change and after the last.
+     */
+    private static <T extends Overlappable> void collect(SequenceChange<? extends T> change,
+            Map<Long, Overlappable[]> pending, ToLongFunction<T> idOf) {
+        for (T removed : change.getRemoved()) {
+            pending.computeIfAbsent(idOf.applyAsLong(removed), unused -> new Overlappable[] {removed, null})[1] = null;
+        }
+        for (T added : change.getAdded()) {
+            pending.computeIfAbsent(idOf.applyAsLong(added), unused -> new Overlappable[2])[1] = added;
+        }
+    }
+
+    /**
+     * Adds a change to the ring and returns it, first waiting for the subscriptions that have not read the change it
+     * replaces, and ending those that do not read it in time.
+     */
+    private ScheduleChange append(ScheduleChange.Type type, Overlappable oldItem, Overlappable newItem) {
+        assert Thread.holdsLock(this);
+        long replacedSeq = nextSeq - ring.length;
+        if (replacedSeq >= 0 && isUnread(replacedSeq)) {
+            waitUntilRead(replacedSeq);
+            for (ChangeSubscription subscription : new ArrayList<>(subscriptions)) {
+                if (subscription.getCursor() <= replacedSeq) {
+                    logger.warning("Dropping changes that a subscriber has not read");
+                    subscription.overflow();
+                    subscriptions.remove(subscription);
+                }
+            }
+        }
+
+        ScheduleChange change = new ScheduleChange(nextSeq, type, oldItem, newItem);
+        ring[(int) (nextSeq % ring.length)] = change;
+        nextSeq++;
+        notifyAll();
+        return change;
+    }
+
+    private boolean isUnread(long seq) {
+        return subscriptions.stream().anyMatch(subscription -> subscription.getCursor() <= seq);
+    }
+
+    private void waitUntilRead(long seq) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBlockMillis);
+        long remainingNanos;
+        try {
+            while (isUnread(seq) && (remainingNanos = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns up to {@code maxCount} changes from position {@code cursor} of the stream.
+     */
+    synchronized List<ScheduleChange> read(long cursor, int maxCount) {
+        assert cursor >= nextSeq - ring.length;
+        int count = (int) Math.min(maxCount, nextSeq - cursor);
+        List<ScheduleChange> changes = new ArrayList<>(count);
+        for (long seq = cursor; seq < cursor + count; seq++) {
+            changes.add(ring[(int) (seq % ring.length)]);
+        }
+        return changes;
+    }
+
+    synchronized long getNextSeq() {
+        return nextSeq;
+    }
+
+    synchronized void unsubscribe(ChangeSubscription subscription) {
+        subscriptions.remove(subscription);
+        notifyAll();
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model.change.exceptions;
+
+/**
+ * Signals that a subscription to a {@code ScheduleChangeStream} fell so far behind that changes it had not read were
+ * dropped from the stream.
+ */
+public class SubscriptionOverflowException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public SubscriptionOverflowException() {
+        super("The subscriber fell behind and missed changes to the schedule");
+    }
+}
@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import seedu.address.model.util.FieldValidator;
 
 /**
  * Represents an Event's date number in the schedule.
@@ -28,8 +30,9 @@ public class Date {
      */
     public Date(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        this.date = LocalDate.parse(date);
+        Optional<LocalDate> parsedDate = FieldValidator.parseDate(date);
+        checkArgument(parsedDate.isPresent(), MESSAGE_CONSTRAINTS);
+        this.date = parsedDate.get();
         this.value = date;
     }
 
@@ -47,12 +50,7 @@ public class Date {
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        try {
-            LocalDate.parse(test);
-            return test.matches(VALIDATION_REGEX);
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return FieldValidator.parseDate(test).isPresent();
     }
 
     /**
@@ -5,10 +5,12 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.Overlappable;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdGenerator;
 
 /**
  * Represents an Event in the schedule.
@@ -18,6 +20,9 @@ public class Event implements Overlappable {
 
     public static final String SLOT_BLOCKED = "This slot coincides with a currently existing event.";
 
+    // Stable id, not part of equality
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Date date;
@@ -27,12 +32,26 @@ public class Event implements Overlappable {
     private final Location location;
     private final Set<Tag> tags = new HashSet<>();
     private final Remark remark;
+    private final Recurrence recurrence;
 
     /**
      * Every field must be present and not null.
+     * A new id is generated for this Event.
      */
     public Event(Name name, Date date, TimeSlot timeSlot, Location location, Set<Tag> tags, Remark remark) {
+        this(IdGenerator.next(), name, date, timeSlot, location, tags, remark, null);
+    }
+
+    /**
+     * Every field except {@code recurrence} must be present and not null.
+     * The given id should be the id of the Event this Event replaces, or one reserved with {@code IdGenerator}.
+     * {@code recurrence} is null if the Event only occurs on {@code date}.
+     */
+    public Event(long id, Name name, Date date, TimeSlot timeSlot, Location location, Set<Tag> tags,
+                 Remark remark, Recurrence recurrence) {
         requireAllNonNull(name, date, timeSlot, location, tags, remark);
+        this.id = id;
+        this.recurrence = recurrence;
         this.name = name;
         this.date = date;
         this.timeSlot = timeSlot;
@@ -41,6 +60,13 @@ public class Event implements Overlappable {
         this.remark = remark;
     }
 
+    /**
+     * Returns the id that identifies this Event across edits and saves.
+     */
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -63,6 +89,21 @@ public class Event implements Overlappable {
         return remark;
     }
 
+    /**
+     * Returns how this Event repeats after its date, if it does.
+     */
+    @Override
+    public Optional<Recurrence> getRecurrence() {
+        return Optional.ofNullable(recurrence);
+    }
+
+    /**
+     * Returns true if this Event occurs on {@code date}, either on its own date or as a repeat.
+     */
+    public boolean occursOn(Date date) {
+        return Recurrence.occursOn(this, date);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -91,6 +132,7 @@ public class Event implements Overlappable {
     /**
      * Returns true if both events have the same identity and data fields.
      * This defines a stronger notion of equality between two events.
+     * The id is not compared, so two events with identical fields are equal.
      */
     @Override
     public boolean equals(Object other) {
@@ -108,14 +150,15 @@ public class Event implements Overlappable {
                 && otherEvent.getTimeSlot().equals(getTimeSlot())
                 && otherEvent.getLocation().equals(getLocation())
                 && otherEvent.getTags().equals(getTags())
-                && otherEvent.getRemark().equals(getRemark());
+                && otherEvent.getRemark().equals(getRemark())
+                && otherEvent.getRecurrence().equals(getRecurrence());
 
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, date, timeSlot, location, tags, remark);
+        return Objects.hash(name, date, timeSlot, location, tags, remark, recurrence);
     }
 
     @Override
@@ -136,6 +179,7 @@ public class Event implements Overlappable {
         }
 
         builder.append("; Remark: ").append(getRemark());
+        getRecurrence().ifPresent(repeat -> builder.append("; Repeats: ").append(repeat));
 
         return builder.toString();
     }
@@ -145,16 +189,15 @@ public class Event implements Overlappable {
     }
 
     /**
-     * Checks if this Event overlaps with another Overlappable.
+     * Checks if this Event overlaps with another Overlappable on any date that both of them occur on.
      * @param overlappable Other Overlappable to check for overlaps.
      * @return True if overlapping, false otherwise.
      */
     @Override
     public boolean isOverlappingWith(Overlappable overlappable) {
-        boolean hasSameDate = this.hasSameDate(overlappable);
         boolean isTimeSlotOverlapping = this.timeSlot
                 .isOverlappingWith(overlappable.getTimeSlot());
 
-        return hasSameDate && isTimeSlotOverlapping;
+        return isTimeSlotOverlapping && Recurrence.haveCommonDate(this, overlappable);
     }
 }
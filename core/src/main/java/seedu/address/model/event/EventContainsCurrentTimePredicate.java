@@ -4,7 +4,7 @@ import java.time.LocalTime;
 import java.util.function.Predicate;
 
 /**
- * Tests that an {@code Event}'s {@code Timeslot} is after current time.
+ * Tests that an {@code Event} occurs today and its {@code Timeslot} is after current time.
  */
 public class EventContainsCurrentTimePredicate implements Predicate<Event> {
 
@@ -28,7 +28,7 @@ public class EventContainsCurrentTimePredicate implements Predicate<Event> {
     }
     @Override
     public boolean test(Event event) {
-        return event.getTimeSlot().startTime.compareTo(time) > 0 && event.getDate().equals(today);
+        return event.getTimeSlot().startTime.compareTo(time) > 0 && event.occursOn(today);
     }
 
     @Override
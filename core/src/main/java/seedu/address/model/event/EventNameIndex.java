@@ -0,0 +1,78 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.observable.ObservableSequence;
+import seedu.address.commons.observable.SequenceChange;
+
+/**
+ * Indexes the events of a sequence by the words in their names, ignoring case, and keeps the index up to date as the
+ * sequence changes. Events are told apart by identity, so duplicate events are indexed separately.
+ */
+public class EventNameIndex {
+
+    private final NavigableMap<String, Set<Event>> eventsByWord = new TreeMap<>();
+
+    /**
+     * Creates an index of the events in {@code events} that follows its changes.
+     */
+    public EventNameIndex(ObservableSequence<Event> events) {
+        requireNonNull(events);
+        events.forEach(this::add);
+        events.addListener(this::update);
+    }
+
+    /**
+     * Returns the events with a word in their name that starts with any of {@code prefixes}, ignoring case.
+     * Takes time proportional to the number of matching words and events, rather than the number of events.
+     */
+    public Set<Event> findByPrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        Set<Event> matches = newEventSet();
+        for (String prefix : prefixes) {
+            String word = toKey(prefix);
+            eventsByWord.subMap(word, true, word + Character.MAX_VALUE, false).values().forEach(matches::addAll);
+        }
+        return matches;
+    }
+
+    private void update(SequenceChange<? extends Event> change) {
+        change.getRemoved().forEach(this::remove);
+        change.getAdded().forEach(this::add);
+    }
+
+    private void add(Event event) {
+        for (String word : getWords(event)) {
+            eventsByWord.computeIfAbsent(word, unused -> newEventSet()).add(event);
+        }
+    }
+
+    private void remove(Event event) {
+        for (String word : getWords(event)) {
+            Set<Event> events = eventsByWord.get(word);
+            if (events != null && events.remove(event) && events.isEmpty()) {
+                eventsByWord.remove(word);
+            }
+        }
+    }
+
+    private static String[] getWords(Event event) {
+        return toKey(event.getName().fullName).split("\\s+");
+    }
+
+    private static String toKey(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Event> newEventSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents an Event's location in the schedule.
  * Guarantees: immutable; is valid as declared in {@link #isValidLocation(String)}
@@ -34,7 +36,7 @@ public class Location {
      * Returns true if a given string is a valid location.
      */
     public static boolean isValidLocation(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isValidLocation(test);
     }
 
     @Override
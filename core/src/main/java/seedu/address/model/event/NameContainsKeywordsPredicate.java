@@ -1,14 +1,16 @@
 package seedu.address.model.event;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.WordSearch;
 
 /**
  * Tests that a {@code Event}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Event> {
+public class NameContainsKeywordsPredicate implements Predicate<Event>, WordSearch {
 
     private final List<String> keywords;
 
@@ -16,12 +18,21 @@ public class NameContainsKeywordsPredicate implements Predicate<Event> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Event event) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(event.getName().fullName, keyword));
     }
 
+    @Override
+    public boolean mayMatchWords(Set<String> words) {
+        return keywords.stream().anyMatch(keyword -> words.contains(WordSearch.toKey(keyword)));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,49 @@
+package seedu.address.model.event;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.WordSearch;
+
+/**
+ * Tests that a word in an {@code Event}'s {@code Name} starts with any of the prefixes given, ignoring case.
+ */
+public class NameContainsPrefixesPredicate implements Predicate<Event>, WordSearch {
+    private final List<String> prefixes;
+
+    public NameContainsPrefixesPredicate(List<String> prefixes) {
+        this.prefixes = prefixes;
+    }
+
+    @Override
+    public boolean test(Event event) {
+        for (String word : event.getName().fullName.trim().split("\\s+")) {
+            if (startsWithAny(WordSearch.toKey(word))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean mayMatchWords(Set<String> words) {
+        return words.stream().anyMatch(this::startsWithAny);
+    }
+
+    private boolean startsWithAny(String word) {
+        return prefixes.stream().anyMatch(prefix -> word.startsWith(WordSearch.toKey(prefix)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameContainsPrefixesPredicate // instanceof handles nulls
+                && prefixes.equals(((NameContainsPrefixesPredicate) other).prefixes)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return prefixes.hashCode();
+    }
+}
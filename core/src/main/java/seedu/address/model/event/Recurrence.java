@@ -0,0 +1,339 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Overlappable;
+
+/**
+ * Represents how an {@code Overlappable} repeats after its first date, such as every 2 weeks or every weekday
+ * until a given date.
+ * The occurrences are never stored; they are worked out from the first date when they are needed.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRule(String)}
+ */
+public class Recurrence {
+
+    public static final String MESSAGE_CONSTRAINTS = "Recurrences should be a number of days or weeks, "
+            + "such as d (every day), 3d (every 3 days), w (every week) or 2w (every 2 weeks), "
+            + "and repeat at most every 52 weeks, or days of the week, "
+            + "such as weekday, weekend or mon,wed,fri";
+    public static final String MESSAGE_UNTIL_BEFORE_START = "A recurring event cannot end before its first date";
+    public static final String VALIDATION_REGEX = "^(([1-9]\\d{0,2})?[dw]|weekday|weekend|"
+            + "(mon|tue|wed|thu|fri|sat|sun)(,(mon|tue|wed|thu|fri|sat|sun))*)$";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int MAX_PERIOD_IN_DAYS = 52 * DAYS_IN_WEEK;
+    private static final Set<DayOfWeek> WEEKDAYS =
+            Collections.unmodifiableSet(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+    private static final Set<DayOfWeek> WEEKEND =
+            Collections.unmodifiableSet(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+    public final String rule;
+    public final Date until;
+    private final int periodInDays;
+    /** The days of the week this recurrence falls on, or empty if it repeats every {@code periodInDays} days. */
+    private final Set<DayOfWeek> days;
+    private final Set<Date> exceptions = new HashSet<>();
+
+    /**
+     * Constructs a {@code Recurrence}.
+     *
+     * @param rule A valid rule, such as "2w" or "weekday".
+     * @param until The last date the recurrence may occur on.
+     * @param exceptions The dates the recurrence skips.
+     */
+    public Recurrence(String rule, Date until, Set<Date> exceptions) {
+        requireAllNonNull(rule, until, exceptions);
+        checkArgument(isValidRule(rule), MESSAGE_CONSTRAINTS);
+        this.rule = rule;
+        this.until = until;
+        this.days = toDays(rule);
+        this.periodInDays = days.isEmpty() ? toPeriodInDays(rule) : DAYS_IN_WEEK;
+        this.exceptions.addAll(exceptions);
+    }
+
+    /**
+     * Returns true if a given string is a valid rule.
+     */
+    public static boolean isValidRule(String test) {
+        return VALIDATION_PATTERN.matcher(test).matches()
+                && (!toDays(test).isEmpty() || toPeriodInDays(test) <= MAX_PERIOD_IN_DAYS);
+    }
+
+    private static Set<DayOfWeek> toDays(String rule) {
+        if (rule.equals("weekday")) {
+            return WEEKDAYS;
+        } else if (rule.equals("weekend")) {
+            return WEEKEND;
+        }
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : rule.split(",")) {
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if (dayOfWeek.getDisplayName(TextStyle.SHORT, Locale.ENGLISH).equalsIgnoreCase(day)) {
+                    days.add(dayOfWeek);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(days);
+    }
+
+    private static int toPeriodInDays(String rule) {
+        String count = rule.substring(0, rule.length() - 1);
+        int interval = count.isEmpty() ? 1 : Integer.parseInt(count);
+        return rule.endsWith("w") ? interval * DAYS_IN_WEEK : interval;
+    }
+
+    public int getPeriodInDays() {
+        return periodInDays;
+    }
+
+    /**
+     * Returns an immutable set of the days of the week this recurrence falls on,
+     * which is empty if it repeats every {@link #getPeriodInDays()} days instead.
+     */
+    public Set<DayOfWeek> getDays() {
+        return days;
+    }
+
+    /**
+     * Returns an immutable set of the dates this recurrence skips.
+     */
+    public Set<Date> getExceptions() {
+        return Collections.unmodifiableSet(exceptions);
+    }
+
+    /**
+     * Returns true if a recurrence starting on {@code start} occurs on {@code date}.
+     */
+    public boolean occursOn(Date start, Date date) {
+        long offset = ChronoUnit.DAYS.between(start.date, date.date);
+        return offset >= 0 && !date.date.isAfter(until.date) && isOnRule(offset, date)
+                && !exceptions.contains(date);
+    }
+
+    /**
+     * Returns true if {@code overlappable} occurs on {@code date}.
+     */
+    public static boolean occursOn(Overlappable overlappable, Date date) {
+        requireAllNonNull(overlappable, date);
+        return overlappable.getRecurrence()
+                .map(recurrence -> recurrence.occursOn(overlappable.getDate(), date))
+                .orElse(overlappable.getDate().equals(date));
+    }
+
+    private boolean isOnRule(long offset, Date date) {
+        return days.isEmpty() ? offset % periodInDays == 0 : days.contains(date.date.getDayOfWeek());
+    }
+
+    /**
+     * Returns the dates from {@code from} to {@code to}, both inclusive, that a recurrence starting on
+     * {@code start} occurs on. Only the occurrences in that window are worked out.
+     */
+    public List<Date> getOccurrences(Date start, Date from, Date to) {
+        requireAllNonNull(start, from, to);
+        List<Date> occurrences = new ArrayList<>();
+        long offset = Math.max(0, ChronoUnit.DAYS.between(start.date, from.date));
+        int step = days.isEmpty() ? periodInDays : 1;
+        offset = ceilToMultiple(offset, step);
+        Date last = to.date.isBefore(until.date) ? to : until;
+        for (Date date = new Date(start.date.plusDays(offset)); !date.date.isAfter(last.date);
+                date = new Date(date.date.plusDays(step))) {
+            if (isOnRule(ChronoUnit.DAYS.between(start.date, date.date), date) && !exceptions.contains(date)) {
+                occurrences.add(date);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the last date on or before {@code until} that a recurrence starting on {@code start} falls on,
+     * without taking exceptions into account.
+     */
+    public Date getLastDate(Date start) {
+        long span = ChronoUnit.DAYS.between(start.date, until.date);
+        if (span < 0) {
+            return start;
+        } else if (days.isEmpty()) {
+            return new Date(start.date.plusDays(span - span % periodInDays));
+        }
+        for (LocalDate date = until.date; !date.isBefore(start.date); date = date.minusDays(1)) {
+            if (days.contains(date.getDayOfWeek())) {
+                return new Date(date);
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Returns the last date {@code overlappable} can occur on.
+     */
+    public static Date getLastDate(Overlappable overlappable) {
+        requireNonNull(overlappable);
+        return overlappable.getRecurrence()
+                .map(recurrence -> recurrence.getLastDate(overlappable.getDate()))
+                .orElse(overlappable.getDate());
+    }
+
+    /**
+     * Returns the epoch day of the first date of each sequence of dates, {@code periodInDays} days apart,
+     * that together make up a recurrence starting on {@code start}.
+     */
+    private List<Long> getSequenceStarts(Date start) {
+        if (days.isEmpty()) {
+            return Collections.singletonList(start.date.toEpochDay());
+        }
+        return days.stream()
+                .map(day -> start.date.with(TemporalAdjusters.nextOrSame(day)).toEpochDay())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if there is a date that both {@code first} and {@code second} occur on.
+     * When both repeat, each recurrence is split into at most 7 sequences of dates a fixed number of days apart,
+     * and the common dates of each pair of sequences are found by solving them as simultaneous congruences,
+     * so the check takes time proportional to the number of exceptions rather than the number of occurrences.
+     */
+    public static boolean haveCommonDate(Overlappable first, Overlappable second) {
+        requireAllNonNull(first, second);
+        if (first.getRecurrence().isEmpty()) {
+            return occursOn(second, first.getDate());
+        } else if (second.getRecurrence().isEmpty()) {
+            return occursOn(first, second.getDate());
+        }
+
+        Recurrence firstRecurrence = first.getRecurrence().get();
+        Recurrence secondRecurrence = second.getRecurrence().get();
+        long upper = Math.min(firstRecurrence.until.date.toEpochDay(), secondRecurrence.until.date.toEpochDay());
+        for (long firstStart : firstRecurrence.getSequenceStarts(first.getDate())) {
+            for (long secondStart : secondRecurrence.getSequenceStarts(second.getDate())) {
+                if (sequencesMeet(firstStart, firstRecurrence, secondStart, secondRecurrence, upper)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the dates {@code firstStart + k * firstRecurrence.periodInDays} and
+     * {@code secondStart + j * secondRecurrence.periodInDays} meet on or before {@code upper} on a date neither
+     * recurrence skips.
+     */
+    private static boolean sequencesMeet(long firstStart, Recurrence firstRecurrence, long secondStart,
+                                         Recurrence secondRecurrence, long upper) {
+        long firstPeriod = firstRecurrence.periodInDays;
+        long secondPeriod = secondRecurrence.periodInDays;
+        long lower = Math.max(firstStart, secondStart);
+
+        long gcd = gcd(firstPeriod, secondPeriod);
+        long difference = secondStart - firstStart;
+        if (difference % gcd != 0) {
+            return false;
+        }
+        // firstStart + firstPeriod * k is a common date when firstPeriod * k = difference (mod secondPeriod)
+        long modulus = secondPeriod / gcd;
+        long k = Math.floorMod((difference / gcd) % modulus * modInverse(firstPeriod / gcd, modulus), modulus);
+        long commonPeriod = firstPeriod * modulus;
+        long common = firstStart + firstPeriod * k;
+        common += ceilToMultiple(Math.max(0, lower - common), commonPeriod);
+
+        // each common date that is skipped must be one of the exceptions, so this loop is short
+        for (; common <= upper; common += commonPeriod) {
+            Date date = new Date(LocalDate.ofEpochDay(common));
+            if (!firstRecurrence.exceptions.contains(date) && !secondRecurrence.exceptions.contains(date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long ceilToMultiple(long value, long multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Returns the inverse of {@code value} modulo {@code modulus}, which must be coprime to it.
+     */
+    private static long modInverse(long value, long modulus) {
+        if (modulus == 1) {
+            return 0;
+        }
+        long oldR = Math.floorMod(value, modulus);
+        long r = modulus;
+        long oldS = 1;
+        long s = 0;
+        while (r != 0) {
+            long quotient = oldR / r;
+            long nextR = oldR - quotient * r;
+            oldR = r;
+            r = nextR;
+            long nextS = oldS - quotient * s;
+            oldS = s;
+            s = nextS;
+        }
+        return Math.floorMod(oldS, modulus);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("every ");
+        if (days.equals(WEEKDAYS)) {
+            builder.append("weekday");
+        } else if (days.equals(WEEKEND)) {
+            builder.append("weekend");
+        } else if (!days.isEmpty()) {
+            builder.append(days.stream()
+                    .map(day -> day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
+                    .collect(Collectors.joining(", ")));
+        } else {
+            String count = rule.substring(0, rule.length() - 1);
+            String unit = rule.endsWith("w") ? "week" : "day";
+            builder.append(count.isEmpty() ? unit : count + " " + unit + "s");
+        }
+        builder.append(" until ").append(until);
+        if (!exceptions.isEmpty()) {
+            builder.append(" except ").append(exceptions.stream()
+                    .sorted(Date::compareTo)
+                    .map(Date::toString)
+                    .collect(Collectors.joining(", ")));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Recurrence // instanceof handles nulls
+                && periodInDays == ((Recurrence) other).periodInDays
+                && days.equals(((Recurrence) other).days)
+                && until.equals(((Recurrence) other).until)
+                && exceptions.equals(((Recurrence) other).exceptions)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(periodInDays, days, until, exceptions);
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.observable.ObservableSequence;
+import seedu.address.commons.observable.SequenceChange;
+import seedu.address.model.Overlappable;
+import seedu.address.model.PersistentTree;
+import seedu.address.model.SortedObservableList;
+import seedu.address.model.SortedOverlappableList;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+
+/**
+ * A list of events is sorted chronologically and does not allow nulls.
+ * Duplicate Events are allowed in this Event list to accommodate repeated events with same person.
+ *
+ * Supports a minimal set of list operations.
+ * Events are located by their id first, so an Event is told apart from its duplicates.
+ * A recurring Event is stored once, on its first date.
+ */
+public class SortedEventList implements SortedOverlappableList<Event> {
+
+    private final SortedObservableList<Event> internalList = new SortedObservableList<>(Event::compareTo);
+    private final Map<Long, Event> eventsById = new HashMap<>();
+    private final List<Event> recurringEvents = new ArrayList<>();
+
+    /**
+     * Creates an empty list.
+     */
+    public SortedEventList() {
+        internalList.addListener(this::updateIndexes);
+    }
+
+    @Override
+    public void add(Event toAdd) {
+        requireNonNull(toAdd);
+        internalList.insert(toAdd);
+    }
+
+    @Override
+    public void remove(Event toRemove) {
+        requireNonNull(toRemove);
+        internalList.removeAt(indexOf(toRemove));
+    }
+
+    /**
+     * Replaces the target Event in the list with the new edited Event.
+     */
+    public void setEvent(Event target, Event editedEvent) {
+        requireAllNonNull(target, editedEvent);
+
+        internalList.replaceAt(indexOf(target), editedEvent);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code Events}.
+     */
+    public void setEvent(SortedEventList replacement) {
+        requireNonNull(replacement);
+        setEvent(replacement.internalList);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code Events}.
+     */
+    public void setEvent(List<Event> events) {
+        requireAllNonNull(events);
+        internalList.resetTo(events);
+    }
+
+    /**
+     * Changes the contents of this list to {@code sortedReplacement}, which must be sorted chronologically,
+     * by removing and adding only the events that differ.
+     * @return true if this list was changed.
+     * @see SortedObservableList#mergeFrom(Iterable)
+     */
+    public boolean mergeFrom(List<Event> sortedReplacement) {
+        requireAllNonNull(sortedReplacement);
+        return internalList.mergeFrom(sortedReplacement);
+    }
+
+    /**
+     * Returns the current contents of this list, which will not change as this list is modified.
+     */
+    public PersistentTree<Event> snapshot() {
+        return internalList.snapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken from this list.
+     */
+    public void restore(PersistentTree<Event> snapshot) {
+        internalList.restore(snapshot);
+    }
+
+    /**
+     * Keeps {@code eventsById} and {@code recurringEvents} in step with every change to the list.
+     */
+    private void updateIndexes(SequenceChange<? extends Event> change) {
+        for (Event removed : change.getRemoved()) {
+            eventsById.remove(removed.getId(), removed);
+            if (removed.getRecurrence().isPresent()) {
+                recurringEvents.removeIf(event -> event == removed);
+            }
+        }
+        for (Event added : change.getAdded()) {
+            eventsById.put(added.getId(), added);
+            if (added.getRecurrence().isPresent()) {
+                recurringEvents.add(added);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of {@code target} in the list.
+     * The Event with the same id is used if it is equal to {@code target}, otherwise any equal Event is used.
+     *
+     * @throws EventNotFoundException if there is no Event equal to {@code target}.
+     */
+    private int indexOf(Event target) {
+        Event withSameId = eventsById.get(target.getId());
+        int index = withSameId != null && withSameId.equals(target)
+                ? internalList.indexOfInstance(withSameId)
+                : internalList.indexOfElement(target);
+        if (index == -1) {
+            throw new EventNotFoundException();
+        }
+        return index;
+    }
+
+    @Override
+    public ObservableSequence<Event> asUnmodifiableObservableList() {
+        return internalList;
+    }
+
+    @Override
+    public Iterator<Event> iterator() {
+        return internalList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortedEventList // instanceof handles nulls
+                && internalList.equals(((SortedEventList) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    @Override
+    public boolean isOverlappingWith(Overlappable overlappable) {
+        return isOverlappingWith(overlappable, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the events between the first and last dates that {@code overlappable} can occur on, and the recurring
+     * events, are inspected. Only the event with the id of {@code excluding} is excluded.
+     */
+    @Override
+    public boolean isOverlappingWith(Overlappable overlappable, Overlappable excluding) {
+        Date firstDate = overlappable.getDate();
+        Date lastDate = Recurrence.getLastDate(overlappable);
+        int start = internalList.firstIndexNotMatching(e -> e.getDate().compareTo(firstDate) < 0);
+        for (int i = start; i < internalList.size() && internalList.get(i).getDate().compareTo(lastDate) <= 0; i++) {
+            Event e = internalList.get(i);
+            if (e.getRecurrence().isEmpty() && !isSameEvent(e, excluding) && e.isOverlappingWith(overlappable)) {
+                return true;
+            }
+        }
+        for (Event e : recurringEvents) {
+            if (!isSameEvent(e, excluding) && e.isOverlappingWith(overlappable)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the recurring events in this list.
+     */
+    public List<Event> getRecurringEvents() {
+        return Collections.unmodifiableList(recurringEvents);
+    }
+
+    private static boolean isSameEvent(Event event, Overlappable other) {
+        return other instanceof Event && ((Event) other).getId() == event.getId();
+    }
+}
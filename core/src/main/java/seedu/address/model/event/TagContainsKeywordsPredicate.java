@@ -5,12 +5,13 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.WordSearch;
 import seedu.address.model.tag.Tag;
 
 /**
 * Tests that a {@code Event}'s {@code Tag} matches any of the keywords given.
 */
-public class TagContainsKeywordsPredicate implements Predicate<Event> {
+public class TagContainsKeywordsPredicate implements Predicate<Event>, WordSearch {
 
     private final List<String> keywords;
 
@@ -18,6 +19,10 @@ public class TagContainsKeywordsPredicate implements Predicate<Event> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Event event) {
         Set<Tag> tags = event.getTags();
@@ -30,6 +35,11 @@ public class TagContainsKeywordsPredicate implements Predicate<Event> {
                 .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.getTagName(), keyword));
     }
 
+    @Override
+    public boolean mayMatchWords(Set<String> words) {
+        return keywords.stream().anyMatch(keyword -> words.contains(WordSearch.toKey(keyword)));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
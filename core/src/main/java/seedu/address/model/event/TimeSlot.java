@@ -6,6 +6,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import seedu.address.model.util.FieldValidator;
 
 
 /**
@@ -29,9 +32,12 @@ public class TimeSlot {
     public TimeSlot(String startTime, String endTime) {
         requireNonNull(startTime);
         requireNonNull(endTime);
-        checkArgument(isValidTimeSlot(startTime, endTime), MESSAGE_CONSTRAINTS);
-        this.startTime = LocalTime.parse(startTime, timeFormatter);
-        this.endTime = LocalTime.parse(endTime, timeFormatter);
+        Optional<LocalTime> parsedStartTime = FieldValidator.parseTime(startTime);
+        Optional<LocalTime> parsedEndTime = FieldValidator.parseTime(endTime);
+        checkArgument(parsedStartTime.isPresent() && parsedEndTime.isPresent()
+                && parsedEndTime.get().isAfter(parsedStartTime.get()), MESSAGE_CONSTRAINTS);
+        this.startTime = parsedStartTime.get();
+        this.endTime = parsedEndTime.get();
     }
 
     /**
@@ -39,8 +45,7 @@ public class TimeSlot {
      * its startTime.
      */
     public static boolean isValidTimeSlot(String testStartTime, String testEndTime) {
-        return testStartTime.matches(VALIDATION_REGEX) && testEndTime.matches(VALIDATION_REGEX)
-                && Integer.parseInt(testEndTime) > Integer.parseInt(testStartTime);
+        return FieldValidator.isValidTimeSlot(testStartTime, testEndTime);
     }
 
     public String startTimeToString() {
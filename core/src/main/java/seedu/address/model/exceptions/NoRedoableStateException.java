@@ -0,0 +1,8 @@
+package seedu.address.model.exceptions;
+
+/**
+ * Signals that there is no undone schedule state to redo to.
+ */
+public class NoRedoableStateException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+}
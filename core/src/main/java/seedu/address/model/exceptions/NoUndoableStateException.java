@@ -0,0 +1,8 @@
+package seedu.address.model.exceptions;
+
+/**
+ * Signals that there is no earlier schedule state to undo to.
+ */
+public class NoUndoableStateException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+}
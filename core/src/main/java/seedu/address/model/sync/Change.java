@@ -0,0 +1,125 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.Overlappable;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+
+/**
+ * The latest change to one event or blocked slot of a schedule, as recorded in a {@code ChangeFeed}: either its new
+ * version, or its removal.
+ * <p>
+ * Every change is stamped with the clock of the copy of the schedule that made it and the id of that copy. When two
+ * copies change the same item, the change with the later stamp wins on both, so they end up the same whichever
+ * change each of them sees first.
+ * Guarantees: immutable; the item, if present, is an {@code Event} or a {@code BlockedSlot} with the given id.
+ */
+public final class Change {
+
+    private final long seq;
+    private final long clock;
+    private final String replicaId;
+    private final long id;
+    private final Overlappable item;
+
+    /**
+     * Constructs a {@code Change}.
+     *
+     * @param seq Position of the change in the feed that recorded it.
+     * @param clock Clock of the copy of the schedule that made the change.
+     * @param replicaId Id of the copy of the schedule that made the change.
+     * @param id Id of the changed event or blocked slot.
+     * @param item New version of the event or blocked slot, or null if it was removed.
+     */
+    public Change(long seq, long clock, String replicaId, long id, Overlappable item) {
+        requireNonNull(replicaId);
+        if (item != null && !(item instanceof Event && ((Event) item).getId() == id)
+                && !(item instanceof BlockedSlot && ((BlockedSlot) item).getId() == id)) {
+            throw new IllegalArgumentException("The changed item must be an event or blocked slot with id " + id);
+        }
+        this.seq = seq;
+        this.clock = clock;
+        this.replicaId = replicaId;
+        this.id = id;
+        this.item = item;
+    }
+
+    /**
+     * Returns a copy of this change at position {@code seq} of another feed.
+     */
+    public Change withSeq(long seq) {
+        return new Change(seq, clock, replicaId, id, item);
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public long getClock() {
+        return clock;
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the new version of the changed item, or an empty {@code Optional} if it was removed.
+     */
+    public Optional<Overlappable> getItem() {
+        return Optional.ofNullable(item);
+    }
+
+    public boolean isRemoval() {
+        return item == null;
+    }
+
+    /**
+     * Returns true if this change was stamped later than {@code other}, and so wins over it.
+     */
+    public boolean isLaterThan(Change other) {
+        requireNonNull(other);
+        return clock != other.clock ? clock > other.clock : replicaId.compareTo(other.replicaId) > 0;
+    }
+
+    /**
+     * Returns true if this change and {@code other} were made by the same copy at the same time, wherever they
+     * were recorded.
+     */
+    public boolean isSameChange(Change other) {
+        return other != null && clock == other.clock && replicaId.equals(other.replicaId) && id == other.id;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Change)) {
+            return false;
+        }
+
+        Change otherChange = (Change) other;
+        return seq == otherChange.seq
+                && isSameChange(otherChange)
+                && Objects.equals(item, otherChange.item);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(seq, clock, replicaId, id, item);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + seq + " " + (item == null ? "removed " + id : item.toString()) + " @" + clock + "/" + replicaId;
+    }
+}
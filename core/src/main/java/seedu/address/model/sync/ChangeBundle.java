@@ -0,0 +1,62 @@
+package seedu.address.model.sync;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The changes recorded in a {@code ChangeFeed} after a given position, to be applied to another copy of the schedule.
+ * Guarantees: immutable; changes are in the order they were recorded.
+ */
+public final class ChangeBundle {
+
+    private final String replicaId;
+    private final long lastSeq;
+    private final List<Change> changes;
+
+    /**
+     * Constructs a {@code ChangeBundle}.
+     *
+     * @param replicaId Id of the copy of the schedule whose feed the changes were taken from.
+     * @param lastSeq Position of the last change recorded in that feed, from which the next bundle should start.
+     * @param changes Changes recorded in that feed.
+     */
+    public ChangeBundle(String replicaId, long lastSeq, List<Change> changes) {
+        requireAllNonNull(replicaId, changes);
+        this.replicaId = replicaId;
+        this.lastSeq = lastSeq;
+        this.changes = List.copyOf(changes);
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    public long getLastSeq() {
+        return lastSeq;
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ChangeBundle
+                && replicaId.equals(((ChangeBundle) other).replicaId)
+                && lastSeq == ((ChangeBundle) other).lastSeq
+                && changes.equals(((ChangeBundle) other).changes));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(replicaId, lastSeq, changes);
+    }
+
+    @Override
+    public String toString() {
+        return changes.size() + " changes from " + replicaId + " up to #" + lastSeq;
+    }
+}
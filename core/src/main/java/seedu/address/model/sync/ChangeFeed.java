@@ -0,0 +1,254 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.observable.SequenceChange;
+import seedu.address.model.Overlappable;
+import seedu.address.model.Schedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+
+/**
+ * Records every change to the events and blocked slots of a schedule under an increasing sequence number, so that
+ * another copy of the schedule can be brought up to date with only the changes made since it was last synced.
+ * <p>
+ * Only the latest change to each item is kept, so the feed holds one change for every item that the schedule has
+ * held, and the changes after a given position are found in time proportional to their number rather than to the
+ * size of the schedule. The items in the schedule when the feed is created are recorded first, with the earliest
+ * possible clock, so that any change made to them elsewhere wins over them.
+ * <p>
+ * The clock that changes made here are stamped with never runs behind the wall clock, in milliseconds, nor behind any
+ * stamp seen from another copy. A copy that restarts with a new feed thus stamps its changes later than the ones it
+ * made before, which other copies may still hold, as long as the wall clock has not been set back.
+ * Like the schedule, the feed must only be used on one thread at a time.
+ */
+public class ChangeFeed {
+
+    private static final Logger logger = LogsCenter.getLogger(ChangeFeed.class);
+
+    private final Schedule schedule;
+    private final String replicaId;
+    private final Clock wallClock;
+    private final Map<Long, Change> latestById = new HashMap<>();
+    private final NavigableMap<Long, Change> bySeq = new TreeMap<>();
+    private long lastSeq;
+    private long clock;
+    /** The change from another copy that is being applied, which the changes to the schedule are stamped with. */
+    private Change applying;
+    /** True while items are only being dropped from memory, which is not a change to the schedule. */
+    private boolean isUnrecorded;
+
+    /**
+     * Creates a feed of the changes to {@code schedule}, which is known to other copies by {@code replicaId}.
+     */
+    public ChangeFeed(Schedule schedule, String replicaId) {
+        this(schedule, replicaId, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a feed of the changes to {@code schedule}, which is known to other copies by {@code replicaId}, and
+     * whose changes are stamped no earlier than the time of {@code wallClock}.
+     */
+    public ChangeFeed(Schedule schedule, String replicaId, Clock wallClock) {
+        requireAllNonNull(schedule, replicaId, wallClock);
+        this.schedule = schedule;
+        this.replicaId = replicaId;
+        this.wallClock = wallClock;
+        schedule.getEventList().forEach(event -> put(new Change(++lastSeq, 0, replicaId, event.getId(), event)));
+        schedule.getBlockedSlotList().forEach(blockedSlot ->
+                put(new Change(++lastSeq, 0, replicaId, blockedSlot.getId(), blockedSlot)));
+        schedule.getEventList().addListener(change -> update(change, Event::getId));
+        schedule.getBlockedSlotList().addListener(change -> update(change, BlockedSlot::getId));
+    }
+
+    /**
+     * Returns a new id for a copy of a schedule, which no other copy will have.
+     */
+    public static String newReplicaId() {
+        return UUID.randomUUID().toString();
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    public long getLastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * Returns the latest changes to the items changed after position {@code seq} of this feed.
+     */
+    public ChangeBundle getChangesSince(long seq) {
+        return getChangesSince(seq, null);
+    }
+
+    /**
+     * Returns the latest changes to the items changed after position {@code seq} of this feed, leaving out those
+     * made by the copy with id {@code excludedReplicaId}, which already has them.
+     */
+    public ChangeBundle getChangesSince(long seq, String excludedReplicaId) {
+        List<Change> changes = new ArrayList<>();
+        for (Change change : bySeq.tailMap(seq, false).values()) {
+            if (!change.getReplicaId().equals(excludedReplicaId)) {
+                changes.add(change);
+            }
+        }
+        return new ChangeBundle(replicaId, lastSeq, changes);
+    }
+
+    /**
+     * Applies to the schedule each change in {@code bundle} that is later than the latest change to the same item
+     * here, and records it in this feed with its original stamp.
+     * A change that would make its item clash with another item is left out.
+     * @return the number of changes that were applied.
+     */
+    public int apply(ChangeBundle bundle) {
+        requireNonNull(bundle);
+        int appliedCount = 0;
+        for (Change change : bundle.getChanges()) {
+            clock = Math.max(clock, change.getClock());
+            Change latest = latestById.get(change.getId());
+            if (latest != null && !change.isLaterThan(latest)) {
+                continue;
+            }
+            applying = change;
+            try {
+                if (apply(change, latest == null ? null : latest.getItem().orElse(null))) {
+                    appliedCount++;
+                }
+            } finally {
+                applying = null;
+            }
+        }
+        return appliedCount;
+    }
+
+    /**
+     * Changes {@code current}, the version of the item in the schedule if it is there, to the new version in
+     * {@code change}.
+     * @return true if the change was applied.
+     */
+    private boolean apply(Change change, Overlappable current) {
+        Overlappable item = change.getItem().orElse(null);
+        if (item != null && (schedule.isBlockedByEvent(item, current)
+                || schedule.isBlockedByBlockedSlot(item, current))) {
+            logger.warning("Leaving out a change from " + change.getReplicaId() + " that clashes with this schedule: "
+                    + change);
+            return false;
+        }
+
+        if (item == null || current == null || !item.getClass().equals(current.getClass())) {
+            remove(current);
+            add(item);
+        } else if (item instanceof Event) {
+            schedule.setEvent((Event) current, (Event) item);
+        } else {
+            schedule.removeBlockedSlot((BlockedSlot) current);
+            schedule.addBlockedSlot((BlockedSlot) item);
+        }
+        // the schedule is left as it was if the new version is equal to the current one, but the change still wins
+        record(change.getId(), item);
+        return true;
+    }
+
+    private void remove(Overlappable item) {
+        if (item instanceof Event) {
+            schedule.removeEvent((Event) item);
+        } else if (item instanceof BlockedSlot) {
+            schedule.removeBlockedSlot((BlockedSlot) item);
+        }
+    }
+
+    private void add(Overlappable item) {
+        if (item instanceof Event) {
+            schedule.addEvent((Event) item);
+        } else if (item instanceof BlockedSlot) {
+            schedule.addBlockedSlot((BlockedSlot) item);
+        }
+    }
+
+    /**
+     * Runs {@code action}, which only drops items that are kept in storage from the schedule in memory, without
+     * recording their removal. The latest changes to the items are kept, so they are not recorded again when they
+     * are loaded back.
+     */
+    public void runUnrecorded(Runnable action) {
+        requireNonNull(action);
+        isUnrecorded = true;
+        try {
+            action.run();
+        } finally {
+            isUnrecorded = false;
+        }
+    }
+
+    /**
+     * Records the items removed and added by {@code change} to one of the lists of the schedule.
+     * An item that is removed and added back under the same id is recorded once, as changed.
+     */
+    private <T extends Overlappable> void update(SequenceChange<? extends T> change, ToLongFunction<T> idOf) {
+        if (isUnrecorded) {
+            return;
+        }
+        Set<Long> addedIds = new HashSet<>();
+        for (T added : change.getAdded()) {
+            long id = idOf.applyAsLong(added);
+            addedIds.add(id);
+            record(id, added);
+        }
+        for (T removed : change.getRemoved()) {
+            long id = idOf.applyAsLong(removed);
+            if (!addedIds.contains(id)) {
+                record(id, null);
+            }
+        }
+    }
+
+    /**
+     * Records {@code item} as the latest version of the item with {@code id}, or its removal if it is null,
+     * unless that is already its latest version. The change is stamped with the change being applied if it is
+     * for the same item, or else as a new change made here.
+     */
+    private void record(long id, Overlappable item) {
+        Change latest = latestById.get(id);
+        boolean isApplying = applying != null && applying.getId() == id;
+        if (isApplying ? applying.isSameChange(latest)
+                : latest != null && Objects.equals(latest.getItem().orElse(null), item)) {
+            return;
+        }
+        put(isApplying ? applying.withSeq(++lastSeq) : new Change(++lastSeq, tick(), replicaId, id, item));
+    }
+
+    /**
+     * Advances the clock for a change made here, to the time of the wall clock if it is ahead.
+     */
+    private long tick() {
+        clock = Math.max(clock + 1, wallClock.millis());
+        return clock;
+    }
+
+    private void put(Change change) {
+        Change latest = latestById.put(change.getId(), change);
+        if (latest != null) {
+            bySeq.remove(latest.getSeq());
+        }
+        bySeq.put(change.getSeq(), change);
+    }
+}
@@ -3,7 +3,7 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import javafx.scene.control.Label;
+import seedu.address.model.util.FieldValidator;
 
 /**
  * Represents a Tag in the schedule.
@@ -31,7 +31,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isValidTagName(test);
     }
 
     @Override
@@ -53,27 +53,6 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
-    /**
-     * Creates a Label depending on the tag name
-     *
-     * @return a label with a background depending on the tag name.
-     * The tag name "URGENT" returns a label with a red background
-     * The tag name "supplementary" returns a label with a yellow background
-     */
-    public Label createLabel() {
-        Label l;
-        if (tagName.equals("URGENT")) {
-            l = new UrgentLabel();
-        } else if (tagName.equals("supplementary")) {
-            l = new SupplementaryLabel();
-        } else {
-            l = new Label(tagName);
-        }
-        l.setMaxWidth(100);
-        l.setWrapText(true);
-        return l;
-    }
-
     public String getTagName() {
         return tagName;
     }
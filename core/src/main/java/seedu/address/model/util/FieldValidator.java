@@ -0,0 +1,158 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+import java.util.Optional;
+
+/**
+ * Validates the fields of events and blocked slots by scanning them once by hand, and parses dates and times in the
+ * same pass. The model classes validate through these methods, so they are shared by the command parsers and storage.
+ * <p>
+ * Each method accepts exactly the strings that the {@code VALIDATION_REGEX} of the matching model class matches,
+ * without compiling or running the regular expression every time a value is read.
+ */
+public class FieldValidator {
+
+    private FieldValidator() {}
+
+    /**
+     * Returns true if {@code test} is a valid name: an ASCII letter or digit followed by letters, digits and spaces.
+     */
+    public static boolean isValidName(String test) {
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid tag name: one or more ASCII letters and digits.
+     */
+    public static boolean isValidTagName(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid location: it does not start with whitespace, and is one line.
+     */
+    public static boolean isValidLocation(String test) {
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses {@code test} as a date of the form yyyy-mm-dd.
+     * @return the date, or an empty {@code Optional} if {@code test} is not of that form or is not a real date.
+     */
+    public static Optional<LocalDate> parseDate(String test) {
+        if (test.length() != 10 || test.charAt(4) != '-' || test.charAt(7) != '-') {
+            return Optional.empty();
+        }
+        int year = parseDigits(test, 0, 4);
+        int month = parseDigits(test, 5, 7);
+        int day = parseDigits(test, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > getLengthOfMonth(year, month)) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.of(year, month, day));
+    }
+
+    /**
+     * Parses {@code test} as a time of the form HHmm. The leading zero of the hour may be left out.
+     * @return the time, or an empty {@code Optional} if {@code test} is not of that form.
+     */
+    public static Optional<LocalTime> parseTime(String test) {
+        int length = test.length();
+        if (length != 3 && length != 4) {
+            return Optional.empty();
+        }
+        int hour = parseDigits(test, 0, length - 2);
+        int minute = parseDigits(test, length - 2, length);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalTime.of(hour, minute));
+    }
+
+    /**
+     * Returns true if {@code testStartTime} and {@code testEndTime} are valid times, and the end is after the start.
+     */
+    public static boolean isValidTimeSlot(String testStartTime, String testEndTime) {
+        Optional<LocalTime> startTime = parseTime(testStartTime);
+        Optional<LocalTime> endTime = parseTime(testEndTime);
+        return startTime.isPresent() && endTime.isPresent() && endTime.get().isAfter(startTime.get());
+    }
+
+    /**
+     * Returns the number formed by the ASCII digits of {@code text} from {@code from} to {@code to}, or -1 if any of
+     * them is not a digit.
+     */
+    private static int parseDigits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int getLengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return Year.isLeap(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \p{Alnum}}.
+     */
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by {@code .}.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
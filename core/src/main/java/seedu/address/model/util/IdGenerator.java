@@ -0,0 +1,60 @@
+package seedu.address.model.util;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the ids that identify events and blocked slots for as long as they exist.
+ * <p>
+ * Copies of a schedule that are kept in sync must never give two different items the same id, or the items would be
+ * taken to be one item when the copies are synced and one of them would be lost. Each run of the application
+ * therefore draws its ids from a generator seeded with the randomness of a new {@link UUID}. A generator scrambles
+ * an increasing count with its seed, so it never hands out the same id twice, and the ids of generators with
+ * different seeds are spread over all 64 bits: two copies that each add a million items share an id with a chance
+ * of about one in 18 million. Ids read from storage are just as unlikely to be handed out again.
+ */
+public class IdGenerator {
+
+    /** Odd constant that spaces the scrambled counts evenly, as in {@code SplittableRandom}. */
+    private static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final IdGenerator runGenerator = new IdGenerator(newSeed());
+
+    private final long seed;
+    private final AtomicLong lastCount = new AtomicLong();
+
+    /**
+     * Creates a generator whose ids are determined by {@code seed}.
+     */
+    IdGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns an id that has not been handed out before.
+     */
+    public static long next() {
+        return runGenerator.nextId();
+    }
+
+    /**
+     * Returns the next id of this generator, which it has not returned before.
+     */
+    long nextId() {
+        return scramble(seed + lastCount.incrementAndGet() * GAMMA);
+    }
+
+    private static long newSeed() {
+        UUID uuid = UUID.randomUUID();
+        return uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+    }
+
+    /**
+     * Returns a mix of the bits of {@code value}. Different values always give different results.
+     */
+    private static long scramble(long value) {
+        long z = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,283 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Location;
+import seedu.address.model.event.Name;
+import seedu.address.model.event.Remark;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Canonicalizes the immutable value objects of a schedule so that equal values share a single instance.
+ * A storage keeps one pool for as long as it lives and shares it with the command parsers, so that values typed in
+ * by the user are shared with the values that were loaded, however often the schedule is read again.
+ *
+ * The pool only holds its values weakly: a value is dropped once nothing else refers to it, so the pool never grows
+ * beyond the values still in use. Strings are canonicalized through {@link String#intern()}, which is weak as well.
+ *
+ * Values given to this pool are expected to be valid; the usual {@code IllegalArgumentException} is thrown otherwise.
+ * The pool may be used from several threads at once, so that the records of a schedule can be converted in parallel.
+ */
+public class ValuePool {
+
+    /** Approximate size of an object header plus one reference field, in bytes. */
+    private static final int VALUE_OBJECT_BYTES = 16;
+    /** Approximate size of a {@code LocalDate} or {@code LocalTime}, in bytes. */
+    private static final int TEMPORAL_BYTES = 24;
+    /** Approximate size of a {@code String} object and the header of its backing array, in bytes. */
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private final WeakValues<Name> names = new WeakValues<>();
+    private final WeakValues<Location> locations = new WeakValues<>();
+    private final WeakValues<Remark> remarks = new WeakValues<>();
+    private final WeakValues<Tag> tags = new WeakValues<>();
+    private final WeakValues<Date> dates = new WeakValues<>();
+    private final WeakValues<TimeSlot> timeSlots = new WeakValues<>();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Returns the canonical {@code Name} with the given value.
+     */
+    public Name name(String name) {
+        return lookup(names, name, key -> new Name(intern(key)), VALUE_OBJECT_BYTES + stringBytes(name));
+    }
+
+    /**
+     * Returns the canonical {@code Location} with the given value.
+     */
+    public Location location(String location) {
+        return lookup(locations, location, key -> new Location(intern(key)),
+                VALUE_OBJECT_BYTES + stringBytes(location));
+    }
+
+    /**
+     * Returns the canonical {@code Remark} with the given value.
+     */
+    public Remark remark(String remark) {
+        return lookup(remarks, remark, key -> new Remark(intern(key)), VALUE_OBJECT_BYTES + stringBytes(remark));
+    }
+
+    /**
+     * Returns the canonical {@code Tag} with the given name.
+     */
+    public Tag tag(String tagName) {
+        return lookup(tags, tagName, key -> new Tag(intern(key)), VALUE_OBJECT_BYTES + stringBytes(tagName));
+    }
+
+    /**
+     * Returns the canonical {@code Date} with the given value.
+     */
+    public Date date(String date) {
+        return lookup(dates, date, key -> new Date(intern(key)),
+                VALUE_OBJECT_BYTES + TEMPORAL_BYTES + stringBytes(date));
+    }
+
+    /**
+     * Returns the canonical {@code TimeSlot} running from {@code startTime} to {@code endTime}.
+     */
+    public TimeSlot timeSlot(String startTime, String endTime) {
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        return lookup(timeSlots, startTime + "-" + endTime, unused -> new TimeSlot(startTime, endTime),
+                VALUE_OBJECT_BYTES + 2 * TEMPORAL_BYTES);
+    }
+
+    /**
+     * Returns the canonical instance of the given string.
+     */
+    public String intern(String value) {
+        requireNonNull(value);
+        return value.intern();
+    }
+
+    public Name intern(Name name) {
+        return name(name.fullName);
+    }
+
+    public Location intern(Location location) {
+        return location(location.value);
+    }
+
+    public Remark intern(Remark remark) {
+        return remark(remark.value);
+    }
+
+    public Tag intern(Tag tag) {
+        return tag(tag.tagName);
+    }
+
+    public Date intern(Date date) {
+        return date(date.value);
+    }
+
+    public TimeSlot intern(TimeSlot timeSlot) {
+        return timeSlot(timeSlot.startTimeToString(), timeSlot.endTimeToString());
+    }
+
+    /**
+     * Returns a copy of {@code tagSet} holding the canonical instance of every tag.
+     */
+    public Set<Tag> intern(Set<Tag> tagSet) {
+        Set<Tag> canonicalTags = new HashSet<>();
+        for (Tag tag : tagSet) {
+            canonicalTags.add(intern(tag));
+        }
+        return canonicalTags;
+    }
+
+    /**
+     * Returns an {@code Event} with the same id as and equal to {@code event} whose fields are all canonical
+     * instances.
+     */
+    public Event intern(Event event) {
+        return new Event(event.getId(), intern(event.getName()), intern(event.getDate()),
+                intern(event.getTimeSlot()), intern(event.getLocation()), intern(event.getTags()),
+                intern(event.getRemark()), event.getRecurrence().orElse(null));
+    }
+
+    /**
+     * Returns a {@code BlockedSlot} with the same id as and equal to {@code blockedSlot} whose fields are all
+     * canonical instances.
+     */
+    public BlockedSlot intern(BlockedSlot blockedSlot) {
+        return new BlockedSlot(blockedSlot.getId(), intern(blockedSlot.getDate()),
+                intern(blockedSlot.getTimeSlot()), blockedSlot.getRecurrence().orElse(null));
+    }
+
+    /**
+     * Returns the number of values that were requested from this pool.
+     */
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    /**
+     * Returns the number of requested values that were served by an existing canonical instance.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns an estimate of the heap, in bytes, that would have been taken up by duplicate values.
+     */
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * Returns the number of canonical values that are still held by this pool.
+     */
+    public int size() {
+        return names.size() + locations.size() + remarks.size() + tags.size() + dates.size() + timeSlots.size();
+    }
+
+    /**
+     * Returns a human readable summary of how much this pool has deduplicated.
+     */
+    public String getReport() {
+        return String.format("Interned %d values into %d canonical instances, saving about %d bytes",
+                lookups.sum(), lookups.sum() - hits.sum(), bytesSaved.sum());
+    }
+
+    private <T> T lookup(WeakValues<T> pool, String key, Function<String, T> factory, long duplicateBytes) {
+        requireNonNull(key);
+        lookups.increment();
+        T canonical = pool.get(key);
+        if (canonical == null) {
+            T created = factory.apply(key);
+            canonical = pool.putIfAbsent(intern(key), created);
+            if (canonical == null) {
+                return created;
+            }
+        }
+        hits.increment();
+        bytesSaved.add(duplicateBytes);
+        return canonical;
+    }
+
+    private static int stringBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + value.length();
+    }
+
+    /**
+     * A concurrent map from keys to values that are only weakly held. The entry of a value is removed once the value
+     * has been garbage collected.
+     */
+    private static class WeakValues<T> {
+        private final Map<String, KeyedReference<T>> references = new ConcurrentHashMap<>();
+        private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+        /**
+         * Returns the value held for {@code key}, or null if there is none.
+         */
+        T get(String key) {
+            removeCollected();
+            KeyedReference<T> reference = references.get(key);
+            return reference == null ? null : reference.get();
+        }
+
+        /**
+         * Holds {@code value} for {@code key} unless a value is already held for it.
+         * @return the value already held, or null if {@code value} is now held.
+         */
+        T putIfAbsent(String key, T value) {
+            KeyedReference<T> reference = new KeyedReference<>(key, value, collected);
+            while (true) {
+                KeyedReference<T> existing = references.putIfAbsent(key, reference);
+                if (existing == null) {
+                    return null;
+                }
+                T existingValue = existing.get();
+                if (existingValue != null) {
+                    return existingValue;
+                }
+                if (references.replace(key, existing, reference)) {
+                    return null;
+                }
+            }
+        }
+
+        int size() {
+            removeCollected();
+            return references.size();
+        }
+
+        private void removeCollected() {
+            Object reference;
+            while ((reference = collected.poll()) != null) {
+                KeyedReference<?> keyedReference = (KeyedReference<?>) reference;
+                references.remove(keyedReference.key, keyedReference);
+            }
+        }
+    }
+
+    /**
+     * A weak reference that remembers the key it is held under.
+     */
+    private static class KeyedReference<T> extends WeakReference<T> {
+        private final String key;
+
+        KeyedReference(String key, T value, ReferenceQueue<? super T> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+
+}
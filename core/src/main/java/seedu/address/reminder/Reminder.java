@@ -0,0 +1,63 @@
+package seedu.address.reminder;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import seedu.address.model.event.Event;
+
+/**
+ * A reminder that an occurrence of an event is about to start.
+ * Guarantees: immutable; details are present and not null.
+ */
+public final class Reminder {
+
+    private static final DateTimeFormatter START_FORMAT = DateTimeFormatter.ofPattern("HHmm 'on' yyyy-MM-dd");
+
+    private final Event event;
+    private final LocalDateTime start;
+
+    /**
+     * Constructs a {@code Reminder} of the occurrence of {@code event} that starts at {@code start}.
+     */
+    public Reminder(Event event, LocalDateTime start) {
+        requireAllNonNull(event, start);
+        this.event = event;
+        this.start = start;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the message shown to the user for this reminder.
+     */
+    public String getMessage() {
+        return event.getName() + " starts at " + start.format(START_FORMAT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof Reminder
+                && event.equals(((Reminder) other).event)
+                && start.equals(((Reminder) other).start));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(event, start);
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
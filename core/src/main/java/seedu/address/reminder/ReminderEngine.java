@@ -0,0 +1,235 @@
+package seedu.address.reminder;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.model.change.ChangeSubscription;
+import seedu.address.model.change.ScheduleChange;
+import seedu.address.model.change.exceptions.SubscriptionOverflowException;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
+
+/**
+ * Reminds the user of each event a while before it starts.
+ * <p>
+ * Only the next reminder of each event is armed, on a {@code TimerWheel} that advances once a second, so a tick costs
+ * the same however many events there are. When a reminder goes off, the next occurrence of a recurring event is armed.
+ * The engine subscribes to the schedule's change stream and re-arms only the events that were added, edited or
+ * deleted, rather than going through the schedule again; it only does that when it starts, and if it ever falls so
+ * far behind the stream that it misses changes.
+ * Reminders are handed to the notifier on the engine's own thread.
+ */
+public class ReminderEngine {
+
+    public static final Duration DEFAULT_LEAD_TIME = Duration.ofMinutes(15);
+    public static final long TICK_MILLIS = 1000;
+    /** Recurring events are searched for their next occurrence this many days at a time. */
+    private static final int SEARCH_WINDOW_DAYS = 31;
+    private static final int CHANGES_PER_POLL = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderEngine.class);
+
+    private final Logic logic;
+    private final Executor writer;
+    private final Duration leadTime;
+    private final Clock clock;
+    private final Consumer<Reminder> notifier;
+    /** The timer of the next reminder of each event, by id. */
+    private final Map<Long, TimerWheel.Timer<Reminder>> timersById = new HashMap<>();
+    private TimerWheel<Reminder> wheel;
+    private ChangeSubscription subscription;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Creates an engine that reminds the user of the events of {@code logic} {@code leadTime} before they start
+     * by {@code clock}, by passing the reminders to {@code notifier}. {@code writer} is the thread that runs the
+     * commands of {@code logic}.
+     */
+    public ReminderEngine(Logic logic, Executor writer, Duration leadTime, Clock clock, Consumer<Reminder> notifier) {
+        requireAllNonNull(logic, writer, leadTime, clock, notifier);
+        this.logic = logic;
+        this.writer = writer;
+        this.leadTime = leadTime;
+        this.clock = clock;
+        this.notifier = notifier;
+    }
+
+    /**
+     * Arms the next reminder of every event and starts ticking on a background thread.
+     */
+    public void start() {
+        resync();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tickSafely, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops ticking and unsubscribes from the schedule's changes.
+     */
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        if (subscription != null) {
+            subscription.close();
+        }
+    }
+
+    /**
+     * Returns the number of reminders that are armed.
+     */
+    int getArmedCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Subscribes to the schedule's changes and arms the next reminder of every event in it afresh.
+     * The events are read on the writer, together with the subscription, so that no change is missed in between.
+     */
+    void resync() {
+        if (subscription != null) {
+            subscription.close();
+        }
+        List<Event> events = new ArrayList<>();
+        subscription = CompletableFuture.supplyAsync(() -> {
+            logic.getScheduleSnapshot().getEvents().forEach(events::add);
+            return logic.getScheduleChanges().subscribe();
+        }, writer).join();
+
+        wheel = new TimerWheel<>(toTick(clock.millis()));
+        timersById.clear();
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Event event : events) {
+            arm(event, now);
+        }
+        logger.fine("Armed " + wheel.size() + " reminders");
+    }
+
+    /**
+     * Re-arms the events changed since the last tick, and hands out the reminders that have fallen due.
+     */
+    void tick() {
+        try {
+            List<ScheduleChange> changes;
+            while (!(changes = subscription.poll(CHANGES_PER_POLL)).isEmpty()) {
+                changes.forEach(this::apply);
+            }
+        } catch (SubscriptionOverflowException e) {
+            logger.warning("Fell behind the changes to the schedule; arming every reminder again");
+            resync();
+        }
+        wheel.advanceTo(toTick(clock.millis()), this::fire);
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            // an exception would stop the ticker for good
+            logger.warning("Failed to check for reminders: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void apply(ScheduleChange change) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        switch (change.getType()) {
+        case EVENT_ADDED:
+        case EVENT_EDITED:
+            arm((Event) change.getNewItem().get(), now);
+            break;
+        case EVENT_DELETED:
+            disarm(((Event) change.getOldItem().get()).getId());
+            break;
+        default:
+            // blocked slots have no reminders
+        }
+    }
+
+    /**
+     * Arms the reminder of the first occurrence of {@code event} that starts after {@code after}, in place of any
+     * reminder of it that is armed.
+     */
+    private void arm(Event event, LocalDateTime after) {
+        disarm(event.getId());
+        getNextStart(event, after).ifPresent(start -> {
+            long reminderMillis = start.minus(leadTime).atZone(clock.getZone()).toInstant().toEpochMilli();
+            timersById.put(event.getId(), wheel.schedule(new Reminder(event, start), toTick(reminderMillis)));
+        });
+    }
+
+    private void disarm(long id) {
+        TimerWheel.Timer<Reminder> timer = timersById.remove(id);
+        if (timer != null) {
+            wheel.cancel(timer);
+        }
+    }
+
+    private void fire(Reminder reminder) {
+        timersById.remove(reminder.getEvent().getId());
+        try {
+            notifier.accept(reminder);
+        } catch (RuntimeException e) {
+            logger.warning("Failed to show a reminder: " + StringUtil.getDetails(e));
+        }
+        arm(reminder.getEvent(), reminder.getStart());
+    }
+
+    /**
+     * Returns the tick at or after {@code millis}.
+     */
+    private static long toTick(long millis) {
+        return Math.floorDiv(millis + TICK_MILLIS - 1, TICK_MILLIS);
+    }
+
+    /**
+     * Returns the start of the first occurrence of {@code event} that starts after {@code after}, if there is one.
+     * Only as many days of a recurring event are looked at as it takes to find the occurrence.
+     */
+    static Optional<LocalDateTime> getNextStart(Event event, LocalDateTime after) {
+        LocalTime startTime = event.getTimeSlot().startTime;
+        LocalDate from = startTime.isAfter(after.toLocalTime()) ? after.toLocalDate() : after.toLocalDate().plusDays(1);
+        if (event.getDate().date.isAfter(from)) {
+            from = event.getDate().date;
+        }
+        Optional<Recurrence> recurrence = event.getRecurrence();
+        if (recurrence.isEmpty()) {
+            return event.getDate().date.equals(from) ? Optional.of(from.atTime(startTime)) : Optional.empty();
+        }
+
+        LocalDate lastDate = Recurrence.getLastDate(event).date;
+        for (LocalDate windowStart = from; !windowStart.isAfter(lastDate);
+                windowStart = windowStart.plusDays(SEARCH_WINDOW_DAYS)) {
+            List<Date> occurrences = recurrence.get().getOccurrences(event.getDate(), new Date(windowStart),
+                    new Date(windowStart.plusDays(SEARCH_WINDOW_DAYS - 1)));
+            if (!occurrences.isEmpty()) {
+                return Optional.of(occurrences.get(0).date.atTime(startTime));
+            }
+        }
+        return Optional.empty();
+    }
+}
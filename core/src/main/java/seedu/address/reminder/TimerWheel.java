@@ -0,0 +1,187 @@
+package seedu.address.reminder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timer wheel, which holds items that are due at given ticks and hands them out as time advances.
+ * <p>
+ * Each of the {@link #LEVELS} wheels has {@code 2^SLOT_BITS} slots, and each slot of a wheel spans a whole turn of
+ * the wheel below it. An item is put in the lowest wheel whose turn reaches its deadline, and is moved down a wheel
+ * when the slot it is in comes round. Each tick therefore looks at one slot of the lowest wheel, and now and then
+ * moves the items in one slot of a higher wheel, so advancing costs the same however many items are held, and
+ * scheduling and cancelling an item cost O(1).
+ * Not thread-safe.
+ */
+public class TimerWheel<T> {
+
+    public static final int SLOT_BITS = 6;
+    public static final int LEVELS = 6;
+
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+
+    /** The first timer of each slot of each wheel, each slot being a doubly linked list. */
+    private final Timer<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty wheel at tick {@code startTick}.
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long startTick) {
+        slots = (Timer<T>[][]) new Timer<?>[LEVELS][SLOTS];
+        currentTick = startTick;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of items that are waiting.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules {@code item} to be handed out at tick {@code deadline}, or at the next tick if that has passed.
+     * @return the timer of the item, with which it can be cancelled.
+     */
+    public Timer<T> schedule(T item, long deadline) {
+        requireNonNull(item);
+        Timer<T> timer = new Timer<>(item, Math.max(deadline, currentTick + 1));
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Stops {@code timer} from being handed out, if it has not been already.
+     */
+    public void cancel(Timer<T> timer) {
+        requireNonNull(timer);
+        if (timer.level < 0) {
+            return;
+        }
+        unlink(timer);
+        size--;
+    }
+
+    /**
+     * Advances the wheel to tick {@code tick}, handing each item that falls due on the way to {@code onExpired} in
+     * the order of their deadlines. {@code onExpired} may schedule more items.
+     */
+    public void advanceTo(long tick, Consumer<? super T> onExpired) {
+        requireNonNull(onExpired);
+        while (currentTick < tick) {
+            if (size == 0) {
+                currentTick = tick;
+                return;
+            }
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                int shift = SLOT_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    cascade(level, (int) ((currentTick >>> shift) & MASK));
+                }
+            }
+            expire((int) (currentTick & MASK), onExpired);
+        }
+    }
+
+    /**
+     * Moves the timers in the given slot to the wheels below, now that their slot has come round.
+     */
+    private void cascade(int level, int slot) {
+        Timer<T> timer = slots[level][slot];
+        slots[level][slot] = null;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void expire(int slot, Consumer<? super T> onExpired) {
+        Timer<T> timer = slots[0][slot];
+        slots[0][slot] = null;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.level = -1;
+            timer.prev = null;
+            timer.next = null;
+            size--;
+            onExpired.accept(timer.item);
+            timer = next;
+        }
+    }
+
+    /**
+     * Puts {@code timer} in the lowest wheel whose current turn reaches its deadline.
+     */
+    private void insert(Timer<T> timer) {
+        long delta = timer.deadline - currentTick;
+        int level = delta < SLOTS ? 0 : Math.min((63 - Long.numberOfLeadingZeros(delta)) / SLOT_BITS, LEVELS - 1);
+        int slot = (int) ((timer.deadline >>> (SLOT_BITS * level)) & MASK);
+
+        timer.level = level;
+        timer.slot = slot;
+        timer.prev = null;
+        timer.next = slots[level][slot];
+        if (timer.next != null) {
+            timer.next.prev = timer;
+        }
+        slots[level][slot] = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.prev == null) {
+            slots[timer.level][timer.slot] = timer.next;
+        } else {
+            timer.prev.next = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.level = -1;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    /**
+     * An item waiting in a {@code TimerWheel}.
+     */
+    public static final class Timer<T> {
+        private final T item;
+        private final long deadline;
+        private Timer<T> prev;
+        private Timer<T> next;
+        /** The wheel the timer is in, or -1 once it has been handed out or cancelled. */
+        private int level;
+        private int slot;
+
+        private Timer(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Returns true if the item has not been handed out or cancelled yet.
+         */
+        public boolean isPending() {
+            return level >= 0;
+        }
+    }
+}
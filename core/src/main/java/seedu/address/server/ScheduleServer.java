@@ -0,0 +1,351 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWriter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.FreeSlot;
+import seedu.address.model.Schedule;
+import seedu.address.model.ScheduleSnapshot;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.NameContainsKeywordsPredicate;
+import seedu.address.storage.JsonAdaptedEvent;
+import seedu.address.tenant.TenantHost;
+import seedu.address.tenant.TenantMetrics;
+
+/**
+ * A local HTTP API over the schedule.
+ *
+ * Reads are answered from the {@code ScheduleSnapshot} published by {@code Logic} at the end of each command,
+ * so any number of them run in parallel without locking and without waiting for commands.
+ * Commands are handed to the single {@code writer} that every other command of the app also runs on,
+ * so they are applied one at a time and in order.
+ */
+public class ScheduleServer {
+
+    public static final String EVENTS_PATH = "/api/events";
+    public static final String FREE_SLOTS_PATH = "/api/freeslots";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String TENANTS_PATH = "/api/tenants";
+    public static final String TENANT_EVENTS = "events";
+    public static final String TENANT_COMMANDS = "commands";
+    public static final String TENANT_METRICS = "metrics";
+    public static final String FIND_PARAMETER = "find";
+
+    public static final int STATUS_OK = 200;
+    public static final int STATUS_BAD_REQUEST = 400;
+    public static final int STATUS_NOT_FOUND = 404;
+    public static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    public static final int STATUS_UNAVAILABLE = 503;
+
+    private static final Logger logger = LogsCenter.getLogger(ScheduleServer.class);
+
+    static {
+        // Without this, Nagle's algorithm holds back each small response on a kept-alive connection for
+        // up to 40ms, which caps every client at a few dozen requests per second.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final Logic logic;
+    private final CommandWriter commandWriter;
+    private final HttpServer server;
+    private final ExecutorService readers;
+    private volatile SnapshotSchedule snapshotSchedule;
+
+    /**
+     * Creates a server on {@code address} that reads from {@code logic} and runs commands on {@code writer}.
+     * The server does not accept requests until it is started.
+     *
+     * @throws IOException if {@code address} cannot be bound.
+     */
+    public ScheduleServer(Logic logic, Executor writer, InetSocketAddress address) throws IOException {
+        requireAllNonNull(logic, writer, address);
+        this.logic = logic;
+        commandWriter = new CommandWriter(logic, writer);
+        server = HttpServer.create(address, 0);
+        readers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "schedule-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(readers);
+        server.createContext(EVENTS_PATH, exchange -> handle(exchange, "GET", this::listEvents));
+        server.createContext(FREE_SLOTS_PATH, exchange -> handle(exchange, "GET", this::listFreeSlots));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, "POST", this::executeCommand));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Schedule API listening on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests and closes the server once the requests being handled are done.
+     */
+    public void stop() {
+        server.stop(0);
+        readers.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Serves the schedules of {@code tenantHost} under {@code /api/tenants/<tenant id>/}, with the same
+     * {@code events} and {@code commands} endpoints as the main schedule and a {@code metrics} endpoint.
+     * {@code /api/tenants} itself responds with the metrics of all tenants.
+     * The host runs the commands of each tenant one at a time, apart from the main schedule's writer.
+     */
+    public void hostTenants(TenantHost tenantHost) {
+        requireNonNull(tenantHost);
+        server.createContext(TENANTS_PATH, exchange -> routeTenantRequest(exchange, tenantHost));
+    }
+
+    private void listEvents(HttpExchange exchange) throws IOException {
+        listEvents(exchange, logic.getScheduleSnapshot());
+    }
+
+    /**
+     * Responds with every event in {@code snapshot}, or only those whose names contain one of the keywords in the
+     * {@code find} parameter.
+     */
+    private void listEvents(HttpExchange exchange, ScheduleSnapshot snapshot) throws IOException {
+        Predicate<Event> predicate = getParameter(exchange, FIND_PARAMETER)
+                .map(keywords -> (Predicate<Event>) new NameContainsKeywordsPredicate(
+                        Arrays.asList(keywords.trim().split("\\s+"))))
+                .orElse(event -> true);
+
+        List<JsonAdaptedEvent> events = new ArrayList<>();
+        for (Event event : snapshot.getEvents()) {
+            if (predicate.test(event)) {
+                events.add(new JsonAdaptedEvent(event));
+            }
+        }
+        send(exchange, STATUS_OK, events);
+    }
+
+    /**
+     * Responds with the free slots from now onwards.
+     */
+    private void listFreeSlots(HttpExchange exchange) throws IOException {
+        List<JsonFreeSlot> freeSlots = new ArrayList<>();
+        for (FreeSlot freeSlot : getSchedule(logic.getScheduleSnapshot())
+                .getFreeSlots(new Date(LocalDate.now()), LocalTime.now())) {
+            freeSlots.add(new JsonFreeSlot(freeSlot));
+        }
+        send(exchange, STATUS_OK, freeSlots);
+    }
+
+    /**
+     * Runs the request body as a command on the writer and responds with its feedback.
+     */
+    private void executeCommand(HttpExchange exchange) throws IOException {
+        String commandText = readBody(exchange);
+
+        try {
+            CommandResult result = commandWriter.submit(commandText).get();
+            send(exchange, STATUS_OK, new JsonMessage(result.getFullFeedbackToUser()));
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof CommandException || e.getCause() instanceof ParseException)) {
+                throw new IOException(e.getCause());
+            }
+            send(exchange, STATUS_BAD_REQUEST, new JsonMessage(e.getCause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, STATUS_UNAVAILABLE, new JsonMessage("The server is shutting down."));
+        }
+    }
+
+    /**
+     * Passes a request under {@code /api/tenants} to the handler for its path.
+     */
+    private void routeTenantRequest(HttpExchange exchange, TenantHost tenantHost) {
+        String[] path = exchange.getRequestURI().getPath().substring(TENANTS_PATH.length()).split("/");
+        if (path.length <= 1) {
+            handle(exchange, "GET", unused -> send(exchange, STATUS_OK, tenantHost.getTotalMetrics()));
+            return;
+        }
+        String tenantId = path[1];
+        String endpoint = path.length == 3 ? path[2] : "";
+        if (!TenantHost.isValidTenantId(tenantId)) {
+            handle(exchange, exchange.getRequestMethod(), unused ->
+                    send(exchange, STATUS_BAD_REQUEST, new JsonMessage(TenantHost.MESSAGE_CONSTRAINTS)));
+            return;
+        }
+
+        switch (endpoint) {
+        case TENANT_EVENTS:
+            handle(exchange, "GET", unused -> {
+                try {
+                    listEvents(exchange, tenantHost.getScheduleSnapshot(tenantId));
+                } catch (CommandException e) {
+                    send(exchange, STATUS_UNAVAILABLE, new JsonMessage(e.getMessage()));
+                }
+            });
+            break;
+        case TENANT_COMMANDS:
+            handle(exchange, "POST", unused -> executeTenantCommand(exchange, tenantHost, tenantId));
+            break;
+        case TENANT_METRICS:
+            handle(exchange, "GET", unused -> {
+                Optional<TenantMetrics> metrics = tenantHost.getMetrics(tenantId);
+                if (metrics.isPresent()) {
+                    send(exchange, STATUS_OK, metrics.get());
+                } else {
+                    send(exchange, STATUS_NOT_FOUND, new JsonMessage(tenantId + " is not loaded."));
+                }
+            });
+            break;
+        default:
+            handle(exchange, exchange.getRequestMethod(), unused ->
+                    send(exchange, STATUS_NOT_FOUND, new JsonMessage("Unknown endpoint.")));
+        }
+    }
+
+    private void executeTenantCommand(HttpExchange exchange, TenantHost tenantHost, String tenantId)
+            throws IOException {
+        String commandText = readBody(exchange);
+        try {
+            send(exchange, STATUS_OK,
+                    new JsonMessage(tenantHost.execute(tenantId, commandText).getFullFeedbackToUser()));
+        } catch (CommandException | ParseException e) {
+            send(exchange, STATUS_BAD_REQUEST, new JsonMessage(e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns a {@code Schedule} with the contents of {@code snapshot}.
+     * The schedule is shared by all the requests that see the same snapshot, and is never modified.
+     */
+    private Schedule getSchedule(ScheduleSnapshot snapshot) {
+        SnapshotSchedule cached = snapshotSchedule;
+        if (cached == null || cached.snapshot != snapshot) {
+            cached = new SnapshotSchedule(snapshot);
+            snapshotSchedule = cached;
+        }
+        return cached.schedule;
+    }
+
+    private void handle(HttpExchange exchange, String method, ExchangeHandler handler) {
+        try {
+            if (exchange.getRequestMethod().equalsIgnoreCase(method)) {
+                handler.handle(exchange);
+            } else {
+                send(exchange, STATUS_METHOD_NOT_ALLOWED, new JsonMessage("Only " + method + " is supported."));
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Optional<String> getParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return Optional.empty();
+        }
+        for (String parameter : query.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            if (nameAndValue.length == 2 && nameAndValue[0].equals(name) && !nameAndValue[1].isBlank()) {
+                return Optional.of(URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Object response) throws IOException {
+        byte[] body = JsonUtil.toJsonString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ExchangeHandler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * A {@code Schedule} built from a snapshot, together with the snapshot it was built from.
+     */
+    private static class SnapshotSchedule {
+        private final ScheduleSnapshot snapshot;
+        private final Schedule schedule;
+
+        SnapshotSchedule(ScheduleSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.schedule = snapshot.toSchedule();
+        }
+    }
+
+    /**
+     * Jackson-friendly version of {@link FreeSlot}.
+     */
+    private static class JsonFreeSlot {
+        private final String date;
+        private final String startTime;
+        private final String endTime;
+
+        JsonFreeSlot(FreeSlot freeSlot) {
+            date = freeSlot.getDate().value;
+            startTime = freeSlot.getTimeSlot().startTimeToString();
+            endTime = freeSlot.getTimeSlot().endTimeToString();
+        }
+    }
+
+    /**
+     * Jackson-friendly message for the user.
+     */
+    private static class JsonMessage {
+        private final String message;
+
+        JsonMessage(String message) {
+            this.message = message;
+        }
+    }
+}
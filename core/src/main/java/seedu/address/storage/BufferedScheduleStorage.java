@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.ScheduleSnapshot;
+import seedu.address.model.util.ValuePool;
+
+/**
+ * A {@code ScheduleStorage} that holds back saves to its default file until it is flushed.
+ * Only the schedule given to the last save is kept, and it is written as it is at the time of the flush,
+ * so any number of saves in between cost a single write. A save of a {@code Schedule} whose contents are still those
+ * of the file is not held back at all, so commands that only read the schedule cost no write.
+ */
+public class BufferedScheduleStorage implements ScheduleStorage {
+
+    private final ScheduleStorage storage;
+    private ReadOnlySchedule pendingSchedule;
+    /** The contents of the file, if they are known to be those of a {@code Schedule} at some point. */
+    private ScheduleSnapshot writtenSnapshot;
+
+    /**
+     * Creates a {@code BufferedScheduleStorage} that writes to {@code storage} when flushed.
+     */
+    public BufferedScheduleStorage(ScheduleStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    @Override
+    public Path getScheduleFilePath() {
+        return storage.getScheduleFilePath();
+    }
+
+    @Override
+    public ValuePool getValuePool() {
+        return storage.getValuePool();
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule() throws DataConversionException, IOException {
+        return storage.readSchedule();
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException, IOException {
+        return storage.readSchedule(filePath);
+    }
+
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule) {
+        requireNonNull(schedule);
+        pendingSchedule = isWritten(schedule) ? null : schedule;
+    }
+
+    /**
+     * Holds back the save if {@code filePath} is the default file, and saves {@code schedule} to it straight away
+     * otherwise.
+     */
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+        if (filePath.equals(getScheduleFilePath())) {
+            saveSchedule(schedule);
+        } else {
+            storage.saveSchedule(schedule, filePath);
+        }
+    }
+
+    /**
+     * Records that the file holds the current contents of {@code schedule}, such as when it was just read into it,
+     * so that saving it before it changes writes nothing if it is a {@code Schedule}.
+     */
+    public void setWritten(ReadOnlySchedule schedule) {
+        requireNonNull(schedule);
+        writtenSnapshot = snapshotOf(schedule);
+    }
+
+    /**
+     * Returns true if a save is being held back.
+     */
+    public boolean isDirty() {
+        return pendingSchedule != null;
+    }
+
+    /**
+     * Writes the schedule given to the last save, if it has not been written yet.
+     *
+     * @throws IOException if there was any problem writing to the file, in which case the save is still held back.
+     */
+    public void flush() throws IOException {
+        if (pendingSchedule == null) {
+            return;
+        }
+        ScheduleSnapshot snapshot = snapshotOf(pendingSchedule);
+        storage.saveSchedule(pendingSchedule);
+        writtenSnapshot = snapshot;
+        pendingSchedule = null;
+    }
+
+    /**
+     * Returns true if {@code schedule} is known to hold what the file holds. Snapshots of a schedule share their trees
+     * until it changes, so they are compared by reference.
+     */
+    private boolean isWritten(ReadOnlySchedule schedule) {
+        ScheduleSnapshot snapshot = snapshotOf(schedule);
+        return snapshot != null && writtenSnapshot != null
+                && snapshot.getEvents() == writtenSnapshot.getEvents()
+                && snapshot.getBlockedSlots() == writtenSnapshot.getBlockedSlots();
+    }
+
+    /**
+     * Returns the current contents of {@code schedule}, or null if it is not a {@code Schedule}.
+     */
+    private static ScheduleSnapshot snapshotOf(ReadOnlySchedule schedule) {
+        return schedule instanceof Schedule ? ((Schedule) schedule).snapshot() : null;
+    }
+}
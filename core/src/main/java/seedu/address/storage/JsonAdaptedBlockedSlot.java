@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.model.util.IdGenerator;
+import seedu.address.model.util.ValuePool;
+
+/**
+ * Jackson-friendly version of {@link BlockedSlot}.
+ */
+class JsonAdaptedBlockedSlot {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "BlockedSlot's %s field is missing!";
+    public static final String SLOT_BLOCKED = "Slot coincides with a blocked period.";
+
+    private final Long id;
+    private final String date;
+    private final String startTime;
+    private final String endTime;
+    private final JsonAdaptedRecurrence recurrence;
+
+    /**
+     * Constructs a {@code JsonAdaptedBlockedSlot} with the given blocked slot details, no id and no recurrence.
+     */
+    public JsonAdaptedBlockedSlot(String date, String startTime, String endTime) {
+        this(null, date, startTime, endTime, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedBlockedSlot} with the given blocked slot details.
+     * {@code id} may be null for schedules saved before blocked slots had ids,
+     * and {@code recurrence} is null for blocked slots that do not repeat.
+     */
+    @JsonCreator
+    public JsonAdaptedBlockedSlot(@JsonProperty("id") Long id,
+                                  @JsonProperty("date") String date,
+                                  @JsonProperty("startTime") String startTime,
+                                  @JsonProperty("endTime") String endTime,
+                                  @JsonProperty("recurrence") JsonAdaptedRecurrence recurrence) {
+        this.id = id;
+        this.recurrence = recurrence;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Converts a given {@code BlockedSlot} into this class for Jackson use.
+     */
+    public JsonAdaptedBlockedSlot(BlockedSlot source) {
+        id = source.getId();
+        date = source.getDate().value;
+        startTime = source.getTimeSlot().startTimeToString();
+        endTime = source.getTimeSlot().endTimeToString();
+        recurrence = source.getRecurrence().map(JsonAdaptedRecurrence::new).orElse(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted blocked slot object into the model's {@code BlockedSlot} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted blocked slot.
+     */
+    public BlockedSlot toModelType() throws IllegalValueException {
+        return toModelType(new ValuePool());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted blocked slot object into the model's {@code BlockedSlot} object,
+     * sharing its field values with equal values already held by {@code valuePool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted blocked slot.
+     */
+    public BlockedSlot toModelType(ValuePool valuePool) throws IllegalValueException {
+        return toModelType(id, date, startTime, endTime, recurrence, valuePool);
+    }
+
+    /**
+     * Converts the fields of a blocked slot read from storage into the model's {@code BlockedSlot} object, sharing
+     * its field values with equal values already held by {@code valuePool}. {@code id} and {@code recurrence} may be
+     * null.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the fields.
+     */
+    static BlockedSlot toModelType(Long id, String date, String startTime, String endTime,
+            JsonAdaptedRecurrence recurrence, ValuePool valuePool) throws IllegalValueException {
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
+        }
+        if (!Date.isValidDate(date)) {
+            throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+        }
+        final Date modelDate = valuePool.date(date);
+
+        if (startTime == null || endTime == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    TimeSlot.class.getSimpleName()));
+        }
+        if (!TimeSlot.isValidTimeSlot(startTime, endTime)) {
+            throw new IllegalValueException(TimeSlot.MESSAGE_CONSTRAINTS);
+        }
+        final TimeSlot modelTimeSlot = valuePool.timeSlot(startTime, endTime);
+
+        final Recurrence modelRecurrence = recurrence == null ? null : recurrence.toModelType(valuePool);
+        if (modelRecurrence != null && modelRecurrence.until.compareTo(modelDate) < 0) {
+            throw new IllegalValueException(Recurrence.MESSAGE_UNTIL_BEFORE_START);
+        }
+
+        final long modelId = id == null ? IdGenerator.next() : id;
+        return new BlockedSlot(modelId, modelDate, modelTimeSlot, modelRecurrence);
+    }
+
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Overlappable;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.model.sync.Change;
+
+/**
+ * Jackson-friendly version of {@link Change}.
+ * A removal has neither an event nor a blocked slot.
+ */
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_TWO_ITEMS = "A change cannot have both an event and a blocked slot.";
+
+    private final long seq;
+    private final long clock;
+    private final String replicaId;
+    private final long id;
+    private final JsonAdaptedEvent event;
+    private final JsonAdaptedBlockedSlot blockedSlot;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("seq") long seq, @JsonProperty("clock") long clock,
+            @JsonProperty("replicaId") String replicaId, @JsonProperty("id") long id,
+            @JsonProperty("event") JsonAdaptedEvent event,
+            @JsonProperty("blockedSlot") JsonAdaptedBlockedSlot blockedSlot) {
+        this.seq = seq;
+        this.clock = clock;
+        this.replicaId = replicaId;
+        this.id = id;
+        this.event = event;
+        this.blockedSlot = blockedSlot;
+    }
+
+    /**
+     * Converts a given {@code Change} into this class for Jackson use.
+     */
+    public JsonAdaptedChange(Change source) {
+        seq = source.getSeq();
+        clock = source.getClock();
+        replicaId = source.getReplicaId();
+        id = source.getId();
+        Overlappable item = source.getItem().orElse(null);
+        event = item instanceof Event ? new JsonAdaptedEvent((Event) item) : null;
+        blockedSlot = item instanceof BlockedSlot ? new JsonAdaptedBlockedSlot((BlockedSlot) item) : null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change into the model's {@code Change} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public Change toModelType() throws IllegalValueException {
+        if (replicaId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "replicaId"));
+        }
+        if (event != null && blockedSlot != null) {
+            throw new IllegalValueException(MESSAGE_TWO_ITEMS);
+        }
+        Overlappable item = null;
+        if (event != null) {
+            item = event.toModelType();
+        } else if (blockedSlot != null) {
+            item = blockedSlot.toModelType();
+        }
+        try {
+            return new Change(seq, clock, replicaId, id, item);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+}
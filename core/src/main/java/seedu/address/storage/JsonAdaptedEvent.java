@@ -14,18 +14,22 @@ import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.Location;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Remark;
 import seedu.address.model.event.TimeSlot;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdGenerator;
+import seedu.address.model.util.ValuePool;
 
 /**
  * Jackson-friendly version of {@link Event}.
  */
-class JsonAdaptedEvent {
+public class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
     public static final String SLOT_BLOCKED = "Slot coincides with an event.";
 
+    private final Long id;
     private final String name;
     private final String date;
     private final String location;
@@ -33,16 +37,31 @@ class JsonAdaptedEvent {
     private final String endTime;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final String remark;
+    private final JsonAdaptedRecurrence recurrence;
+
+    /**
+     * Constructs a {@code JsonAdaptedEvent} with the given event details, no id and no recurrence.
+     */
+    public JsonAdaptedEvent(String name, String date, String startTime, String endTime, String location,
+                            List<JsonAdaptedTag> tagged, String remark) {
+        this(null, name, date, startTime, endTime, location, tagged, remark, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
+     * {@code id} may be null for schedules saved before events had ids,
+     * and {@code recurrence} is null for events that do not repeat.
      */
     @JsonCreator
-    public JsonAdaptedEvent(@JsonProperty("name") String name, @JsonProperty("date") String date,
+    public JsonAdaptedEvent(@JsonProperty("id") Long id,
+                            @JsonProperty("name") String name, @JsonProperty("date") String date,
                             @JsonProperty("startTime") String startTime, @JsonProperty("endTime") String endTime,
                             @JsonProperty("location") String location,
                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
-                            @JsonProperty("remark") String remark) {
+                            @JsonProperty("remark") String remark,
+                            @JsonProperty("recurrence") JsonAdaptedRecurrence recurrence) {
+        this.recurrence = recurrence;
+        this.id = id;
         this.name = name;
         this.date = date;
         this.startTime = startTime;
@@ -58,6 +77,7 @@ class JsonAdaptedEvent {
      * Converts a given {@code Event} into this class for Jackson use.
      */
     public JsonAdaptedEvent(Event source) {
+        id = source.getId();
         name = source.getName().fullName;
         date = source.getDate().value;
         startTime = source.getTimeSlot().startTimeToString();
@@ -67,6 +87,7 @@ class JsonAdaptedEvent {
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
         remark = source.getRemark().value;
+        recurrence = source.getRecurrence().map(JsonAdaptedRecurrence::new).orElse(null);
     }
 
     /**
@@ -75,9 +96,37 @@ class JsonAdaptedEvent {
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
     public Event toModelType() throws IllegalValueException {
-        final List<Tag> eventTags = new ArrayList<>();
+        return toModelType(new ValuePool());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object,
+     * sharing its field values with equal values already held by {@code valuePool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     */
+    public Event toModelType(ValuePool valuePool) throws IllegalValueException {
+        List<String> tagNames = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
-            eventTags.add(tag.toModelType());
+            tagNames.add(tag.getTagName());
+        }
+        return toModelType(id, name, date, startTime, endTime, location, tagNames, remark, recurrence, valuePool);
+    }
+
+    /**
+     * Converts the fields of an event read from storage into the model's {@code Event} object, sharing its field
+     * values with equal values already held by {@code valuePool}. {@code id} and {@code recurrence} may be null.
+     * The fields are checked in the same order whichever way they were read, so an event with several invalid fields
+     * is always reported by the same one.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the fields.
+     */
+    static Event toModelType(Long id, String name, String date, String startTime, String endTime, String location,
+            List<String> tagNames, String remark, JsonAdaptedRecurrence recurrence, ValuePool valuePool)
+            throws IllegalValueException {
+        final List<Tag> eventTags = new ArrayList<>();
+        for (String tagName : tagNames) {
+            eventTags.add(JsonAdaptedTag.toModelType(tagName, valuePool));
         }
 
         if (name == null) {
@@ -86,7 +135,7 @@ class JsonAdaptedEvent {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = valuePool.name(name);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
@@ -94,7 +143,7 @@ class JsonAdaptedEvent {
         if (!Date.isValidDate(date)) {
             throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
         }
-        final Date modelDate = new Date(date);
+        final Date modelDate = valuePool.date(date);
 
         if (startTime == null || endTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -103,7 +152,7 @@ class JsonAdaptedEvent {
         if (!TimeSlot.isValidTimeSlot(startTime, endTime)) {
             throw new IllegalValueException(TimeSlot.MESSAGE_CONSTRAINTS);
         }
-        final TimeSlot modelTimeSlot = new TimeSlot(startTime, endTime);
+        final TimeSlot modelTimeSlot = valuePool.timeSlot(startTime, endTime);
 
         if (location == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -112,7 +161,7 @@ class JsonAdaptedEvent {
         if (!Location.isValidLocation(location)) {
             throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
         }
-        final Location modelAddress = new Location(location);
+        final Location modelAddress = valuePool.location(location);
 
         final Set<Tag> modelTags = new HashSet<>(eventTags);
 
@@ -120,8 +169,16 @@ class JsonAdaptedEvent {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Remark.class.getSimpleName()));
         }
-        final Remark modelRemark = new Remark(remark);
-        return new Event(modelName, modelDate, modelTimeSlot, modelAddress, modelTags, modelRemark);
+        final Remark modelRemark = valuePool.remark(remark);
+
+        final Recurrence modelRecurrence = recurrence == null ? null : recurrence.toModelType(valuePool);
+        if (modelRecurrence != null && modelRecurrence.until.compareTo(modelDate) < 0) {
+            throw new IllegalValueException(Recurrence.MESSAGE_UNTIL_BEFORE_START);
+        }
+
+        final long modelId = id == null ? IdGenerator.next() : id;
+        return new Event(modelId, modelName, modelDate, modelTimeSlot, modelAddress, modelTags, modelRemark,
+                modelRecurrence);
     }
 
 }
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of {@link PartitionInfo}.
+ */
+class JsonAdaptedPartition {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Partition's %s field is missing!";
+    public static final String MESSAGE_INVALID_DATES = "Partition's month or last date is not a valid date";
+
+    private final String month;
+    private final String lastDate;
+    private final int events;
+    private final int blockedSlots;
+    private final List<String> words;
+
+    /**
+     * Constructs a {@code JsonAdaptedPartition} with the given partition details.
+     */
+    @JsonCreator
+    public JsonAdaptedPartition(@JsonProperty("month") String month, @JsonProperty("lastDate") String lastDate,
+                                @JsonProperty("events") int events, @JsonProperty("blockedSlots") int blockedSlots,
+                                @JsonProperty("words") List<String> words) {
+        this.month = month;
+        this.lastDate = lastDate;
+        this.events = events;
+        this.blockedSlots = blockedSlots;
+        this.words = words;
+    }
+
+    /**
+     * Converts a given {@code PartitionInfo} into this class for Jackson use.
+     */
+    public JsonAdaptedPartition(PartitionInfo source) {
+        month = source.month.toString();
+        lastDate = source.lastDate.toString();
+        events = source.eventCount;
+        blockedSlots = source.blockedSlotCount;
+        // sorted, so that the manifest is the same for the same partitions
+        words = source.words == null ? null : new ArrayList<>(new TreeSet<>(source.words));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted partition into a {@code PartitionInfo}.
+     *
+     * The words may be missing, as in manifests written before they were listed.
+     *
+     * @throws IllegalValueException if a field is missing or not a valid date.
+     */
+    public PartitionInfo toModelType() throws IllegalValueException {
+        if (month == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "month"));
+        }
+        if (lastDate == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "lastDate"));
+        }
+        try {
+            return new PartitionInfo(YearMonth.parse(month), LocalDate.parse(lastDate), events, blockedSlots,
+                    words == null ? null : new HashSet<>(words));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATES);
+        }
+    }
+}
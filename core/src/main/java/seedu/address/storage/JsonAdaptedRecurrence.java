@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.util.ValuePool;
+
+/**
+ * Jackson-friendly version of {@link Recurrence}.
+ */
+class JsonAdaptedRecurrence {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurrence's %s field is missing!";
+
+    private final String rule;
+    private final String until;
+    private final List<String> exceptions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurrence} with the given recurrence details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurrence(@JsonProperty("rule") String rule, @JsonProperty("until") String until,
+                                 @JsonProperty("exceptions") List<String> exceptions) {
+        this.rule = rule;
+        this.until = until;
+        if (exceptions != null) {
+            this.exceptions.addAll(exceptions);
+        }
+    }
+
+    /**
+     * Converts a given {@code Recurrence} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurrence(Recurrence source) {
+        rule = source.rule;
+        until = source.until.value;
+        exceptions.addAll(source.getExceptions().stream()
+                .sorted(Date::compareTo)
+                .map(date -> date.value)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurrence object into the model's {@code Recurrence} object,
+     * sharing its dates with equal dates already held by {@code valuePool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurrence.
+     */
+    public Recurrence toModelType(ValuePool valuePool) throws IllegalValueException {
+        return toModelType(rule, until, exceptions, valuePool);
+    }
+
+    /**
+     * Converts the fields of a recurrence read from storage into the model's {@code Recurrence} object, sharing its
+     * dates with equal dates already held by {@code valuePool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the fields.
+     */
+    static Recurrence toModelType(String rule, String until, List<String> exceptions, ValuePool valuePool)
+            throws IllegalValueException {
+        if (rule == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "rule"));
+        }
+        if (!Recurrence.isValidRule(rule)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+
+        if (until == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "until"));
+        }
+        if (!Date.isValidDate(until)) {
+            throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+        }
+
+        final Set<Date> modelExceptions = new HashSet<>();
+        for (String exception : exceptions) {
+            if (exception == null || !Date.isValidDate(exception)) {
+                throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+            }
+            modelExceptions.add(valuePool.date(exception));
+        }
+        return new Recurrence(valuePool.intern(rule), valuePool.date(until), modelExceptions);
+    }
+
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValuePool;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -39,10 +40,30 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
+        return toModelType(new ValuePool());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object,
+     * reusing an equal tag already held by {@code valuePool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     */
+    public Tag toModelType(ValuePool valuePool) throws IllegalValueException {
+        return toModelType(tagName, valuePool);
+    }
+
+    /**
+     * Converts a tag name read from storage into the model's {@code Tag} object, reusing an equal tag already held
+     * by {@code valuePool}.
+     *
+     * @throws IllegalValueException if {@code tagName} is missing or not a valid tag name.
+     */
+    static Tag toModelType(String tagName, ValuePool valuePool) throws IllegalValueException {
+        if (tagName == null || !Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return valuePool.tag(tagName);
     }
 
 }
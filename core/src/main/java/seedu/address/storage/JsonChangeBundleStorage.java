@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.sync.ChangeBundle;
+
+/**
+ * A class to access a bundle of changes to the schedule stored as a json file, which carries the changes from one
+ * copy of the schedule to another.
+ */
+public class JsonChangeBundleStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonChangeBundleStorage.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a storage for the bundle in {@code filePath}.
+     */
+    public JsonChangeBundleStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getChangeBundleFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the bundle in the file, or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ChangeBundle> readChangeBundle() throws DataConversionException {
+        Optional<JsonSerializableChangeBundle> jsonBundle = JsonUtil.readJsonFile(
+                filePath, JsonSerializableChangeBundle.class);
+        if (jsonBundle.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonBundle.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Saves {@code bundle} to the file, replacing any bundle already in it.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveChangeBundle(ChangeBundle bundle) throws IOException {
+        requireNonNull(bundle);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableChangeBundle(bundle), filePath);
+    }
+}
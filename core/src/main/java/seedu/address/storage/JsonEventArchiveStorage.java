@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.event.Event;
+
+/**
+ * A class to access the archive of long-past events, stored as a gzipped json file.
+ * <p>
+ * The archive is only ever read whole and rewritten whole, when more events are archived, so it is compressed to
+ * keep it small on disk. A new archive is written beside the old one and moved into place, so the old one is kept
+ * if the write fails.
+ */
+public class JsonEventArchiveStorage {
+
+    public static final String ARCHIVE_FILE_NAME = "archive.json.gz";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonEventArchiveStorage.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a storage for the archive in {@code filePath}.
+     */
+    public JsonEventArchiveStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the archive of the schedule in {@code scheduleFilePath}, which is beside it.
+     */
+    public static Path getArchiveFilePath(Path scheduleFilePath) {
+        return scheduleFilePath.resolveSibling(ARCHIVE_FILE_NAME);
+    }
+
+    public Path getArchiveFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the archived events, or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<List<Event>> readArchive() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Archive file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        JsonSerializableEventArchive jsonArchive;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(filePath))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            jsonArchive = JsonUtil.fromJsonString(json, JsonSerializableEventArchive.class);
+        } catch (IOException e) {
+            logger.warning("Error reading from archive file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        try {
+            return Optional.of(jsonArchive.toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Saves {@code events} as the archive, replacing the events already in it.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveArchive(List<Event> events) throws IOException {
+        requireNonNull(events);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        String json = JsonUtil.toJsonString(new JsonSerializableEventArchive(events));
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tempPath))) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
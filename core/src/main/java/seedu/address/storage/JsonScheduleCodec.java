@@ -0,0 +1,448 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValuePool;
+import seedu.address.storage.JsonSerializableSchedule.Conversion;
+
+/**
+ * Reads and writes schedule files token by token, straight between the JSON and the model's objects.
+ * <p>
+ * The files are the same as those of {@link JsonSerializableSchedule}, but no adapted objects are created for the
+ * records and no reflection is used: the fields of each record are read into a plain tuple, and each item is written
+ * straight from the model. Once the file has been read, the tuples are converted in chunks in parallel, through the
+ * same checks as the adapted classes, and checked for clashes like {@link JsonSerializableSchedule} does, so a file
+ * that cannot be read gives the same error either way.
+ */
+class JsonScheduleCodec {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonScheduleCodec.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private JsonScheduleCodec() {}
+
+    /**
+     * Reads the schedule file at {@code filePath}, sharing its values through {@code valuePool}.
+     * @return the file, or an empty {@code Optional} if there is no file at {@code filePath}.
+     * @throws DataConversionException if the file is not valid JSON of the expected structure.
+     * @throws IllegalValueException if any record in the file is invalid or clashes with another.
+     */
+    static Optional<ScheduleFile> readJsonFile(Path filePath, ValuePool valuePool)
+            throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = Files.newInputStream(filePath);
+             JsonParser parser = jsonFactory.createParser(in)) {
+            return Optional.of(read(parser, valuePool));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads a schedule file from {@code json}, sharing its values through {@code valuePool}.
+     *
+     * @throws IOException if {@code json} is not valid JSON of the expected structure.
+     * @throws IllegalValueException if any record in {@code json} is invalid or clashes with another.
+     */
+    static ScheduleFile fromJsonString(String json, ValuePool valuePool) throws IOException, IllegalValueException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            return read(parser, valuePool);
+        }
+    }
+
+    /**
+     * Writes {@code schedule} to {@code filePath} as the given version of the file, overwriting any file there.
+     */
+    static void saveJsonFile(ReadOnlySchedule schedule, long version, Path filePath) throws IOException {
+        requireNonNull(schedule);
+        requireNonNull(filePath);
+        try (OutputStream out = Files.newOutputStream(filePath);
+             JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            write(generator.useDefaultPrettyPrinter(), schedule, version);
+        }
+    }
+
+    /**
+     * Returns {@code schedule} written as the given version of a schedule file.
+     */
+    static String toJsonString(ReadOnlySchedule schedule, long version) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            write(generator.useDefaultPrettyPrinter(), schedule, version);
+        }
+        return writer.toString();
+    }
+
+    //// reading
+
+    private static ScheduleFile read(JsonParser parser, ValuePool valuePool)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        long version = 0;
+        List<EventFields> events = new ArrayList<>();
+        List<BlockedSlotFields> blockedSlots = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "version":
+                Long readVersion = readLong(parser);
+                version = readVersion == null ? 0 : readVersion;
+                break;
+            case "events":
+                readArray(parser, events, () -> readEvent(parser));
+                break;
+            case "blockedSlots":
+                readArray(parser, blockedSlots, () -> readBlockedSlot(parser));
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+        Conversion<EventFields, Event> convertedEvents =
+                Conversion.run(events, fields -> fields.toModelType(valuePool));
+        Conversion<BlockedSlotFields, BlockedSlot> convertedBlockedSlots =
+                Conversion.run(blockedSlots, fields -> fields.toModelType(valuePool));
+        Schedule schedule = JsonSerializableSchedule.toSchedule(convertedEvents.getValidPrefix(),
+                convertedEvents.getFirstError(), convertedBlockedSlots.getValidPrefix(),
+                convertedBlockedSlots.getFirstError());
+        return new ScheduleFile(version, schedule);
+    }
+
+    /**
+     * Reads the records of the array at the current token into {@code records} with {@code reader}, replacing any
+     * records read into it before.
+     */
+    private static <T> void readArray(JsonParser parser, List<T> records, RecordReader<T> reader)
+            throws IOException {
+        records.clear();
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+            records.add(reader.read());
+        }
+    }
+
+    private static EventFields readEvent(JsonParser parser) throws IOException {
+        EventFields fields = new EventFields();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "id":
+                fields.id = readLong(parser);
+                break;
+            case "name":
+                fields.name = readString(parser);
+                break;
+            case "date":
+                fields.date = readString(parser);
+                break;
+            case "startTime":
+                fields.startTime = readString(parser);
+                break;
+            case "endTime":
+                fields.endTime = readString(parser);
+                break;
+            case "location":
+                fields.location = readString(parser);
+                break;
+            case "tagged":
+                fields.tagNames = readStrings(parser);
+                break;
+            case "remark":
+                fields.remark = readString(parser);
+                break;
+            case "recurrence":
+                fields.recurrence = readRecurrence(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return fields;
+    }
+
+    private static BlockedSlotFields readBlockedSlot(JsonParser parser) throws IOException {
+        BlockedSlotFields fields = new BlockedSlotFields();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "id":
+                fields.id = readLong(parser);
+                break;
+            case "date":
+                fields.date = readString(parser);
+                break;
+            case "startTime":
+                fields.startTime = readString(parser);
+                break;
+            case "endTime":
+                fields.endTime = readString(parser);
+                break;
+            case "recurrence":
+                fields.recurrence = readRecurrence(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Reads the recurrence at the current token, which is only converted together with the rest of its item.
+     */
+    private static JsonAdaptedRecurrence readRecurrence(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String rule = null;
+        String until = null;
+        List<String> exceptions = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "rule":
+                rule = readString(parser);
+                break;
+            case "until":
+                until = readString(parser);
+                break;
+            case "exceptions":
+                exceptions = readStrings(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedRecurrence(rule, until, exceptions);
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a string but found " + token);
+        }
+        return parser.getText();
+    }
+
+    private static Long readLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        try {
+            return Long.parseLong(readString(parser).trim());
+        } catch (NumberFormatException e) {
+            throw new JsonParseException(parser, "Expected a whole number but found " + parser.getText());
+        }
+    }
+
+    /**
+     * Reads the array of strings at the current token, taking null to be an empty array.
+     */
+    private static List<String> readStrings(JsonParser parser) throws IOException {
+        List<String> strings = new ArrayList<>();
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return strings;
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            strings.add(readString(parser));
+        }
+        return strings;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    //// writing
+
+    private static void write(JsonGenerator generator, ReadOnlySchedule schedule, long version) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("version", version);
+        generator.writeArrayFieldStart("events");
+        for (Event event : schedule.getEventList()) {
+            writeEvent(generator, event);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("blockedSlots");
+        for (BlockedSlot blockedSlot : schedule.getBlockedSlotList()) {
+            writeBlockedSlot(generator, blockedSlot);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code event} with its fields in the same order as {@link JsonAdaptedEvent}.
+     */
+    private static void writeEvent(JsonGenerator generator, Event event) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", event.getId());
+        generator.writeStringField("name", event.getName().fullName);
+        generator.writeStringField("date", event.getDate().value);
+        generator.writeStringField("startTime", event.getTimeSlot().startTimeToString());
+        generator.writeStringField("endTime", event.getTimeSlot().endTimeToString());
+        generator.writeStringField("location", event.getLocation().value);
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : event.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("remark", event.getRemark().value);
+        writeRecurrence(generator, event.getRecurrence());
+        generator.writeEndObject();
+    }
+
+    private static void writeBlockedSlot(JsonGenerator generator, BlockedSlot blockedSlot) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", blockedSlot.getId());
+        generator.writeStringField("date", blockedSlot.getDate().value);
+        generator.writeStringField("startTime", blockedSlot.getTimeSlot().startTimeToString());
+        generator.writeStringField("endTime", blockedSlot.getTimeSlot().endTimeToString());
+        writeRecurrence(generator, blockedSlot.getRecurrence());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code recurrence} with its exceptions in chronological order, like {@link JsonAdaptedRecurrence}.
+     */
+    private static void writeRecurrence(JsonGenerator generator, Optional<Recurrence> recurrence)
+            throws IOException {
+        if (recurrence.isEmpty()) {
+            generator.writeNullField("recurrence");
+            return;
+        }
+        generator.writeObjectFieldStart("recurrence");
+        generator.writeStringField("rule", recurrence.get().rule);
+        generator.writeStringField("until", recurrence.get().until.value);
+        generator.writeArrayFieldStart("exceptions");
+        List<Date> exceptions = new ArrayList<>(recurrence.get().getExceptions());
+        exceptions.sort(Date::compareTo);
+        for (Date exception : exceptions) {
+            generator.writeString(exception.value);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the fields of one record, whose object has just been started.
+     */
+    @FunctionalInterface
+    private interface RecordReader<T> {
+        T read() throws IOException;
+    }
+
+    /**
+     * The fields of an event record as read from the file, before they are checked.
+     */
+    private static class EventFields {
+        private Long id;
+        private String name;
+        private String date;
+        private String startTime;
+        private String endTime;
+        private String location;
+        private List<String> tagNames = new ArrayList<>();
+        private String remark;
+        private JsonAdaptedRecurrence recurrence;
+
+        private Event toModelType(ValuePool valuePool) throws IllegalValueException {
+            return JsonAdaptedEvent.toModelType(id, name, date, startTime, endTime, location, tagNames, remark,
+                    recurrence, valuePool);
+        }
+    }
+
+    /**
+     * The fields of a blocked slot record as read from the file, before they are checked.
+     */
+    private static class BlockedSlotFields {
+        private Long id;
+        private String date;
+        private String startTime;
+        private String endTime;
+        private JsonAdaptedRecurrence recurrence;
+
+        private BlockedSlot toModelType(ValuePool valuePool) throws IllegalValueException {
+            return JsonAdaptedBlockedSlot.toModelType(id, date, startTime, endTime, recurrence, valuePool);
+        }
+    }
+
+    /**
+     * The contents of a schedule file.
+     */
+    static class ScheduleFile {
+        private final long version;
+        private final Schedule schedule;
+
+        ScheduleFile(long version, Schedule schedule) {
+            this.version = version;
+            this.schedule = schedule;
+        }
+
+        /**
+         * Returns the number of times the file has been saved, which is 0 for files saved before they had versions.
+         */
+        long getVersion() {
+            return version;
+        }
+
+        Schedule getSchedule() {
+            return schedule;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.ValuePool;
+
+/**
+ * A class to access Schedule data stored as a json file on the hard disk.
+ * <p>
+ * The default file can be shared by several instances of the application. Each save of it increases the version
+ * stored in the file. A save is only written if the file is still at the version that this storage last read or
+ * wrote; otherwise the changes made by the other instance are merged in first. The version is checked and the new
+ * file is moved into place while holding a lock on a file beside it, but the new file is written beforehand, so the
+ * lock is only held for a few milliseconds.
+ */
+public class JsonScheduleStorage implements ScheduleStorage {
+
+    /** Number of times a save is merged with newer versions written by other instances before it gives up. */
+    public static final int MAX_MERGE_ATTEMPTS = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonScheduleStorage.class);
+    private static final Pattern VERSION_FORMAT = Pattern.compile("\"version\"\\s*:\\s*(\\d+)");
+    private static final int VERSION_HEADER_LENGTH = 256;
+    /** A {@code FileLock} is held for the whole process, so storages in one process must not ask for it at once. */
+    private static final Object PROCESS_LOCK = new Object();
+
+    private Path filePath;
+    private final ValuePool valuePool = new ValuePool();
+    /** Version of the default file when it was last read or written by this storage. */
+    private long version;
+    private List<Event> baseEvents = Collections.emptyList();
+    private List<BlockedSlot> baseBlockedSlots = Collections.emptyList();
+
+    public JsonScheduleStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getScheduleFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public ValuePool getValuePool() {
+        return valuePool;
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule() throws DataConversionException {
+        return readSchedule(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSchedule()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<JsonScheduleCodec.ScheduleFile> scheduleFile = JsonScheduleCodec.readJsonFile(filePath, valuePool);
+            if (scheduleFile.isEmpty()) {
+                return Optional.empty();
+            }
+            ReadOnlySchedule schedule = scheduleFile.get().getSchedule();
+            logger.info(valuePool.getReport());
+            if (filePath.equals(this.filePath)) {
+                setBase(schedule, scheduleFile.get().getVersion());
+            }
+            return Optional.of(schedule);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule) throws IOException {
+        saveSchedule(schedule, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSchedule(ReadOnlySchedule)}.
+     * Saves to the default file merge in the changes made to it by other instances since it was last read or written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+        requireNonNull(schedule);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        if (!filePath.equals(this.filePath)) {
+            JsonScheduleCodec.saveJsonFile(schedule, 0, filePath);
+            return;
+        }
+
+        ReadOnlySchedule toSave = schedule;
+        long baseVersion = version;
+        for (int attempt = 0; !tryWrite(toSave, baseVersion); attempt++) {
+            if (attempt == MAX_MERGE_ATTEMPTS) {
+                throw new IOException("The schedule file keeps being changed by another instance");
+            }
+            JsonScheduleCodec.ScheduleFile theirs = readTheirs();
+            toSave = ScheduleMerger.merge(baseEvents, baseBlockedSlots, schedule, theirs.getSchedule());
+            baseVersion = theirs.getVersion();
+            logger.info("Merged the changes made by another instance up to version " + baseVersion);
+        }
+        setBase(toSave, baseVersion + 1);
+    }
+
+    /**
+     * Writes {@code schedule} as the version after {@code baseVersion}, if the file is still at {@code baseVersion}.
+     * @return true if the schedule was written.
+     */
+    private boolean tryWrite(ReadOnlySchedule schedule, long baseVersion) throws IOException {
+        Path tempFile = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName().toString(), ".tmp");
+        try {
+            JsonScheduleCodec.saveJsonFile(schedule, baseVersion + 1, tempFile);
+            synchronized (PROCESS_LOCK) {
+                try (FileChannel lockChannel = FileChannel.open(getLockFilePath(), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE)) {
+                    FileLock lock = lockChannel.lock();
+                    try {
+                        if (readVersion() != baseVersion) {
+                            return false;
+                        }
+                        Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING,
+                                StandardCopyOption.ATOMIC_MOVE);
+                        return true;
+                    } finally {
+                        lock.release();
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the version of the default file, from its start if the version is written there, or 0 if the file
+     * does not exist or has no version.
+     */
+    private long readVersion() throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+        byte[] header = new byte[VERSION_HEADER_LENGTH];
+        int length;
+        try (InputStream in = Files.newInputStream(filePath)) {
+            length = in.readNBytes(header, 0, header.length);
+        }
+        Matcher matcher = VERSION_FORMAT.matcher(new String(header, 0, length, StandardCharsets.UTF_8));
+        if (matcher.find()) {
+            return Long.parseLong(matcher.group(1));
+        }
+        // not written by this storage, so the whole file is read
+        Matcher wholeFileMatcher = VERSION_FORMAT.matcher(FileUtil.readFromFile(filePath));
+        return wholeFileMatcher.find() ? Long.parseLong(wholeFileMatcher.group(1)) : 0;
+    }
+
+    /**
+     * Reads the default file as saved by another instance.
+     */
+    private JsonScheduleCodec.ScheduleFile readTheirs() throws IOException {
+        try {
+            return JsonScheduleCodec.readJsonFile(filePath, valuePool)
+                    .orElseGet(() -> new JsonScheduleCodec.ScheduleFile(0, new Schedule()));
+        } catch (DataConversionException | IllegalValueException e) {
+            throw new IOException("The schedule file was changed by another instance, but could not be read", e);
+        }
+    }
+
+    /**
+     * Remembers {@code schedule} as the contents of the default file at {@code version}, which later saves are
+     * merged against.
+     */
+    private void setBase(ReadOnlySchedule schedule, long version) {
+        this.version = version;
+        baseEvents = List.copyOf(schedule.getEventList());
+        baseBlockedSlots = List.copyOf(schedule.getBlockedSlotList());
+    }
+
+    private Path getLockFilePath() {
+        return filePath.resolveSibling(filePath.getFileName() + ".lock");
+    }
+
+}
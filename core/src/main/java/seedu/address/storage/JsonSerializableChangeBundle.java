@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.sync.Change;
+import seedu.address.model.sync.ChangeBundle;
+
+/**
+ * An Immutable ChangeBundle that is serializable to JSON format.
+ */
+class JsonSerializableChangeBundle {
+
+    public static final String MISSING_REPLICA_MESSAGE = "Change bundle's replicaId field is missing!";
+
+    private final String replicaId;
+    private final long lastSeq;
+    private final List<JsonAdaptedChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableChangeBundle} with the given bundle details.
+     */
+    @JsonCreator
+    public JsonSerializableChangeBundle(@JsonProperty("replicaId") String replicaId,
+            @JsonProperty("lastSeq") long lastSeq, @JsonProperty("changes") List<JsonAdaptedChange> changes) {
+        this.replicaId = replicaId;
+        this.lastSeq = lastSeq;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts a given {@code ChangeBundle} into this class for Jackson use.
+     */
+    public JsonSerializableChangeBundle(ChangeBundle source) {
+        replicaId = source.getReplicaId();
+        lastSeq = source.getLastSeq();
+        source.getChanges().forEach(change -> changes.add(new JsonAdaptedChange(change)));
+    }
+
+    /**
+     * Converts this bundle into the model's {@code ChangeBundle} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ChangeBundle toModelType() throws IllegalValueException {
+        if (replicaId == null) {
+            throw new IllegalValueException(MISSING_REPLICA_MESSAGE);
+        }
+        List<Change> modelChanges = new ArrayList<>();
+        for (JsonAdaptedChange change : changes) {
+            modelChanges.add(change.toModelType());
+        }
+        return new ChangeBundle(replicaId, lastSeq, modelChanges);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.ValuePool;
+
+/**
+ * An Immutable archive of events that is serializable to JSON format.
+ */
+class JsonSerializableEventArchive {
+
+    private final List<JsonAdaptedEvent> events = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableEventArchive} with the given events.
+     */
+    @JsonCreator
+    public JsonSerializableEventArchive(@JsonProperty("events") List<JsonAdaptedEvent> events) {
+        if (events != null) {
+            this.events.addAll(events);
+        }
+    }
+
+    /**
+     * Converts the given archived events into this class for Jackson use.
+     */
+    public JsonSerializableEventArchive(Iterable<Event> source) {
+        source.forEach(event -> events.add(new JsonAdaptedEvent(event)));
+    }
+
+    /**
+     * Converts this archive into a list of the model's {@code Event} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Event> toModelType() throws IllegalValueException {
+        ValuePool valuePool = new ValuePool();
+        List<Event> modelEvents = new ArrayList<>(events.size());
+        for (JsonAdaptedEvent event : events) {
+            modelEvents.add(event.toModelType(valuePool));
+        }
+        return modelEvents;
+    }
+}
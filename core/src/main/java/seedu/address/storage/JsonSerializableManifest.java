@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of a {@code PartitionedScheduleStorage}, listing its partitions, that is serializable to JSON format.
+ */
+class JsonSerializableManifest {
+
+    private final List<JsonAdaptedPartition> partitions = new ArrayList<>();
+    private final boolean isManifest;
+
+    /**
+     * Constructs a {@code JsonSerializableManifest} with the given partitions.
+     */
+    @JsonCreator
+    public JsonSerializableManifest(@JsonProperty("partitions") List<JsonAdaptedPartition> partitions) {
+        isManifest = partitions != null;
+        if (isManifest) {
+            this.partitions.addAll(partitions);
+        }
+    }
+
+    /**
+     * Converts the given partitions into this class for Jackson use.
+     */
+    public JsonSerializableManifest(Collection<PartitionInfo> source) {
+        source.forEach(partition -> partitions.add(new JsonAdaptedPartition(partition)));
+        isManifest = true;
+    }
+
+    /**
+     * Returns false if the file read has no list of partitions, as is the case for a schedule saved in one file.
+     */
+    @JsonIgnore
+    public boolean isManifest() {
+        return isManifest;
+    }
+
+    /**
+     * Returns the partitions listed in this manifest.
+     *
+     * @throws IllegalValueException if any of them is not valid.
+     */
+    public List<PartitionInfo> toModelType() throws IllegalValueException {
+        List<PartitionInfo> partitionInfos = new ArrayList<>();
+        for (JsonAdaptedPartition partition : partitions) {
+            partitionInfos.add(partition.toModelType());
+        }
+        return partitionInfos;
+    }
+}
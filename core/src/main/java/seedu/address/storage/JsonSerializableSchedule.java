@@ -0,0 +1,283 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.ValuePool;
+
+/**
+ * An Immutable Schedule that is serializable to JSON format.
+ * The version is written first, so that it can be found without reading the rest of the file.
+ * <p>
+ * The records are validated and converted in chunks on the common fork-join pool, and are then checked for clashes
+ * and added to the schedule in chronological order. If any record is invalid or clashes, the records are gone
+ * through again in the order of the file, so that the error reported is the one that comes first in the file.
+ * {@code JsonScheduleCodec} reads and writes schedule files without this class, but converts the records it reads in
+ * the same chunks through {@link Conversion}, and checks them in the same way through
+ * {@link #toSchedule(List, IllegalValueException, List, IllegalValueException)}.
+ */
+@JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"version", "events", "blockedSlots"})
+class JsonSerializableSchedule {
+
+    /** The records are converted in chunks of at most this many, each on one thread. */
+    static final int CHUNK_SIZE = 512;
+
+    private final long version;
+    private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    private final List<JsonAdaptedBlockedSlot> blockedSlots = new ArrayList<>();
+
+
+    /**
+     * Constructs a {@code JsonSerializableSchedule} with the given version and events.
+     * {@code version} may be null for schedules saved before they had versions, and is then taken to be 0.
+     */
+    @JsonCreator
+    public JsonSerializableSchedule(@JsonProperty("version") Long version,
+                                    @JsonProperty("events") List<JsonAdaptedEvent> events,
+                                    @JsonProperty("blockedSlots") List<JsonAdaptedBlockedSlot> blockedSlots) {
+        this.version = version == null ? 0 : version;
+        this.events.addAll(events);
+        this.blockedSlots.addAll(blockedSlots);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlySchedule} into this class for Jackson use, with version 0.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableSchedule}.
+     */
+    public JsonSerializableSchedule(ReadOnlySchedule source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlySchedule} into this class for Jackson use, as the given version of the file.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableSchedule}.
+     */
+    public JsonSerializableSchedule(ReadOnlySchedule source, long version) {
+        this.version = version;
+        events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        blockedSlots.addAll(source.getBlockedSlotList().stream()
+                .map(JsonAdaptedBlockedSlot::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the number of times the file has been saved, which increases with every save.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Converts this schedule into the model's {@code Schedule} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Schedule toModelType() throws IllegalValueException {
+        return toModelType(new ValuePool());
+    }
+
+    /**
+     * Converts this schedule into the model's {@code Schedule} object, canonicalizing its values
+     * through {@code valuePool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Schedule toModelType(ValuePool valuePool) throws IllegalValueException {
+        Conversion<JsonAdaptedEvent, Event> convertedEvents =
+                Conversion.run(events, event -> event.toModelType(valuePool));
+        Conversion<JsonAdaptedBlockedSlot, BlockedSlot> convertedBlockedSlots =
+                Conversion.run(blockedSlots, blockedSlot -> blockedSlot.toModelType(valuePool));
+        return toSchedule(convertedEvents.getValidPrefix(), convertedEvents.getFirstError(),
+                convertedBlockedSlots.getValidPrefix(), convertedBlockedSlots.getFirstError());
+    }
+
+    /**
+     * Returns a schedule of the events and blocked slots converted from the records of a file, checking them for
+     * clashes. The lists hold the records in the order of the file, up to the first one that could not be converted,
+     * whose error is given; the errors are null if every record was converted.
+     *
+     * @throws IllegalValueException the error of the first record in the file that could not be converted or that
+     *     clashes with a record before it.
+     */
+    static Schedule toSchedule(List<Event> events, IllegalValueException eventError, List<BlockedSlot> blockedSlots,
+            IllegalValueException blockedSlotError) throws IllegalValueException {
+        if (eventError != null) {
+            toSchedule(events, List.of());
+            throw eventError;
+        }
+        Schedule schedule = toSchedule(events, blockedSlots);
+        if (blockedSlotError != null) {
+            throw blockedSlotError;
+        }
+        return schedule;
+    }
+
+    /**
+     * Adds {@code events} and {@code blockedSlots} to a new schedule in chronological order. If any of them clash,
+     * they are gone through again in the order of the file, to find the first record that clashes with one before it.
+     */
+    private static Schedule toSchedule(List<Event> events, List<BlockedSlot> blockedSlots)
+            throws IllegalValueException {
+        Schedule schedule = new Schedule();
+        if (addInChronologicalOrder(schedule, events, blockedSlots)) {
+            return schedule;
+        }
+        addInFileOrder(new Schedule(), events, blockedSlots);
+        throw new AssertionError("The records were found to clash, but none of them does");
+    }
+
+    /**
+     * Adds {@code events} and {@code blockedSlots} to {@code schedule} in chronological order.
+     * @return false if any of them clash, in which case {@code schedule} holds only some of them.
+     */
+    private static boolean addInChronologicalOrder(Schedule schedule, List<Event> events,
+            List<BlockedSlot> blockedSlots) {
+        List<Event> sortedEvents = new ArrayList<>(events);
+        sortedEvents.sort(Event::compareTo);
+        for (Event event : sortedEvents) {
+            if (schedule.isBlockedByEvent(event)) {
+                return false;
+            }
+            schedule.addEvent(event);
+        }
+
+        List<BlockedSlot> sortedBlockedSlots = new ArrayList<>(blockedSlots);
+        sortedBlockedSlots.sort(BlockedSlot::compareTo);
+        for (BlockedSlot blockedSlot : sortedBlockedSlots) {
+            if (schedule.isBlockedByBlockedSlot(blockedSlot) || schedule.isBlockedByEvent(blockedSlot)) {
+                return false;
+            }
+            schedule.addBlockedSlot(blockedSlot);
+        }
+        return true;
+    }
+
+    /**
+     * Adds {@code events} and {@code blockedSlots} to {@code schedule} in the order of the file.
+     *
+     * @throws IllegalValueException if one of them clashes with one before it.
+     */
+    private static void addInFileOrder(Schedule schedule, List<Event> events, List<BlockedSlot> blockedSlots)
+            throws IllegalValueException {
+        for (Event event : events) {
+            if (schedule.isBlockedByEvent(event)) {
+                throw new IllegalValueException(JsonAdaptedEvent.SLOT_BLOCKED);
+            }
+            schedule.addEvent(event);
+        }
+        for (BlockedSlot blockedSlot : blockedSlots) {
+            if (schedule.isBlockedByBlockedSlot(blockedSlot)) {
+                throw new IllegalValueException(JsonAdaptedBlockedSlot.SLOT_BLOCKED);
+            } else if (schedule.isBlockedByEvent(blockedSlot)) {
+                throw new IllegalValueException(JsonAdaptedEvent.SLOT_BLOCKED);
+            }
+            schedule.addBlockedSlot(blockedSlot);
+        }
+    }
+
+    /**
+     * Converts an adapted record into the model's object.
+     */
+    @FunctionalInterface
+    interface Converter<A, T> {
+        T convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Converts a list of adapted records, splitting it into chunks that are converted in parallel.
+     * Each record ends up either converted or with the error that stopped it from being converted.
+     */
+    static class Conversion<A, T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<A> adapted;
+        private final Converter<A, T> converter;
+        private final List<T> results;
+        private final List<IllegalValueException> errors;
+        private final int from;
+        private final int to;
+
+        private Conversion(List<A> adapted, Converter<A, T> converter, List<T> results,
+                List<IllegalValueException> errors, int from, int to) {
+            this.adapted = adapted;
+            this.converter = converter;
+            this.results = results;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Converts every record of {@code adapted} with {@code converter}, and returns the outcome.
+         * Lists of no more than one chunk are converted on the calling thread.
+         */
+        static <A, T> Conversion<A, T> run(List<A> adapted, Converter<A, T> converter) {
+            int size = adapted.size();
+            Conversion<A, T> conversion = new Conversion<>(adapted, converter,
+                    new ArrayList<>(Collections.nCopies(size, null)),
+                    new ArrayList<>(Collections.nCopies(size, null)), 0, size);
+            if (size <= CHUNK_SIZE) {
+                conversion.compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(conversion);
+            }
+            return conversion;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Conversion<>(adapted, converter, results, errors, from, middle),
+                        new Conversion<>(adapted, converter, results, errors, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                try {
+                    results.set(i, converter.convert(adapted.get(i)));
+                } catch (IllegalValueException e) {
+                    errors.set(i, e);
+                }
+            }
+        }
+
+        /**
+         * Returns the converted records before the first one that could not be converted.
+         */
+        List<T> getValidPrefix() {
+            return results.subList(0, getFirstInvalidIndex());
+        }
+
+        /**
+         * Returns the error of the first record that could not be converted, or null if every record was converted.
+         */
+        IllegalValueException getFirstError() {
+            int firstInvalid = getFirstInvalidIndex();
+            return firstInvalid == errors.size() ? null : errors.get(firstInvalid);
+        }
+
+        private int getFirstInvalidIndex() {
+            int index = 0;
+            while (index < errors.size() && errors.get(index) == null) {
+                index++;
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.WordSearch;
+import seedu.address.model.event.Event;
+
+/**
+ * The entry of one month's partition in the manifest of a {@code PartitionedScheduleStorage}.
+ */
+class PartitionInfo {
+
+    /** The month of the events and blocked slots in the partition, by their first dates. */
+    public final YearMonth month;
+    /** The last date on which anything in the partition takes place, counting the occurrences of recurring ones. */
+    public final LocalDate lastDate;
+    public final int eventCount;
+    public final int blockedSlotCount;
+    /**
+     * The words in the names and tags of the events in the partition, in lower case, or null if they are not known,
+     * as in manifests written before they were listed.
+     */
+    public final Set<String> words;
+
+    /**
+     * Every field must be present and not null, except {@code words}.
+     */
+    PartitionInfo(YearMonth month, LocalDate lastDate, int eventCount, int blockedSlotCount, Set<String> words) {
+        requireAllNonNull(month, lastDate);
+        this.month = month;
+        this.lastDate = lastDate;
+        this.eventCount = eventCount;
+        this.blockedSlotCount = blockedSlotCount;
+        this.words = words == null ? null : Set.copyOf(words);
+    }
+
+    /**
+     * Returns true if anything in the partition may take place between {@code from} and {@code to} inclusive.
+     * A null bound leaves that end of the range open.
+     */
+    boolean overlaps(LocalDate from, LocalDate to) {
+        return (to == null || !month.atDay(1).isAfter(to)) && (from == null || !lastDate.isBefore(from));
+    }
+
+    /**
+     * Returns true if the partition may hold an event that is {@code isWanted}, going by the words of its events if
+     * {@code isWanted} is a {@code WordSearch}.
+     */
+    boolean mayHoldEventMatching(Predicate<? super Event> isWanted) {
+        return eventCount > 0 && (words == null || !(isWanted instanceof WordSearch)
+                || ((WordSearch) isWanted).mayMatchWords(words));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof PartitionInfo
+                && month.equals(((PartitionInfo) other).month)
+                && lastDate.equals(((PartitionInfo) other).lastDate)
+                && eventCount == ((PartitionInfo) other).eventCount
+                && blockedSlotCount == ((PartitionInfo) other).blockedSlotCount
+                && Objects.equals(words, ((PartitionInfo) other).words));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(month, lastDate, eventCount, blockedSlotCount, words);
+    }
+
+    @Override
+    public String toString() {
+        return month + " (" + eventCount + " events, " + blockedSlotCount + " blocked slots, until " + lastDate + ")";
+    }
+}
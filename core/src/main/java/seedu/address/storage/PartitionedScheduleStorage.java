@@ -0,0 +1,555 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.ScheduleLoader;
+import seedu.address.model.WordSearch;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.util.ValuePool;
+
+/**
+ * A class to access Schedule data stored as one json file per month on the hard disk, so that a schedule that spans
+ * many years is neither read nor written in full.
+ * <p>
+ * Each event and blocked slot is kept in the partition of the month of its first date, in a directory named after
+ * the manifest file, e.g. {@code data/schedule/2020-01.json} beside {@code data/schedule.json}. The manifest lists the
+ * partitions, each with the last date on which anything in it takes place. Reading the schedule only reads the
+ * partitions within {@code activeMonths} months of today, together with those of recurring events that reach into
+ * them; the rest are read when the model asks for them, as a {@code ScheduleLoader}. A save writes only the
+ * partitions whose events or blocked slots changed since they were read or written, and then the manifest.
+ * Partitions that were never read, or that the model has unloaded since they were saved, are left as they are, so a
+ * save never loses what is only on disk.
+ * A schedule saved in one file where the manifest should be is read whole, and split into partitions by the next save.
+ * Unlike {@code JsonScheduleStorage}, the partitions are not merged with changes made by other instances.
+ */
+public class PartitionedScheduleStorage implements ScheduleStorage, ScheduleLoader {
+
+    public static final int DEFAULT_ACTIVE_MONTHS = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedScheduleStorage.class);
+    private static final String PARTITION_FILE_EXTENSION = ".json";
+
+    private final Path manifestFilePath;
+    private final Path partitionDirectory;
+    private final Clock clock;
+    private final int activeMonths;
+    private final ValuePool valuePool = new ValuePool();
+    /** The partitions listed in the manifest. */
+    private final TreeMap<YearMonth, PartitionInfo> partitions = new TreeMap<>();
+    /** The contents of the partitions that have been read, as last read or written. */
+    private final Map<YearMonth, Partition> loaded = new HashMap<>();
+
+    /**
+     * Creates a storage with the manifest at {@code manifestFilePath} that reads the partitions within
+     * {@code DEFAULT_ACTIVE_MONTHS} months of today up front.
+     */
+    public PartitionedScheduleStorage(Path manifestFilePath) {
+        this(manifestFilePath, Clock.systemDefaultZone(), DEFAULT_ACTIVE_MONTHS);
+    }
+
+    /**
+     * Creates a storage with the manifest at {@code manifestFilePath} that reads the partitions within
+     * {@code activeMonths} months of today by {@code clock} up front.
+     */
+    public PartitionedScheduleStorage(Path manifestFilePath, Clock clock, int activeMonths) {
+        requireNonNull(manifestFilePath);
+        requireNonNull(clock);
+        this.manifestFilePath = manifestFilePath;
+        String fileName = manifestFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        this.partitionDirectory = manifestFilePath.resolveSibling(
+                extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName + ".partitions");
+        this.clock = clock;
+        this.activeMonths = activeMonths;
+    }
+
+    @Override
+    public Path getScheduleFilePath() {
+        return manifestFilePath;
+    }
+
+    public Path getPartitionDirectory() {
+        return partitionDirectory;
+    }
+
+    @Override
+    public ValuePool getValuePool() {
+        return valuePool;
+    }
+
+    /**
+     * Returns the events and blocked slots that may take place within the active months, after reading the
+     * manifest afresh.
+     */
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule() throws DataConversionException, IOException {
+        if (!Files.exists(manifestFilePath)) {
+            return Optional.empty();
+        }
+        if (!readManifest()) {
+            logger.info(manifestFilePath + " holds a whole schedule, which will be split into partitions when saved");
+            return new JsonScheduleStorage(manifestFilePath).readSchedule(manifestFilePath);
+        }
+        YearMonth thisMonth = YearMonth.now(clock);
+        return Optional.of(readPartitions(thisMonth.minusMonths(activeMonths).atDay(1),
+                thisMonth.plusMonths(activeMonths).atEndOfMonth()));
+    }
+
+    /**
+     * Reads the schedule from the manifest if {@code filePath} is its path, or from the single json file at
+     * {@code filePath} otherwise.
+     */
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(manifestFilePath)) {
+            return readSchedule();
+        }
+        return new JsonScheduleStorage(filePath).readSchedule(filePath);
+    }
+
+    /**
+     * Returns the events and blocked slots of the partitions that have not been read yet, and in which something
+     * takes place between {@code from} and {@code to} inclusive. A null bound leaves that end of the range open.
+     */
+    public ReadOnlySchedule readPartitions(LocalDate from, LocalDate to) throws DataConversionException, IOException {
+        return readPartitionsWhere(info -> info.overlaps(from, to));
+    }
+
+    /**
+     * Returns the events and blocked slots of the partitions that have not been read yet, and that hold events and
+     * begin before {@code date}. These are all the partitions that may hold an event that was over before
+     * {@code date}: the last date of a partition is not enough, as a long recurring event or blocked slot may keep it
+     * going long after its other events are over.
+     */
+    public ReadOnlySchedule readPartitionsWithEventsBefore(LocalDate date) throws DataConversionException {
+        requireNonNull(date);
+        return readPartitionsWhere(info -> info.eventCount > 0 && info.month.atDay(1).isBefore(date));
+    }
+
+    /**
+     * Returns the events and blocked slots of the partitions that have not been read yet and that are
+     * {@code isWanted}.
+     */
+    private ReadOnlySchedule readPartitionsWhere(Predicate<PartitionInfo> isWanted) throws DataConversionException {
+        Map<YearMonth, Partition> read = new HashMap<>();
+        for (PartitionInfo info : partitions.values()) {
+            if (!loaded.containsKey(info.month) && isWanted.test(info)) {
+                read.put(info.month, readPartition(info.month));
+            }
+        }
+        return markLoaded(read);
+    }
+
+    /**
+     * Returns the events and blocked slots of the partitions that have not been read yet, and that hold an event
+     * that is {@code isWanted}. If {@code isWanted} is a {@code WordSearch}, the partitions whose events lack the
+     * words it needs are skipped by the words listed in the manifest. The other partitions that have not been read
+     * yet are read one at a time to be searched, and are not kept.
+     */
+    public ReadOnlySchedule readPartitionsWithEventsMatching(Predicate<? super Event> isWanted)
+            throws DataConversionException {
+        requireNonNull(isWanted);
+        Predicate<Partition> hasMatch = partition -> partition.events.stream().anyMatch(isWanted);
+        return readPartitionsHolding(info -> info.mayHoldEventMatching(isWanted), hasMatch);
+    }
+
+    /**
+     * Returns the events and blocked slots of the partitions that have not been read yet, and that hold a blocked
+     * slot that is {@code isWanted}. The other partitions that have not been read yet and hold blocked slots are
+     * read one at a time to be searched, and are not kept.
+     */
+    public ReadOnlySchedule readPartitionsWithBlockedSlotsMatching(Predicate<? super BlockedSlot> isWanted)
+            throws DataConversionException {
+        requireNonNull(isWanted);
+        Predicate<Partition> hasMatch = partition -> partition.blockedSlots.stream().anyMatch(isWanted);
+        return readPartitionsHolding(info -> info.blockedSlotCount > 0, hasMatch);
+    }
+
+    /**
+     * Returns the events and blocked slots of the partitions that have not been read yet, that are
+     * {@code isCandidate} going by the manifest, and that turn out to be {@code isWanted} once read.
+     */
+    private ReadOnlySchedule readPartitionsHolding(Predicate<PartitionInfo> isCandidate,
+            Predicate<Partition> isWanted) throws DataConversionException {
+        Map<YearMonth, Partition> read = new HashMap<>();
+        int searchedCount = 0;
+        for (PartitionInfo info : partitions.values()) {
+            if (loaded.containsKey(info.month) || !isCandidate.test(info)) {
+                continue;
+            }
+            Partition partition = readPartition(info.month);
+            searchedCount++;
+            if (isWanted.test(partition)) {
+                read.put(info.month, partition);
+            }
+        }
+        logger.fine("Searched " + searchedCount + " partitions, and kept " + read.size());
+        return markLoaded(read);
+    }
+
+    /**
+     * Counts the partitions in {@code read} as loaded, and returns their events and blocked slots.
+     */
+    private ReadOnlySchedule markLoaded(Map<YearMonth, Partition> read) {
+        // only counted as loaded once all of them have been read, since the schedule is not returned otherwise
+        loaded.putAll(read);
+        Schedule schedule = new Schedule();
+        for (Partition partition : read.values()) {
+            partition.events.forEach(schedule::addEvent);
+            partition.blockedSlots.forEach(schedule::addBlockedSlot);
+        }
+        return schedule;
+    }
+
+    /**
+     * Similar to {@link #readPartitions(LocalDate, LocalDate)}, but logs a problem with reading the partitions
+     * instead of throwing it, and leaves the partitions that could not be read for the next time.
+     */
+    @Override
+    public ReadOnlySchedule load(LocalDate from, LocalDate to) {
+        try {
+            return readPartitions(from, to);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to read the partitions of the schedule from " + from + " to " + to + ": "
+                    + e.getMessage());
+            return new Schedule();
+        }
+    }
+
+    /**
+     * Similar to {@link #readPartitionsWithEventsBefore(LocalDate)}, but logs a problem with reading the partitions
+     * instead of throwing it, and leaves the partitions that could not be read for the next time.
+     */
+    @Override
+    public ReadOnlySchedule loadWithEventsBefore(LocalDate date) {
+        try {
+            return readPartitionsWithEventsBefore(date);
+        } catch (DataConversionException e) {
+            logger.warning("Failed to read the partitions with events before " + date + ": " + e.getMessage());
+            return new Schedule();
+        }
+    }
+
+    /**
+     * Similar to {@link #readPartitionsWithEventsMatching(Predicate)}, but logs a problem with reading the
+     * partitions instead of throwing it, and leaves the partitions that could not be read for the next time.
+     */
+    @Override
+    public ReadOnlySchedule loadMatchingEvents(Predicate<? super Event> isWanted) {
+        try {
+            return readPartitionsWithEventsMatching(isWanted);
+        } catch (DataConversionException e) {
+            logger.warning("Failed to search the partitions of the schedule: " + e.getMessage());
+            return new Schedule();
+        }
+    }
+
+    /**
+     * Similar to {@link #readPartitionsWithBlockedSlotsMatching(Predicate)}, but logs a problem with reading the
+     * partitions instead of throwing it, and leaves the partitions that could not be read for the next time.
+     */
+    @Override
+    public ReadOnlySchedule loadMatchingBlockedSlots(Predicate<? super BlockedSlot> isWanted) {
+        try {
+            return readPartitionsWithBlockedSlotsMatching(isWanted);
+        } catch (DataConversionException e) {
+            logger.warning("Failed to search the partitions of the schedule: " + e.getMessage());
+            return new Schedule();
+        }
+    }
+
+    @Override
+    public boolean isFullyLoaded() {
+        return loaded.keySet().containsAll(partitions.keySet());
+    }
+
+    @Override
+    public boolean unload(YearMonth month, List<Event> events, List<BlockedSlot> blockedSlots) {
+        requireNonNull(month);
+        Partition lastPartition = loaded.get(month);
+        if (lastPartition == null || !lastPartition.isSameAs(new Partition(events, blockedSlots))) {
+            return false;
+        }
+        loaded.remove(month);
+        return true;
+    }
+
+    /**
+     * Writes the partitions whose events or blocked slots are not the ones last read or written, and the manifest.
+     */
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule) throws IOException {
+        requireNonNull(schedule);
+        Map<YearMonth, Partition> byMonth = Partition.byMonth(schedule);
+        Set<YearMonth> months = new TreeSet<>(byMonth.keySet());
+        months.addAll(loaded.keySet());
+
+        boolean isManifestChanged = !Files.exists(manifestFilePath);
+        int writtenCount = 0;
+        for (YearMonth month : months) {
+            Partition partition = byMonth.getOrDefault(month, Partition.EMPTY);
+            Partition lastPartition = loaded.get(month);
+            if (lastPartition != null && lastPartition.isSameAs(partition)) {
+                if (partitions.get(month).words == null) {
+                    // lists the words of a partition read from an older manifest, without writing it again
+                    partitions.put(month, partition.toInfo(month));
+                    isManifestChanged = true;
+                }
+                continue;
+            }
+            boolean isOnlyOnDisk = lastPartition == null && partitions.containsKey(month);
+            if (isOnlyOnDisk) {
+                // the model never read this partition, so what is in it is kept along with what was added to it
+                partition = readPartitionForSave(month).plus(partition);
+            }
+
+            writePartition(month, partition);
+            writtenCount++;
+            PartitionInfo info = partition.isEmpty() ? null : partition.toInfo(month);
+            isManifestChanged |= !Objects.equals(info, partitions.get(month));
+            if (info == null) {
+                partitions.remove(month);
+                loaded.remove(month);
+            } else {
+                partitions.put(month, info);
+                if (!isOnlyOnDisk) {
+                    loaded.put(month, partition);
+                }
+            }
+        }
+        // written after the partitions, so that it never lists a partition that is not there
+        if (isManifestChanged) {
+            JsonSerializableManifest manifest = new JsonSerializableManifest(partitions.values());
+            writeAtomically(manifestFilePath, tempFile -> JsonUtil.saveJsonFile(manifest, tempFile));
+        }
+        logger.fine("Wrote " + writtenCount + " of " + partitions.size() + " partitions");
+    }
+
+    /**
+     * Saves to the manifest if {@code filePath} is its path, or to the single json file at {@code filePath}
+     * otherwise.
+     */
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(manifestFilePath)) {
+            saveSchedule(schedule);
+            return;
+        }
+        new JsonScheduleStorage(filePath).saveSchedule(schedule, filePath);
+    }
+
+    /**
+     * Reads the partitions listed in the manifest, forgetting those that were read before.
+     * @return false if the manifest file holds a schedule saved in one file instead.
+     */
+    private boolean readManifest() throws DataConversionException, IOException {
+        JsonSerializableManifest manifest = JsonUtil.readJsonFile(manifestFilePath, JsonSerializableManifest.class)
+                .orElseThrow(() -> new IOException("The manifest " + manifestFilePath + " is missing"));
+        partitions.clear();
+        loaded.clear();
+        if (!manifest.isManifest()) {
+            return false;
+        }
+        try {
+            for (PartitionInfo info : manifest.toModelType()) {
+                partitions.put(info.month, info);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return true;
+    }
+
+    private Partition readPartition(YearMonth month) throws DataConversionException {
+        Path partitionFilePath = getPartitionFilePath(month);
+        try {
+            Optional<JsonScheduleCodec.ScheduleFile> scheduleFile =
+                    JsonScheduleCodec.readJsonFile(partitionFilePath, valuePool);
+            if (scheduleFile.isEmpty()) {
+                logger.warning("The partition " + partitionFilePath + " listed in the manifest is missing");
+                return Partition.EMPTY;
+            }
+            return new Partition(scheduleFile.get().getSchedule());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + partitionFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private Partition readPartitionForSave(YearMonth month) throws IOException {
+        try {
+            return readPartition(month);
+        } catch (DataConversionException e) {
+            throw new IOException("The partition for " + month + " could not be read", e);
+        }
+    }
+
+    private void writePartition(YearMonth month, Partition partition) throws IOException {
+        Path partitionFilePath = getPartitionFilePath(month);
+        if (partition.isEmpty()) {
+            Files.deleteIfExists(partitionFilePath);
+        } else {
+            writeAtomically(partitionFilePath, tempFile ->
+                    JsonScheduleCodec.saveJsonFile(partition.toSchedule(), 0, tempFile));
+        }
+    }
+
+    /**
+     * Writes a file beside {@code filePath} with {@code writer}, and then moves it into place.
+     */
+    private static void writeAtomically(Path filePath, FileWriter writer) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName().toString(), ".tmp");
+        try {
+            writer.writeTo(tempFile);
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Path getPartitionFilePath(YearMonth month) {
+        return partitionDirectory.resolve(month + PARTITION_FILE_EXTENSION);
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    private interface FileWriter {
+        void writeTo(Path file) throws IOException;
+    }
+
+    /**
+     * The events and blocked slots of one month.
+     */
+    private static class Partition {
+        static final Partition EMPTY = new Partition(List.of(), List.of());
+
+        final List<Event> events;
+        final List<BlockedSlot> blockedSlots;
+
+        Partition(List<Event> events, List<BlockedSlot> blockedSlots) {
+            this.events = events;
+            this.blockedSlots = blockedSlots;
+        }
+
+        Partition(ReadOnlySchedule schedule) {
+            this(List.copyOf(schedule.getEventList()), List.copyOf(schedule.getBlockedSlotList()));
+        }
+
+        /**
+         * Returns the events and blocked slots of {@code schedule} grouped by the months of their first dates.
+         */
+        static Map<YearMonth, Partition> byMonth(ReadOnlySchedule schedule) {
+            Map<YearMonth, Partition> byMonth = new HashMap<>();
+            for (Event event : schedule.getEventList()) {
+                byMonth.computeIfAbsent(ScheduleLoader.getPartition(event), Partition::newGrowable).events.add(event);
+            }
+            for (BlockedSlot blockedSlot : schedule.getBlockedSlotList()) {
+                byMonth.computeIfAbsent(ScheduleLoader.getPartition(blockedSlot), Partition::newGrowable)
+                        .blockedSlots.add(blockedSlot);
+            }
+            return byMonth;
+        }
+
+        private static Partition newGrowable(YearMonth month) {
+            return new Partition(new ArrayList<>(), new ArrayList<>());
+        }
+
+        boolean isEmpty() {
+            return events.isEmpty() && blockedSlots.isEmpty();
+        }
+
+        /**
+         * Returns true if this partition holds the very same events and blocked slots as {@code other}, in the same
+         * order. The model's events and blocked slots are immutable, so an unchanged partition holds the same ones.
+         */
+        boolean isSameAs(Partition other) {
+            return isSame(events, other.events) && isSame(blockedSlots, other.blockedSlots);
+        }
+
+        private static boolean isSame(List<?> first, List<?> second) {
+            if (first.size() != second.size()) {
+                return false;
+            }
+            for (int i = 0; i < first.size(); i++) {
+                if (first.get(i) != second.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns this partition with the events and blocked slots of {@code added} whose ids it does not have.
+         */
+        Partition plus(Partition added) {
+            Set<Long> ids = new HashSet<>();
+            events.forEach(event -> ids.add(event.getId()));
+            blockedSlots.forEach(blockedSlot -> ids.add(blockedSlot.getId()));
+            List<Event> allEvents = new ArrayList<>(events);
+            added.events.stream().filter(event -> !ids.contains(event.getId())).forEach(allEvents::add);
+            List<BlockedSlot> allBlockedSlots = new ArrayList<>(blockedSlots);
+            added.blockedSlots.stream().filter(slot -> !ids.contains(slot.getId())).forEach(allBlockedSlots::add);
+            return new Partition(allEvents, allBlockedSlots);
+        }
+
+        Schedule toSchedule() {
+            Schedule schedule = new Schedule();
+            events.forEach(schedule::addEvent);
+            blockedSlots.forEach(schedule::addBlockedSlot);
+            return schedule;
+        }
+
+        PartitionInfo toInfo(YearMonth month) {
+            LocalDate lastDate = month.atDay(1);
+            for (Event event : events) {
+                lastDate = max(lastDate, Recurrence.getLastDate(event).date);
+            }
+            for (BlockedSlot blockedSlot : blockedSlots) {
+                lastDate = max(lastDate, Recurrence.getLastDate(blockedSlot).date);
+            }
+            Set<String> words = new HashSet<>();
+            events.forEach(event -> words.addAll(WordSearch.getWords(event)));
+            return new PartitionInfo(month, lastDate, events.size(), blockedSlots.size(), words);
+        }
+
+        private static LocalDate max(LocalDate first, LocalDate second) {
+            return first.isAfter(second) ? first : second;
+        }
+    }
+}
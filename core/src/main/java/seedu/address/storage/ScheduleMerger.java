@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Overlappable;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.IdGenerator;
+
+/**
+ * Merges the changes made to a schedule file by another instance of the application into the schedule that this
+ * instance is saving, by comparing both with the version of the file that this instance last read or wrote.
+ * <p>
+ * Events and blocked slots are matched up by their ids. An item changed on one side only takes that change, and an
+ * item changed differently on both sides takes this instance's change. Items added on both sides under the same id
+ * are both kept, the other instance's under a new id. A change from the other instance that would clash with the
+ * items already merged is left out, since the file could not be read back otherwise.
+ */
+class ScheduleMerger {
+
+    private static final Logger logger = LogsCenter.getLogger(ScheduleMerger.class);
+
+    private ScheduleMerger() {}
+
+    /**
+     * Returns the schedule with both the changes from {@code base} to {@code ours} and those from {@code base}
+     * to {@code theirs}.
+     */
+    static Schedule merge(List<Event> baseEvents, List<BlockedSlot> baseBlockedSlots, ReadOnlySchedule ours,
+            ReadOnlySchedule theirs) {
+        MergedItems<Event> events = mergeItems(baseEvents, ours.getEventList(), theirs.getEventList(), Event::getId,
+                ScheduleMerger::withNewId);
+        MergedItems<BlockedSlot> blockedSlots = mergeItems(baseBlockedSlots, ours.getBlockedSlotList(),
+                theirs.getBlockedSlotList(), BlockedSlot::getId, ScheduleMerger::withNewId);
+
+        // our items never clash with each other, as they were all in the schedule being saved
+        Schedule merged = new Schedule();
+        merged.setEvents(events.ours);
+        merged.setBlockedSlots(blockedSlots.ours);
+        for (Event event : events.theirs) {
+            Event toAdd = getNonClashing(merged, event, events.ourFallbacks.get(event));
+            if (toAdd != null) {
+                merged.addEvent(toAdd);
+            }
+        }
+        for (BlockedSlot blockedSlot : blockedSlots.theirs) {
+            BlockedSlot toAdd = getNonClashing(merged, blockedSlot, blockedSlots.ourFallbacks.get(blockedSlot));
+            if (toAdd != null) {
+                merged.addBlockedSlot(toAdd);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Returns {@code their} if it does not clash with {@code merged}, or else {@code ourFallback} if there is one
+     * and it does not clash, or else null.
+     */
+    private static <T extends Overlappable> T getNonClashing(Schedule merged, T their, T ourFallback) {
+        if (!isClashing(merged, their)) {
+            return their;
+        }
+        logger.warning("Leaving out a change from another instance that clashes with this one: " + their);
+        return ourFallback != null && !isClashing(merged, ourFallback) ? ourFallback : null;
+    }
+
+    private static boolean isClashing(Schedule merged, Overlappable item) {
+        return merged.isBlockedByEvent(item) || merged.isBlockedByBlockedSlot(item);
+    }
+
+    private static <T> MergedItems<T> mergeItems(List<? extends T> base, List<? extends T> ours,
+            List<? extends T> theirs, ToLongFunction<T> idOf, UnaryOperator<T> withNewId) {
+        Map<Long, T> baseById = byId(base, idOf);
+        Map<Long, T> oursById = byId(ours, idOf);
+        Map<Long, T> theirsById = byId(theirs, idOf);
+        MergedItems<T> merged = new MergedItems<>();
+
+        for (T our : ours) {
+            long id = idOf.applyAsLong(our);
+            T baseItem = baseById.get(id);
+            T their = theirsById.get(id);
+            if (Objects.equals(our, baseItem)) {
+                // unchanged here, so it takes their change, which may be to remove it
+                if (their != null && their.equals(our)) {
+                    merged.ours.add(our);
+                } else if (their != null) {
+                    merged.theirs.add(their);
+                    merged.ourFallbacks.put(their, our);
+                }
+            } else if (baseItem == null && their != null && !their.equals(our)) {
+                // added on both sides with the same id
+                merged.ours.add(our);
+                merged.theirs.add(withNewId.apply(their));
+            } else {
+                merged.ours.add(our);
+            }
+        }
+        for (T their : theirs) {
+            long id = idOf.applyAsLong(their);
+            // added there, or changed there after it was removed here
+            if (!oursById.containsKey(id) && !Objects.equals(their, baseById.get(id))) {
+                merged.theirs.add(their);
+            }
+        }
+        return merged;
+    }
+
+    private static <T> Map<Long, T> byId(List<? extends T> items, ToLongFunction<T> idOf) {
+        Map<Long, T> itemsById = new LinkedHashMap<>();
+        for (T item : items) {
+            itemsById.put(idOf.applyAsLong(item), item);
+        }
+        return itemsById;
+    }
+
+    private static Event withNewId(Event event) {
+        return new Event(IdGenerator.next(), event.getName(), event.getDate(), event.getTimeSlot(),
+                event.getLocation(), event.getTags(), event.getRemark(), event.getRecurrence().orElse(null));
+    }
+
+    private static BlockedSlot withNewId(BlockedSlot blockedSlot) {
+        return new BlockedSlot(IdGenerator.next(), blockedSlot.getDate(), blockedSlot.getTimeSlot(),
+                blockedSlot.getRecurrence().orElse(null));
+    }
+
+    /**
+     * The items of a merge, split into those that are the same as in the schedule being saved and those that come
+     * from the other instance.
+     */
+    private static class MergedItems<T> {
+        private final List<T> ours = new ArrayList<>();
+        private final List<T> theirs = new ArrayList<>();
+        /** Our version of each item that their version replaces, to be kept if their version clashes. */
+        private final Map<T, T> ourFallbacks = new IdentityHashMap<>();
+    }
+}
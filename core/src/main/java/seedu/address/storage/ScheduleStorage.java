@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.Schedule;
+import seedu.address.model.util.ValuePool;
 
 /**
  * Represents a storage for {@link Schedule}.
@@ -18,6 +19,12 @@ public interface ScheduleStorage {
      */
     Path getScheduleFilePath();
 
+    /**
+     * Returns the {@link ValuePool} that the schedules read by this storage share their values through.
+     * The same pool is returned for the whole life of the storage.
+     */
+    ValuePool getValuePool();
+
     /**
      * Returns Schedule data as a {@link ReadOnlySchedule}.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -10,6 +10,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.util.ValuePool;
 
 /**
  * Manages storage of Schedule data in local storage.
@@ -54,6 +55,11 @@ public class StorageManager implements Storage {
         return scheduleStorage.getScheduleFilePath();
     }
 
+    @Override
+    public ValuePool getValuePool() {
+        return scheduleStorage.getValuePool();
+    }
+
     @Override
     public Optional<ReadOnlySchedule> readSchedule() throws DataConversionException, IOException {
         return readSchedule(scheduleStorage.getScheduleFilePath());
@@ -0,0 +1,57 @@
+package seedu.address.sync;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+
+import seedu.address.logic.Logic;
+import seedu.address.model.sync.ChangeBundle;
+
+/**
+ * Keeps the schedule of a {@code Logic} in sync with a {@code SyncServer}, remembering how far it has pushed its own
+ * feed and pulled the server's, so that each sync only transfers the changes made since the last one.
+ */
+public class SyncClient {
+
+    private final Logic logic;
+    private final SyncServer server;
+    private long pushedSeq;
+    private long pulledSeq;
+
+    /**
+     * Creates a client that syncs the schedule of {@code logic} with {@code server}.
+     */
+    public SyncClient(Logic logic, SyncServer server) {
+        requireAllNonNull(logic, server);
+        this.logic = logic;
+        this.server = server;
+    }
+
+    /**
+     * Pushes the changes made to the schedule since the last sync to the server, then pulls and applies the changes
+     * that the server has received from other copies since then.
+     * Like a command, this must only be called on the writer.
+     * @return the number of changes from the server that were applied.
+     * @throws IOException if the schedule could not be saved.
+     */
+    public int sync() throws IOException {
+        ChangeBundle outgoing = logic.exportChanges(pushedSeq);
+        server.push(outgoing);
+        pushedSeq = outgoing.getLastSeq();
+
+        ChangeBundle incoming = server.pull(pulledSeq, outgoing.getReplicaId());
+        int appliedCount = logic.importChanges(incoming);
+        pulledSeq = incoming.getLastSeq();
+        // the changes recorded since the push are the ones just pulled, which the server already has
+        pushedSeq = logic.exportChanges(pushedSeq).getLastSeq();
+        return appliedCount;
+    }
+
+    public long getPushedSeq() {
+        return pushedSeq;
+    }
+
+    public long getPulledSeq() {
+        return pulledSeq;
+    }
+}
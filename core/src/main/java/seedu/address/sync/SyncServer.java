@@ -0,0 +1,56 @@
+package seedu.address.sync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Schedule;
+import seedu.address.model.ScheduleSnapshot;
+import seedu.address.model.sync.ChangeBundle;
+import seedu.address.model.sync.ChangeFeed;
+
+/**
+ * A local stand-in for a server that keeps copies of a schedule on several machines in sync.
+ *
+ * The server holds its own copy of the schedule with its own {@code ChangeFeed}. Each copy pushes the changes made
+ * to it since it last pushed, and pulls the changes the server has recorded since it last pulled, so every sync
+ * transfers only the changes made in between, however large the schedule is. Changes keep the stamps of the copies
+ * that made them, so a change to an item that was also changed elsewhere is resolved the same way everywhere.
+ * Requests from several clients are handled one at a time.
+ */
+public class SyncServer {
+
+    private static final Logger logger = LogsCenter.getLogger(SyncServer.class);
+
+    private final Schedule schedule = new Schedule();
+    private final ChangeFeed changeFeed = new ChangeFeed(schedule, ChangeFeed.newReplicaId());
+
+    /**
+     * Applies the changes in {@code bundle} that are later than those the server already has.
+     * @return the number of changes that were applied.
+     */
+    public synchronized int push(ChangeBundle bundle) {
+        requireNonNull(bundle);
+        int appliedCount = changeFeed.apply(bundle);
+        logger.fine("Applied " + appliedCount + " of " + bundle.getChanges().size() + " changes from "
+                + bundle.getReplicaId());
+        return appliedCount;
+    }
+
+    /**
+     * Returns the latest changes to the items changed after position {@code seq} of the server's feed, leaving out
+     * those made by {@code replicaId}, the copy that is pulling them.
+     */
+    public synchronized ChangeBundle pull(long seq, String replicaId) {
+        requireNonNull(replicaId);
+        return changeFeed.getChangesSince(seq, replicaId);
+    }
+
+    /**
+     * Returns the current contents of the server's copy of the schedule.
+     */
+    public synchronized ScheduleSnapshot getScheduleSnapshot() {
+        return schedule.snapshot();
+    }
+}
@@ -0,0 +1,331 @@
+package seedu.address.tenant;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.ScheduleSnapshot;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BufferedScheduleStorage;
+import seedu.address.storage.JsonScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Hosts one schedule per tenant, each kept in {@code <directory>/<tenant id>.json}.
+ *
+ * Schedules are loaded when they are first used, and at most {@code capacity} of them are kept in memory.
+ * When another one is needed, the least recently used schedule is written to disk and dropped, so memory grows
+ * with the number of tenants in use rather than with the number of tenants.
+ * Commands only change the schedule in memory; it is written when it is evicted or when the host is flushed, and
+ * only if a command changed it.
+ * <p>
+ * Each tenant has its own lock, under which its schedule is loaded, used and written, so work for one tenant never
+ * waits for the disk on behalf of another. The host's own lock only guards which tenants are loaded, and is never
+ * held while waiting for a tenant's lock. A tenant that is being written before it is dropped is loaded again only
+ * once it has been written.
+ */
+public class TenantHost {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Tenant ids should only contain letters, digits, hyphens and underscores";
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+    public static final String MESSAGE_LOAD_FAILED = "Could not load the schedule of %s: %s";
+    public static final String PREFERENCES_FILE = "preferences.json";
+
+    private static final Logger logger = LogsCenter.getLogger(TenantHost.class);
+
+    private final Path directory;
+    private final int capacity;
+    private final UserPrefsStorage userPrefsStorage;
+    /** Loaded tenants, from the least to the most recently used. */
+    private final LinkedHashMap<String, Tenant> tenants = new LinkedHashMap<>(16, 0.75f, true);
+    /** Tenants that are being written before they are dropped. */
+    private final Map<String, Tenant> evicting = new HashMap<>();
+    /** Work done for tenants that have since been evicted. */
+    private TenantMetrics evictedMetrics = new TenantMetrics(0, 0, 0, 0, 0);
+
+    /**
+     * Creates a host for the schedules in {@code directory} that keeps at most {@code capacity} of them loaded.
+     */
+    public TenantHost(Path directory, int capacity) {
+        requireNonNull(directory);
+        checkArgument(capacity > 0, "The capacity of a tenant host must be positive");
+        this.directory = directory;
+        this.capacity = capacity;
+        this.userPrefsStorage = new JsonUserPrefsStorage(directory.resolve(PREFERENCES_FILE));
+    }
+
+    /**
+     * Returns true if a given string is a valid tenant id.
+     */
+    public static boolean isValidTenantId(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Executes {@code commandText} on the schedule of {@code tenantId}, loading it if needed.
+     *
+     * @throws CommandException if the schedule could not be loaded or the command failed.
+     * @throws ParseException if the command could not be parsed.
+     */
+    public CommandResult execute(String tenantId, String commandText) throws CommandException, ParseException {
+        requireNonNull(commandText);
+        Tenant tenant = lockTenant(tenantId);
+        try {
+            tenant.commands++;
+            return tenant.logic.execute(commandText);
+        } finally {
+            tenant.lock.unlock();
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Returns the contents of the schedule of {@code tenantId}, loading it if needed.
+     *
+     * @throws CommandException if the schedule could not be loaded.
+     */
+    public ScheduleSnapshot getScheduleSnapshot(String tenantId) throws CommandException {
+        Tenant tenant = lockTenant(tenantId);
+        try {
+            return tenant.logic.getScheduleSnapshot();
+        } finally {
+            tenant.lock.unlock();
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Returns the work done for {@code tenantId} since its schedule was loaded,
+     * or an empty {@code Optional} if it is not loaded.
+     */
+    public synchronized Optional<TenantMetrics> getMetrics(String tenantId) {
+        requireNonNull(tenantId);
+        // Looked up without get(), which would count as a use of the schedule.
+        return tenants.entrySet().stream()
+                .filter(entry -> entry.getKey().equals(tenantId))
+                .map(entry -> entry.getValue().getMetrics())
+                .findFirst();
+    }
+
+    /**
+     * Returns the work done for all tenants since this host was created.
+     */
+    public synchronized TenantMetrics getTotalMetrics() {
+        TenantMetrics total = evictedMetrics;
+        for (Tenant tenant : tenants.values()) {
+            total = total.plus(tenant.getMetrics());
+        }
+        for (Tenant tenant : evicting.values()) {
+            total = total.plus(tenant.getMetrics());
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of schedules that are loaded.
+     */
+    public synchronized int getLoadedCount() {
+        return tenants.size();
+    }
+
+    /**
+     * Writes every loaded schedule that has changed since it was last written.
+     *
+     * @throws IOException if any schedule could not be written. The others are still written.
+     */
+    public void flush() throws IOException {
+        List<Tenant> loaded;
+        synchronized (this) {
+            loaded = new ArrayList<>(tenants.values());
+        }
+        IOException failure = null;
+        for (Tenant tenant : loaded) {
+            tenant.lock.lock();
+            try {
+                tenant.flush();
+            } catch (IOException e) {
+                failure = e;
+            } finally {
+                tenant.lock.unlock();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the tenant with {@code tenantId}, locked and with its schedule loaded, loading it if needed.
+     * The caller must unlock it.
+     *
+     * @throws CommandException if the schedule could not be loaded.
+     */
+    private Tenant lockTenant(String tenantId) throws CommandException {
+        requireNonNull(tenantId);
+        checkArgument(isValidTenantId(tenantId), MESSAGE_CONSTRAINTS);
+
+        while (true) {
+            Tenant tenant = findTenant(tenantId);
+            tenant.lock.lock();
+            if (tenant.isDropped) {
+                // written and dropped while this was waiting, so it is loaded again from the file
+                tenant.lock.unlock();
+                continue;
+            }
+            try {
+                tenant.load(userPrefsStorage);
+                return tenant;
+            } catch (DataConversionException | IOException e) {
+                tenant.isDropped = true;
+                synchronized (this) {
+                    tenants.remove(tenantId, tenant);
+                }
+                tenant.lock.unlock();
+                throw new CommandException(String.format(MESSAGE_LOAD_FAILED, tenantId, e.getMessage()), e);
+            }
+        }
+    }
+
+    /**
+     * Returns the tenant with {@code tenantId}, which is added without its schedule if it is not loaded.
+     * A tenant that is being written before it is dropped is returned as it is, so that its schedule is not read
+     * before it has been written.
+     */
+    private synchronized Tenant findTenant(String tenantId) {
+        Tenant tenant = tenants.get(tenantId);
+        if (tenant != null) {
+            tenant.hits++;
+            return tenant;
+        }
+        tenant = evicting.get(tenantId);
+        if (tenant != null) {
+            return tenant;
+        }
+        tenant = new Tenant(directory.resolve(tenantId + ".json"));
+        tenants.put(tenantId, tenant);
+        return tenant;
+    }
+
+    /**
+     * Writes and drops the least recently used schedules until at most {@code capacity} are loaded.
+     * A schedule that cannot be written is kept, so that no changes are lost.
+     * Must not be called while holding the lock of a tenant.
+     */
+    private void evictLeastRecentlyUsed() {
+        Map<String, Tenant> leastRecentlyUsed = new LinkedHashMap<>();
+        synchronized (this) {
+            Iterator<Map.Entry<String, Tenant>> entries = tenants.entrySet().iterator();
+            while (tenants.size() > capacity && entries.hasNext()) {
+                Map.Entry<String, Tenant> entry = entries.next();
+                entries.remove();
+                evicting.put(entry.getKey(), entry.getValue());
+                leastRecentlyUsed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        leastRecentlyUsed.forEach(this::evict);
+    }
+
+    /**
+     * Writes the schedule of {@code tenant}, which is being evicted, and drops it, or keeps it loaded if it cannot
+     * be written.
+     */
+    private void evict(String tenantId, Tenant tenant) {
+        tenant.lock.lock();
+        try {
+            try {
+                tenant.flush();
+            } catch (IOException e) {
+                logger.warning("Failed to write " + tenant.scheduleFilePath + " before evicting it : "
+                        + StringUtil.getDetails(e));
+                synchronized (this) {
+                    evicting.remove(tenantId);
+                    tenants.put(tenantId, tenant);
+                }
+                return;
+            }
+            tenant.isDropped = true;
+            synchronized (this) {
+                evicting.remove(tenantId);
+                evictedMetrics = evictedMetrics.plus(tenant.getMetrics())
+                        .plus(new TenantMetrics(0, 0, 0, 0, 1));
+            }
+        } finally {
+            tenant.lock.unlock();
+        }
+    }
+
+    /**
+     * The schedule of a tenant, together with the work done for it since it was loaded.
+     * The schedule is loaded, used and written only while holding {@code lock}.
+     */
+    private static class Tenant {
+        private final Path scheduleFilePath;
+        private final ReentrantLock lock = new ReentrantLock();
+        private BufferedScheduleStorage storage;
+        private Logic logic;
+        /** True once the tenant has been dropped from the host, after which it must not be used. */
+        private boolean isDropped;
+        // read by the host without the tenant's lock
+        private volatile long hits;
+        private volatile long commands;
+        private volatile long flushes;
+
+        Tenant(Path scheduleFilePath) {
+            this.scheduleFilePath = scheduleFilePath;
+        }
+
+        /**
+         * Reads the schedule of the tenant, unless it has been read already.
+         */
+        void load(UserPrefsStorage userPrefsStorage) throws DataConversionException, IOException {
+            if (logic != null) {
+                return;
+            }
+            BufferedScheduleStorage readStorage =
+                    new BufferedScheduleStorage(new JsonScheduleStorage(scheduleFilePath));
+            ReadOnlySchedule schedule = readStorage.readSchedule().orElseGet(Schedule::new);
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setScheduleFilePath(scheduleFilePath);
+            ModelManager model = new ModelManager(schedule, userPrefs);
+            readStorage.setWritten(model.getSchedule());
+            storage = readStorage;
+            logic = new LogicManager(model, new StorageManager(storage, userPrefsStorage));
+        }
+
+        void flush() throws IOException {
+            if (storage != null && storage.isDirty()) {
+                storage.flush();
+                flushes++;
+            }
+        }
+
+        TenantMetrics getMetrics() {
+            return new TenantMetrics(1, hits, commands, flushes, 0);
+        }
+    }
+}
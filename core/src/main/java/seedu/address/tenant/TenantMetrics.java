@@ -0,0 +1,65 @@
+package seedu.address.tenant;
+
+import java.util.Objects;
+
+/**
+ * Counts of the work done by a {@code TenantHost}, either for one tenant or for all of them.
+ * Guarantees: immutable.
+ */
+public class TenantMetrics {
+
+    public final long loads;
+    public final long hits;
+    public final long commands;
+    public final long flushes;
+    public final long evictions;
+
+    /**
+     * Constructs a {@code TenantMetrics}.
+     *
+     * @param loads Number of times a schedule was read from disk.
+     * @param hits Number of requests served by a schedule that was already loaded.
+     * @param commands Number of commands executed.
+     * @param flushes Number of times a schedule was written to disk.
+     * @param evictions Number of times a schedule was dropped from memory.
+     */
+    public TenantMetrics(long loads, long hits, long commands, long flushes, long evictions) {
+        this.loads = loads;
+        this.hits = hits;
+        this.commands = commands;
+        this.flushes = flushes;
+        this.evictions = evictions;
+    }
+
+    /**
+     * Returns the sum of this and {@code other}.
+     */
+    public TenantMetrics plus(TenantMetrics other) {
+        return new TenantMetrics(loads + other.loads, hits + other.hits, commands + other.commands,
+                flushes + other.flushes, evictions + other.evictions);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TenantMetrics)) {
+            return false;
+        }
+        TenantMetrics o = (TenantMetrics) other;
+        return loads == o.loads && hits == o.hits && commands == o.commands && flushes == o.flushes
+                && evictions == o.evictions;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(loads, hits, commands, flushes, evictions);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("loads: %d, hits: %d, commands: %d, flushes: %d, evictions: %d",
+                loads, hits, commands, flushes, evictions);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.TypicalEvents;
+
+public class CliMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonScheduleStorage(temporaryFolder.resolve("schedule.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(TypicalEvents.getTypicalSchedule(), new UserPrefs()), storage);
+    }
+
+    @Test
+    public void parseConfigPath() {
+        assertNull(CliMain.parseConfigPath(new String[0]));
+        assertNull(CliMain.parseConfigPath(new String[] {"config.json"}));
+        assertEquals(Paths.get("config.json"), CliMain.parseConfigPath(new String[] {"--config=config.json"}));
+    }
+
+    @Test
+    public void run_commandChangesList_printsFeedbackAndList() throws IOException {
+        String printed = run(ClearCommand.COMMAND_WORD + "\nunknowncommand\n");
+
+        assertTrue(printed.startsWith("1. "));
+        assertTrue(printed.contains(ClearCommand.MESSAGE_SUCCESS));
+        assertTrue(printed.endsWith(CliMain.PROMPT));
+        assertEquals(0, logic.getFilteredEventList().size());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws IOException {
+        String printed = run(ExitCommand.COMMAND_WORD + "\n" + ClearCommand.COMMAND_WORD + "\n");
+
+        assertFalse(printed.contains(ClearCommand.MESSAGE_SUCCESS));
+        assertTrue(logic.getFilteredEventList().size() > 0);
+    }
+
+    private String run(String input) throws IOException {
+        new CliMain(logic, Runnable::run, new PrintStream(output, true, StandardCharsets.UTF_8))
+                .run(new BufferedReader(new StringReader(input)));
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -27,7 +27,8 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Server port : 0";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
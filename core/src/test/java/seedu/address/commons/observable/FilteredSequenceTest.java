@@ -0,0 +1,82 @@
+package seedu.address.commons.observable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.SortedObservableList;
+
+public class FilteredSequenceTest {
+
+    private final SortedObservableList<String> source = new SortedObservableList<>(Comparator.naturalOrder());
+    private final FilteredSequence<String> filtered = new FilteredSequence<>(source);
+    private final List<String> changes = new ArrayList<>();
+
+    public FilteredSequenceTest() {
+        source.resetTo(Arrays.asList("apple", "banana", "avocado", "cherry"));
+        filtered.setPredicate(element -> element.startsWith("a"));
+        filtered.addListener(change -> changes.add(change.toString()));
+    }
+
+    @Test
+    public void constructor_noPredicate_containsAllElements() {
+        assertEquals(source, new FilteredSequence<>(source));
+    }
+
+    @Test
+    public void setPredicate_keepsMatchingElementsInOrder() {
+        assertEquals(Arrays.asList("apple", "avocado"), filtered);
+
+        filtered.setPredicate(null);
+        assertEquals(source, filtered);
+        assertEquals(Collections.singletonList("from 0 removed [apple, avocado] added "
+                + "[apple, avocado, banana, cherry]"), changes);
+    }
+
+    @Test
+    public void sourceAdd_matchingElement_reportsAddAtFilteredIndex() {
+        source.insert("apricot");
+        assertEquals(Arrays.asList("apple", "apricot", "avocado"), filtered);
+        assertEquals(Collections.singletonList("from 1 removed [] added [apricot]"), changes);
+    }
+
+    @Test
+    public void sourceAdd_otherElement_reportsNothing() {
+        source.insert("blueberry");
+        assertEquals(Arrays.asList("apple", "avocado"), filtered);
+        assertEquals(Collections.emptyList(), changes);
+
+        source.removeElement("banana");
+        assertEquals(Collections.emptyList(), changes);
+        assertEquals("avocado", filtered.get(1));
+    }
+
+    @Test
+    public void sourceRemove_matchingElement_reportsRemoveAtFilteredIndex() {
+        source.removeElement("avocado");
+        assertEquals(Collections.singletonList("apple"), filtered);
+        assertEquals(Collections.singletonList("from 1 removed [avocado] added []"), changes);
+    }
+
+    @Test
+    public void sourceReplace_matchingToOther_reportsRemove() {
+        source.replace("apple", "aardvark");
+        source.replace("avocado", "damson");
+        assertEquals(Collections.singletonList("aardvark"), filtered);
+        assertEquals(Arrays.asList("from 0 removed [apple] added [aardvark]",
+                "from 1 removed [avocado] added []"), changes);
+    }
+
+    @Test
+    public void sourceReset_refiltersEverything() {
+        source.resetTo(Arrays.asList("almond", "date", "acorn"));
+        assertEquals(Arrays.asList("acorn", "almond"), filtered);
+        assertEquals(Collections.singletonList("from 0 removed [apple, avocado] added [acorn, almond]"), changes);
+    }
+}
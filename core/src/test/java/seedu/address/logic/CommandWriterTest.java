@@ -0,0 +1,57 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandWriterTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private CommandWriter createCommandWriter() {
+        StorageManager storage = new StorageManager(new JsonScheduleStorage(temporaryFolder.resolve("schedule.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        return new CommandWriter(new LogicManager(new ModelManager(), storage), tasks::add);
+    }
+
+    @Test
+    public void submit_runsOnWriterInOrder() throws Exception {
+        CommandWriter commandWriter = createCommandWriter();
+        CompletableFuture<CommandResult> first = commandWriter.submit(ListCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> second = commandWriter.submit("unknownCommand");
+
+        // nothing runs until the writer does
+        assertFalse(first.isDone());
+        assertEquals(2, tasks.size());
+
+        tasks.get(0).run();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, first.get().getFeedbackToUser());
+        assertFalse(second.isDone());
+
+        tasks.get(1).run();
+        assertTrue(second.isCompletedExceptionally());
+        ExecutionException thrown = assertThrows(ExecutionException.class, second::get);
+        assertTrue(thrown.getCause() instanceof ParseException);
+    }
+}
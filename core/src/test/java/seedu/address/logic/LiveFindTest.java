@@ -0,0 +1,102 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+import static seedu.address.testutil.TypicalEvents.DANIEL;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class LiveFindTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalSchedule(), new UserPrefs());
+    private final List<Runnable> writerTasks = new ArrayList<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private LiveFind liveFind;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonScheduleStorage(temporaryFolder.resolve("schedule.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        liveFind = new LiveFind(new LogicManager(model, storage), writerTasks::add, timer, 0);
+    }
+
+    @Test
+    public void update_findCommand_onlyLatestTextApplied() throws Exception {
+        int eventCount = model.getFilteredEventList().size();
+        liveFind.update("find al");
+        liveFind.update("find mei");
+        runWriterTasksExceptLast();
+
+        // the filter for "find al" is stale by the time it reaches the writer
+        assertEquals(eventCount, model.getFilteredEventList().size());
+
+        writerTasks.get(writerTasks.size() - 1).run();
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredEventList());
+    }
+
+    @Test
+    public void update_leavesFindCommand_showsAllEvents() throws Exception {
+        int eventCount = model.getFilteredEventList().size();
+        liveFind.update("find alice");
+        liveFind.update("");
+        finishTimer();
+        writerTasks.forEach(Runnable::run);
+
+        assertEquals(eventCount, model.getFilteredEventList().size());
+    }
+
+    @Test
+    public void update_otherCommand_notFiltered() throws Exception {
+        liveFind.update("findalice");
+        liveFind.update("list");
+        finishTimer();
+
+        assertTrue(writerTasks.isEmpty());
+    }
+
+    @Test
+    public void cancel_pendingFilterNotApplied() throws Exception {
+        int eventCount = model.getFilteredEventList().size();
+        liveFind.update("find alice");
+        liveFind.cancel();
+        liveFind.update("");
+        finishTimer();
+        writerTasks.forEach(Runnable::run);
+
+        assertEquals(eventCount, model.getFilteredEventList().size());
+        assertTrue(model.getFilteredEventList().contains(ALICE));
+    }
+
+    private void runWriterTasksExceptLast() throws InterruptedException {
+        finishTimer();
+        writerTasks.subList(0, writerTasks.size() - 1).forEach(Runnable::run);
+    }
+
+    private void finishTimer() throws InterruptedException {
+        timer.shutdown();
+        assertTrue(timer.awaitTermination(1, TimeUnit.SECONDS));
+    }
+}
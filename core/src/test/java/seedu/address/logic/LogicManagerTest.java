@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_AMY;
@@ -13,6 +15,7 @@ import static seedu.address.testutil.TypicalEvents.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,11 +24,13 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.Event;
 import seedu.address.storage.JsonScheduleStorage;
@@ -69,6 +74,20 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void filterEventsByNamePrefixes() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + DATE_DESC_AMY + TIMESLOT_DESC_AMY
+                + LOCATION_DESC_AMY + REMARK_DESC_AMY);
+        logic.filterEventsByNamePrefixes(Collections.singletonList("AM"));
+        assertEquals(1, logic.getFilteredEventList().size());
+
+        logic.filterEventsByNamePrefixes(Collections.singletonList("bob"));
+        assertEquals(0, logic.getFilteredEventList().size());
+
+        logic.filterEventsByNamePrefixes(Collections.emptyList());
+        assertEquals(1, logic.getFilteredEventList().size());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonScheduleIoExceptionThrowingStub
@@ -89,6 +108,30 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void getScheduleSnapshot_updatedAfterEachCommand() throws Exception {
+        assertEquals(0, logic.getScheduleSnapshot().getEvents().size());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + DATE_DESC_AMY + TIMESLOT_DESC_AMY
+                + LOCATION_DESC_AMY + REMARK_DESC_AMY);
+        assertEquals(1, logic.getScheduleSnapshot().getEvents().size());
+    }
+
+    @Test
+    public void reloadSchedule_changedSchedule_undoableAndNotSaved() throws Exception {
+        Schedule newData = new Schedule();
+        newData.addEvent(new EventBuilder(AMY).build());
+
+        assertTrue(logic.reloadSchedule(newData));
+        assertEquals(1, logic.getScheduleSnapshot().getEvents().size());
+        assertEquals(0, logic.getScheduleSaveCount());
+        assertFalse(logic.reloadSchedule(newData));
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, logic.getFilteredEventList().size());
+        assertEquals(1, logic.getScheduleSaveCount());
+    }
+
     @Test
     public void getFilteredEventList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredEventList().remove(0));
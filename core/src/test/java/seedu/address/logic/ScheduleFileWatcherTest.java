@@ -0,0 +1,100 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Schedule;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.storage.JsonScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.EventBuilder;
+
+public class ScheduleFileWatcherTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<Runnable> writerTasks = new ArrayList<>();
+    private final Executor writer = writerTasks::add;
+    private Model model;
+    private Logic logic;
+    private JsonScheduleStorage otherProgram;
+    private ScheduleFileWatcher watcher;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path filePath = temporaryFolder.resolve("schedule.json");
+        model = new ModelManager(getTypicalSchedule(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(new JsonScheduleStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        otherProgram = new JsonScheduleStorage(filePath);
+        otherProgram.saveSchedule(model.getSchedule());
+        watcher = new ScheduleFileWatcher(logic, writer, new JsonScheduleStorage(filePath));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScheduleFileWatcher(null, writer, otherProgram));
+    }
+
+    @Test
+    public void reload_oneEventChanged_changesOnlyThatEvent() throws Exception {
+        Schedule changed = getTypicalSchedule();
+        Event editedAlice = new EventBuilder(ALICE).withRemark("Moved online").build();
+        changed.setEvent(ALICE, editedAlice);
+        otherProgram.saveSchedule(changed);
+        List<String> changes = new ArrayList<>();
+        model.getFilteredEventList().addListener(change -> changes.add(change.getRemoved() + " " + change.getAdded()));
+
+        watcher.reload();
+        assertEquals(List.of(), changes);
+        runWriterTasks();
+
+        assertEquals(changed, model.getSchedule());
+        assertEquals(List.of("[" + ALICE + "] []", "[] [" + editedAlice + "]"), changes);
+    }
+
+    @Test
+    public void reload_savedBeforeReloaded_skipped() throws Exception {
+        Schedule changed = new Schedule();
+        otherProgram.saveSchedule(changed);
+
+        watcher.reload();
+        logic.execute("list");
+        runWriterTasks();
+
+        assertEquals(getTypicalSchedule(), model.getSchedule());
+    }
+
+    @Test
+    public void reload_unreadableFile_ignored() throws Exception {
+        Files.writeString(otherProgram.getScheduleFilePath(), "{ not a schedule");
+
+        watcher.reload();
+        runWriterTasks();
+
+        assertEquals(getTypicalSchedule(), model.getSchedule());
+    }
+
+    private void runWriterTasks() {
+        writerTasks.forEach(Runnable::run);
+        writerTasks.clear();
+    }
+}
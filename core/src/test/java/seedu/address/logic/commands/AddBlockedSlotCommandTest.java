@@ -7,24 +7,30 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.observable.ObservableSequence;
 import seedu.address.model.FreeSlot;
 import seedu.address.model.Model;
 import seedu.address.model.Overlappable;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Schedule;
+import seedu.address.model.ScheduleSnapshot;
+import seedu.address.model.archive.EventArchive;
 import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.change.ScheduleChangeStream;
 import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
+import seedu.address.model.sync.ChangeBundle;
 import seedu.address.testutil.BlockedSlotBuilder;
 
 public class AddBlockedSlotCommandTest {
@@ -115,11 +121,81 @@ public class AddBlockedSlotCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean mergeSchedule(ReadOnlySchedule schedule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EventArchive getEventArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setEventArchive(EventArchive eventArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void trimSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ScheduleChangeStream getScheduleChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeBundle getChangesSince(long seq) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int applyChanges(ChangeBundle bundle) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlySchedule getSchedule() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ScheduleSnapshot getScheduleSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredEventListByNamePrefixes(List<String> prefixes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteEvent(Event target) {
             throw new AssertionError("This method should not be called.");
@@ -165,12 +241,12 @@ public class AddBlockedSlotCommandTest {
         }
 
         @Override
-        public ObservableList<Event> getFilteredEventList() {
+        public ObservableSequence<Event> getFilteredEventList() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<BlockedSlot> getFilteredBlockedSlotList() {
+        public ObservableSequence<BlockedSlot> getFilteredBlockedSlotList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -185,7 +261,7 @@ public class AddBlockedSlotCommandTest {
         }
 
         @Override
-        public String filteredBlockedSlotListToString() {
+        public void showDates(LocalDate from, LocalDate to) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -224,6 +300,11 @@ public class AddBlockedSlotCommandTest {
             blockedSlotsAdded.add(blockedSlot);
         }
 
+        @Override
+        public void commitSchedule() {
+            // called by the command after a successful addition
+        }
+
         @Override
         public ReadOnlySchedule getSchedule() {
             return new Schedule();
@@ -7,24 +7,30 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.observable.ObservableSequence;
 import seedu.address.model.FreeSlot;
 import seedu.address.model.Model;
 import seedu.address.model.Overlappable;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Schedule;
+import seedu.address.model.ScheduleSnapshot;
+import seedu.address.model.archive.EventArchive;
 import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.change.ScheduleChangeStream;
 import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
+import seedu.address.model.sync.ChangeBundle;
 import seedu.address.testutil.EventBuilder;
 
 public class AddCommandTest {
@@ -113,11 +119,81 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean mergeSchedule(ReadOnlySchedule schedule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EventArchive getEventArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setEventArchive(EventArchive eventArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void trimSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ScheduleChangeStream getScheduleChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeBundle getChangesSince(long seq) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int applyChanges(ChangeBundle bundle) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlySchedule getSchedule() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ScheduleSnapshot getScheduleSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredEventListByNamePrefixes(List<String> prefixes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitSchedule() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteEvent(Event target) {
             throw new AssertionError("This method should not be called.");
@@ -163,12 +239,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObservableList<Event> getFilteredEventList() {
+        public ObservableSequence<Event> getFilteredEventList() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<BlockedSlot> getFilteredBlockedSlotList() {
+        public ObservableSequence<BlockedSlot> getFilteredBlockedSlotList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -183,7 +259,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public String filteredBlockedSlotListToString() {
+        public void showDates(LocalDate from, LocalDate to) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -222,6 +298,11 @@ public class AddCommandTest {
             eventsAdded.add(event);
         }
 
+        @Override
+        public void commitSchedule() {
+            // called by the command after a successful addition
+        }
+
         @Override
         public ReadOnlySchedule getSchedule() {
             return new Schedule();
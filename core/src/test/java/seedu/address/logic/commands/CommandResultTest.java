@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -67,6 +69,16 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, false, true)));
+
+        // different result lines -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", List.of("line"))));
+    }
+
+    @Test
+    public void getFullFeedbackToUser() {
+        assertEquals("feedback", new CommandResult("feedback").getFullFeedbackToUser());
+        assertEquals("feedback\nfirst\nsecond",
+                new CommandResult("feedback", List.of("first", "second")).getFullFeedbackToUser());
     }
 
     @Test
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_ARCHIVED_EVENTS_FOUND;
 import static seedu.address.commons.core.Messages.MESSAGE_EVENT_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalEvents.CARL;
@@ -12,13 +13,17 @@ import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.archive.EventArchive;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.NameContainsKeywordsPredicate;
+import seedu.address.testutil.EventBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +57,9 @@ public class FindCommandTest {
 
         // different event -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // archive searched -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -74,6 +82,23 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredEventList());
     }
 
+    @Test
+    public void execute_archiveSearched_archivedEventsListedAfterSchedule() {
+        Event archivedEvent = new EventBuilder().withName("Carl Old").withDate("2019-01-03").build();
+        model.setEventArchive(new EventArchive(() -> List.of(archivedEvent)));
+        NameContainsKeywordsPredicate predicate = preparePredicate("Carl");
+        expectedModel.updateFilteredEventList(predicate);
+
+        CommandResult expectedResult = new CommandResult(String.format(MESSAGE_EVENT_LISTED_OVERVIEW, 1) + "\n"
+                + String.format(MESSAGE_ARCHIVED_EVENTS_FOUND, 1), List.of("1. " + archivedEvent));
+        assertCommandSuccess(new FindCommand(predicate, true), model, expectedResult, expectedModel);
+        assertEquals(List.of(CARL), model.getFilteredEventList());
+
+        // not searched -> archived events are not listed
+        assertCommandSuccess(new FindCommand(predicate), model, String.format(MESSAGE_EVENT_LISTED_OVERVIEW, 1),
+                expectedModel);
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
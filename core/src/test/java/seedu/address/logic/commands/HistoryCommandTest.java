@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+import static seedu.address.testutil.TypicalEvents.DANIEL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.archive.EventArchive;
+
+public class HistoryCommandTest {
+
+    @Test
+    public void equals() {
+        HistoryCommand allCommand = new HistoryCommand(List.of());
+        HistoryCommand aliceCommand = new HistoryCommand(List.of("Alice"));
+
+        assertTrue(allCommand.equals(allCommand));
+        assertTrue(aliceCommand.equals(new HistoryCommand(List.of("Alice"))));
+        assertFalse(allCommand.equals(aliceCommand));
+        assertFalse(allCommand.equals(null));
+        assertFalse(allCommand.equals(1));
+    }
+
+    @Test
+    public void execute_emptyArchive_noEventsMessage() {
+        Model model = new ModelManager();
+        assertEquals(new CommandResult(HistoryCommand.MESSAGE_EMPTY), new HistoryCommand(List.of()).execute(model));
+    }
+
+    @Test
+    public void execute_noKeywords_allArchivedEventsListed() {
+        Model model = new ModelManager();
+        model.setEventArchive(new EventArchive(() -> List.of(DANIEL, ALICE)));
+
+        CommandResult result = new HistoryCommand(List.of()).execute(model);
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(List.of("1. " + ALICE, "2. " + DANIEL), result.getResultLines());
+    }
+
+    @Test
+    public void execute_keywords_matchingArchivedEventsListed() {
+        Model model = new ModelManager();
+        model.setEventArchive(new EventArchive(() -> List.of(DANIEL, ALICE, BENSON)));
+
+        CommandResult result = new HistoryCommand(List.of("meier")).execute(model);
+        assertEquals(List.of("1. " + BENSON, "2. " + DANIEL), result.getResultLines());
+    }
+}
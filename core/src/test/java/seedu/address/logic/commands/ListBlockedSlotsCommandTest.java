@@ -4,6 +4,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalEvents.getTypicalBlockedSlots;
 import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -41,14 +42,14 @@ public class ListBlockedSlotsCommandTest {
 
     @Test
     public void execute_typicalBlockedSlots_showsNonEmptyMessageWithList() {
-        String expectedList = "";
+        List<String> expectedLines = new ArrayList<>();
         List<BlockedSlot> typicalBlockedSlots = getTypicalBlockedSlots();
         for (int i = 0; i < typicalBlockedSlots.size(); i++) {
-            expectedList += (i + 1) + ". " + typicalBlockedSlots.get(i);
+            expectedLines.add((i + 1) + ". " + typicalBlockedSlots.get(i).toString().strip());
         }
         assertCommandSuccess(new ListBlockedSlotsCommand(),
                 model,
-                String.format(ListBlockedSlotsCommand.MESSAGE_SUCCESS_NONEMPTY, expectedList),
+                new CommandResult(ListBlockedSlotsCommand.MESSAGE_SUCCESS_NONEMPTY, expectedLines),
                 expectedModel);
     }
 }
@@ -6,6 +6,7 @@ import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -36,11 +37,12 @@ public class ListFreeSlotsCommandTest {
         Model model = new ModelManager(schedule, new UserPrefs());
         Model expectedModel = new ModelManager(getTypicalSchedule(), new UserPrefs());
         ArrayList<FreeSlot> freeSlots = schedule.getFreeSlots(new Date("2020-01-01"), LocalTime.of(0, 0));
-        StringBuilder expectedString = new StringBuilder(ListFreeSlotsCommand.MESSAGE_SUCCESS);
+        List<String> expectedLines = new ArrayList<>();
         for (FreeSlot f: freeSlots) {
-            expectedString.append("\n" + f.toString());
+            expectedLines.add(f.toString());
         }
         Command command = new ListFreeSlotsCommand(new Date("2020-01-01"), LocalTime.of(0, 0));
-        assertCommandSuccess(command, model, expectedString.toString(), expectedModel);
+        assertCommandSuccess(command, model, new CommandResult(ListFreeSlotsCommand.MESSAGE_SUCCESS, expectedLines),
+                expectedModel);
     }
 }
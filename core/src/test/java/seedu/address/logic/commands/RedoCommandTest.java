@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_noCommandToRedo_failure() {
+        Model model = new ModelManager(getTypicalSchedule(), new UserPrefs());
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_deletesEventAgain() {
+        Model model = new ModelManager(getTypicalSchedule(), new UserPrefs());
+        model.deleteEvent(ALICE);
+        model.commitSchedule();
+        model.undoSchedule();
+        Model expectedModel = new ModelManager(getTypicalSchedule(), new UserPrefs());
+        expectedModel.deleteEvent(ALICE);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
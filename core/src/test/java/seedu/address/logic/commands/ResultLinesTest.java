@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultLinesTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ResultLines.of(null, Object::toString));
+        assertThrows(NullPointerException.class, () -> ResultLines.of(List.of(), null));
+    }
+
+    @Test
+    public void get_formatsOnlyTheLinesRead() {
+        AtomicInteger formatCount = new AtomicInteger();
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(i);
+        }
+        ResultLines<Integer> lines = ResultLines.of(items, item -> {
+            formatCount.incrementAndGet();
+            return "item " + item;
+        });
+
+        assertEquals(1000, lines.size());
+        assertEquals(0, formatCount.get());
+        assertEquals("item 500", lines.get(500));
+        assertEquals(1, formatCount.get());
+    }
+
+    @Test
+    public void get_itemsChangedAfterwards_keepsOriginalItems() {
+        List<String> items = new ArrayList<>(List.of("a", "b"));
+        ResultLines<String> lines = ResultLines.of(items, String::toUpperCase);
+        items.clear();
+
+        assertEquals(List.of("A", "B"), lines);
+    }
+
+    @Test
+    public void numbered_numbersFromOne() {
+        assertEquals(List.of("1. a", "2. b"), ResultLines.numbered(List.of("a", "b"), item -> item));
+        assertThrows(IndexOutOfBoundsException.class, () -> ResultLines.numbered(List.of("a"), item -> item).get(1));
+    }
+}
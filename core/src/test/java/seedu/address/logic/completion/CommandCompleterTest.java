@@ -0,0 +1,65 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.SortedObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class CommandCompleterTest {
+
+    private final SortedObservableList<Event> events = new SortedObservableList<>(Event::compareTo);
+    private final CommandCompleter completer = new CommandCompleter(events);
+
+    @Test
+    public void complete_commandWord() {
+        assertEquals("add ", completer.complete("a", 0));
+        assertEquals("  delete ", completer.complete("  del", 0));
+        assertEquals("delete_blocked ", completer.complete("del", 1));
+        assertEquals("delete ", completer.complete("del", 2));
+        assertEquals("delete_blocked ", completer.complete("del", -1));
+        assertEquals("xyz", completer.complete("xyz", 0));
+    }
+
+    @Test
+    public void complete_prefix() {
+        assertEquals("add n/", completer.complete("add n", 0));
+        assertEquals("add n/Amy t/", completer.complete("add n/Amy t", 0));
+        assertEquals("add n/Amy tag/", completer.complete("add n/Amy t", 1));
+        assertEquals("add until/", completer.complete("add u", 1));
+    }
+
+    @Test
+    public void complete_valuesOfEvents() {
+        events.insert(ALICE);
+        events.insert(BENSON);
+
+        assertEquals("add n/Alice Pauline", completer.complete("add n/al", 0));
+        assertEquals("add n/Amy l/123, Jurong West Ave 6, #08-111",
+                completer.complete("add n/Amy l/123", 0));
+        assertEquals("edit 1 tag/friends", completer.complete("edit 1 tag/fr", 0));
+        assertEquals("edit 1 tag/owesMoney", completer.complete("edit 1 tag/", 1));
+        // a name with spaces is completed as a whole
+        assertEquals("add n/Benson Meier", completer.complete("add n/benson m", 0));
+        // the value after a date is not completed, so a prefix is completed instead
+        assertEquals("add d/2020 r/", completer.complete("add d/2020 r", 0));
+    }
+
+    @Test
+    public void complete_followsChangesToEvents() {
+        events.insert(ALICE);
+        events.replace(ALICE, new EventBuilder(ALICE).withName("Alicia Keys").build());
+
+        assertEquals("add n/Alicia Keys", completer.complete("add n/ali", 0));
+        assertEquals("add n/Alicia Keys", completer.complete("add n/ali", 1));
+        events.insert(BENSON);
+        events.removeElement(events.get(0));
+        assertEquals("add n/ali", completer.complete("add n/ali", 0));
+        // the tag is still used by another event
+        assertEquals("add tag/friends", completer.complete("add tag/f", 0));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class TrieTest {
+
+    private final Trie trie = new Trie();
+
+    @Test
+    public void getWithPrefix_wordsInOrderIgnoringCase() {
+        trie.add("delete");
+        trie.add("Delete_blocked");
+        trie.add("add");
+        trie.add("DELETE");
+
+        assertEquals(2, trie.countWithPrefix("dEl"));
+        assertEquals("delete", trie.getWithPrefix("del", 0));
+        assertEquals("Delete_blocked", trie.getWithPrefix("del", 1));
+        assertNull(trie.getWithPrefix("del", 2));
+        assertEquals("add", trie.getWithPrefix("", 0));
+        assertEquals(0, trie.countWithPrefix("x"));
+        assertNull(trie.getWithPrefix("x", 0));
+    }
+
+    @Test
+    public void remove_keepsWordUntilLastOccurrenceRemoved() {
+        trie.add("NUS");
+        trie.add("NUS");
+        trie.add("NUS COM1");
+
+        trie.remove("NUS");
+        assertEquals(2, trie.countWithPrefix("nus"));
+
+        trie.remove("NUS");
+        assertEquals(1, trie.countWithPrefix("nus"));
+        assertEquals("NUS COM1", trie.getWithPrefix("n", 0));
+
+        trie.remove("NUS COM1");
+        trie.remove("missing");
+        assertEquals(0, trie.countWithPrefix(""));
+        assertNull(trie.getWithPrefix("", 0));
+    }
+}
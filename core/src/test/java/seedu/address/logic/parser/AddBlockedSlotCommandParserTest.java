@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.AddBlockedSlotCommand;
 import seedu.address.model.blockedslot.BlockedSlot;
 import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.TimeSlot;
 import seedu.address.testutil.BlockedSlotBuilder;
 
@@ -45,6 +46,28 @@ public class AddBlockedSlotCommandParserTest {
                         + TIMESLOT_DESC_BLOCKEDSLOTA, new AddBlockedSlotCommand(expectedBlockedSlot));
     }
 
+    @Test
+    public void parse_recurrencePresent_success() {
+        BlockedSlot expectedBlockedSlot = new BlockedSlotBuilder().withDate(VALID_DATE_BLOCKEDSLOTA)
+                .withTimeSlot(VALID_STARTTIME_BLOCKEDSLOTA, VALID_ENDTIME_BLOCKEDSLOTA)
+                .withRecurrence("weekday", "2020-06-30", "2020-01-02").build();
+        assertParseSuccess(parser, DATE_DESC_BLOCKEDSLOTA + TIMESLOT_DESC_BLOCKEDSLOTA
+                + " every/weekday until/2020-06-30 except/2020-01-02", new AddBlockedSlotCommand(expectedBlockedSlot));
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddBlockedSlotCommand.MESSAGE_USAGE);
+        String blockedSlot = DATE_DESC_BLOCKEDSLOTA + TIMESLOT_DESC_BLOCKEDSLOTA;
+
+        // rule without end date, end date without rule
+        assertParseFailure(parser, blockedSlot + " every/weekday", expectedMessage);
+        assertParseFailure(parser, blockedSlot + " until/2020-06-30", expectedMessage);
+
+        // invalid rule
+        assertParseFailure(parser, blockedSlot + " every/weekdays until/2020-06-30", Recurrence.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddBlockedSlotCommand.MESSAGE_USAGE);
@@ -39,6 +39,7 @@ import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.Location;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.TimeSlot;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EventBuilder;
@@ -90,6 +91,36 @@ public class AddCommandParserTest {
                 new AddCommand(expectedEvent));
     }
 
+    @Test
+    public void parse_recurrencePresent_success() {
+        Event expectedEvent = new EventBuilder(AMY).withTags().withRemark("")
+                .withRecurrence("2w", "2020-03-01", "2020-01-15").build();
+        assertParseSuccess(parser, NAME_DESC_AMY + DATE_DESC_AMY + TIMESLOT_DESC_AMY + LOCATION_DESC_AMY
+                + " every/2w until/2020-03-01 except/2020-01-15", new AddCommand(expectedEvent));
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE);
+        String event = NAME_DESC_AMY + DATE_DESC_AMY + TIMESLOT_DESC_AMY + LOCATION_DESC_AMY;
+
+        // rule without end date
+        assertParseFailure(parser, event + " every/w", expectedMessage);
+
+        // end date or exception without rule
+        assertParseFailure(parser, event + " until/2020-03-01", expectedMessage);
+        assertParseFailure(parser, event + " except/2020-01-08", expectedMessage);
+
+        // invalid rule
+        assertParseFailure(parser, event + " every/0d until/2020-03-01", Recurrence.MESSAGE_CONSTRAINTS);
+
+        // end date before first date
+        assertParseFailure(parser, event + " every/w until/2019-12-31", Recurrence.MESSAGE_UNTIL_BEFORE_START);
+
+        // invalid exception
+        assertParseFailure(parser, event + " every/w until/2020-03-01 except/2020-13-01", Date.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE);
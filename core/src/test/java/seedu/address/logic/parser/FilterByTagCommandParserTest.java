@@ -31,4 +31,16 @@ public class FilterByTagCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n friends \n \t owesMoney  \t", expectedFilteredTagCommand);
     }
+
+    @Test
+    public void parse_archiveFlag_returnsFilterByTagCommandSearchingArchive() {
+        FilterByTagCommand expectedFilteredTagCommand =
+                new FilterByTagCommand(new TagContainsKeywordsPredicate(Arrays.asList("friends")), true);
+        assertParseSuccess(parser, "friends --archive", expectedFilteredTagCommand);
+        assertParseSuccess(parser, "--archive friends", expectedFilteredTagCommand);
+
+        // only the flag
+        assertParseFailure(parser, " --archive ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FilterByTagCommand.MESSAGE_USAGE));
+    }
 }
@@ -31,4 +31,18 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_archiveFlag_returnsFindCommandSearchingArchive() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), true);
+        assertParseSuccess(parser, "Alice --archive Bob", expectedFindCommand);
+
+        // only the flag
+        assertParseFailure(parser, "--archive", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+
+        // without the flag -> does not search the archive
+        assertParseSuccess(parser, "Alice Bob",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), false));
+    }
 }
@@ -0,0 +1,24 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.HistoryCommand;
+
+public class HistoryCommandParserTest {
+
+    private HistoryCommandParser parser = new HistoryCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsHistoryCommandOfAllEvents() {
+        assertParseSuccess(parser, "     ", new HistoryCommand(List.of()));
+    }
+
+    @Test
+    public void parse_keywords_returnsHistoryCommand() {
+        assertParseSuccess(parser, " \n Alice \n \t Bob  \t", new HistoryCommand(List.of("Alice", "Bob")));
+    }
+}
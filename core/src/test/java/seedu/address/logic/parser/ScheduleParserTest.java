@@ -31,6 +31,8 @@ import seedu.address.logic.commands.ListBlockedSlotsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListFreeSlotsCommand;
 import seedu.address.logic.commands.NextEventCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UpcomingEventsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.blockedslot.BlockedSlot;
@@ -75,6 +77,18 @@ public class ScheduleParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_EVENT, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
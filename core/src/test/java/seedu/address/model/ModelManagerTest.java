@@ -0,0 +1,328 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.change.ScheduleChange;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.NameContainsKeywordsPredicate;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class ModelManagerTest {
+
+    private ModelManager modelManager = new ModelManager();
+
+    @Test
+    public void constructor() {
+        assertEquals(new UserPrefs(), modelManager.getUserPrefs());
+        assertEquals(new GuiSettings(), modelManager.getGuiSettings());
+        assertEquals(new Schedule(), new Schedule(modelManager.getSchedule()));
+    }
+
+    @Test
+    public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
+    }
+
+    @Test
+    public void setUserPrefs_validUserPrefs_copiesUserPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setScheduleFilePath(Paths.get("address/book/file/path"));
+        userPrefs.setGuiSettings(new GuiSettings(1, 2, 3, 4));
+        modelManager.setUserPrefs(userPrefs);
+        assertEquals(userPrefs, modelManager.getUserPrefs());
+
+        // Modifying userPrefs should not modify modelManager's userPrefs
+        UserPrefs oldUserPrefs = new UserPrefs(userPrefs);
+        userPrefs.setScheduleFilePath(Paths.get("new/address/book/file/path"));
+        assertEquals(oldUserPrefs, modelManager.getUserPrefs());
+    }
+
+    @Test
+    public void setGuiSettings_nullGuiSettings_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.setGuiSettings(null));
+    }
+
+    @Test
+    public void setGuiSettings_validGuiSettings_setsGuiSettings() {
+        GuiSettings guiSettings = new GuiSettings(1, 2, 3, 4);
+        modelManager.setGuiSettings(guiSettings);
+        assertEquals(guiSettings, modelManager.getGuiSettings());
+    }
+
+    @Test
+    public void setScheduleFilePath_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.setScheduleFilePath(null));
+    }
+
+    @Test
+    public void setScheduleFilePath_validPath_setsScheduleFilePath() {
+        Path path = Paths.get("address/book/file/path");
+        modelManager.setScheduleFilePath(path);
+        assertEquals(path, modelManager.getScheduleFilePath());
+    }
+
+    @Test
+    public void getFilteredEventList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEventList().remove(0));
+    }
+
+    @Test
+    public void getScheduleChanges_eachOperationPublished() {
+        List<ScheduleChange.Type> heard = new ArrayList<>();
+        modelManager.getScheduleChanges().addListener(change -> heard.add(change.getType()));
+
+        modelManager.addEvent(ALICE);
+        modelManager.commitSchedule();
+        modelManager.undoSchedule();
+        modelManager.redoSchedule();
+        assertEquals(List.of(ScheduleChange.Type.EVENT_ADDED, ScheduleChange.Type.EVENT_DELETED,
+                ScheduleChange.Type.EVENT_ADDED), heard);
+    }
+
+    @Test
+    public void scheduleLoader_restLoadedWhenNeeded() {
+        Event later = new EventBuilder().withName("Later").withDate("2021-03-01").build();
+        Event muchLater = new EventBuilder().withName("Much Later").withDate("2025-03-01").build();
+        StubScheduleLoader loader = new StubScheduleLoader(later, muchLater);
+        modelManager = new ModelManager(new ScheduleBuilder().withEvent(ALICE).build(), new UserPrefs(), loader);
+
+        // only what the event could clash with is loaded
+        Event clashing = new EventBuilder(later).withName("Clashing").build();
+        assertTrue(modelManager.isBlockedByEvent(clashing));
+        assertEquals(List.of(ALICE, later), modelManager.getSchedule().getEventList());
+
+        // loaded events stay after undoing
+        modelManager.addEvent(BENSON);
+        modelManager.commitSchedule();
+        modelManager.undoSchedule();
+        assertEquals(List.of(ALICE, later), modelManager.getSchedule().getEventList());
+
+        // only the events that a search finds are loaded
+        modelManager.updateFilteredEventList(new NameContainsKeywordsPredicate(List.of("Much")));
+        assertEquals(List.of(muchLater), modelManager.getFilteredEventList());
+        assertTrue(loader.isFullyLoaded());
+        modelManager.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+        assertEquals(List.of(ALICE, later, muchLater), modelManager.getFilteredEventList());
+    }
+
+    @Test
+    public void updateFilteredEventListByNamePrefixes_unloadedEventsMatch_onlyMatchesLoadedOnce() {
+        Event later = new EventBuilder().withName("Later").withDate("2021-03-01").build();
+        Event muchLater = new EventBuilder().withName("Much Later").withDate("2025-03-01").build();
+        StubScheduleLoader loader = new StubScheduleLoader(later, muchLater);
+        modelManager = new ModelManager(new ScheduleBuilder().withEvent(ALICE).build(), new UserPrefs(), loader);
+
+        modelManager.updateFilteredEventListByNamePrefixes(List.of("mu"));
+        assertEquals(List.of(muchLater), modelManager.getFilteredEventList());
+        assertEquals(List.of(ALICE, muchLater), modelManager.getSchedule().getEventList());
+        assertEquals(1, loader.matchingLoadCount);
+        assertFalse(loader.isFullyLoaded());
+    }
+
+    @Test
+    public void trimSchedule_overCapacity_leastRecentlyUsedMonthsUnloaded() {
+        Event later = new EventBuilder().withName("Later").withDate("2021-03-01").build();
+        Event muchLater = new EventBuilder().withName("Much Later").withDate("2025-03-01").build();
+        StubScheduleLoader loader = new StubScheduleLoader(later, muchLater);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setScheduleCacheCapacity(1);
+        modelManager = new ModelManager(new ScheduleBuilder().withEvent(ALICE).build(), userPrefs, loader);
+        modelManager.updateFilteredEventList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        List<ScheduleChange> heard = new ArrayList<>();
+        modelManager.getScheduleChanges().addListener(heard::add);
+
+        // the month shown in the filtered list is kept
+        modelManager.trimSchedule();
+        assertEquals(List.of(ALICE), modelManager.getSchedule().getEventList());
+        assertEquals(List.of(ALICE), modelManager.getFilteredEventList());
+        assertFalse(loader.isFullyLoaded());
+        assertTrue(heard.isEmpty());
+
+        // unloaded months are loaded again when needed
+        assertTrue(modelManager.isBlockedByEvent(new EventBuilder(later).withName("Clashing").build()));
+        assertEquals(List.of(ALICE, later), modelManager.getSchedule().getEventList());
+
+        // changed months are kept for undoing
+        Event editedLater = new EventBuilder(later).withName("Edited Later").build();
+        modelManager.setEvent(later, editedLater);
+        modelManager.commitSchedule();
+        modelManager.trimSchedule();
+        assertEquals(List.of(ALICE, editedLater), modelManager.getSchedule().getEventList());
+        modelManager.undoSchedule();
+        assertEquals(List.of(ALICE, later), modelManager.getSchedule().getEventList());
+    }
+
+    @Test
+    public void trimSchedule_monthsOutOfViewUnloaded_loadedAgainByListing() {
+        Event later = new EventBuilder().withName("Later").withDate("2021-03-01").build();
+        Event today = new EventBuilder().withName("Today").withDate(LocalDate.now().toString()).build();
+        StubScheduleLoader loader = new StubScheduleLoader(later);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setScheduleCacheCapacity(1);
+        modelManager = new ModelManager(new ScheduleBuilder().withEvent(ALICE).withEvent(today).build(), userPrefs,
+                loader);
+        assertTrue(modelManager.isBlockedByEvent(new EventBuilder(later).withName("Clashing").build()));
+        assertEquals(List.of(ALICE, later, today), modelManager.getFilteredEventList());
+
+        // the month in view is kept, even though it was used least recently
+        modelManager.trimSchedule();
+        assertEquals(List.of(today), modelManager.getSchedule().getEventList());
+        assertEquals(List.of(today), modelManager.getFilteredEventList());
+        assertFalse(loader.isFullyLoaded());
+
+        // listing everything, as `list` does, loads the unloaded months back, and keeps them while they are listed
+        modelManager.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+        assertEquals(List.of(ALICE, later, today), modelManager.getFilteredEventList());
+        modelManager.trimSchedule();
+        assertEquals(List.of(ALICE, later, today), modelManager.getFilteredEventList());
+        assertTrue(loader.isFullyLoaded());
+
+        // a search shows the months around today only, besides what it finds
+        modelManager.updateFilteredEventList(new NameContainsKeywordsPredicate(List.of("Later")));
+        modelManager.trimSchedule();
+        assertEquals(List.of(later, today), modelManager.getSchedule().getEventList());
+    }
+
+    @Test
+    public void showDates_datesInView_keptUntilOutOfView() {
+        Event later = new EventBuilder().withName("Later").withDate("2021-03-01").build();
+        Event today = new EventBuilder().withName("Today").withDate(LocalDate.now().toString()).build();
+        StubScheduleLoader loader = new StubScheduleLoader(later);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setScheduleCacheCapacity(1);
+        modelManager = new ModelManager(new ScheduleBuilder().withEvent(ALICE).withEvent(today).build(), userPrefs,
+                loader);
+
+        modelManager.showDates(LocalDate.of(2021, 2, 22), LocalDate.of(2021, 3, 21));
+        modelManager.trimSchedule();
+        assertEquals(List.of(later, today), modelManager.getFilteredEventList());
+
+        modelManager.showDates(LocalDate.now(), LocalDate.now().plusWeeks(4));
+        modelManager.trimSchedule();
+        assertEquals(List.of(today), modelManager.getFilteredEventList());
+        assertFalse(loader.isFullyLoaded());
+    }
+
+
+    @Test
+    public void nextEventInList() {
+        assertNull(modelManager.nextEventInTheList());
+    }
+
+    @Test
+    public void equals() {
+        Schedule schedule = new ScheduleBuilder().withEvent(ALICE).withEvent(BENSON).build();
+        Schedule differentSchedule = new Schedule();
+        UserPrefs userPrefs = new UserPrefs();
+
+        // same values -> returns true
+        modelManager = new ModelManager(schedule, userPrefs);
+        ModelManager modelManagerCopy = new ModelManager(schedule, userPrefs);
+        assertTrue(modelManager.equals(modelManagerCopy));
+
+        // same object -> returns true
+        assertTrue(modelManager.equals(modelManager));
+
+        // null -> returns false
+        assertFalse(modelManager.equals(null));
+
+        // different types -> returns false
+        assertFalse(modelManager.equals(5));
+
+        // different schedule -> returns false
+        assertFalse(modelManager.equals(new ModelManager(differentSchedule, userPrefs)));
+
+        // different filteredList -> returns false
+        String[] keywords = ALICE.getName().fullName.split("\\s+");
+        modelManager.updateFilteredEventList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        assertFalse(modelManager.equals(new ModelManager(schedule, userPrefs)));
+
+        // resets modelManager to initial state for upcoming tests
+        modelManager.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+
+        // different userPrefs -> returns false
+        UserPrefs differentUserPrefs = new UserPrefs();
+        differentUserPrefs.setScheduleFilePath(Paths.get("differentFilePath"));
+        assertFalse(modelManager.equals(new ModelManager(schedule, differentUserPrefs)));
+    }
+
+    /**
+     * A {@code ScheduleLoader} that hands out the given events by their dates.
+     */
+    private static class StubScheduleLoader implements ScheduleLoader {
+        private final List<Event> notLoaded;
+        private int matchingLoadCount;
+
+        StubScheduleLoader(Event... events) {
+            notLoaded = new ArrayList<>(Arrays.asList(events));
+        }
+
+        @Override
+        public ReadOnlySchedule load(LocalDate from, LocalDate to) {
+            Schedule loaded = new Schedule();
+            for (Event event : new ArrayList<>(notLoaded)) {
+                if ((from == null || !event.getDate().date.isBefore(from))
+                        && (to == null || !event.getDate().date.isAfter(to))) {
+                    loaded.addEvent(event);
+                    notLoaded.remove(event);
+                }
+            }
+            return loaded;
+        }
+
+        @Override
+        public ReadOnlySchedule loadWithEventsBefore(LocalDate date) {
+            return load(null, date.minusDays(1));
+        }
+
+        @Override
+        public ReadOnlySchedule loadMatchingEvents(Predicate<? super Event> isWanted) {
+            matchingLoadCount++;
+            Schedule loaded = new Schedule();
+            for (Event event : new ArrayList<>(notLoaded)) {
+                if (isWanted.test(event)) {
+                    loaded.addEvent(event);
+                    notLoaded.remove(event);
+                }
+            }
+            return loaded;
+        }
+
+        @Override
+        public ReadOnlySchedule loadMatchingBlockedSlots(Predicate<? super BlockedSlot> isWanted) {
+            return new Schedule();
+        }
+
+        @Override
+        public boolean isFullyLoaded() {
+            return notLoaded.isEmpty();
+        }
+
+        @Override
+        public boolean unload(YearMonth month, List<Event> events, List<BlockedSlot> blockedSlots) {
+            notLoaded.addAll(events);
+            return true;
+        }
+    }
+}
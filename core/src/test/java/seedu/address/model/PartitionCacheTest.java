@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PartitionCacheTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2020, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2020, 2);
+    private static final YearMonth MARCH = YearMonth.of(2020, 3);
+    private static final YearMonth APRIL = YearMonth.of(2020, 4);
+
+    private final PartitionCache cache = new PartitionCache();
+
+    @Test
+    public void touch_movesToMostRecentlyUsed() {
+        cache.touch(MARCH);
+        cache.touch(JANUARY);
+        cache.touch(FEBRUARY);
+        cache.touch(MARCH);
+        assertEquals(List.of(JANUARY, FEBRUARY, MARCH), cache.getMonths());
+    }
+
+    @Test
+    public void touch_range_touchesMonthsInMemoryInOrder() {
+        List.of(APRIL, FEBRUARY, JANUARY, MARCH).forEach(cache::touch);
+
+        cache.touch(LocalDate.of(2020, 1, 20), LocalDate.of(2020, 2, 1));
+        assertEquals(List.of(APRIL, MARCH, JANUARY, FEBRUARY), cache.getMonths());
+
+        // open range
+        cache.touch(LocalDate.of(2020, 3, 1), null);
+        assertEquals(List.of(JANUARY, FEBRUARY, MARCH, APRIL), cache.getMonths());
+    }
+
+    @Test
+    public void evict_leastRecentlyUsedFirst_untilWithinCapacity() {
+        List.of(JANUARY, FEBRUARY, MARCH, APRIL).forEach(cache::touch);
+        Map<YearMonth, Integer> sizes = Map.of(JANUARY, 2, FEBRUARY, 3, MARCH, 1, APRIL, 4);
+
+        // January is refused
+        assertEquals(List.of(FEBRUARY, MARCH), cache.evict(sizes, 6, month -> !month.equals(JANUARY)));
+        assertEquals(List.of(JANUARY, APRIL), cache.getMonths());
+
+        // within capacity
+        assertEquals(List.of(), cache.evict(Map.of(JANUARY, 2, APRIL, 4), 6, month -> true));
+    }
+
+    @Test
+    public void evict_monthsNotTouched_trackedAsMostRecentlyUsed() {
+        cache.touch(JANUARY);
+        cache.touch(MARCH);
+
+        // March is no longer in memory, and February was never touched
+        assertEquals(List.of(JANUARY), cache.evict(Map.of(JANUARY, 1, FEBRUARY, 1), 1, month -> true));
+        assertEquals(List.of(FEBRUARY), cache.getMonths());
+    }
+}
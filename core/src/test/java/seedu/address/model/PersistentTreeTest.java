@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentTreeTest {
+
+    @Test
+    public void insertRemoveSet_randomOperations_matchesArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentTree<Integer> tree = PersistentTree.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                tree = tree.insert(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                tree = tree.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                tree = tree.set(index, -i);
+            }
+        }
+        assertEquals(expected, toList(tree));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), tree.get(i));
+        }
+    }
+
+    @Test
+    public void insert_oldVersion_isUnchanged() {
+        PersistentTree<String> before = PersistentTree.of(Arrays.asList("a", "c"));
+        PersistentTree<String> after = before.insert(1, "b").remove(0);
+        assertEquals(Arrays.asList("a", "c"), toList(before));
+        assertEquals(Arrays.asList("b", "c"), toList(after));
+    }
+
+    @Test
+    public void insert_ascendingElements_staysBalanced() {
+        PersistentTree<Integer> tree = PersistentTree.empty();
+        for (int i = 0; i < 1024; i++) {
+            tree = tree.insert(i, i);
+        }
+        // an AVL tree of 1024 elements is at most 1.44 * log2(1024) levels deep, so this loop stays short
+        int steps = 0;
+        int target = 1023;
+        for (int low = 0, high = tree.size(); low < high; steps++) {
+            int mid = (low + high) >>> 1;
+            if (tree.get(mid) < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        assertTrue(steps <= 15);
+        assertEquals(Integer.valueOf(target), tree.get(target));
+    }
+
+    @Test
+    public void firstIndexNotMatching_prefixPredicate_returnsBoundary() {
+        PersistentTree<Integer> tree = PersistentTree.of(Arrays.asList(1, 3, 3, 5, 7));
+        assertEquals(0, tree.firstIndexNotMatching(i -> i < 1));
+        assertEquals(1, tree.firstIndexNotMatching(i -> i < 3));
+        assertEquals(3, tree.firstIndexNotMatching(i -> i <= 3));
+        assertEquals(5, tree.firstIndexNotMatching(i -> true));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentTree<Integer> tree = PersistentTree.of(Arrays.asList(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.insert(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentTree.empty().remove(0));
+    }
+
+    private static <T> List<T> toList(PersistentTree<T> tree) {
+        List<T> list = new ArrayList<>();
+        tree.forEach(list::add);
+        return list;
+    }
+}
@@ -13,16 +13,19 @@ import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.observable.ObservableSequence;
 import seedu.address.model.blockedslot.BlockedSlot;
 import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.testutil.BlockedSlotBuilder;
 import seedu.address.testutil.EventBuilder;
 
 public class ScheduleTest {
@@ -46,6 +49,21 @@ public class ScheduleTest {
         assertEquals(newData, schedule);
     }
 
+    @Test
+    public void mergeFrom_oneEventChanged_changesOnlyThatEvent() {
+        schedule.resetData(getTypicalSchedule());
+        Schedule newData = getTypicalSchedule();
+        Event editedAlice = new EventBuilder(ALICE).withRemark("Moved online").build();
+        newData.setEvent(ALICE, editedAlice);
+        List<String> changes = new ArrayList<>();
+        schedule.getEventList().addListener(change -> changes.add(change.getRemoved() + " " + change.getAdded()));
+
+        assertTrue(schedule.mergeFrom(newData));
+        assertEquals(newData, schedule);
+        assertEquals(Arrays.asList("[" + ALICE + "] []", "[] [" + editedAlice + "]"), changes);
+        assertFalse(schedule.mergeFrom(newData));
+    }
+
     @Test
     public void getEventList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> schedule.getEventList().remove(0));
@@ -155,24 +173,63 @@ public class ScheduleTest {
         assertEquals(freeSlots4, freeSlots3);
     }
 
+    @Test
+    public void getFreeSlot_recurringEvent_excludesEveryOccurrence() {
+        Schedule schedule = new Schedule();
+        Event weekly = new EventBuilder().withDate("2020-01-06").withTimeSlot("1000", "1100")
+                .withRecurrence("w", "2020-01-27", "2020-01-20").build();
+        schedule.addEvent(weekly);
+        ArrayList<FreeSlot> freeSlots = schedule.getFreeSlots(new Date("2020-01-08"), LocalTime.of(0, 0));
+
+        for (FreeSlot f: freeSlots) {
+            assertFalse(f.isOverlappingWith(weekly));
+        }
+        // occurrences on 2020-01-13 and 2020-01-27 split their days, the exception on 2020-01-20 does not
+        assertTrue(freeSlots.contains(new FreeSlot(new Date("2020-01-13"), new TimeSlot("0000", "1000"))));
+        assertTrue(freeSlots.contains(new FreeSlot(new Date("2020-01-20"), new TimeSlot("0000", "2359"))));
+        assertTrue(freeSlots.contains(new FreeSlot(new Date("2020-01-27"), new TimeSlot("1100", "2359"))));
+        assertEquals(new Date("2020-01-27"), freeSlots.get(freeSlots.size() - 1).getDate());
+    }
+
+    @Test
+    public void getFreeSlot_recurringBlockedSlot_subtractedOnMatchingDays() {
+        Schedule schedule = new Schedule();
+        // 2020-01-06 is a Monday
+        schedule.addBlockedSlot(new BlockedSlotBuilder().withDate("2020-01-06").withTimeSlot("1200", "1300")
+                .withRecurrence("weekday", "2020-01-12").build());
+        schedule.addEvent(new EventBuilder().withDate("2020-01-08").withTimeSlot("1230", "1400").build());
+        ArrayList<FreeSlot> freeSlots = schedule.getFreeSlots(new Date("2020-01-07"), LocalTime.of(9, 0));
+
+        assertEquals(Arrays.asList(
+                new FreeSlot(new Date("2020-01-07"), new TimeSlot("0900", "1200")),
+                new FreeSlot(new Date("2020-01-07"), new TimeSlot("1300", "2359")),
+                new FreeSlot(new Date("2020-01-08"), new TimeSlot("0000", "1200")),
+                new FreeSlot(new Date("2020-01-08"), new TimeSlot("1400", "2359")),
+                new FreeSlot(new Date("2020-01-09"), new TimeSlot("0000", "1200")),
+                new FreeSlot(new Date("2020-01-09"), new TimeSlot("1300", "2359")),
+                new FreeSlot(new Date("2020-01-10"), new TimeSlot("0000", "1200")),
+                new FreeSlot(new Date("2020-01-10"), new TimeSlot("1300", "2359"))), freeSlots);
+    }
+
     /**
      * A stub ReadOnlySchedule whose events list can violate interface constraints.
      */
     private static class ScheduleStub implements ReadOnlySchedule {
-        private final ObservableList<Event> events = FXCollections.observableArrayList();
-        private final ObservableList<BlockedSlot> blockedSlots = FXCollections.observableArrayList();
+        private final SortedObservableList<Event> events = new SortedObservableList<>((first, second) -> 0);
+        private final SortedObservableList<BlockedSlot> blockedSlots =
+                new SortedObservableList<>((first, second) -> 0);
 
         ScheduleStub(Collection<Event> events) {
-            this.events.setAll(events);
+            this.events.resetTo(events);
         }
 
         @Override
-        public ObservableList<Event> getEventList() {
+        public ObservableSequence<Event> getEventList() {
             return events;
         }
 
         @Override
-        public ObservableList<BlockedSlot> getBlockedSlotList() {
+        public ObservableSequence<BlockedSlot> getBlockedSlotList() {
             return blockedSlots;
         }
     }
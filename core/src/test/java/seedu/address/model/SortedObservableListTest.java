@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedObservableListTest {
+
+    private final SortedObservableList<String> list = new SortedObservableList<>(Comparator.naturalOrder());
+    private final List<String> changes = new ArrayList<>();
+
+    public SortedObservableListTest() {
+        list.addListener(change -> {
+            if (change.wasReplaced()) {
+                changes.add("set " + change.getFrom() + " " + change.getAdded());
+            } else if (change.wasRemoved()) {
+                changes.add("remove " + change.getFrom() + " " + change.getRemoved());
+            } else {
+                changes.add("add " + change.getFrom() + " " + change.getAdded());
+            }
+        });
+    }
+
+    @Test
+    public void insert_keepsOrderAndReportsPosition() {
+        list.insert("c");
+        list.insert("a");
+        assertEquals(1, list.insert("b"));
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(Arrays.asList("add 0 [c]", "add 0 [a]", "add 1 [b]"), changes);
+    }
+
+    @Test
+    public void removeElement_existingElement_reportsSingleRemoval() {
+        list.resetTo(Arrays.asList("c", "a", "b"));
+        changes.clear();
+        assertTrue(list.removeElement("b"));
+        assertFalse(list.removeElement("d"));
+        assertEquals(Arrays.asList("a", "c"), list);
+        assertEquals(Arrays.asList("remove 1 [b]"), changes);
+    }
+
+    @Test
+    public void replace_samePosition_reportsSet() {
+        list.resetTo(Arrays.asList("a", "c", "e"));
+        changes.clear();
+        assertTrue(list.replace("c", "d"));
+        assertEquals(Arrays.asList("a", "d", "e"), list);
+        assertEquals(Arrays.asList("set 1 [d]"), changes);
+    }
+
+    @Test
+    public void replace_newPosition_reportsMove() {
+        list.resetTo(Arrays.asList("a", "c", "e"));
+        changes.clear();
+        assertTrue(list.replace("a", "f"));
+        assertFalse(list.replace("x", "y"));
+        assertEquals(Arrays.asList("c", "e", "f"), list);
+        assertEquals(Arrays.asList("remove 0 [a]", "add 2 [f]"), changes);
+    }
+
+    @Test
+    public void firstIndexNotMatching_prefixPredicate_returnsBoundary() {
+        list.resetTo(Arrays.asList("a", "b", "b", "c"));
+        assertEquals(1, list.firstIndexNotMatching(s -> s.compareTo("b") < 0));
+        assertEquals(3, list.firstIndexNotMatching(s -> s.compareTo("b") <= 0));
+        assertEquals(4, list.firstIndexNotMatching(s -> true));
+    }
+
+    @Test
+    public void restore_snapshot_reportsOnlyDifferingElements() {
+        list.resetTo(Arrays.asList("a", "b", "d", "e"));
+        PersistentTree<String> snapshot = list.snapshot();
+        list.insert("c");
+        list.removeElement("e");
+        changes.clear();
+
+        list.restore(snapshot);
+        assertEquals(Arrays.asList("a", "b", "d", "e"), list);
+        assertEquals(Arrays.asList("set 2 [d, e]"), changes);
+
+        changes.clear();
+        list.restore(list.snapshot());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void mergeFrom_reportsOnlyDifferingElements() {
+        list.resetTo(Arrays.asList("a", "b", "d", "e"));
+        String kept = list.get(1);
+        changes.clear();
+
+        assertTrue(list.mergeFrom(Arrays.asList("a", "b", "c", "e", "f")));
+        assertEquals(Arrays.asList("a", "b", "c", "e", "f"), list);
+        assertEquals(Arrays.asList("remove 2 [d]", "add 2 [c]", "add 4 [f]"), changes);
+        assertTrue(list.get(1) == kept);
+
+        changes.clear();
+        assertFalse(list.mergeFrom(Arrays.asList("a", "b", "c", "e", "f")));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void mergeFrom_elementsComparingEqual_matchedByEquality() {
+        SortedObservableList<String> byFirstLetter =
+                new SortedObservableList<>(Comparator.comparing(s -> s.charAt(0)));
+        byFirstLetter.resetTo(Arrays.asList("a1", "a2", "a3", "b1"));
+        List<String> mergeChanges = new ArrayList<>();
+        byFirstLetter.addListener(change -> mergeChanges.add(change.getRemoved() + " " + change.getAdded()));
+
+        assertTrue(byFirstLetter.mergeFrom(Arrays.asList("a3", "a4", "a1", "b1")));
+        assertEquals(Arrays.asList("a1", "a3", "a4", "b1"), byFirstLetter);
+        assertEquals(Arrays.asList("[a2] []", "[] [a4]"), mergeChanges);
+    }
+
+    @Test
+    public void modifyThroughListInterface_throwsUnsupportedOperationException() {
+        list.insert("a");
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+import static seedu.address.testutil.TypicalEvents.CARL;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.exceptions.NoRedoableStateException;
+import seedu.address.model.exceptions.NoUndoableStateException;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class VersionedScheduleTest {
+
+    private final VersionedSchedule versionedSchedule = new VersionedSchedule(new Schedule());
+
+    @Test
+    public void constructor_singleState_cannotUndoOrRedo() {
+        assertFalse(versionedSchedule.canUndo());
+        assertFalse(versionedSchedule.canRedo());
+        assertThrows(NoUndoableStateException.class, versionedSchedule::undo);
+        assertThrows(NoRedoableStateException.class, versionedSchedule::redo);
+    }
+
+    @Test
+    public void undoRedo_multipleCommits_restoresEachState() {
+        versionedSchedule.addEvent(ALICE);
+        versionedSchedule.commit();
+        versionedSchedule.addEvent(BENSON);
+        versionedSchedule.commit();
+
+        versionedSchedule.undo();
+        assertEquals(Arrays.asList(ALICE), versionedSchedule.getEventList());
+        versionedSchedule.undo();
+        assertTrue(versionedSchedule.getEventList().isEmpty());
+        assertFalse(versionedSchedule.canUndo());
+
+        versionedSchedule.redo();
+        versionedSchedule.redo();
+        assertEquals(Arrays.asList(ALICE, BENSON), versionedSchedule.getEventList());
+        assertFalse(versionedSchedule.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneStates() {
+        versionedSchedule.addEvent(ALICE);
+        versionedSchedule.commit();
+        versionedSchedule.undo();
+
+        versionedSchedule.addEvent(CARL);
+        versionedSchedule.commit();
+        assertFalse(versionedSchedule.canRedo());
+        versionedSchedule.undo();
+        assertTrue(versionedSchedule.getEventList().isEmpty());
+    }
+
+    @Test
+    public void undo_editedEvent_canBeEditedAgainById() {
+        versionedSchedule.addEvent(ALICE);
+        versionedSchedule.commit();
+        versionedSchedule.setEvent(ALICE, new EventBuilder(ALICE).withName("Alice Tan").build());
+        versionedSchedule.commit();
+
+        versionedSchedule.undo();
+        versionedSchedule.removeEvent(ALICE);
+        assertTrue(versionedSchedule.getEventList().isEmpty());
+    }
+
+    @Test
+    public void load_addsToEveryState() {
+        versionedSchedule.addEvent(ALICE);
+        versionedSchedule.commit();
+        versionedSchedule.load(new ScheduleBuilder().withEvent(CARL).build());
+
+        assertEquals(Arrays.asList(ALICE, CARL), versionedSchedule.getEventList());
+        versionedSchedule.undo();
+        assertEquals(Arrays.asList(CARL), versionedSchedule.getEventList());
+        versionedSchedule.redo();
+        assertEquals(Arrays.asList(ALICE, CARL), versionedSchedule.getEventList());
+    }
+
+    @Test
+    public void unload_removesFromEveryState() {
+        versionedSchedule.load(new ScheduleBuilder().withEvent(CARL).build());
+        versionedSchedule.addEvent(ALICE);
+        versionedSchedule.commit();
+        versionedSchedule.unload(new ScheduleBuilder().withEvent(CARL).build());
+
+        assertEquals(Arrays.asList(ALICE), versionedSchedule.getEventList());
+        versionedSchedule.undo();
+        assertEquals(Arrays.asList(), versionedSchedule.getEventList());
+        versionedSchedule.redo();
+        assertEquals(Arrays.asList(ALICE), versionedSchedule.getEventList());
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Schedule;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class ArchivePolicyTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 3, 1);
+
+    @Test
+    public void constructor_negativeAge_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ArchivePolicy(-1));
+    }
+
+    @Test
+    public void getEventsToArchive_disabled_noEvents() {
+        assertFalse(new ArchivePolicy(0).isEnabled());
+        assertTrue(new ArchivePolicy(0).getEventsToArchive(getTypicalSchedule(), TODAY).isEmpty());
+    }
+
+    @Test
+    public void getEventsToArchive_byLastOccurrence() {
+        Event old = new EventBuilder().withName("Old").withDate("2020-01-01").build();
+        Event recent = new EventBuilder().withName("Recent").withDate("2020-02-15").withTimeSlot("1000", "1100")
+                .build();
+        Event stillRecurring = new EventBuilder().withName("Weekly").withDate("2020-01-02")
+                .withTimeSlot("1200", "1300").withRecurrence("w", "2020-02-20").build();
+        Schedule schedule = new Schedule();
+        schedule.addEvent(old);
+        schedule.addEvent(recent);
+        schedule.addEvent(stillRecurring);
+
+        assertEquals(List.of(old), new ArchivePolicy(30).getEventsToArchive(schedule, TODAY));
+        assertEquals(List.of(old, stillRecurring, recent), new ArchivePolicy(1).getEventsToArchive(schedule, TODAY));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+import static seedu.address.testutil.TypicalEvents.CARL;
+import static seedu.address.testutil.TypicalEvents.DANIEL;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+
+public class EventArchiveTest {
+
+    @Test
+    public void getEvents_unsorted_sortedAndReadOnce() {
+        AtomicInteger readCount = new AtomicInteger();
+        EventArchive archive = new EventArchive(() -> {
+            readCount.incrementAndGet();
+            return List.of(DANIEL, ALICE, CARL, BENSON);
+        });
+        assertEquals(0, readCount.get());
+
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), archive.getEvents());
+        archive.findByNameWords(List.of("Meier"));
+        assertEquals(1, readCount.get());
+    }
+
+    @Test
+    public void findByNameWords_wholeWordsIgnoringCase_chronologicalMatches() {
+        EventArchive archive = new EventArchive(() -> List.of(DANIEL, ALICE, CARL, BENSON));
+        assertEquals(List.of(BENSON, DANIEL), archive.findByNameWords(List.of("meier")));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), archive.findByNameWords(List.of("MEIER", "alice")));
+        assertTrue(archive.findByNameWords(List.of("Mei")).isEmpty());
+        assertTrue(archive.findByNameWords(List.of()).isEmpty());
+    }
+
+    @Test
+    public void findByTagWords_tagsIgnoringCase_chronologicalMatches() {
+        EventArchive archive = new EventArchive(() -> List.of(DANIEL, ALICE, CARL, BENSON));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), archive.findByTagWords(List.of("FRIENDS")));
+        assertEquals(List.of(BENSON), archive.findByTagWords(List.of("owesmoney")));
+        assertTrue(archive.findByTagWords(List.of("Carl")).isEmpty());
+    }
+
+    @Test
+    public void empty_noEvents() {
+        List<Event> events = EventArchive.empty().getEvents();
+        assertTrue(events.isEmpty());
+    }
+}
@@ -7,6 +7,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalBlockedSlots.EIGHT_TO_NINE;
 import static seedu.address.testutil.TypicalBlockedSlots.NINE_TO_TEN;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.blockedslot.exceptions.BlockedSlotNotFoundException;
@@ -81,6 +83,23 @@ public class SortedBlockedSlotListTest {
             -> sortedBlockedSlotList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void isOverlappingWith_recurringBlockedSlot_checksRule() {
+        BlockedSlot lunch = new BlockedSlotBuilder().withDate("2020-01-06").withTimeSlot("1200", "1300")
+                .withRecurrence("weekday", "2020-12-31").build();
+        sortedBlockedSlotList.add(lunch);
+        assertEquals(Collections.singletonList(lunch), sortedBlockedSlotList.getRecurringBlockedSlots());
+
+        // long after the first date, on a weekday and on a Saturday
+        assertTrue(sortedBlockedSlotList.isOverlappingWith(new BlockedSlotBuilder().withDate("2020-11-04")
+                .withTimeSlot("1230", "1330").build()));
+        assertFalse(sortedBlockedSlotList.isOverlappingWith(new BlockedSlotBuilder().withDate("2020-11-07")
+                .withTimeSlot("1230", "1330").build()));
+
+        sortedBlockedSlotList.remove(lunch);
+        assertTrue(sortedBlockedSlotList.getRecurringBlockedSlots().isEmpty());
+    }
+
     @Test
     public void isOverlappingWith() {
         sortedBlockedSlotList.add(EIGHT_TO_NINE);
@@ -0,0 +1,150 @@
+package seedu.address.model.change;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+import static seedu.address.testutil.TypicalEvents.HOON;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Schedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.change.ScheduleChange.Type;
+import seedu.address.model.change.exceptions.SubscriptionOverflowException;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.BlockedSlotBuilder;
+
+public class ScheduleChangeStreamTest {
+
+    private final Schedule schedule = getTypicalSchedule();
+    private final List<ScheduleChange> heard = new ArrayList<>();
+
+    @Test
+    public void publishPending_eachKindOfChange_typedChangesToListeners() {
+        ScheduleChangeStream stream = new ScheduleChangeStream(schedule);
+        stream.addListener(heard::add);
+        BlockedSlot blockedSlot = new BlockedSlotBuilder().withDate("2030-01-01").build();
+
+        schedule.addEvent(HOON);
+        stream.publishPending();
+        // an edit that moves the event to the end of the list is still one edit
+        Event movedAlice = new Event(ALICE.getId(), ALICE.getName(), new Date("2031-01-01"),
+                ALICE.getTimeSlot(), ALICE.getLocation(), ALICE.getTags(), ALICE.getRemark(), null);
+        schedule.setEvent(ALICE, movedAlice);
+        stream.publishPending();
+        schedule.removeEvent(BENSON);
+        schedule.addBlockedSlot(blockedSlot);
+        stream.publishPending();
+        schedule.removeBlockedSlot(blockedSlot);
+        stream.publishPending();
+
+        assertEquals(List.of(new ScheduleChange(0, Type.EVENT_ADDED, null, HOON),
+                new ScheduleChange(1, Type.EVENT_EDITED, ALICE, movedAlice),
+                new ScheduleChange(2, Type.EVENT_DELETED, BENSON, null),
+                new ScheduleChange(3, Type.BLOCKED_SLOT_ADDED, null, blockedSlot),
+                new ScheduleChange(4, Type.BLOCKED_SLOT_REMOVED, blockedSlot, null)), heard);
+    }
+
+    @Test
+    public void publishPending_addedThenRemovedOrUnchanged_nothingPublished() {
+        ScheduleChangeStream stream = new ScheduleChangeStream(schedule);
+        stream.addListener(heard::add);
+
+        schedule.addEvent(HOON);
+        schedule.removeEvent(HOON);
+        schedule.setEvent(ALICE, ALICE);
+        stream.publishPending();
+
+        assertTrue(heard.isEmpty());
+    }
+
+    @Test
+    public void subscribe_pollsFromOwnCursor() {
+        ScheduleChangeStream stream = new ScheduleChangeStream(schedule);
+        schedule.removeEvent(ALICE);
+        stream.publishPending();
+        ChangeSubscription first = stream.subscribe();
+        schedule.removeEvent(BENSON);
+        stream.publishPending();
+        ChangeSubscription second = stream.subscribe();
+        schedule.addEvent(HOON);
+        stream.publishPending();
+
+        assertEquals(2, first.getBacklog());
+        assertEquals(List.of(Type.EVENT_DELETED), getTypes(first.poll(1)));
+        assertEquals(List.of(Type.EVENT_ADDED), getTypes(first.poll(10)));
+        assertTrue(first.poll(10).isEmpty());
+        assertEquals(List.of(Type.EVENT_ADDED), getTypes(second.poll(10)));
+
+        second.close();
+        assertThrows(IllegalStateException.class, () -> second.poll(1));
+    }
+
+    @Test
+    public void take_changePublishedOnAnotherThread_returnsIt() throws Exception {
+        ScheduleChangeStream stream = new ScheduleChangeStream(schedule);
+        ChangeSubscription subscription = stream.subscribe();
+        Thread writer = new Thread(() -> {
+            schedule.removeEvent(ALICE);
+            stream.publishPending();
+        });
+        writer.start();
+
+        assertEquals(List.of(Type.EVENT_DELETED), getTypes(subscription.take(10, 10, TimeUnit.SECONDS)));
+        writer.join();
+        assertTrue(subscription.take(10, 1, TimeUnit.MILLISECONDS).isEmpty());
+    }
+
+    @Test
+    public void publishPending_subscriberTooFarBehind_subscriptionOverflows() {
+        ScheduleChangeStream stream = new ScheduleChangeStream(schedule, 2, 0);
+        ChangeSubscription slow = stream.subscribe();
+        ChangeSubscription fast = stream.subscribe();
+        for (Event event : new ArrayList<>(schedule.getEventList().subList(0, 3))) {
+            schedule.removeEvent(event);
+            stream.publishPending();
+            fast.poll(10);
+        }
+
+        assertThrows(SubscriptionOverflowException.class, () -> slow.poll(10));
+        assertEquals(0, fast.getBacklog());
+    }
+
+    @Test
+    public void publishPending_subscriberCatchesUp_writerWaitsForIt() throws Exception {
+        ScheduleChangeStream stream = new ScheduleChangeStream(schedule, 1, 10_000);
+        ChangeSubscription subscription = stream.subscribe();
+        List<ScheduleChange> read = new ArrayList<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (read.size() < 3) {
+                    read.addAll(subscription.take(10, 10, TimeUnit.SECONDS));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        reader.start();
+
+        for (Event event : new ArrayList<>(schedule.getEventList().subList(0, 3))) {
+            schedule.removeEvent(event);
+            stream.publishPending();
+        }
+        reader.join();
+        assertEquals(List.of(0L, 1L, 2L), List.of(read.get(0).getSeq(), read.get(1).getSeq(), read.get(2).getSeq()));
+    }
+
+    private static List<Type> getTypes(List<ScheduleChange> changes) {
+        List<Type> types = new ArrayList<>();
+        changes.forEach(change -> types.add(change.getType()));
+        return types;
+    }
+}
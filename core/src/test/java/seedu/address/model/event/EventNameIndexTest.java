@@ -0,0 +1,54 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+import static seedu.address.testutil.TypicalEvents.DANIEL;
+import static seedu.address.testutil.TypicalEvents.ELLE;
+import static seedu.address.testutil.TypicalEvents.HOON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.SortedObservableList;
+import seedu.address.testutil.EventBuilder;
+
+public class EventNameIndexTest {
+
+    private final SortedObservableList<Event> events = new SortedObservableList<>(Event::compareTo);
+    private final EventNameIndex index = new EventNameIndex(events);
+
+    @Test
+    public void findByPrefixes_matchesStartOfAnyWordIgnoringCase() {
+        events.resetTo(Arrays.asList(ALICE, BENSON, DANIEL, ELLE));
+
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), index.findByPrefixes(Collections.singletonList("mE")));
+        assertEquals(Set.of(BENSON, DANIEL), index.findByPrefixes(Collections.singletonList("meier")));
+        assertEquals(Set.of(ALICE, ELLE), index.findByPrefixes(Arrays.asList("pau", "elle")));
+        assertEquals(Collections.emptySet(), index.findByPrefixes(Collections.singletonList("lice")));
+    }
+
+    @Test
+    public void findByPrefixes_followsChangesToSequence() {
+        events.insert(ALICE);
+        events.insert(BENSON);
+        events.replace(BENSON, HOON);
+        events.removeElement(ALICE);
+
+        assertEquals(Set.of(HOON), index.findByPrefixes(Collections.singletonList("meier")));
+        assertEquals(Collections.emptySet(), index.findByPrefixes(Arrays.asList("alice", "benson")));
+    }
+
+    @Test
+    public void findByPrefixes_duplicateEvents_indexedSeparately() {
+        Event duplicate = new EventBuilder(ALICE).build();
+        events.insert(ALICE);
+        events.insert(duplicate);
+        events.removeElement(duplicate);
+
+        assertEquals(1, index.findByPrefixes(Collections.singletonList("alice")).size());
+    }
+}
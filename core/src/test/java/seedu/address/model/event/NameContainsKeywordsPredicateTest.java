@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -72,4 +73,11 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new EventBuilder().withName("Alice").withDate("2020-01-01")
                 .withTimeSlot("1500", "1600").withLocation("Main Street").build()));
     }
+
+    @Test
+    public void mayMatchWords() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Carol"));
+        assertTrue(predicate.mayMatchWords(Set.of("bob", "alice")));
+        assertFalse(predicate.mayMatchWords(Set.of("bob", "alic")));
+    }
 }
@@ -0,0 +1,68 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class NameContainsPrefixesPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPrefixes = Collections.singletonList("fi");
+        List<String> secondPrefixes = Arrays.asList("fi", "se");
+
+        NameContainsPrefixesPredicate firstPredicate = new NameContainsPrefixesPredicate(firstPrefixes);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameContainsPrefixesPredicate(firstPrefixes)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different prefixes -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsPrefixesPredicate(secondPrefixes)));
+    }
+
+    @Test
+    public void test_wordStartsWithPrefix_returnsTrue() {
+        // whole word
+        assertTrue(new NameContainsPrefixesPredicate(List.of("Alice"))
+                .test(new EventBuilder().withName("Alice Bob").build()));
+
+        // start of a later word, in another case
+        assertTrue(new NameContainsPrefixesPredicate(List.of("carol", "bO"))
+                .test(new EventBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_noWordStartsWithPrefix_returnsFalse() {
+        // zero prefixes
+        assertFalse(new NameContainsPrefixesPredicate(List.of())
+                .test(new EventBuilder().withName("Alice").build()));
+
+        // prefix in the middle of a word
+        assertFalse(new NameContainsPrefixesPredicate(List.of("lice"))
+                .test(new EventBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void mayMatchWords() {
+        NameContainsPrefixesPredicate predicate = new NameContainsPrefixesPredicate(List.of("Al"));
+        assertTrue(predicate.mayMatchWords(Set.of("bob", "alice")));
+        assertFalse(predicate.mayMatchWords(Set.of("bob", "carol")));
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class RecurrenceTest {
+
+    private static final Date START = new Date("2020-01-06");
+
+    @Test
+    public void constructor_invalidRule_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new Recurrence("0w", new Date("2020-02-01"), Collections.emptySet()));
+    }
+
+    @Test
+    public void isValidRule() {
+        // invalid rules
+        assertFalse(Recurrence.isValidRule("")); // empty string
+        assertFalse(Recurrence.isValidRule("2")); // missing unit
+        assertFalse(Recurrence.isValidRule("0d")); // zero period
+        assertFalse(Recurrence.isValidRule("2m")); // unknown unit
+        assertFalse(Recurrence.isValidRule("53w")); // more than 52 weeks
+
+        // valid rules
+        assertTrue(Recurrence.isValidRule("d"));
+        assertTrue(Recurrence.isValidRule("3d"));
+        assertTrue(Recurrence.isValidRule("w"));
+        assertTrue(Recurrence.isValidRule("52w"));
+        assertTrue(Recurrence.isValidRule("weekday"));
+        assertTrue(Recurrence.isValidRule("weekend"));
+        assertTrue(Recurrence.isValidRule("mon,wed,fri"));
+
+        // invalid days of the week
+        assertFalse(Recurrence.isValidRule("monday")); // full name
+        assertFalse(Recurrence.isValidRule("mon,")); // trailing comma
+        assertFalse(Recurrence.isValidRule("weekdays"));
+    }
+
+    @Test
+    public void occursOn_daysOfWeek() {
+        Recurrence weekdays = new Recurrence("weekday", new Date("2020-01-31"),
+                new HashSet<>(Arrays.asList(new Date("2020-01-08"))));
+
+        assertTrue(weekdays.occursOn(START, new Date("2020-01-07"))); // Tuesday
+        assertTrue(weekdays.occursOn(START, new Date("2020-01-10"))); // Friday
+        assertFalse(weekdays.occursOn(START, new Date("2020-01-11"))); // Saturday
+        assertFalse(weekdays.occursOn(START, new Date("2020-01-08"))); // exception
+        assertFalse(weekdays.occursOn(START, new Date("2020-01-03"))); // before first date
+        assertFalse(weekdays.occursOn(START, new Date("2020-02-03"))); // after end date
+    }
+
+    @Test
+    public void getOccurrences_daysOfWeek_returnsOnlyMatchingDays() {
+        Recurrence mondaysAndThursdays = new Recurrence("mon,thu", new Date("2020-01-20"), Collections.emptySet());
+        assertEquals(Arrays.asList(new Date("2020-01-09"), new Date("2020-01-13"), new Date("2020-01-16"),
+                new Date("2020-01-20")),
+                mondaysAndThursdays.getOccurrences(START, new Date("2020-01-07"), new Date("2020-12-31")));
+    }
+
+    @Test
+    public void getLastDate_daysOfWeek_returnsLastMatchingDay() {
+        // 2020-01-26 is a Sunday
+        assertEquals(new Date("2020-01-24"),
+                new Recurrence("weekday", new Date("2020-01-26"), Collections.emptySet()).getLastDate(START));
+    }
+
+    @Test
+    public void occursOn() {
+        Recurrence recurrence = new Recurrence("2w", new Date("2020-03-01"),
+                new HashSet<>(Arrays.asList(new Date("2020-02-03"))));
+
+        assertTrue(recurrence.occursOn(START, START)); // first date
+        assertTrue(recurrence.occursOn(START, new Date("2020-01-20"))); // two weeks later
+        assertFalse(recurrence.occursOn(START, new Date("2020-01-13"))); // off the period
+        assertFalse(recurrence.occursOn(START, new Date("2020-02-03"))); // exception
+        assertFalse(recurrence.occursOn(START, new Date("2019-12-23"))); // before first date
+        assertFalse(recurrence.occursOn(START, new Date("2020-03-02"))); // after end date
+    }
+
+    @Test
+    public void getOccurrences_window_returnsOnlyOccurrencesInWindow() {
+        Recurrence recurrence = new Recurrence("w", new Date("2020-02-10"),
+                new HashSet<>(Arrays.asList(new Date("2020-01-27"))));
+
+        assertEquals(Arrays.asList(new Date("2020-01-20"), new Date("2020-02-03")),
+                recurrence.getOccurrences(START, new Date("2020-01-15"), new Date("2020-02-05")));
+        assertEquals(Arrays.asList(new Date("2020-02-10")),
+                recurrence.getOccurrences(START, new Date("2020-02-10"), new Date("2020-12-31")));
+        assertTrue(recurrence.getOccurrences(START, new Date("2020-02-11"), new Date("2020-12-31")).isEmpty());
+    }
+
+    @Test
+    public void getLastDate_returnsLastDateOnPeriod() {
+        Recurrence recurrence = new Recurrence("w", new Date("2020-02-12"), Collections.emptySet());
+        assertEquals(new Date("2020-02-10"), recurrence.getLastDate(START));
+    }
+
+    @Test
+    public void haveCommonDate_twoRecurrences() {
+        // every 2 weeks from 2020-01-06 and every 3 weeks from 2020-01-13 first meet on 2020-02-03
+        Event everyTwoWeeks = new EventBuilder().withDate("2020-01-06")
+                .withRecurrence("2w", "2020-12-31").build();
+        Event everyThreeWeeks = new EventBuilder().withDate("2020-01-13")
+                .withRecurrence("3w", "2020-12-31").build();
+        assertTrue(Recurrence.haveCommonDate(everyTwoWeeks, everyThreeWeeks));
+
+        // first common date skipped by an exception, the next common date is 6 weeks later on 2020-03-16
+        Event skippingFirst = new EventBuilder().withDate("2020-01-13")
+                .withRecurrence("3w", "2020-12-31", "2020-02-03").build();
+        assertTrue(Recurrence.haveCommonDate(everyTwoWeeks, skippingFirst));
+        Event skippingBoth = new EventBuilder().withDate("2020-01-13")
+                .withRecurrence("3w", "2020-03-16", "2020-02-03", "2020-03-16").build();
+        assertFalse(Recurrence.haveCommonDate(everyTwoWeeks, skippingBoth));
+        Event endingBeforeSecond = new EventBuilder().withDate("2020-01-13")
+                .withRecurrence("3w", "2020-03-15", "2020-02-03").build();
+        assertFalse(Recurrence.haveCommonDate(everyTwoWeeks, endingBeforeSecond));
+
+        // every 2 days from an even and an odd day never meet
+        Event evenDays = new EventBuilder().withDate("2020-01-06").withRecurrence("2d", "2020-12-31").build();
+        Event oddDays = new EventBuilder().withDate("2020-01-07").withRecurrence("2d", "2020-12-31").build();
+        assertFalse(Recurrence.haveCommonDate(evenDays, oddDays));
+    }
+
+    @Test
+    public void haveCommonDate_daysOfWeek() {
+        Event weekdays = new EventBuilder().withDate("2020-01-06").withRecurrence("weekday", "2020-12-31").build();
+        Event weekend = new EventBuilder().withDate("2020-01-06").withRecurrence("weekend", "2020-12-31").build();
+        assertFalse(Recurrence.haveCommonDate(weekdays, weekend));
+
+        // every 9 days from Saturday 2020-01-11 first falls on a weekday on Monday 2020-01-20
+        Event everyNineDays = new EventBuilder().withDate("2020-01-11").withRecurrence("9d", "2020-12-31").build();
+        assertTrue(Recurrence.haveCommonDate(weekdays, everyNineDays));
+        Event untilSunday = new EventBuilder().withDate("2020-01-11").withRecurrence("9d", "2020-01-19").build();
+        assertFalse(Recurrence.haveCommonDate(weekdays, untilSunday));
+
+        // every 2 weeks on Saturday never falls on a weekday
+        Event everyOtherSaturday = new EventBuilder().withDate("2020-01-11")
+                .withRecurrence("2w", "2020-12-31").build();
+        assertFalse(Recurrence.haveCommonDate(everyOtherSaturday, weekdays));
+        assertTrue(Recurrence.haveCommonDate(everyOtherSaturday, weekend));
+    }
+
+    @Test
+    public void haveCommonDate_oneRecurrence() {
+        Event weekly = new EventBuilder().withDate("2020-01-06").withRecurrence("w", "2020-02-10").build();
+        assertTrue(Recurrence.haveCommonDate(weekly, new EventBuilder().withDate("2020-01-27").build()));
+        assertFalse(Recurrence.haveCommonDate(new EventBuilder().withDate("2020-01-28").build(), weekly));
+    }
+
+    @Test
+    public void equals() {
+        Recurrence recurrence = new Recurrence("w", new Date("2020-02-10"), Collections.emptySet());
+
+        // same period written differently -> returns true
+        assertEquals(recurrence, new Recurrence("7d", new Date("2020-02-10"), Collections.emptySet()));
+
+        // different values -> returns false
+        assertNotEquals(recurrence, new Recurrence("2w", new Date("2020-02-10"), Collections.emptySet()));
+        assertNotEquals(recurrence, new Recurrence("w", new Date("2020-02-11"), Collections.emptySet()));
+        assertNotEquals(recurrence, new Recurrence("w", new Date("2020-02-10"),
+                new HashSet<>(Arrays.asList(START))));
+        assertNotEquals(recurrence, null);
+
+        // same days of the week written differently -> returns true
+        assertEquals(new Recurrence("weekend", new Date("2020-02-10"), Collections.emptySet()),
+                new Recurrence("sun,sat", new Date("2020-02-10"), Collections.emptySet()));
+        assertNotEquals(recurrence, new Recurrence("mon", new Date("2020-02-10"), Collections.emptySet()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("every 2 weeks until 2020-02-10 except 2020-01-20",
+                new Recurrence("2w", new Date("2020-02-10"),
+                        new HashSet<>(Arrays.asList(new Date("2020-01-20")))).toString());
+        assertEquals("every day until 2020-02-10",
+                new Recurrence("d", new Date("2020-02-10"), Collections.emptySet()).toString());
+        assertEquals("every weekday until 2020-02-10",
+                new Recurrence("weekday", new Date("2020-02-10"), Collections.emptySet()).toString());
+        assertEquals("every Mon, Fri until 2020-02-10",
+                new Recurrence("fri,mon", new Date("2020-02-10"), Collections.emptySet()).toString());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.event;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LOCATION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -12,6 +13,7 @@ import static seedu.address.testutil.TypicalEvents.BENSON;
 import static seedu.address.testutil.TypicalEvents.BOB;
 import static seedu.address.testutil.TypicalEvents.CARL;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -137,6 +139,27 @@ public class SortedEventListTest {
         assertEquals(expectedSortedEventList, sortedEventList);
     }
 
+    @Test
+    public void remove_duplicateEvents_removesEventWithSameId() {
+        Event firstAlice = new EventBuilder(ALICE).build();
+        Event secondAlice = new EventBuilder(ALICE).build();
+        sortedEventList.add(firstAlice);
+        sortedEventList.add(secondAlice);
+        sortedEventList.remove(secondAlice);
+        assertEquals(1, sortedEventList.asUnmodifiableObservableList().size());
+        assertSame(firstAlice, sortedEventList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void setEvent_duplicateEvents_replacesEventWithSameId() {
+        Event firstAlice = new EventBuilder(ALICE).build();
+        Event secondAlice = new EventBuilder(ALICE).build();
+        sortedEventList.add(firstAlice);
+        sortedEventList.add(secondAlice);
+        sortedEventList.setEvent(firstAlice, BOB);
+        assertSame(secondAlice, sortedEventList.asUnmodifiableObservableList().get(0));
+    }
+
     @Test
     public void setEvent_nullUniqueEventList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> sortedEventList.setEvent((SortedEventList) null));
@@ -194,6 +217,31 @@ public class SortedEventListTest {
         assertNotEquals(listA.hashCode(), emptyList.hashCode());
     }
 
+    @Test
+    public void isOverlappingWith_excludingDuplicate_stillOverlapsOtherDuplicate() {
+        Event firstAlice = new EventBuilder(ALICE).build();
+        Event secondAlice = new EventBuilder(ALICE).build();
+        sortedEventList.add(firstAlice);
+        assertFalse(sortedEventList.isOverlappingWith(firstAlice, firstAlice));
+        sortedEventList.add(secondAlice);
+        assertTrue(sortedEventList.isOverlappingWith(firstAlice, firstAlice));
+    }
+
+    @Test
+    public void isOverlappingWith_recurringEvent_checksEveryOccurrence() {
+        Event weekly = new EventBuilder(ALICE).withDate("2019-12-04").withRecurrence("w", "2020-12-31").build();
+        sortedEventList.add(weekly);
+        assertEquals(Arrays.asList(weekly), sortedEventList.getRecurringEvents());
+
+        // ALICE falls on an occurrence long after the first date of the weekly event
+        assertTrue(sortedEventList.isOverlappingWith(ALICE));
+        assertFalse(sortedEventList.isOverlappingWith(new EventBuilder(ALICE).withDate("2020-01-02").build()));
+        assertFalse(sortedEventList.isOverlappingWith(weekly, weekly));
+
+        sortedEventList.remove(weekly);
+        assertTrue(sortedEventList.getRecurringEvents().isEmpty());
+    }
+
     @Test
     public void isOverlappingWith() {
         sortedEventList.add(ALICE);
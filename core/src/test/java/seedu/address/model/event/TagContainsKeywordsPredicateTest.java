@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -68,4 +69,11 @@ public class TagContainsKeywordsPredicateTest {
         predicate = new TagContainsKeywordsPredicate(Arrays.asList("friends"));
         assertFalse(predicate.test(new EventBuilder().withTags("Urgent", "Supplementary", "CS2103T").build()));
     }
+
+    @Test
+    public void mayMatchWords() {
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Arrays.asList("Friends", "Carol"));
+        assertTrue(predicate.mayMatchWords(Set.of("bob", "friends")));
+        assertFalse(predicate.mayMatchWords(Set.of("bob", "friend")));
+    }
 }
@@ -0,0 +1,171 @@
+package seedu.address.model.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+import static seedu.address.testutil.TypicalEvents.HOON;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Schedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Remark;
+import seedu.address.testutil.BlockedSlotBuilder;
+import seedu.address.testutil.EventBuilder;
+
+public class ChangeFeedTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC);
+
+    private final Schedule schedule = getTypicalSchedule();
+    private final ChangeFeed feed = new ChangeFeed(schedule, "a", CLOCK);
+
+    @Test
+    public void constructor_recordsItemsInScheduleWithEarliestClock() {
+        List<Change> changes = feed.getChangesSince(0).getChanges();
+        assertEquals(schedule.getEventList().size() + schedule.getBlockedSlotList().size(), changes.size());
+        assertEquals(changes.size(), feed.getLastSeq());
+        assertTrue(changes.stream().allMatch(change -> change.getClock() == 0));
+    }
+
+    @Test
+    public void getChangesSince_changesMadeHere_stampedWithWallClockOrLater() {
+        long seq = feed.getLastSeq();
+        schedule.setEvent(ALICE, withRemark(ALICE, "First"));
+        schedule.removeEvent(BENSON);
+
+        List<Change> changes = feed.getChangesSince(seq).getChanges();
+        assertEquals(CLOCK.millis(), changes.get(0).getClock());
+        assertEquals(CLOCK.millis() + 1, changes.get(1).getClock());
+    }
+
+    @Test
+    public void getChangesSince_onlyLatestChangeToEachItemAfterPosition() {
+        long seq = feed.getLastSeq();
+        Event editedAlice = withRemark(ALICE, "Edited");
+        schedule.setEvent(ALICE, editedAlice);
+        Event editedAgain = withRemark(ALICE, "Edited again");
+        schedule.setEvent(editedAlice, editedAgain);
+        schedule.removeEvent(BENSON);
+        schedule.addEvent(HOON);
+
+        ChangeBundle bundle = feed.getChangesSince(seq);
+        assertEquals("a", bundle.getReplicaId());
+        assertEquals(feed.getLastSeq(), bundle.getLastSeq());
+        assertEquals(3, bundle.getChanges().size());
+        assertEquals(Optional.of(editedAgain), bundle.getChanges().get(0).getItem());
+        assertTrue(bundle.getChanges().get(1).isRemoval());
+        assertEquals(BENSON.getId(), bundle.getChanges().get(1).getId());
+        assertEquals(Optional.of(HOON), bundle.getChanges().get(2).getItem());
+
+        assertTrue(feed.getChangesSince(feed.getLastSeq()).getChanges().isEmpty());
+    }
+
+    @Test
+    public void runUnrecorded_unloadedAndLoadedBack_notRecorded() {
+        long seq = feed.getLastSeq();
+        feed.runUnrecorded(() -> schedule.removeEvent(BENSON));
+        schedule.addEvent(BENSON);
+
+        assertEquals(seq, feed.getLastSeq());
+        assertTrue(feed.getChangesSince(seq).getChanges().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_excludedReplica_leavesOutItsChanges() {
+        ChangeFeed otherFeed = new ChangeFeed(new Schedule(), "b", CLOCK);
+        schedule.removeEvent(BENSON);
+        otherFeed.apply(feed.getChangesSince(0));
+
+        assertTrue(otherFeed.getChangesSince(0, "a").getChanges().isEmpty());
+        assertFalse(otherFeed.getChangesSince(0, "c").getChanges().isEmpty());
+    }
+
+    @Test
+    public void apply_laterChange_appliedAndRecordedWithItsStamp() {
+        Event editedAlice = withRemark(ALICE, "Edited");
+        Change change = new Change(7, 5, "b", ALICE.getId(), editedAlice);
+
+        assertEquals(1, feed.apply(new ChangeBundle("b", 7, List.of(change))));
+        assertTrue(schedule.getEventList().contains(editedAlice));
+        assertFalse(schedule.getEventList().stream().anyMatch(ALICE::equals));
+        List<Change> recorded = feed.getChangesSince(feed.getLastSeq() - 1).getChanges();
+        assertTrue(change.isSameChange(recorded.get(0)));
+
+        // a change made here afterwards is later than the change it follows
+        schedule.removeEvent(editedAlice);
+        assertTrue(feed.getChangesSince(feed.getLastSeq() - 1).getChanges().get(0).isLaterThan(change));
+    }
+
+    @Test
+    public void apply_earlierChange_leftOut() {
+        Event editedAlice = withRemark(ALICE, "Edited");
+        schedule.setEvent(ALICE, editedAlice);
+        Change stale = new Change(1, 0, "b", ALICE.getId(), null);
+
+        assertEquals(0, feed.apply(new ChangeBundle("b", 1, List.of(stale))));
+        assertTrue(schedule.getEventList().contains(editedAlice));
+    }
+
+    @Test
+    public void apply_removalAndNewBlockedSlot_applied() {
+        BlockedSlot blockedSlot = new BlockedSlotBuilder().withDate("2030-01-01").build();
+        ChangeBundle bundle = new ChangeBundle("b", 2, List.of(new Change(1, 1, "b", BENSON.getId(), null),
+                new Change(2, 2, "b", blockedSlot.getId(), blockedSlot)));
+
+        assertEquals(2, feed.apply(bundle));
+        assertFalse(schedule.getEventList().stream().anyMatch(BENSON::equals));
+        assertTrue(schedule.getBlockedSlotList().contains(blockedSlot));
+        // applying the same bundle again changes nothing
+        long seq = feed.getLastSeq();
+        assertEquals(0, feed.apply(bundle));
+        assertEquals(seq, feed.getLastSeq());
+    }
+
+    @Test
+    public void apply_clashingChange_leftOut() {
+        Event clashing = new EventBuilder(ALICE).withName("Clash").build();
+        Change change = new Change(1, 1, "b", clashing.getId(), clashing);
+
+        assertEquals(0, feed.apply(new ChangeBundle("b", 1, List.of(change))));
+        assertFalse(schedule.getEventList().contains(clashing));
+    }
+
+    @Test
+    public void apply_sameItemChangedInBothCopies_copiesEndUpTheSame() {
+        Schedule otherSchedule = new Schedule(schedule);
+        ChangeFeed otherFeed = new ChangeFeed(otherSchedule, "b", CLOCK);
+        long seq = feed.getLastSeq();
+        long otherSeq = otherFeed.getLastSeq();
+        schedule.setEvent(ALICE, withRemark(ALICE, "From a"));
+        otherSchedule.setEvent(ALICE, withRemark(ALICE, "From b"));
+        otherSchedule.removeEvent(BENSON);
+
+        ChangeBundle fromA = feed.getChangesSince(seq);
+        ChangeBundle fromB = otherFeed.getChangesSince(otherSeq);
+        feed.apply(fromB);
+        otherFeed.apply(fromA);
+
+        assertEquals(schedule, otherSchedule);
+        // both made their first change with the same clock, so the copy with the greater id wins
+        assertTrue(otherSchedule.getEventList().contains(withRemark(ALICE, "From b")));
+    }
+
+    /**
+     * Returns {@code event} with its remark changed to {@code remark}, as an edit would.
+     */
+    private static Event withRemark(Event event, String remark) {
+        return new Event(event.getId(), event.getName(), event.getDate(), event.getTimeSlot(), event.getLocation(),
+                event.getTags(), new Remark(remark), event.getRecurrence().orElse(null));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.function.Predicate;
+
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Location;
+import seedu.address.model.event.Name;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Times {@code FieldValidator} against the per-field regular expressions that the model classes used before, on
+ * the values of a typical schedule. Run with {@code gradlew :core:benchmarkValidation}.
+ */
+public class FieldValidatorBenchmark {
+
+    private static final int VALUES = 10_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    private static final String[] names = new String[VALUES];
+    private static final String[] locations = new String[VALUES];
+    private static final String[] tags = new String[VALUES];
+    private static final String[] dates = new String[VALUES];
+    private static final String[] times = new String[VALUES];
+
+    /** Keeps the results alive so that the validation is not optimised away. */
+    private static int validCount;
+
+    /**
+     * Prints the time each way takes per value, for each kind of field.
+     */
+    public static void main(String[] args) {
+        for (int i = 0; i < VALUES; i++) {
+            names[i] = "Consultation with student " + i;
+            locations[i] = "COM1 #0" + (i % 10) + "-" + (i % 100);
+            tags[i] = "CS" + (2000 + i % 200);
+            dates[i] = LocalDate.of(2021, 1, 1).plusDays(i % 1000).toString();
+            times[i] = String.format("%02d%02d", i % 24, i % 60);
+        }
+
+        compare("Name", names, test -> test.matches(Name.VALIDATION_REGEX), FieldValidator::isValidName);
+        compare("Location", locations, test -> test.matches(Location.VALIDATION_REGEX),
+                FieldValidator::isValidLocation);
+        compare("Tag", tags, test -> test.matches(Tag.VALIDATION_REGEX), FieldValidator::isValidTagName);
+        compare("Date", dates, FieldValidatorBenchmark::parseDateWithRegex,
+            test -> FieldValidator.parseDate(test).isPresent());
+        compare("Time", times, test -> test.matches(TimeSlot.VALIDATION_REGEX),
+            test -> FieldValidator.parseTime(test).isPresent());
+        System.out.println("(" + validCount + " values were valid)");
+    }
+
+    /**
+     * Validates and parses a date the way {@code Date} used to.
+     */
+    private static boolean parseDateWithRegex(String test) {
+        try {
+            LocalDate.parse(test);
+            return test.matches(Date.VALIDATION_REGEX);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static void compare(String field, String[] values, Predicate<String> regex,
+            Predicate<String> scanner) {
+        long regexNanos = time(values, regex);
+        long scannerNanos = time(values, scanner);
+        System.out.printf("%-8s regex %6d ns/value, scanner %6d ns/value, %5.1fx faster%n", field,
+                regexNanos / VALUES, scannerNanos / VALUES, (double) regexNanos / scannerNanos);
+    }
+
+    /**
+     * Returns the fastest time, in nanoseconds, that {@code validator} took to go through {@code values}.
+     */
+    private static long time(String[] values, Predicate<String> validator) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (String value : values) {
+                if (validator.test(value)) {
+                    validCount++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+}
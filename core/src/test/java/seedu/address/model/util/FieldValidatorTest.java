@@ -0,0 +1,114 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Location;
+import seedu.address.model.event.Name;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.model.tag.Tag;
+
+public class FieldValidatorTest {
+
+    private static final String[] EDGE_CASES = {"", " ", "a", "A b", " a", "a ", "a  b", "abc1", "a_b", "a-b", "\u00E9",
+        "\t", "a\tb", "\na", "a\n", "a\rb", "a\u0085", "a\u2028b", "\u2029", "\u000Bx", "\fx", "\u00A0x", "x\u00A0",
+        "\uD83D\uDE00", "a\uD83D\uDE00", "0800", "800", "080", "2359", "2400", "1960", "0000", "00000", "12",
+        "2020-01-01", "2020-02-29", "2021-02-29", "2020-04-31", "2020-13-01", "2020-00-10", "2020-01-00",
+        "0000-01-01", "9999-12-31", "+2020-01-01", "20201-01-01", "2020-1-01", "2020/01/01",
+        "\uFF12\uFF10\uFF12\uFF10-01-01", "2020-01-01 ", "\u0661\u0662\u0663\u0664"};
+
+    @Test
+    public void isValidName_sameAsRegex() {
+        for (String test : getInputs()) {
+            assertEquals(test.matches(Name.VALIDATION_REGEX), FieldValidator.isValidName(test), test);
+        }
+    }
+
+    @Test
+    public void isValidTagName_sameAsRegex() {
+        for (String test : getInputs()) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), FieldValidator.isValidTagName(test), test);
+        }
+    }
+
+    @Test
+    public void isValidLocation_sameAsRegex() {
+        for (String test : getInputs()) {
+            assertEquals(test.matches(Location.VALIDATION_REGEX), FieldValidator.isValidLocation(test), test);
+        }
+    }
+
+    @Test
+    public void parseDate_sameAsRegexAndLocalDate() {
+        for (String test : getInputs()) {
+            Optional<LocalDate> expected;
+            try {
+                LocalDate parsed = LocalDate.parse(test);
+                expected = test.matches(Date.VALIDATION_REGEX) ? Optional.of(parsed) : Optional.empty();
+            } catch (DateTimeParseException e) {
+                expected = Optional.empty();
+            }
+            assertEquals(expected, FieldValidator.parseDate(test), test);
+        }
+    }
+
+    @Test
+    public void parseTime_sameAsRegex() {
+        for (String test : getInputs()) {
+            assertEquals(test.matches(TimeSlot.VALIDATION_REGEX), FieldValidator.parseTime(test).isPresent(), test);
+        }
+    }
+
+    @Test
+    public void parseTime_validTimes_parsed() {
+        assertEquals(Optional.of(LocalTime.of(8, 5)), FieldValidator.parseTime("0805"));
+        assertEquals(Optional.of(LocalTime.of(9, 0)), FieldValidator.parseTime("900"));
+        assertEquals(Optional.of(LocalTime.of(23, 59)), FieldValidator.parseTime("2359"));
+    }
+
+    @Test
+    public void isValidTimeSlot() {
+        assertTrue(FieldValidator.isValidTimeSlot("0800", "0900"));
+        assertTrue(FieldValidator.isValidTimeSlot("900", "1000"));
+        assertTrue(FieldValidator.isValidTimeSlot("2358", "2359"));
+        assertFalse(FieldValidator.isValidTimeSlot("0900", "0900"));
+        assertFalse(FieldValidator.isValidTimeSlot("1000", "900"));
+        assertFalse(FieldValidator.isValidTimeSlot("0800", "2400"));
+        assertFalse(FieldValidator.isValidTimeSlot("", "0900"));
+    }
+
+    /**
+     * Returns the edge cases and a fixed set of random strings over an alphabet of interesting characters.
+     */
+    private static List<String> getInputs() {
+        List<String> inputs = new ArrayList<>(List.of(EDGE_CASES));
+        String alphabet = "019aZ -_\t\n\r\u0085\u2028\u00A0\u00E9";
+        Random random = new Random(49);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            inputs.add(builder.toString());
+        }
+        for (int i = 0; i < 2000; i++) {
+            inputs.add(String.format("%04d-%02d-%02d", random.nextInt(10000), random.nextInt(14),
+                    random.nextInt(33)));
+            inputs.add(String.format("%0" + (3 + random.nextInt(2)) + "d", random.nextInt(3000)));
+        }
+        return inputs;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IdGeneratorTest {
+
+    private static final int IDS = 100_000;
+
+    @Test
+    public void next_returnsDifferentIds() {
+        assertNotEquals(IdGenerator.next(), IdGenerator.next());
+    }
+
+    @Test
+    public void nextId_sameSeed_sameIds() {
+        IdGenerator first = new IdGenerator(42);
+        IdGenerator second = new IdGenerator(42);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first.nextId(), second.nextId());
+        }
+    }
+
+    @Test
+    public void nextId_oneGenerator_neverRepeats() {
+        IdGenerator generator = new IdGenerator(0);
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < IDS; i++) {
+            assertTrue(ids.add(generator.nextId()));
+        }
+    }
+
+    @Test
+    public void nextId_differentSeeds_noSharedIds() {
+        long[] seeds = {1, 2, 3, -1, 0x5deece66dL};
+        Set<Long> ids = new HashSet<>();
+        for (long seed : seeds) {
+            IdGenerator generator = new IdGenerator(seed);
+            for (int i = 0; i < IDS; i++) {
+                ids.add(generator.nextId());
+            }
+        }
+        assertEquals(seeds.length * IDS, ids.size());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Name;
+import seedu.address.model.tag.Tag;
+
+public class ValuePoolTest {
+
+    private final ValuePool valuePool = new ValuePool();
+
+    @Test
+    public void intern_equalStrings_returnsSameInstance() {
+        String first = new String("COM1-0210");
+        String second = new String("COM1-0210");
+        assertNotSame(first, second);
+        assertSame(valuePool.intern(first), valuePool.intern(second));
+    }
+
+    @Test
+    public void location_equalValues_returnsSameInstance() {
+        assertSame(valuePool.location("COM1-0210"), valuePool.location(new String("COM1-0210")));
+        assertNotSame(valuePool.location("COM1-0210"), valuePool.location("COM2-0108"));
+    }
+
+    @Test
+    public void timeSlot_equalValues_returnsSameInstance() {
+        assertSame(valuePool.timeSlot("1300", "1400"), valuePool.timeSlot("1300", "1400"));
+        assertNotSame(valuePool.timeSlot("1300", "1400"), valuePool.timeSlot("1300", "1500"));
+    }
+
+    @Test
+    public void name_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> valuePool.name("R@chel"));
+    }
+
+    @Test
+    public void intern_event_sharesFieldsWithPreviouslyInternedEvent() {
+        Event first = valuePool.intern(BENSON);
+        Event second = valuePool.intern(BENSON);
+        assertEquals(BENSON, first);
+        assertSame(first.getName(), second.getName());
+        assertSame(first.getLocation(), second.getLocation());
+        assertSame(first.getDate(), second.getDate());
+        assertSame(first.getRemark(), second.getRemark());
+        for (Tag tag : second.getTags()) {
+            assertSame(valuePool.tag(tag.tagName), tag);
+        }
+    }
+
+    @Test
+    public void getBytesSaved_countsOnlyDuplicates() {
+        Name name = valuePool.name("Alice");
+        assertEquals(0, valuePool.getHitCount());
+        assertEquals(0, valuePool.getBytesSaved());
+
+        assertSame(name, valuePool.name("Alice"));
+        assertEquals(2, valuePool.getLookupCount());
+        assertEquals(1, valuePool.getHitCount());
+        assertTrue(valuePool.getBytesSaved() > 0);
+    }
+
+    @Test
+    public void size_valuesNoLongerUsed_dropped() throws InterruptedException {
+        Name kept = valuePool.name("Alice");
+        for (int i = 0; i < 1000; i++) {
+            valuePool.location("COM1-" + i);
+        }
+        for (int attempt = 0; attempt < 50 && valuePool.size() > 1; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, valuePool.size());
+        assertSame(kept, valuePool.name("Alice"));
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Schedule;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.storage.JsonScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.EventBuilder;
+
+public class ReminderEngineTest {
+
+    private static final Duration LEAD_TIME = Duration.ofMinutes(15);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final MutableClock clock = new MutableClock(LocalDateTime.of(2020, 1, 1, 7, 0));
+    private final List<Reminder> reminders = new ArrayList<>();
+
+    @Test
+    public void resync_armsNextReminderOfUpcomingEvents() {
+        Event upcoming = new EventBuilder().withDate("2020-01-01").withTimeSlot("0800", "0900").build();
+        Event past = new EventBuilder().withDate("2019-12-31").withTimeSlot("0800", "0900").build();
+        Schedule schedule = new Schedule();
+        schedule.addEvent(upcoming);
+        schedule.addEvent(past);
+        ReminderEngine engine = createEngine(new ModelManager(schedule, new UserPrefs()));
+        engine.resync();
+        assertEquals(1, engine.getArmedCount());
+
+        clock.set(LocalDateTime.of(2020, 1, 1, 7, 44, 59));
+        engine.tick();
+        assertTrue(reminders.isEmpty());
+
+        clock.set(LocalDateTime.of(2020, 1, 1, 7, 45));
+        engine.tick();
+        assertEquals(List.of(new Reminder(upcoming, LocalDateTime.of(2020, 1, 1, 8, 0))), reminders);
+        assertEquals(0, engine.getArmedCount());
+    }
+
+    @Test
+    public void tick_eventsChanged_rearmedIncrementally() {
+        Model model = new ModelManager(new Schedule(), new UserPrefs());
+        ReminderEngine engine = createEngine(model);
+        engine.resync();
+
+        Event first = new EventBuilder().withDate("2020-01-01").withTimeSlot("0900", "1000").build();
+        Event second = new EventBuilder().withName("Second").withDate("2020-01-01").withTimeSlot("1100", "1200")
+                .build();
+        model.addEvent(first);
+        model.addEvent(second);
+        engine.tick();
+        assertEquals(2, engine.getArmedCount());
+
+        Event moved = moveTo(first, "1000", "1030");
+        model.setEvent(first, moved);
+        model.deleteEvent(second);
+        engine.tick();
+        assertEquals(1, engine.getArmedCount());
+
+        clock.set(LocalDateTime.of(2020, 1, 1, 8, 45));
+        engine.tick();
+        assertTrue(reminders.isEmpty());
+
+        clock.set(LocalDateTime.of(2020, 1, 1, 11, 0));
+        engine.tick();
+        assertEquals(List.of(new Reminder(moved, LocalDateTime.of(2020, 1, 1, 10, 0))), reminders);
+    }
+
+    @Test
+    public void tick_recurringEvent_armsNextOccurrence() {
+        Event weekly = new EventBuilder().withDate("2020-01-01").withTimeSlot("0800", "0900")
+                .withRecurrence("w", "2020-01-15").build();
+        Schedule schedule = new Schedule();
+        schedule.addEvent(weekly);
+        ReminderEngine engine = createEngine(new ModelManager(schedule, new UserPrefs()));
+        engine.resync();
+
+        clock.set(LocalDateTime.of(2020, 1, 1, 7, 45));
+        engine.tick();
+        assertEquals(1, engine.getArmedCount());
+        clock.set(LocalDateTime.of(2020, 1, 8, 7, 45));
+        engine.tick();
+        clock.set(LocalDateTime.of(2020, 1, 20, 0, 0));
+        engine.tick();
+
+        assertEquals(List.of(new Reminder(weekly, LocalDateTime.of(2020, 1, 1, 8, 0)),
+                new Reminder(weekly, LocalDateTime.of(2020, 1, 8, 8, 0)),
+                new Reminder(weekly, LocalDateTime.of(2020, 1, 15, 8, 0))), reminders);
+        assertEquals(0, engine.getArmedCount());
+    }
+
+    @Test
+    public void getNextStart() {
+        Event single = new EventBuilder().withDate("2020-01-01").withTimeSlot("0800", "0900").build();
+        assertEquals(Optional.of(LocalDateTime.of(2020, 1, 1, 8, 0)),
+                ReminderEngine.getNextStart(single, LocalDateTime.of(2019, 6, 1, 12, 0)));
+        // already started
+        assertEquals(Optional.empty(), ReminderEngine.getNextStart(single, LocalDateTime.of(2020, 1, 1, 8, 0)));
+
+        Event daily = new EventBuilder(single).withRecurrence("d", "2020-12-31", "2020-01-02").build();
+        assertEquals(Optional.of(LocalDateTime.of(2020, 1, 3, 8, 0)),
+                ReminderEngine.getNextStart(daily, LocalDateTime.of(2020, 1, 1, 9, 0)));
+
+        // the next occurrence is more than one search window away
+        Event everyTenWeeks = new EventBuilder(single).withRecurrence("10w", "2020-12-31").build();
+        assertEquals(Optional.of(LocalDateTime.of(2020, 3, 11, 8, 0)),
+                ReminderEngine.getNextStart(everyTenWeeks, LocalDateTime.of(2020, 1, 2, 0, 0)));
+        assertEquals(Optional.empty(),
+                ReminderEngine.getNextStart(everyTenWeeks, LocalDateTime.of(2020, 12, 30, 0, 0)));
+    }
+
+    private ReminderEngine createEngine(Model model) {
+        StorageManager storage = new StorageManager(new JsonScheduleStorage(temporaryFolder.resolve("schedule.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+        return new ReminderEngine(new LogicManager(model, storage), Runnable::run, LEAD_TIME, clock, reminders::add);
+    }
+
+    private static Event moveTo(Event event, String startTime, String endTime) {
+        return new Event(event.getId(), event.getName(), event.getDate(), new TimeSlot(startTime, endTime),
+                event.getLocation(), event.getTags(), event.getRemark(), event.getRecurrence().orElse(null));
+    }
+
+    /**
+     * A clock in UTC that is set by the test.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime dateTime) {
+            set(dateTime);
+        }
+
+        void set(LocalDateTime dateTime) {
+            instant = dateTime.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
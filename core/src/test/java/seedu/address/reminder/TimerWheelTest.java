@@ -0,0 +1,112 @@
+package seedu.address.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TimerWheelTest {
+
+    private final TimerWheel<Long> wheel = new TimerWheel<>(0);
+    private final List<Long> expired = new ArrayList<>();
+
+    @Test
+    public void advanceTo_itemsHandedOutAtTheirDeadlines() {
+        long[] deadlines = {1, 63, 64, 65, 4095, 4096, 4097, 262144 + 5, 64L * 64 * 64 * 64 * 3 + 7};
+        for (int i = deadlines.length - 1; i >= 0; i--) {
+            wheel.schedule(deadlines[i], deadlines[i]);
+        }
+        List<Long> handedOutAt = new ArrayList<>();
+        wheel.advanceTo(deadlines[deadlines.length - 1], item -> {
+            expired.add(item);
+            handedOutAt.add(wheel.getCurrentTick());
+        });
+
+        assertEquals(deadlines.length, expired.size());
+        for (int i = 0; i < deadlines.length; i++) {
+            assertEquals(deadlines[i], expired.get(i));
+            assertEquals(deadlines[i], handedOutAt.get(i));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void advanceTo_beforeDeadline_nothingHandedOut() {
+        wheel.schedule(100L, 100);
+        wheel.advanceTo(99, expired::add);
+        assertTrue(expired.isEmpty());
+        assertEquals(1, wheel.size());
+
+        wheel.advanceTo(100, expired::add);
+        assertEquals(List.of(100L), expired);
+    }
+
+    @Test
+    public void schedule_deadlinePassed_dueAtNextTick() {
+        wheel.advanceTo(50, expired::add);
+        TimerWheel.Timer<Long> timer = wheel.schedule(10L, 10);
+        assertEquals(51, timer.getDeadline());
+
+        wheel.advanceTo(51, expired::add);
+        assertEquals(List.of(10L), expired);
+    }
+
+    @Test
+    public void cancel_pendingTimer_notHandedOut() {
+        TimerWheel.Timer<Long> cancelled = wheel.schedule(5000L, 5000);
+        wheel.schedule(5001L, 5001);
+        wheel.cancel(cancelled);
+        assertFalse(cancelled.isPending());
+        assertEquals(1, wheel.size());
+
+        wheel.advanceTo(10000, expired::add);
+        assertEquals(List.of(5001L), expired);
+    }
+
+    @Test
+    public void cancel_handedOutTimer_doesNothing() {
+        TimerWheel.Timer<Long> timer = wheel.schedule(1L, 1);
+        wheel.schedule(2L, 2);
+        wheel.advanceTo(1, expired::add);
+        wheel.cancel(timer);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void advanceTo_itemScheduledWhenHandedOut_handedOutLater() {
+        wheel.schedule(10L, 10);
+        wheel.advanceTo(1000, item -> {
+            expired.add(item);
+            if (item < 500) {
+                wheel.schedule(item * 2, item * 2);
+            }
+        });
+        assertEquals(List.of(10L, 20L, 40L, 80L, 160L, 320L, 640L), expired);
+    }
+
+    @Test
+    public void advanceTo_manyTimers_allHandedOutInOrder() {
+        Random random = new Random(42);
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            long deadline = 1 + random.nextInt(1_000_000);
+            wheel.schedule(deadline, deadline);
+        }
+        assertEquals(count, wheel.size());
+
+        long[] last = {0};
+        wheel.advanceTo(1_000_000, item -> {
+            assertEquals(item, wheel.getCurrentTick());
+            assertTrue(item >= last[0]);
+            last[0] = item;
+            expired.add(item);
+        });
+        assertEquals(count, expired.size());
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.tenant.TenantHost;
+import seedu.address.testutil.TypicalEvents;
+
+public class ScheduleServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private Logic logic;
+    private ScheduleServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StorageManager storage = new StorageManager(new JsonScheduleStorage(temporaryFolder.resolve("schedule.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(TypicalEvents.getTypicalSchedule(), new UserPrefs()), storage);
+        server = new ScheduleServer(logic, writer, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        writer.shutdown();
+    }
+
+    @Test
+    public void listEvents_noKeywords_returnsAllEvents() throws Exception {
+        HttpResponse<String> response = get(ScheduleServer.EVENTS_PATH);
+        assertEquals(ScheduleServer.STATUS_OK, response.statusCode());
+        assertTrue(response.body().contains(ALICE.getName().fullName));
+        assertTrue(response.body().contains(BENSON.getName().fullName));
+    }
+
+    @Test
+    public void listEvents_withKeywords_returnsMatchingEvents() throws Exception {
+        String keyword = ALICE.getName().fullName.split(" ")[0];
+        HttpResponse<String> response = get(ScheduleServer.EVENTS_PATH + "?" + ScheduleServer.FIND_PARAMETER
+                + "=" + keyword);
+        assertEquals(ScheduleServer.STATUS_OK, response.statusCode());
+        assertTrue(response.body().contains(ALICE.getName().fullName));
+        assertFalse(response.body().contains(BENSON.getName().fullName));
+    }
+
+    @Test
+    public void listFreeSlots_returnsJsonArray() throws Exception {
+        HttpResponse<String> response = get(ScheduleServer.FREE_SLOTS_PATH);
+        assertEquals(ScheduleServer.STATUS_OK, response.statusCode());
+        assertTrue(response.body().startsWith("["));
+    }
+
+    @Test
+    public void executeCommand_validCommand_appliedAndVisibleToReads() throws Exception {
+        HttpResponse<String> response = post(ClearCommand.COMMAND_WORD);
+        assertEquals(ScheduleServer.STATUS_OK, response.statusCode());
+        assertTrue(response.body().contains(ClearCommand.MESSAGE_SUCCESS));
+
+        assertEquals("[ ]", get(ScheduleServer.EVENTS_PATH).body());
+        assertEquals(0, logic.getScheduleSnapshot().getEvents().size());
+    }
+
+    @Test
+    public void executeCommand_invalidCommand_badRequest() throws Exception {
+        assertEquals(ScheduleServer.STATUS_BAD_REQUEST, post("unknowncommand").statusCode());
+    }
+
+    @Test
+    public void wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(ScheduleServer.STATUS_METHOD_NOT_ALLOWED, get(ScheduleServer.COMMANDS_PATH).statusCode());
+        assertEquals(ScheduleServer.STATUS_METHOD_NOT_ALLOWED, client.send(HttpRequest.newBuilder(
+                uri(ScheduleServer.EVENTS_PATH)).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    public void hostTenants_servesEachTenantSchedule() throws Exception {
+        server.hostTenants(new TenantHost(temporaryFolder.resolve("tenants"), 2));
+        String alice = ScheduleServer.TENANTS_PATH + "/alice/";
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(alice
+                + ScheduleServer.TENANT_COMMANDS)).POST(HttpRequest.BodyPublishers.ofString(ListCommand.COMMAND_WORD))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(ScheduleServer.STATUS_OK, response.statusCode());
+        assertEquals("[ ]", get(alice + ScheduleServer.TENANT_EVENTS).body());
+        assertTrue(get(alice + ScheduleServer.TENANT_METRICS).body().contains("\"commands\" : 1"));
+        assertEquals(ScheduleServer.STATUS_NOT_FOUND,
+                get(ScheduleServer.TENANTS_PATH + "/bob/" + ScheduleServer.TENANT_METRICS).statusCode());
+        assertEquals(ScheduleServer.STATUS_BAD_REQUEST,
+                get(ScheduleServer.TENANTS_PATH + "/b.b/" + ScheduleServer.TENANT_EVENTS).statusCode());
+        assertTrue(get(ScheduleServer.TENANTS_PATH).body().contains("\"loads\" : 1"));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String command) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(ScheduleServer.COMMANDS_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString(command)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Schedule;
+
+public class BufferedScheduleStorageTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void saveSchedule_heldBackUntilFlushed() throws Exception {
+        Path filePath = temporaryFolder.resolve("schedule.json");
+        BufferedScheduleStorage storage = new BufferedScheduleStorage(new JsonScheduleStorage(filePath));
+        Schedule schedule = new Schedule();
+
+        storage.saveSchedule(schedule);
+        storage.saveSchedule(getTypicalSchedule());
+        assertTrue(storage.isDirty());
+        assertFalse(Files.exists(filePath));
+
+        storage.flush();
+        assertFalse(storage.isDirty());
+        assertEquals(getTypicalSchedule(), new Schedule(storage.readSchedule().get()));
+    }
+
+    @Test
+    public void saveSchedule_unchangedSinceWritten_notHeldBack() throws Exception {
+        Path filePath = temporaryFolder.resolve("schedule.json");
+        BufferedScheduleStorage storage = new BufferedScheduleStorage(new JsonScheduleStorage(filePath));
+        Schedule schedule = getTypicalSchedule();
+        storage.setWritten(schedule);
+
+        storage.saveSchedule(schedule);
+        assertFalse(storage.isDirty());
+
+        schedule.removeEvent(schedule.getEventList().get(0));
+        storage.saveSchedule(schedule);
+        assertTrue(storage.isDirty());
+        storage.flush();
+        storage.saveSchedule(schedule);
+        assertFalse(storage.isDirty());
+        // an equal schedule that is not known to be in the file is still written
+        storage.saveSchedule(new Schedule(schedule));
+        assertTrue(storage.isDirty());
+    }
+
+    @Test
+    public void saveScheduleToPath_writtenStraightAway() throws Exception {
+        Path filePath = temporaryFolder.resolve("other.json");
+        BufferedScheduleStorage storage =
+                new BufferedScheduleStorage(new JsonScheduleStorage(temporaryFolder.resolve("schedule.json")));
+
+        storage.saveSchedule(getTypicalSchedule(), filePath);
+        assertFalse(storage.isDirty());
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void flush_nothingSaved_writesNothing() throws Exception {
+        Path filePath = temporaryFolder.resolve("schedule.json");
+        new BufferedScheduleStorage(new JsonScheduleStorage(filePath)).flush();
+        assertFalse(Files.exists(filePath));
+    }
+}
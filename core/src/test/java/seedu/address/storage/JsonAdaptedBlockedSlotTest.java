@@ -5,11 +5,16 @@ import static seedu.address.storage.JsonAdaptedBlockedSlot.MISSING_FIELD_MESSAGE
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalBlockedSlots.EIGHT_TO_NINE;
 
+import java.util.ArrayList;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.blockedslot.BlockedSlot;
 import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.TimeSlot;
+import seedu.address.testutil.BlockedSlotBuilder;
 
 public class JsonAdaptedBlockedSlotTest {
     private static final String INVALID_DATE = "2020";
@@ -27,6 +32,19 @@ public class JsonAdaptedBlockedSlotTest {
         assertEquals(EIGHT_TO_NINE, blockedSlot.toModelType());
     }
 
+    @Test
+    public void toModelType_recurringBlockedSlot_keepsRecurrence() throws Exception {
+        BlockedSlot recurring = new BlockedSlotBuilder(EIGHT_TO_NINE).withRecurrence("mon,wed", "2020-06-30").build();
+        assertEquals(recurring, new JsonAdaptedBlockedSlot(recurring).toModelType());
+    }
+
+    @Test
+    public void toModelType_untilBeforeDate_throwsIllegalValueException() {
+        JsonAdaptedBlockedSlot blockedSlot = new JsonAdaptedBlockedSlot(null, VALID_DATE, VALID_STARTTIME,
+                VALID_ENDTIME, new JsonAdaptedRecurrence("weekday", "2000-01-01", new ArrayList<>()));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_UNTIL_BEFORE_START, blockedSlot::toModelType);
+    }
+
     @Test
     public void toModelType_invalidDate_throwsIllegalValueException() {
         JsonAdaptedBlockedSlot blockedSlot = new JsonAdaptedBlockedSlot(INVALID_DATE, VALID_STARTTIME, VALID_ENDTIME);
@@ -13,10 +13,13 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.Location;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Remark;
 import seedu.address.model.event.TimeSlot;
+import seedu.address.testutil.EventBuilder;
 
 public class JsonAdaptedEventTest {
     private static final String INVALID_DATE = "2020";
@@ -42,6 +45,34 @@ public class JsonAdaptedEventTest {
         assertEquals(BENSON, event.toModelType());
     }
 
+    @Test
+    public void toModelType_validEventDetails_keepsId() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(BENSON);
+        assertEquals(BENSON.getId(), event.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_recurringEvent_keepsRecurrence() throws Exception {
+        Event recurring = new EventBuilder(BENSON).withRecurrence("2w", "2020-03-01", "2020-01-16").build();
+        assertEquals(recurring, new JsonAdaptedEvent(recurring).toModelType());
+    }
+
+    @Test
+    public void toModelType_untilBeforeDate_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(null, VALID_NAME, VALID_DATE, VALID_STARTTIME, VALID_ENDTIME,
+                VALID_ADDRESS, VALID_TAGS, VALID_REMARK,
+                new JsonAdaptedRecurrence("w", "2000-01-01", new ArrayList<>()));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_UNTIL_BEFORE_START, event::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidRecurrenceRule_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(null, VALID_NAME, VALID_DATE, VALID_STARTTIME, VALID_ENDTIME,
+                VALID_ADDRESS, VALID_TAGS, VALID_REMARK,
+                new JsonAdaptedRecurrence("0w", "2099-01-01", new ArrayList<>()));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, event::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedEvent event =
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.model.sync.Change;
+import seedu.address.model.sync.ChangeBundle;
+import seedu.address.testutil.BlockedSlotBuilder;
+
+public class JsonChangeBundleStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readChangeBundle_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonChangeBundleStorage(testFolder.resolve("missing.json")).readChangeBundle().isPresent());
+    }
+
+    @Test
+    public void readChangeBundle_missingReplicaId_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.json");
+        Files.writeString(filePath, "{ \"lastSeq\" : 1, \"changes\" : [] }");
+        assertThrows(DataConversionException.class, () -> new JsonChangeBundleStorage(filePath).readChangeBundle());
+    }
+
+    @Test
+    public void saveAndReadChangeBundle_allKindsOfChanges_success() throws Exception {
+        BlockedSlot blockedSlot = new BlockedSlotBuilder().withRecurrence("w", "2020-03-01").build();
+        ChangeBundle bundle = new ChangeBundle("laptop", 9, List.of(new Change(3, 2, "laptop", ALICE.getId(), ALICE),
+                new Change(5, 4, "desktop", blockedSlot.getId(), blockedSlot),
+                new Change(9, 7, "laptop", 123, null)));
+        JsonChangeBundleStorage storage = new JsonChangeBundleStorage(testFolder.resolve("changes.json"));
+
+        storage.saveChangeBundle(bundle);
+        ChangeBundle read = storage.readChangeBundle().get();
+        assertEquals(bundle, read);
+        assertEquals(ALICE.getId(), ((Event) read.getChanges().get(0).getItem().get())
+                .getId());
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class JsonEventArchiveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getArchiveFilePath_besideSchedule() {
+        assertEquals(testFolder.resolve("archive.json.gz"),
+                JsonEventArchiveStorage.getArchiveFilePath(testFolder.resolve("schedule.json")));
+    }
+
+    @Test
+    public void readArchive_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonEventArchiveStorage(testFolder.resolve("missing.json.gz")).readArchive().isPresent());
+    }
+
+    @Test
+    public void readArchive_notCompressed_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("archive.json.gz");
+        Files.writeString(filePath, "{ \"events\" : [] }");
+        assertThrows(DataConversionException.class, () -> new JsonEventArchiveStorage(filePath).readArchive());
+    }
+
+    @Test
+    public void saveAndReadArchive_success() throws Exception {
+        Event recurring = new EventBuilder().withName("Weekly").withRecurrence("w", "2020-03-01").build();
+        Path filePath = testFolder.resolve("data").resolve("archive.json.gz");
+        JsonEventArchiveStorage storage = new JsonEventArchiveStorage(filePath);
+
+        storage.saveArchive(List.of(ALICE, recurring));
+        List<Event> read = storage.readArchive().get();
+        assertEquals(List.of(ALICE, recurring), read);
+        assertEquals(ALICE.getId(), read.get(0).getId());
+
+        // replaces the archived events
+        storage.saveArchive(List.of(BENSON));
+        assertEquals(List.of(BENSON), storage.readArchive().get());
+    }
+}
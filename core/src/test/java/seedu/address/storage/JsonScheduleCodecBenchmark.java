@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Schedule;
+import seedu.address.model.util.ValuePool;
+import seedu.address.testutil.BlockedSlotBuilder;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Times {@code JsonScheduleCodec} against reading and writing a schedule through {@code JsonSerializableSchedule} and
+ * the adapted classes, on a large schedule. Run with {@code gradlew :core:benchmarkScheduleCodec}.
+ */
+public class JsonScheduleCodecBenchmark {
+
+    private static final int EVENTS = 20_000;
+    private static final int BLOCKED_SLOTS = 2_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    /** Keeps the results alive so that the work is not optimised away. */
+    private static long resultSize;
+
+    /**
+     * Prints the time each way takes to write and to read the schedule.
+     */
+    public static void main(String[] args) throws Exception {
+        Schedule schedule = createSchedule();
+        String json = JsonScheduleCodec.toJsonString(schedule, 1);
+        System.out.println("Schedule of " + EVENTS + " events and " + BLOCKED_SLOTS + " blocked slots, "
+                + json.length() / 1024 + " KB, on " + Runtime.getRuntime().availableProcessors() + " processors");
+
+        Task adaptedWrite = () -> resultSize += JsonUtil.toJsonString(new JsonSerializableSchedule(schedule, 1))
+                .length();
+        Task codecWrite = () -> resultSize += JsonScheduleCodec.toJsonString(schedule, 1).length();
+        compare("Write", adaptedWrite, codecWrite);
+
+        Task adaptedRead = () -> resultSize += JsonUtil.fromJsonString(json, JsonSerializableSchedule.class)
+                .toModelType(new ValuePool()).getEventList().size();
+        Task codecRead = () -> resultSize += JsonScheduleCodec.fromJsonString(json, new ValuePool())
+                .getSchedule().getEventList().size();
+        compare("Read", adaptedRead, codecRead);
+        System.out.println("(" + resultSize + ")");
+    }
+
+    private static Schedule createSchedule() {
+        Schedule schedule = new Schedule();
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        for (int i = 0; i < EVENTS; i++) {
+            int hour = 8 + i % 8;
+            schedule.addEvent(new EventBuilder().withName("Consultation " + i)
+                    .withDate(start.plusDays(i / 8).toString())
+                    .withTimeSlot(String.format("%02d00", hour), String.format("%02d30", hour))
+                    .withLocation("COM1 #02-" + (i % 50)).withTags("CS" + (2000 + i % 20)).withRemark("Week " + i % 13)
+                    .build());
+        }
+        for (int i = 0; i < BLOCKED_SLOTS; i++) {
+            schedule.addBlockedSlot(new BlockedSlotBuilder().withDate(start.plusDays(i).toString())
+                    .withTimeSlot("1800", "2000").build());
+        }
+        return schedule;
+    }
+
+    private static void compare(String operation, Task adapted, Task codec) throws Exception {
+        long adaptedNanos = time(adapted);
+        long codecNanos = time(codec);
+        System.out.printf("%-6s adapted %5d ms, codec %5d ms, %4.1fx faster%n", operation, adaptedNanos / 1_000_000,
+                codecNanos / 1_000_000, (double) adaptedNanos / codecNanos);
+    }
+
+    /**
+     * Returns the fastest time, in nanoseconds, that {@code task} took.
+     */
+    private static long time(Task task) throws Exception {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            long start = System.nanoTime();
+            task.run();
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Location;
+import seedu.address.model.event.Name;
+import seedu.address.model.util.ValuePool;
+import seedu.address.testutil.BlockedSlotBuilder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TypicalEvents;
+
+public class JsonScheduleCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableScheduleTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toJsonString_sameAsAdaptedClasses() throws Exception {
+        Schedule schedule = getScheduleWithRecurrences();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableSchedule(schedule, 7)),
+                JsonScheduleCodec.toJsonString(schedule, 7));
+    }
+
+    @Test
+    public void saveJsonFile_thenRead_sameSchedule() throws Exception {
+        Schedule schedule = getScheduleWithRecurrences();
+        Path filePath = testFolder.resolve("schedule.json");
+        JsonScheduleCodec.saveJsonFile(schedule, 3, filePath);
+
+        JsonScheduleCodec.ScheduleFile scheduleFile = JsonScheduleCodec.readJsonFile(filePath, new ValuePool()).get();
+        assertEquals(3, scheduleFile.getVersion());
+        assertEquals(schedule, scheduleFile.getSchedule());
+        assertEquals(schedule, JsonUtil.readJsonFile(filePath, JsonSerializableSchedule.class).get().toModelType());
+    }
+
+    @Test
+    public void readJsonFile_missingFile_empty() throws Exception {
+        assertFalse(JsonScheduleCodec.readJsonFile(testFolder.resolve("missing.json"), new ValuePool()).isPresent());
+    }
+
+    @Test
+    public void readJsonFile_typicalEventsFile_success() throws Exception {
+        JsonScheduleCodec.ScheduleFile scheduleFile = JsonScheduleCodec.readJsonFile(
+                TEST_DATA_FOLDER.resolve("typicalEventSchedule.json"), new ValuePool()).get();
+        assertEquals(0, scheduleFile.getVersion());
+        assertEquals(TypicalEvents.getTypicalSchedule(), scheduleFile.getSchedule());
+    }
+
+    @Test
+    public void readJsonFile_invalidFiles_sameErrorAsAdaptedClasses() throws Exception {
+        for (String fileName : List.of("invalidEventSchedule.json", "invalidBlockedSlotSchedule.json",
+                "clashingEventSchedule.json", "clashingBlockedSlotSchedule.json",
+                "eventClashesWithBlockedSlotSchedule.json")) {
+            Path filePath = TEST_DATA_FOLDER.resolve(fileName);
+            String expectedMessage = getAdaptedError(filePath);
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonScheduleCodec.readJsonFile(filePath, new ValuePool()));
+        }
+    }
+
+    @Test
+    public void readJsonFile_notJson_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("schedule.json");
+        FileUtil.writeToFile(filePath, "{\"events\": [ {\"name\": ");
+        assertThrows(DataConversionException.class, () -> JsonScheduleCodec.readJsonFile(filePath, new ValuePool()));
+    }
+
+    @Test
+    public void fromJsonString_unknownAndMissingFields_ignored() throws Exception {
+        String json = "{\"_comment\": {\"a\": [1, 2]}, \"events\": [ {\"name\": \"Meeting\", \"date\": \"2020-01-01\","
+                + " \"startTime\": \"0800\", \"endTime\": \"0900\", \"location\": \"Office\", \"remark\": \"\","
+                + " \"colour\": [\"red\"]} ]}";
+        JsonScheduleCodec.ScheduleFile scheduleFile = JsonScheduleCodec.fromJsonString(json, new ValuePool());
+        assertEquals(0, scheduleFile.getVersion());
+        assertEquals(List.of(new EventBuilder().withName("Meeting").withDate("2020-01-01")
+                .withTimeSlot("0800", "0900").withLocation("Office").withRemark("").withTags().build()),
+                List.copyOf(scheduleFile.getSchedule().getEventList()));
+        assertEquals(0, scheduleFile.getSchedule().getBlockedSlotList().size());
+    }
+
+    @Test
+    public void fromJsonString_wrongStructure_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonScheduleCodec.fromJsonString("[]", new ValuePool()));
+        assertThrows(IOException.class, () ->
+                JsonScheduleCodec.fromJsonString("{\"events\": [ \"Meeting\" ]}", new ValuePool()));
+        assertThrows(IOException.class, () ->
+                JsonScheduleCodec.fromJsonString("{\"events\": [ {\"name\": [\"Meeting\"]} ]}", new ValuePool()));
+    }
+
+    @Test
+    public void fromJsonString_invalidRecordBeforeClash_throwsErrorOfInvalidRecord() throws Exception {
+        List<JsonAdaptedEvent> events = new ArrayList<>();
+        events.add(new JsonAdaptedEvent("Meeting", "2020-01-01", "0800", "0900", "Office", List.of(), ""));
+        events.add(new JsonAdaptedEvent("Meeting!", "2020-01-02", "0800", "0900", "Office", List.of(), ""));
+        events.add(new JsonAdaptedEvent("Meeting", "2020-13-01", "0800", "0900", "Office", List.of(), ""));
+        events.add(new JsonAdaptedEvent("Meeting", "2020-01-01", "0830", "0930", "Office", List.of(), ""));
+        String json = JsonUtil.toJsonString(new JsonSerializableSchedule(null, events, List.of()));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                JsonScheduleCodec.fromJsonString(json, new ValuePool()));
+    }
+
+    @Test
+    public void fromJsonString_clashBeforeInvalidRecord_throwsClash() throws Exception {
+        List<JsonAdaptedEvent> events = new ArrayList<>();
+        events.add(new JsonAdaptedEvent("Meeting", "2020-01-01", "0800", "0900", "Office", List.of(), ""));
+        events.add(new JsonAdaptedEvent("Meeting", "2020-01-01", "0830", "0930", "Office", List.of(), ""));
+        events.add(new JsonAdaptedEvent("Meeting", "2020-13-01", "0800", "0900", "Office", List.of(), ""));
+        String json = JsonUtil.toJsonString(new JsonSerializableSchedule(null, events, List.of()));
+        assertThrows(IllegalValueException.class, JsonAdaptedEvent.SLOT_BLOCKED, () ->
+                JsonScheduleCodec.fromJsonString(json, new ValuePool()));
+    }
+
+    @Test
+    public void fromJsonString_severalInvalidRecordsInDifferentChunks_throwsErrorOfFirst() throws Exception {
+        List<JsonAdaptedEvent> events = new ArrayList<>();
+        for (int i = 0; i < 4 * JsonSerializableSchedule.CHUNK_SIZE; i++) {
+            events.add(new JsonAdaptedEvent("Event " + i, LocalDate.of(2020, 1, 1).plusDays(i).toString(), "0800",
+                    "0900", "Office", List.of(), ""));
+        }
+        events.set(3 * JsonSerializableSchedule.CHUNK_SIZE, new JsonAdaptedEvent("Meeting", "2020-13-01", "0800",
+                "0900", "Office", List.of(), ""));
+        events.set(JsonSerializableSchedule.CHUNK_SIZE + 1, new JsonAdaptedEvent("Meeting!", "2020-01-01", "0800",
+                "0900", "Office", List.of(), ""));
+        String json = JsonUtil.toJsonString(new JsonSerializableSchedule(null, events, List.of()));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                JsonScheduleCodec.fromJsonString(json, new ValuePool()));
+    }
+
+    @Test
+    public void fromJsonString_invalidBlockedSlotBeforeEvents_throwsErrorOfEvent() {
+        String json = "{\"blockedSlots\": [ {\"date\": \"2020-01-32\", \"startTime\": \"0800\","
+                + " \"endTime\": \"0900\"} ], \"events\": [ {\"name\": \"Meeting\", \"date\": \"2020-01-01\","
+                + " \"startTime\": \"0800\", \"endTime\": \"0900\", \"location\": \" \", \"remark\": \"\"} ]}";
+        assertThrows(IllegalValueException.class, Location.MESSAGE_CONSTRAINTS, () ->
+                JsonScheduleCodec.fromJsonString(json, new ValuePool()));
+        String validEventsJson = json.replace("\" \"", "\"Office\"");
+        assertThrows(IllegalValueException.class, Date.MESSAGE_CONSTRAINTS, () ->
+                JsonScheduleCodec.fromJsonString(validEventsJson, new ValuePool()));
+    }
+
+    /**
+     * Returns the message of the error that the adapted classes give for the file at {@code filePath}.
+     */
+    private static String getAdaptedError(Path filePath) throws DataConversionException {
+        try {
+            JsonUtil.readJsonFile(filePath, JsonSerializableSchedule.class).get().toModelType();
+        } catch (IllegalValueException e) {
+            return e.getMessage();
+        }
+        throw new AssertionError(filePath + " was expected to be invalid");
+    }
+
+    private static Schedule getScheduleWithRecurrences() {
+        Schedule schedule = TypicalEvents.getTypicalSchedule();
+        schedule.addEvent(new EventBuilder().withName("Weekly meeting").withDate("2020-03-02")
+                .withTimeSlot("1400", "1500").withRecurrence("w", "2020-06-01", "2020-04-13", "2020-03-16").build());
+        schedule.addBlockedSlot(new BlockedSlotBuilder().withDate("2020-03-03").withTimeSlot("0900", "1000")
+                .withRecurrence("weekday", "2020-03-31").build());
+        return schedule;
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.ALICE;
 import static seedu.address.testutil.TypicalEvents.HOON;
@@ -9,6 +11,7 @@ import static seedu.address.testutil.TypicalEvents.IDA;
 import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,8 +19,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.Schedule;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.ValuePool;
+import seedu.address.testutil.EventBuilder;
 
 public class JsonScheduleStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonScheduleStorageTest");
@@ -96,6 +103,76 @@ public class JsonScheduleStorageTest {
 
     }
 
+    @Test
+    public void readSchedule_readAgain_sameValuePoolShared() throws Exception {
+        Path filePath = testFolder.resolve("TempSchedule.json");
+        JsonScheduleStorage jsonScheduleStorage = new JsonScheduleStorage(filePath);
+        jsonScheduleStorage.saveSchedule(getTypicalSchedule());
+        ValuePool valuePool = jsonScheduleStorage.getValuePool();
+
+        Event first = jsonScheduleStorage.readSchedule().get().getEventList().get(0);
+        Event reread = jsonScheduleStorage.readSchedule().get().getEventList().get(0);
+        assertSame(valuePool, jsonScheduleStorage.getValuePool());
+        assertSame(first.getName(), reread.getName());
+        assertSame(first.getName(), valuePool.name(first.getName().fullName));
+    }
+
+    @Test
+    public void saveSchedule_defaultFile_versionIncreasesWithEachSave() throws Exception {
+        Path filePath = testFolder.resolve("TempSchedule.json");
+        JsonScheduleStorage jsonScheduleStorage = new JsonScheduleStorage(filePath);
+
+        jsonScheduleStorage.saveSchedule(getTypicalSchedule());
+        assertEquals(1, readVersion(filePath));
+        jsonScheduleStorage.saveSchedule(getTypicalSchedule());
+        assertEquals(2, readVersion(filePath));
+        assertTrue(Files.readString(filePath).startsWith("{\n  \"version\" : 2,"));
+    }
+
+    @Test
+    public void saveSchedule_savedByAnotherInstanceSinceRead_mergesBothChanges() throws Exception {
+        Path filePath = testFolder.resolve("TempSchedule.json");
+        JsonScheduleStorage first = new JsonScheduleStorage(filePath);
+        JsonScheduleStorage second = new JsonScheduleStorage(filePath);
+        first.saveSchedule(getTypicalSchedule());
+        Schedule firstSchedule = new Schedule(first.readSchedule().get());
+        Schedule secondSchedule = new Schedule(second.readSchedule().get());
+
+        firstSchedule.removeEvent(ALICE);
+        first.saveSchedule(firstSchedule);
+        secondSchedule.addEvent(HOON);
+        second.saveSchedule(secondSchedule);
+
+        Schedule expected = getTypicalSchedule();
+        expected.removeEvent(ALICE);
+        expected.addEvent(HOON);
+        assertEquals(expected, new Schedule(first.readSchedule().get()));
+        assertEquals(3, readVersion(filePath));
+    }
+
+    @Test
+    public void saveSchedule_clashingEventAddedByAnotherInstance_keepsOwnEvent() throws Exception {
+        Path filePath = testFolder.resolve("TempSchedule.json");
+        JsonScheduleStorage first = new JsonScheduleStorage(filePath);
+        JsonScheduleStorage second = new JsonScheduleStorage(filePath);
+        first.saveSchedule(new Schedule());
+        second.readSchedule();
+
+        Schedule firstSchedule = new Schedule();
+        firstSchedule.addEvent(new EventBuilder().withName("First").build());
+        first.saveSchedule(firstSchedule);
+        Schedule secondSchedule = new Schedule();
+        Event secondEvent = new EventBuilder().withName("Second").build();
+        secondSchedule.addEvent(secondEvent);
+        second.saveSchedule(secondSchedule);
+
+        assertEquals(secondSchedule, new Schedule(first.readSchedule().get()));
+    }
+
+    private static long readVersion(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableSchedule.class).get().getVersion();
+    }
+
     @Test
     public void saveSchedule_nullSchedule_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveSchedule(null, "SomeFile.json"));
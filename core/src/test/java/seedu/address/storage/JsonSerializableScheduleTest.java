@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Name;
+import seedu.address.testutil.TypicalEvents;
+
+public class JsonSerializableScheduleTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableScheduleTest");
+    private static final Path TYPICAL_EVENTS_FILE = TEST_DATA_FOLDER.resolve("typicalEventSchedule.json");
+    private static final Path INVALID_EVENT_FILE = TEST_DATA_FOLDER.resolve("invalidEventSchedule.json");
+    private static final Path INVALID_BLOCKEDSLOT_FILE = TEST_DATA_FOLDER.resolve("invalidBlockedSlotSchedule.json");
+    private static final Path CLASHING_EVENT_FILE = TEST_DATA_FOLDER.resolve("clashingEventSchedule.json");
+    private static final Path CLASHING_BLOCKEDSLOT_FILE = TEST_DATA_FOLDER.resolve("clashingBlockedSlotSchedule.json");
+    private static final Path EVENT_CLASHES_WITH_BLOCKEDSLOT_FILE =
+            TEST_DATA_FOLDER.resolve("eventClashesWithBlockedSlotSchedule.json");
+
+    @Test
+    public void toModelType_typicalEventsFile_success() throws Exception {
+        JsonSerializableSchedule dataFromFile = JsonUtil.readJsonFile(TYPICAL_EVENTS_FILE,
+                JsonSerializableSchedule.class).get();
+        Schedule scheduleFromFile = dataFromFile.toModelType();
+        Schedule typicalEventsSchedule = TypicalEvents.getTypicalSchedule();
+        assertEquals(scheduleFromFile, typicalEventsSchedule);
+    }
+
+    @Test
+    public void toModelType_invalidEventFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableSchedule dataFromFile = JsonUtil.readJsonFile(INVALID_EVENT_FILE,
+                JsonSerializableSchedule.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidBlockedSlotFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableSchedule dataFromFile = JsonUtil.readJsonFile(INVALID_BLOCKEDSLOT_FILE,
+                JsonSerializableSchedule.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_clashingEventFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableSchedule dataFromFile = JsonUtil.readJsonFile(CLASHING_EVENT_FILE,
+                JsonSerializableSchedule.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_clashingBlockedSlotFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableSchedule dataFromFile = JsonUtil.readJsonFile(CLASHING_BLOCKEDSLOT_FILE,
+                JsonSerializableSchedule.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_eventClashesWithBlockedSlot_throwsIllegalValueException() throws Exception {
+        JsonSerializableSchedule dataFromFile = JsonUtil.readJsonFile(EVENT_CLASHES_WITH_BLOCKEDSLOT_FILE,
+                JsonSerializableSchedule.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_moreThanOneChunk_success() throws Exception {
+        List<JsonAdaptedEvent> events = createEvents(3 * JsonSerializableSchedule.CHUNK_SIZE + 1);
+        List<JsonAdaptedBlockedSlot> blockedSlots = new ArrayList<>();
+        for (int i = 0; i < 2 * JsonSerializableSchedule.CHUNK_SIZE; i++) {
+            blockedSlots.add(new JsonAdaptedBlockedSlot(dateAfter(i), "1200", "1300"));
+        }
+
+        Schedule schedule = new JsonSerializableSchedule(null, events, blockedSlots).toModelType();
+
+        Schedule expectedSchedule = new Schedule();
+        for (JsonAdaptedEvent event : events) {
+            expectedSchedule.addEvent(event.toModelType());
+        }
+        for (JsonAdaptedBlockedSlot blockedSlot : blockedSlots) {
+            expectedSchedule.addBlockedSlot(blockedSlot.toModelType());
+        }
+        assertEquals(expectedSchedule, schedule);
+    }
+
+    @Test
+    public void toModelType_severalInvalidRecords_throwsErrorOfFirst() {
+        List<JsonAdaptedEvent> events = createEvents(4 * JsonSerializableSchedule.CHUNK_SIZE);
+        events.set(3 * JsonSerializableSchedule.CHUNK_SIZE, new JsonAdaptedEvent("Meeting", "2020-13-01", "0800",
+                "0900", "Office", List.of(), ""));
+        events.set(JsonSerializableSchedule.CHUNK_SIZE + 1, new JsonAdaptedEvent("Meeting!", dateAfter(0), "0800",
+                "0900", "Office", List.of(), ""));
+        JsonSerializableSchedule schedule = new JsonSerializableSchedule(null, events, List.of());
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, schedule::toModelType);
+    }
+
+    @Test
+    public void toModelType_clashBeforeInvalidRecord_throwsClash() {
+        List<JsonAdaptedEvent> events = createEvents(4 * JsonSerializableSchedule.CHUNK_SIZE);
+        events.set(JsonSerializableSchedule.CHUNK_SIZE, new JsonAdaptedEvent("Meeting", dateAfter(0), "0830",
+                "0930", "Office", List.of(), ""));
+        events.set(3 * JsonSerializableSchedule.CHUNK_SIZE, new JsonAdaptedEvent("Meeting", "2020-13-01", "0800",
+                "0900", "Office", List.of(), ""));
+        JsonSerializableSchedule schedule = new JsonSerializableSchedule(null, events, List.of());
+        assertThrows(IllegalValueException.class, JsonAdaptedEvent.SLOT_BLOCKED, schedule::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidRecordBeforeClash_throwsErrorOfInvalidRecord() {
+        List<JsonAdaptedEvent> events = createEvents(4 * JsonSerializableSchedule.CHUNK_SIZE);
+        events.set(JsonSerializableSchedule.CHUNK_SIZE, new JsonAdaptedEvent("Meeting", "2020-13-01", "0800",
+                "0900", "Office", List.of(), ""));
+        events.set(3 * JsonSerializableSchedule.CHUNK_SIZE, new JsonAdaptedEvent("Meeting", dateAfter(0), "0830",
+                "0930", "Office", List.of(), ""));
+        JsonSerializableSchedule schedule = new JsonSerializableSchedule(null, events, List.of());
+        assertThrows(IllegalValueException.class, Date.MESSAGE_CONSTRAINTS, schedule::toModelType);
+    }
+
+    @Test
+    public void toModelType_blockedSlotClashesWithEventFirst_throwsEventClash() {
+        List<JsonAdaptedBlockedSlot> blockedSlots = new ArrayList<>();
+        blockedSlots.add(new JsonAdaptedBlockedSlot(dateAfter(100), "1200", "1300"));
+        blockedSlots.add(new JsonAdaptedBlockedSlot(dateAfter(0), "0800", "0900"));
+        blockedSlots.add(new JsonAdaptedBlockedSlot(dateAfter(100), "1230", "1330"));
+        JsonSerializableSchedule schedule = new JsonSerializableSchedule(null, createEvents(1), blockedSlots);
+        assertThrows(IllegalValueException.class, JsonAdaptedEvent.SLOT_BLOCKED, schedule::toModelType);
+    }
+
+    /**
+     * Returns {@code count} events that do not clash, one on each day.
+     */
+    private static List<JsonAdaptedEvent> createEvents(int count) {
+        List<JsonAdaptedEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new JsonAdaptedEvent("Event " + i, dateAfter(i), "0800", "0900", "Room " + i,
+                    List.of(new JsonAdaptedTag("tag" + i % 10)), "Remark " + i));
+        }
+        return events;
+    }
+
+    private static String dateAfter(int days) {
+        return LocalDate.of(2020, 1, 1).plusDays(days).toString();
+    }
+}
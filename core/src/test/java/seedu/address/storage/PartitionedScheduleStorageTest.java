@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.NameContainsKeywordsPredicate;
+import seedu.address.testutil.BlockedSlotBuilder;
+import seedu.address.testutil.EventBuilder;
+
+public class PartitionedScheduleStorageTest {
+
+    private static final Clock CLOCK = Clock.fixed(LocalDate.of(2020, 6, 15).atStartOfDay()
+            .toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private static final Event JANUARY = new EventBuilder().withName("January").withDate("2020-01-10").build();
+    private static final Event MAY = new EventBuilder().withName("May").withDate("2020-05-10").build();
+    private static final Event JUNE = new EventBuilder().withName("June").withDate("2020-06-10").build();
+    private static final Event DECEMBER = new EventBuilder().withName("December").withDate("2020-12-10").build();
+    /** Kept in February's partition, but takes place in the active months too. */
+    private static final Event WEEKLY = new EventBuilder().withName("Weekly").withDate("2020-02-05")
+            .withTimeSlot("1000", "1100").withRecurrence("w", "2020-06-30").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path manifestFilePath;
+    private Schedule schedule;
+
+    @BeforeEach
+    public void setUp() {
+        manifestFilePath = testFolder.resolve("schedule.json");
+        schedule = new Schedule();
+        List.of(JANUARY, WEEKLY, MAY, JUNE, DECEMBER).forEach(schedule::addEvent);
+    }
+
+    @Test
+    public void readSchedule_missingManifest_emptyResult() throws Exception {
+        assertFalse(createStorage().readSchedule().isPresent());
+        assertTrue(createStorage().isFullyLoaded());
+    }
+
+    @Test
+    public void readSchedule_invalidManifest_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(manifestFilePath,
+                "{\"partitions\": [{\"month\": \"2020-13\", \"lastDate\": \"2020-01-01\"}]}");
+        assertThrows(DataConversionException.class, () -> createStorage().readSchedule());
+    }
+
+    @Test
+    public void saveSchedule_onePartitionPerMonth() throws Exception {
+        createStorage().saveSchedule(schedule);
+        Path partitionDirectory = testFolder.resolve("schedule");
+        assertEquals(Set.of("2020-01.json", "2020-02.json", "2020-05.json", "2020-06.json", "2020-12.json"),
+                Files.list(partitionDirectory).map(path -> path.getFileName().toString()).collect(Collectors.toSet()));
+        assertTrue(Files.exists(manifestFilePath));
+    }
+
+    @Test
+    public void readSchedule_onlyActiveMonthsRead_restReadOnDemand() throws Exception {
+        createStorage().saveSchedule(schedule);
+
+        PartitionedScheduleStorage storage = createStorage();
+        assertEquals(Set.of(WEEKLY, MAY, JUNE), toSet(storage.readSchedule().get()));
+        assertFalse(storage.isFullyLoaded());
+
+        assertEquals(Set.of(DECEMBER), toSet(storage.load(LocalDate.of(2020, 12, 1), null)));
+        assertEquals(Set.of(JANUARY), toSet(storage.load(null, null)));
+        assertTrue(storage.isFullyLoaded());
+        assertTrue(toSet(storage.load(null, null)).isEmpty());
+    }
+
+    @Test
+    public void readPartitionsWithEventsBefore_onlyPartitionsWithEarlierEventsRead() throws Exception {
+        BlockedSlot lastYear = new BlockedSlotBuilder().withDate("2019-01-10").build();
+        schedule.addBlockedSlot(lastYear);
+        createStorage().saveSchedule(schedule);
+
+        PartitionedScheduleStorage storage = createStorage();
+        storage.readSchedule();
+        ReadOnlySchedule pastPartitions = storage.readPartitionsWithEventsBefore(LocalDate.of(2020, 3, 1));
+        assertEquals(Set.of(JANUARY), toSet(pastPartitions));
+        assertTrue(pastPartitions.getBlockedSlotList().isEmpty());
+        assertTrue(toSet(storage.loadWithEventsBefore(LocalDate.of(2020, 3, 1))).isEmpty());
+        ReadOnlySchedule rest = storage.load(null, null);
+        assertEquals(Set.of(DECEMBER), toSet(rest));
+        assertEquals(List.of(lastYear), rest.getBlockedSlotList());
+    }
+
+    @Test
+    public void readPartitionsWithEventsMatching_onlyPartitionsWithMatchesRead() throws Exception {
+        createStorage().saveSchedule(schedule);
+
+        PartitionedScheduleStorage storage = createStorage();
+        storage.readSchedule();
+        Predicate<Event> isDecember = event -> event.getName().fullName.equals("December");
+        assertEquals(Set.of(DECEMBER), toSet(storage.readPartitionsWithEventsMatching(isDecember)));
+        assertTrue(toSet(storage.loadMatchingEvents(event -> event.equals(MAY))).isEmpty());
+        assertTrue(toSet(storage.loadMatchingBlockedSlots(unused -> true)).isEmpty());
+        assertFalse(storage.isFullyLoaded());
+        assertEquals(Set.of(JANUARY), toSet(storage.load(null, null)));
+    }
+
+    @Test
+    public void readPartitionsWithEventsMatching_wordSearch_onlyCandidatePartitionsRead() throws Exception {
+        createStorage().saveSchedule(schedule);
+        // a partition that is read fails the search
+        FileUtil.writeToFile(testFolder.resolve("schedule").resolve("2020-01.json"), "not json");
+
+        PartitionedScheduleStorage storage = createStorage();
+        storage.readSchedule();
+        Predicate<Event> isDecember = new NameContainsKeywordsPredicate(List.of("december"));
+        assertEquals(Set.of(DECEMBER), toSet(storage.readPartitionsWithEventsMatching(isDecember)));
+        assertThrows(DataConversionException.class, () ->
+                storage.readPartitionsWithEventsMatching(event -> event.getName().fullName.equals("January")));
+    }
+
+    @Test
+    public void readPartitionsWithEventsMatching_manifestWithoutWords_everyPartitionRead() throws Exception {
+        createStorage().saveSchedule(schedule);
+        String manifest = FileUtil.readFromFile(manifestFilePath);
+        FileUtil.writeToFile(manifestFilePath, manifest.replaceAll(",\\s*\"words\"\\s*:\\s*\\[[^]]*\\]", ""));
+        FileUtil.writeToFile(testFolder.resolve("schedule").resolve("2020-01.json"), "not json");
+
+        PartitionedScheduleStorage storage = createStorage();
+        storage.readSchedule();
+        Predicate<Event> isDecember = new NameContainsKeywordsPredicate(List.of("december"));
+        assertThrows(DataConversionException.class, () -> storage.readPartitionsWithEventsMatching(isDecember));
+    }
+
+    @Test
+    public void saveSchedule_onlyChangedPartitionsWritten() throws Exception {
+        PartitionedScheduleStorage storage = createStorage();
+        storage.saveSchedule(schedule);
+        Path januaryFile = testFolder.resolve("schedule").resolve("2020-01.json");
+        String markedJanuary = FileUtil.readFromFile(januaryFile) + "\n";
+        FileUtil.writeToFile(januaryFile, markedJanuary);
+
+        Event july = new EventBuilder().withName("July").withDate("2020-07-01").build();
+        schedule.addEvent(july);
+        schedule.removeEvent(JUNE);
+        storage.saveSchedule(schedule);
+
+        assertEquals(markedJanuary, FileUtil.readFromFile(januaryFile));
+        assertFalse(Files.exists(testFolder.resolve("schedule").resolve("2020-06.json")));
+        assertEquals(Set.of(JANUARY, WEEKLY, MAY, july, DECEMBER), readAll());
+    }
+
+    @Test
+    public void saveSchedule_partitionsNotRead_keptAsTheyAre() throws Exception {
+        createStorage().saveSchedule(schedule);
+
+        PartitionedScheduleStorage storage = createStorage();
+        Schedule activeMonths = new Schedule(storage.readSchedule().get());
+        Event december = new EventBuilder().withName("Another December").withDate("2020-12-20").build();
+        activeMonths.removeEvent(MAY);
+        activeMonths.addEvent(december);
+        storage.saveSchedule(activeMonths);
+
+        assertEquals(Set.of(JANUARY, WEEKLY, JUNE, DECEMBER, december), readAll());
+    }
+
+    @Test
+    public void unload_savedPartition_readAgainWhenNeeded() throws Exception {
+        createStorage().saveSchedule(schedule);
+        PartitionedScheduleStorage storage = createStorage();
+        Schedule activeMonths = new Schedule(storage.readSchedule().get());
+        Event readMay = activeMonths.getEventList().stream().filter(MAY::equals).findFirst().get();
+        YearMonth may = YearMonth.of(2020, 5);
+
+        // not what was read -> stays loaded
+        assertFalse(storage.unload(may, List.of(new EventBuilder(MAY).build()), List.of()));
+        assertFalse(storage.unload(may, List.of(), List.of()));
+
+        assertTrue(storage.unload(may, List.of(readMay), List.of()));
+        activeMonths.removeEvent(readMay);
+        storage.saveSchedule(activeMonths);
+        assertEquals(toSet(schedule), readAll());
+
+        assertEquals(Set.of(MAY), toSet(storage.load(may.atDay(1), may.atEndOfMonth())));
+    }
+
+    @Test
+    public void readSchedule_scheduleInOneFile_splitIntoPartitionsWhenSaved() throws Exception {
+        new JsonScheduleStorage(manifestFilePath).saveSchedule(schedule);
+
+        PartitionedScheduleStorage storage = createStorage();
+        ReadOnlySchedule whole = storage.readSchedule().get();
+        assertEquals(toSet(schedule), toSet(whole));
+        assertTrue(storage.isFullyLoaded());
+
+        storage.saveSchedule(whole);
+        assertEquals(toSet(schedule), readAll());
+    }
+
+    private PartitionedScheduleStorage createStorage() {
+        return new PartitionedScheduleStorage(manifestFilePath, CLOCK, 1);
+    }
+
+    /**
+     * Returns every event in the storage, as read by a new storage.
+     */
+    private Set<Event> readAll() throws Exception {
+        PartitionedScheduleStorage storage = createStorage();
+        Set<Event> events = toSet(storage.readSchedule().get());
+        events.addAll(toSet(storage.readPartitions(null, null)));
+        return events;
+    }
+
+    private static Set<Event> toSet(ReadOnlySchedule schedule) {
+        return schedule.getEventList().stream().collect(Collectors.toSet());
+    }
+}
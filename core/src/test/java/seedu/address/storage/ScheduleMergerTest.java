@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalEvents.ALICE;
+import static seedu.address.testutil.TypicalEvents.BENSON;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Schedule;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.BlockedSlotBuilder;
+import seedu.address.testutil.EventBuilder;
+
+public class ScheduleMergerTest {
+
+    private final Schedule base = getTypicalSchedule();
+    private final Schedule ours = new Schedule(base);
+    private final Schedule theirs = new Schedule(base);
+
+    @Test
+    public void merge_changedOnDifferentSides_takesBothChanges() {
+        Event editedAlice = new EventBuilder(ALICE).withRemark("Ours").build();
+        ours.setEvent(ALICE, editedAlice);
+        theirs.removeEvent(BENSON);
+
+        Schedule expected = new Schedule(base);
+        expected.setEvent(ALICE, editedAlice);
+        expected.removeEvent(BENSON);
+        assertEquals(expected, merge());
+    }
+
+    @Test
+    public void merge_changedOnBothSides_takesOurChange() {
+        Event ourAlice = new EventBuilder(ALICE).withRemark("Ours").build();
+        ours.setEvent(ALICE, ourAlice);
+        theirs.setEvent(ALICE, new EventBuilder(ALICE).withRemark("Theirs").build());
+
+        assertEquals(ours, merge());
+    }
+
+    @Test
+    public void merge_removedHereChangedThere_takesTheirChange() {
+        Event theirAlice = new EventBuilder(ALICE).withRemark("Theirs").build();
+        ours.removeEvent(ALICE);
+        theirs.setEvent(ALICE, theirAlice);
+
+        assertEquals(theirs, merge());
+    }
+
+    @Test
+    public void merge_addedOnBothSidesWithSameId_keepsBothUnderDifferentIds() {
+        BlockedSlot ourSlot = new BlockedSlotBuilder().withDate("2030-01-01").build();
+        BlockedSlot theirSlot = new BlockedSlot(ourSlot.getId(), ourSlot.getDate(),
+                new BlockedSlotBuilder().withTimeSlot("1000", "1100").build().getTimeSlot(), null);
+        ours.addBlockedSlot(ourSlot);
+        theirs.addBlockedSlot(theirSlot);
+
+        Schedule merged = merge();
+        assertEquals(base.getBlockedSlotList().size() + 2, merged.getBlockedSlotList().size());
+        BlockedSlot mergedTheirSlot = merged.getBlockedSlotList().stream()
+                .filter(theirSlot::equals).findFirst().get();
+        assertNotEquals(ourSlot.getId(), mergedTheirSlot.getId());
+    }
+
+    private Schedule merge() {
+        return ScheduleMerger.merge(base.getEventList(), base.getBlockedSlotList(), ours, theirs);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.LOCATION_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.REMARK_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.REMARK_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.TIMESLOT_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_REMARK_AMY;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class SyncClientTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final SyncServer server = new SyncServer();
+
+    @Test
+    public void sync_changesInEitherCopy_reachTheOther() throws Exception {
+        Logic laptop = createLogic("laptop", getTypicalSchedule());
+        Logic desktop = createLogic("desktop", getTypicalSchedule());
+        SyncClient laptopClient = new SyncClient(laptop, server);
+        SyncClient desktopClient = new SyncClient(desktop, server);
+        laptopClient.sync();
+        desktopClient.sync();
+
+        laptop.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + DATE_DESC_AMY + TIMESLOT_DESC_AMY
+                + LOCATION_DESC_AMY + REMARK_DESC_AMY);
+        desktop.execute(DeleteCommand.COMMAND_WORD + " 1");
+        laptopClient.sync();
+        assertEquals(1, desktopClient.sync());
+        assertEquals(1, laptopClient.sync());
+
+        assertEquals(laptop.getSchedule(), desktop.getSchedule());
+        assertEquals(laptop.getSchedule(), server.getScheduleSnapshot().toSchedule());
+        // the desktop's copy was saved with the laptop's change
+        assertEquals(desktop.getSchedule(), new JsonScheduleStorage(temporaryFolder.resolve("desktop.json"))
+                .readSchedule().get());
+    }
+
+    @Test
+    public void sync_afterSync_onlyNewChangesTransferred() throws Exception {
+        Logic laptop = createLogic("laptop", getTypicalSchedule());
+        SyncClient laptopClient = new SyncClient(laptop, server);
+        laptopClient.sync();
+        long pushedSeq = laptopClient.getPushedSeq();
+        assertTrue(laptop.exportChanges(pushedSeq).getChanges().isEmpty());
+
+        laptop.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(1, laptop.exportChanges(laptopClient.getPushedSeq()).getChanges().size());
+        laptopClient.sync();
+        // nothing the server sends back is its own change
+        assertTrue(server.pull(0, laptop.exportChanges(0).getReplicaId()).getChanges().isEmpty());
+        assertEquals(0, laptopClient.sync());
+    }
+
+    @Test
+    public void sync_editAfterRestart_winsOverEditsBeforeRestart() throws Exception {
+        Logic laptop = createLogic("laptop", getTypicalSchedule());
+        laptop.execute(EditCommand.COMMAND_WORD + " 1" + REMARK_DESC_AMY);
+        laptop.execute(EditCommand.COMMAND_WORD + " 1" + REMARK_DESC_BOB);
+        new SyncClient(laptop, server).sync();
+
+        // restarted from what it saved, with a new feed, after its last change
+        Thread.sleep(10);
+        Logic restarted = createLogic("laptop", new JsonScheduleStorage(temporaryFolder.resolve("laptop.json"))
+                .readSchedule().get());
+        restarted.execute(EditCommand.COMMAND_WORD + " 1" + REMARK_DESC_AMY);
+        new SyncClient(restarted, server).sync();
+
+        Schedule onServer = server.getScheduleSnapshot().toSchedule();
+        assertEquals(restarted.getSchedule(), onServer);
+        assertTrue(onServer.getEventList().stream()
+                .anyMatch(event -> event.getRemark().value.equals(VALID_REMARK_AMY)));
+    }
+
+    private Logic createLogic(String name, ReadOnlySchedule schedule) {
+        StorageManager storage = new StorageManager(new JsonScheduleStorage(temporaryFolder.resolve(name + ".json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve(name + "Prefs.json")));
+        return new LogicManager(new ModelManager(new Schedule(schedule), new UserPrefs()), storage);
+    }
+}
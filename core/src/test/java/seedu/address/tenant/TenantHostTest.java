@@ -0,0 +1,150 @@
+package seedu.address.tenant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.LOCATION_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.REMARK_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TIMESLOT_DESC_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class TenantHostTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + DATE_DESC_AMY
+            + TIMESLOT_DESC_AMY + LOCATION_DESC_AMY + REMARK_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TenantHost(temporaryFolder, 0));
+    }
+
+    @Test
+    public void execute_invalidTenantId_throwsIllegalArgumentException() {
+        TenantHost host = new TenantHost(temporaryFolder, 1);
+        assertThrows(IllegalArgumentException.class, () -> host.execute("../alice", ListCommand.COMMAND_WORD));
+        assertThrows(IllegalArgumentException.class, () -> host.getScheduleSnapshot(""));
+    }
+
+    @Test
+    public void execute_newTenant_startsEmptyAndWritesOnlyWhenFlushed() throws Exception {
+        TenantHost host = new TenantHost(temporaryFolder, 2);
+        assertEquals(0, host.getScheduleSnapshot("alice").getEvents().size());
+
+        host.execute("alice", ADD_AMY);
+        assertEquals(1, host.getScheduleSnapshot("alice").getEvents().size());
+        assertFalse(Files.exists(temporaryFolder.resolve("alice.json")));
+
+        host.flush();
+        assertTrue(Files.exists(temporaryFolder.resolve("alice.json")));
+        assertEquals(1, new TenantHost(temporaryFolder, 1).getScheduleSnapshot("alice").getEvents().size());
+    }
+
+    @Test
+    public void execute_overCapacity_evictsLeastRecentlyUsedAfterWritingIt() throws Exception {
+        TenantHost host = new TenantHost(temporaryFolder, 2);
+        host.execute("alice", ADD_AMY);
+        host.execute("bob", ListCommand.COMMAND_WORD);
+        host.execute("alice", ListCommand.COMMAND_WORD);
+        host.execute("carol", ListCommand.COMMAND_WORD);
+
+        assertEquals(2, host.getLoadedCount());
+        assertTrue(host.getMetrics("alice").isPresent());
+        assertFalse(host.getMetrics("bob").isPresent());
+        assertFalse(Files.exists(temporaryFolder.resolve("alice.json")));
+
+        host.execute("bob", ListCommand.COMMAND_WORD);
+        assertFalse(host.getMetrics("alice").isPresent());
+        assertTrue(Files.exists(temporaryFolder.resolve("alice.json")));
+        assertEquals(1, host.getScheduleSnapshot("alice").getEvents().size());
+    }
+
+    @Test
+    public void execute_onlyReadOnlyCommands_notWrittenWhenEvicted() throws Exception {
+        TenantHost host = new TenantHost(temporaryFolder, 1);
+        host.execute("alice", ADD_AMY);
+        host.flush();
+        Path aliceFile = temporaryFolder.resolve("alice.json");
+        Files.writeString(aliceFile, Files.readString(aliceFile) + "\n");
+        String written = Files.readString(aliceFile);
+
+        host.execute("alice", ListCommand.COMMAND_WORD);
+        host.execute("bob", ListCommand.COMMAND_WORD);
+        host.execute("carol", ListCommand.COMMAND_WORD);
+
+        assertEquals(written, Files.readString(aliceFile));
+        assertFalse(Files.exists(temporaryFolder.resolve("bob.json")));
+        assertEquals(new TenantMetrics(3, 1, 4, 1, 2), host.getTotalMetrics());
+    }
+
+    @Test
+    public void execute_tenantsUsedConcurrentlyOverCapacity_noChangesLost() throws Exception {
+        TenantHost host = new TenantHost(temporaryFolder, 2);
+        int tenantCount = 4;
+        int eventCount = 15;
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < tenantCount; t++) {
+            String tenantId = "tenant" + t;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < eventCount; i++) {
+                        host.execute(tenantId, AddCommand.COMMAND_WORD + NAME_DESC_AMY + " " + PREFIX_DATE
+                                + LocalDate.of(2020, 1, 1).plusDays(i) + TIMESLOT_DESC_AMY + LOCATION_DESC_AMY);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        host.flush();
+
+        assertEquals(List.of(), failures);
+        TenantHost restarted = new TenantHost(temporaryFolder, 1);
+        for (int t = 0; t < tenantCount; t++) {
+            assertEquals(eventCount, restarted.getScheduleSnapshot("tenant" + t).getEvents().size());
+        }
+    }
+
+    @Test
+    public void getMetrics_countsWorkPerTenantAndInTotal() throws Exception {
+        TenantHost host = new TenantHost(temporaryFolder, 1);
+        host.execute("alice", ADD_AMY);
+        host.execute("alice", ListCommand.COMMAND_WORD);
+        assertEquals(new TenantMetrics(1, 1, 2, 0, 0), host.getMetrics("alice").get());
+
+        host.execute("bob", ListCommand.COMMAND_WORD);
+        assertEquals(new TenantMetrics(1, 0, 1, 0, 0), host.getMetrics("bob").get());
+        assertEquals(new TenantMetrics(2, 1, 3, 1, 1), host.getTotalMetrics());
+    }
+
+    @Test
+    public void getScheduleSnapshot_corruptedFile_throwsCommandException() throws Exception {
+        Files.writeString(temporaryFolder.resolve("alice.json"), "not json");
+        TenantHost host = new TenantHost(temporaryFolder, 1);
+        assertThrows(CommandException.class, () -> host.getScheduleSnapshot("alice"));
+    }
+}
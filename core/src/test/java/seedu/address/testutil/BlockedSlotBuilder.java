@@ -1,8 +1,13 @@
 package seedu.address.testutil;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 import seedu.address.model.blockedslot.BlockedSlot;
 import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.TimeSlot;
+import seedu.address.model.util.IdGenerator;
 
 /**
  * A utility class to help with building BlockedSlot objects.
@@ -15,6 +20,7 @@ public class BlockedSlotBuilder {
 
     private Date date;
     private TimeSlot timeSlot;
+    private Recurrence recurrence;
 
     /**
      * Creates a {@code BlockedSlotBuilder} with the default details.
@@ -30,6 +36,7 @@ public class BlockedSlotBuilder {
     public BlockedSlotBuilder(BlockedSlot eventToCopy) {
         date = eventToCopy.getDate();
         timeSlot = eventToCopy.getTimeSlot();
+        recurrence = eventToCopy.getRecurrence().orElse(null);
     }
 
     /**
@@ -48,9 +55,18 @@ public class BlockedSlotBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Recurrence} of the {@code BlockedSlot} that we are building, skipping the dates in
+     * {@code exceptions}.
+     */
+    public BlockedSlotBuilder withRecurrence(String rule, String until, String ... exceptions) {
+        this.recurrence = new Recurrence(rule, new Date(until),
+                Arrays.stream(exceptions).map(Date::new).collect(Collectors.toSet()));
+        return this;
+    }
 
     public BlockedSlot build() {
-        return new BlockedSlot(date, timeSlot);
+        return new BlockedSlot(IdGenerator.next(), date, timeSlot, recurrence);
     }
 
 }
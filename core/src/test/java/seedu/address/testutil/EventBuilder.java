@@ -1,15 +1,19 @@
 package seedu.address.testutil;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.Location;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Remark;
 import seedu.address.model.event.TimeSlot;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdGenerator;
 import seedu.address.model.util.SampleDataUtil;
 
 /**
@@ -29,6 +33,7 @@ public class EventBuilder {
     private Location address;
     private Set<Tag> tags;
     private Remark remark;
+    private Recurrence recurrence;
 
     /**
      * Creates a {@code EventBuilder} with the default details.
@@ -52,6 +57,7 @@ public class EventBuilder {
         address = eventToCopy.getLocation();
         tags = new HashSet<>(eventToCopy.getTags());
         remark = eventToCopy.getRemark();
+        recurrence = eventToCopy.getRecurrence().orElse(null);
     }
 
     /**
@@ -102,8 +108,18 @@ public class EventBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Recurrence} of the {@code Event} that we are building, skipping the dates in
+     * {@code exceptions}.
+     */
+    public EventBuilder withRecurrence(String rule, String until, String ... exceptions) {
+        this.recurrence = new Recurrence(rule, new Date(until),
+                Arrays.stream(exceptions).map(Date::new).collect(Collectors.toSet()));
+        return this;
+    }
+
     public Event build() {
-        return new Event(name, date, timeSlot, address, tags, remark);
+        return new Event(IdGenerator.next(), name, date, timeSlot, address, tags, remark, recurrence);
     }
 
 }
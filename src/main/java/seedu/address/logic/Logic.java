@@ -1,50 +0,0 @@
-package seedu.address.logic;
-
-import java.nio.file.Path;
-
-import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.ReadOnlySchedule;
-import seedu.address.model.event.Event;
-
-/**
- * API of the Logic component
- */
-public interface Logic {
-    /**
-     * Executes the command and returns the result.
-     * @param commandText The command as entered by the user.
-     * @return the result of the command execution.
-     * @throws CommandException If an error occurs during command execution.
-     * @throws ParseException If an error occurs during parsing.
-     */
-    CommandResult execute(String commandText) throws CommandException, ParseException;
-
-    /**
-     * Returns the Schedule.
-     *
-     * @see seedu.address.model.Model#getSchedule()
-     */
-    ReadOnlySchedule getSchedule();
-
-    /** Returns an unmodifiable view of the filtered list of events */
-    ObservableList<Event> getFilteredEventList();
-
-    /**
-     * Returns the user prefs' address book file path.
-     */
-    Path getScheduleFilePath();
-
-    /**
-     * Returns the user prefs' GUI settings.
-     */
-    GuiSettings getGuiSettings();
-
-    /**
-     * Set the user prefs' GUI settings.
-     */
-    void setGuiSettings(GuiSettings guiSettings);
-}
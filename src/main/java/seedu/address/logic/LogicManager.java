@@ -1,81 +0,0 @@
-package seedu.address.logic;
-
-import java.io.IOException;
-import java.nio.file.Path;
-import java.util.logging.Logger;
-
-import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.ScheduleParser;
-import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.Model;
-import seedu.address.model.ReadOnlySchedule;
-import seedu.address.model.event.Event;
-import seedu.address.storage.Storage;
-
-/**
- * The main LogicManager of the app.
- */
-public class LogicManager implements Logic {
-    public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
-    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
-
-    private final Model model;
-    private final Storage storage;
-    private final ScheduleParser scheduleParser;
-
-    /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
-     */
-    public LogicManager(Model model, Storage storage) {
-        this.model = model;
-        this.storage = storage;
-        scheduleParser = new ScheduleParser();
-    }
-
-    @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-
-        CommandResult commandResult;
-        Command command = scheduleParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveSchedule(model.getSchedule());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
-
-        return commandResult;
-    }
-
-    @Override
-    public ReadOnlySchedule getSchedule() {
-        return model.getSchedule();
-    }
-
-    @Override
-    public ObservableList<Event> getFilteredEventList() {
-        return model.getFilteredEventList();
-    }
-
-    @Override
-    public Path getScheduleFilePath() {
-        return model.getScheduleFilePath();
-    }
-
-    @Override
-    public GuiSettings getGuiSettings() {
-        return model.getGuiSettings();
-    }
-
-    @Override
-    public void setGuiSettings(GuiSettings guiSettings) {
-        model.setGuiSettings(guiSettings);
-    }
-}
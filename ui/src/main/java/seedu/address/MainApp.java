@@ -0,0 +1,64 @@
+package seedu.address;
+
+import java.util.logging.Logger;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Version;
+import seedu.address.logic.Logic;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+import seedu.address.ui.Ui;
+import seedu.address.ui.UiManager;
+
+/**
+ * Runs the application.
+ */
+public class MainApp extends Application {
+
+    public static final Version VERSION = AppContext.VERSION;
+
+    private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+
+    protected AppContext context;
+    protected Ui ui;
+    protected Logic logic;
+    protected Storage storage;
+    protected Model model;
+    protected Config config;
+
+    @Override
+    public void init() throws Exception {
+        super.init();
+
+        AppParameters appParameters = AppParameters.parse(getParameters());
+        context = new AppContext();
+        context.init(appParameters.getConfigPath());
+
+        config = context.getConfig();
+        storage = context.getStorage();
+        model = context.getModel();
+        logic = context.getLogic();
+
+        ui = new UiManager(logic, context.getWriter());
+    }
+
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info("Starting Schedule " + MainApp.VERSION);
+        ui.start(primaryStage);
+        // Started after the UI has copied the event list, so that no command from the API or reload of the file can
+        // change it before then.
+        context.startServer();
+        context.watchScheduleFile();
+        context.startReminders(reminder -> Platform.runLater(() -> ui.showReminder(reminder)));
+    }
+
+    @Override
+    public void stop() {
+        context.stop();
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.model.Overlappable;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Recurrence;
+
+/**
+ * Indexes events or blocked slots by the dates they occur on, so that the calendar can look up the items of the days
+ * it shows without going through all the items.
+ * Items that do not recur are kept by their date. Recurring items are kept apart, and their occurrences are only
+ * worked out for the days that are looked up.
+ */
+public class CalendarIndex<T extends Overlappable> {
+
+    private static final Comparator<Overlappable> BY_START_TIME =
+            Comparator.comparing(item -> item.getTimeSlot().startTime);
+
+    private final NavigableMap<LocalDate, List<T>> itemsByDate = new TreeMap<>();
+    private final List<T> recurringItems = new ArrayList<>();
+
+    /**
+     * Returns true if {@code item} can occur on more than one date.
+     */
+    public static boolean isRecurring(Overlappable item) {
+        return item.getRecurrence().isPresent();
+    }
+
+    /**
+     * Adds {@code item} to the index.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        if (isRecurring(item)) {
+            recurringItems.add(item);
+            return;
+        }
+        List<T> items = itemsByDate.computeIfAbsent(item.getDate().date, unused -> new ArrayList<>());
+        int index = Collections.binarySearch(items, item, BY_START_TIME);
+        items.add(index < 0 ? -index - 1 : index, item);
+    }
+
+    /**
+     * Removes {@code item} itself, rather than an item equal to it, from the index.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        if (isRecurring(item)) {
+            removeInstance(recurringItems, item);
+            return;
+        }
+        List<T> items = itemsByDate.get(item.getDate().date);
+        if (items != null && removeInstance(items, item) && items.isEmpty()) {
+            itemsByDate.remove(item.getDate().date);
+        }
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        itemsByDate.clear();
+        recurringItems.clear();
+    }
+
+    /**
+     * Returns the items that occur on {@code date}, in the order of their start times.
+     */
+    public List<T> getItemsOn(LocalDate date) {
+        List<T> items = itemsByDate.getOrDefault(date, Collections.emptyList());
+        if (recurringItems.isEmpty()) {
+            return Collections.unmodifiableList(items);
+        }
+
+        Date day = new Date(date);
+        List<T> allItems = new ArrayList<>(items);
+        for (T item : recurringItems) {
+            if (Recurrence.occursOn(item, day)) {
+                allItems.add(item);
+            }
+        }
+        allItems.sort(BY_START_TIME);
+        return allItems;
+    }
+
+    /**
+     * Returns the first date that any item can occur on, if there are any items.
+     */
+    public Optional<LocalDate> getFirstDate() {
+        LocalDate first = itemsByDate.isEmpty() ? null : itemsByDate.firstKey();
+        for (T item : recurringItems) {
+            if (first == null || item.getDate().date.isBefore(first)) {
+                first = item.getDate().date;
+            }
+        }
+        return Optional.ofNullable(first);
+    }
+
+    /**
+     * Returns the last date that any item can occur on, if there are any items.
+     */
+    public Optional<LocalDate> getLastDate() {
+        LocalDate last = itemsByDate.isEmpty() ? null : itemsByDate.lastKey();
+        for (T item : recurringItems) {
+            LocalDate itemLast = Recurrence.getLastDate(item).date;
+            if (last == null || itemLast.isAfter(last)) {
+                last = itemLast;
+            }
+        }
+        return Optional.ofNullable(last);
+    }
+
+    private static <T> boolean removeInstance(List<T> items, T item) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == item) {
+                items.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+}
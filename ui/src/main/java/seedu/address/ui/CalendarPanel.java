@@ -0,0 +1,410 @@
+package seedu.address.ui;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.control.ToggleGroup;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import seedu.address.model.Overlappable;
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Panel that draws the events and blocked slots on a calendar of weeks, one week per row, scrolled a few pixels at
+ * a time. The month view lists the events of each day; the week view places them by their time of day.
+ * <p>
+ * The calendar is drawn on a {@code Canvas} that is only as large as the panel, and only the days in view are drawn.
+ * When the lists change, only the days whose items changed are drawn again.
+ */
+public class CalendarPanel extends UiPart<Region> {
+
+    static final double MONTH_ROW_HEIGHT = 100;
+    static final double HOUR_HEIGHT = 20;
+    static final double HEADER_HEIGHT = 16;
+    static final double LINE_HEIGHT = 14;
+    static final double TIME_GUTTER_WIDTH = 40;
+    /** Number of weeks shown before the first item and after the last one, or around today if they are closer. */
+    static final int MARGIN_WEEKS = 53;
+
+    private static final String FXML = "CalendarPanel.fxml";
+    private static final Color BACKGROUND_COLOR = Color.web("#f4f4f4");
+    private static final Color WEEKEND_COLOR = Color.web("#e8e8e8");
+    private static final Color GRID_COLOR = Color.web("#c8c8c8");
+    private static final Color TEXT_COLOR = Color.web("#333333");
+    private static final Color TODAY_COLOR = Color.web("#f0a830");
+    private static final Color EVENT_COLOR = Color.web("#3e7b91");
+    private static final Color URGENT_COLOR = Color.web("#eb130c");
+    private static final Color SUPPLEMENTARY_COLOR = Color.web("#ebd10c");
+    private static final Color BLOCKED_COLOR = Color.web("#9e9e9e");
+    private static final Font FONT = Font.font(10);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("d");
+    private static final DateTimeFormatter MONTH_DAY_FORMAT = DateTimeFormatter.ofPattern("d MMM");
+    private static final DateTimeFormatter WEEK_DAY_FORMAT = DateTimeFormatter.ofPattern("EEE d MMM");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+
+    private final CalendarIndex<Event> events = new CalendarIndex<>();
+    private final CalendarIndex<BlockedSlot> blockedSlots = new CalendarIndex<>();
+    private final Canvas canvas = new Canvas();
+    private final BiConsumer<LocalDate, LocalDate> datesInViewHandler;
+    private LocalDate firstDateInView;
+    private LocalDate lastDateInView;
+    private boolean isWeekView;
+    private LocalDate firstMonday;
+    private int weekCount;
+
+    @FXML
+    private Pane canvasHolder;
+
+    @FXML
+    private ScrollBar scrollBar;
+
+    @FXML
+    private ToggleButton weekToggle;
+
+    @FXML
+    private ToggleButton monthToggle;
+
+    /**
+     * Creates a {@code CalendarPanel} that shows the events in {@code eventList} and the blocked slots in
+     * {@code blockedSlotList}, and passes the first and last dates in view to {@code datesInViewHandler} whenever
+     * they change, so that the items on them can be loaded.
+     */
+    public CalendarPanel(ObservableList<Event> eventList, ObservableList<BlockedSlot> blockedSlotList,
+            BiConsumer<LocalDate, LocalDate> datesInViewHandler) {
+        super(FXML);
+        this.datesInViewHandler = datesInViewHandler;
+        eventList.forEach(events::add);
+        blockedSlotList.forEach(blockedSlots::add);
+        eventList.addListener((ListChangeListener<Event>) change -> handleItemsChanged(change, events));
+        blockedSlotList.addListener((ListChangeListener<BlockedSlot>) change ->
+                handleItemsChanged(change, blockedSlots));
+
+        ToggleGroup viewToggles = new ToggleGroup();
+        weekToggle.setToggleGroup(viewToggles);
+        monthToggle.setToggleGroup(viewToggles);
+        monthToggle.setSelected(true);
+
+        canvasHolder.getChildren().add(canvas);
+        canvas.widthProperty().bind(canvasHolder.widthProperty());
+        canvas.heightProperty().bind(canvasHolder.heightProperty());
+        canvas.widthProperty().addListener(unused -> redrawAll());
+        canvas.heightProperty().addListener(unused -> {
+            updateScrollBar();
+            redrawAll();
+        });
+        canvas.setOnScroll(event -> scrollBar.setValue(
+                Math.min(scrollBar.getMax(), Math.max(0, scrollBar.getValue() - event.getDeltaY()))));
+        scrollBar.valueProperty().addListener(unused -> redrawAll());
+
+        updateRange();
+        scrollTo(LocalDate.now());
+    }
+
+    @FXML
+    private void handleWeekView() {
+        setWeekView(true);
+    }
+
+    @FXML
+    private void handleMonthView() {
+        setWeekView(false);
+    }
+
+    @FXML
+    private void handleToday() {
+        scrollTo(LocalDate.now());
+    }
+
+    /**
+     * Switches between the week and month views, keeping the week at the top of the panel in view.
+     */
+    private void setWeekView(boolean isWeekView) {
+        // the toggles can be unselected by clicking them again
+        weekToggle.setSelected(isWeekView);
+        monthToggle.setSelected(!isWeekView);
+        if (this.isWeekView == isWeekView) {
+            return;
+        }
+        LocalDate topDate = firstMonday.plusWeeks((long) (scrollBar.getValue() / getRowHeight()));
+        this.isWeekView = isWeekView;
+        scrollTo(topDate);
+    }
+
+    private void scrollTo(LocalDate date) {
+        updateScrollBar();
+        long week = ChronoUnit.WEEKS.between(firstMonday, date);
+        double value = week * getRowHeight();
+        if (isWeekView) {
+            // starts the day at office hours
+            value += 8 * HOUR_HEIGHT;
+        }
+        scrollBar.setValue(Math.min(scrollBar.getMax(), Math.max(0, value)));
+        redrawAll();
+    }
+
+    private <T extends Overlappable> void handleItemsChanged(ListChangeListener.Change<? extends T> change,
+            CalendarIndex<T> index) {
+        Set<LocalDate> dirtyDates = new HashSet<>();
+        boolean isAllDirty = false;
+        while (change.next()) {
+            for (T item : change.getRemoved()) {
+                index.remove(item);
+                isAllDirty |= CalendarIndex.isRecurring(item);
+                dirtyDates.add(item.getDate().date);
+            }
+            for (T item : change.getAddedSubList()) {
+                index.add(item);
+                isAllDirty |= CalendarIndex.isRecurring(item);
+                dirtyDates.add(item.getDate().date);
+            }
+        }
+
+        if (updateRange() || isAllDirty) {
+            redrawAll();
+            return;
+        }
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        for (LocalDate date : dirtyDates) {
+            drawDay(gc, date);
+        }
+    }
+
+    /**
+     * Updates the weeks shown to cover all items, and keeps the same days in view.
+     * @return true if the weeks shown changed.
+     */
+    private boolean updateRange() {
+        LocalDate today = LocalDate.now();
+        LocalDate first = events.getFirstDate().orElse(today);
+        first = blockedSlots.getFirstDate().filter(first::isAfter).orElse(first);
+        first = (first.isAfter(today) ? today : first).minusWeeks(MARGIN_WEEKS);
+        LocalDate last = events.getLastDate().orElse(today);
+        last = blockedSlots.getLastDate().filter(last::isBefore).orElse(last);
+        last = (last.isBefore(today) ? today : last).plusWeeks(MARGIN_WEEKS);
+
+        LocalDate newFirstMonday = first.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        int newWeekCount = (int) ChronoUnit.WEEKS.between(newFirstMonday, last) + 1;
+        if (newFirstMonday.equals(firstMonday) && newWeekCount == weekCount) {
+            return false;
+        }
+
+        double shift = firstMonday == null ? 0 : ChronoUnit.WEEKS.between(newFirstMonday, firstMonday) * getRowHeight();
+        firstMonday = newFirstMonday;
+        weekCount = newWeekCount;
+        updateScrollBar();
+        scrollBar.setValue(Math.min(scrollBar.getMax(), Math.max(0, scrollBar.getValue() + shift)));
+        return true;
+    }
+
+    private void updateScrollBar() {
+        double height = canvas.getHeight();
+        scrollBar.setMax(Math.max(0, weekCount * getRowHeight() - height));
+        scrollBar.setVisibleAmount(height);
+        scrollBar.setUnitIncrement(isWeekView ? HOUR_HEIGHT : LINE_HEIGHT);
+        scrollBar.setBlockIncrement(Math.max(height, getRowHeight()));
+    }
+
+    private double getRowHeight() {
+        return isWeekView ? HEADER_HEIGHT + 24 * HOUR_HEIGHT : MONTH_ROW_HEIGHT;
+    }
+
+    private double getGutterWidth() {
+        return isWeekView ? TIME_GUTTER_WIDTH : 0;
+    }
+
+    private double getColumnWidth() {
+        return (canvas.getWidth() - getGutterWidth()) / 7;
+    }
+
+    /**
+     * Draws all the days in view.
+     */
+    private void redrawAll() {
+        if (firstMonday == null) {
+            return;
+        }
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.setFill(BACKGROUND_COLOR);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        double offset = scrollBar.getValue();
+        int firstWeek = (int) (offset / getRowHeight());
+        int lastWeek = Math.min(weekCount - 1, (int) ((offset + canvas.getHeight()) / getRowHeight()));
+        for (int week = firstWeek; week <= lastWeek; week++) {
+            if (isWeekView) {
+                drawTimeGutter(gc, week * getRowHeight() - offset);
+            }
+            for (int day = 0; day < 7; day++) {
+                drawDay(gc, firstMonday.plusDays(week * 7L + day));
+            }
+        }
+        updateDatesInView(firstMonday.plusWeeks(firstWeek), firstMonday.plusWeeks(lastWeek + 1).minusDays(1));
+    }
+
+    private void updateDatesInView(LocalDate first, LocalDate last) {
+        if (first.equals(firstDateInView) && last.equals(lastDateInView)) {
+            return;
+        }
+        firstDateInView = first;
+        lastDateInView = last;
+        datesInViewHandler.accept(first, last);
+    }
+
+    private void drawTimeGutter(GraphicsContext gc, double top) {
+        gc.setFont(FONT);
+        gc.setFill(TEXT_COLOR);
+        gc.setTextBaseline(VPos.TOP);
+        for (int hour = 0; hour < 24; hour++) {
+            gc.fillText(String.format("%02d00", hour), 4, top + HEADER_HEIGHT + hour * HOUR_HEIGHT);
+        }
+    }
+
+    /**
+     * Draws {@code date} over whatever was drawn there before, if it is in view.
+     */
+    private void drawDay(GraphicsContext gc, LocalDate date) {
+        long days = ChronoUnit.DAYS.between(firstMonday, date);
+        double rowHeight = getRowHeight();
+        double width = getColumnWidth();
+        double x = getGutterWidth() + (days % 7) * width;
+        double y = (days / 7) * rowHeight - scrollBar.getValue();
+        if (days < 0 || days >= weekCount * 7L || y + rowHeight <= 0 || y >= canvas.getHeight()) {
+            return;
+        }
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, y, width, rowHeight);
+        gc.clip();
+        gc.setFont(FONT);
+        gc.setTextBaseline(VPos.TOP);
+
+        boolean isWeekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+        gc.setFill(isWeekend ? WEEKEND_COLOR : BACKGROUND_COLOR);
+        gc.fillRect(x, y, width, rowHeight);
+        if (date.equals(LocalDate.now())) {
+            gc.setFill(TODAY_COLOR);
+            gc.fillRect(x, y, width, HEADER_HEIGHT);
+        }
+        gc.setFill(TEXT_COLOR);
+        DateTimeFormatter format = isWeekView ? WEEK_DAY_FORMAT
+                : date.getDayOfMonth() == 1 ? MONTH_DAY_FORMAT : DAY_FORMAT;
+        gc.fillText(format.format(date), x + 3, y + 2);
+
+        if (isWeekView) {
+            drawWeekDay(gc, date, x, y + HEADER_HEIGHT, width);
+        } else {
+            drawMonthDay(gc, date, x, y + HEADER_HEIGHT, width, rowHeight - HEADER_HEIGHT);
+        }
+
+        gc.setStroke(GRID_COLOR);
+        gc.setLineWidth(1);
+        gc.strokeLine(x + width - 0.5, y, x + width - 0.5, y + rowHeight);
+        gc.strokeLine(x, y + rowHeight - 0.5, x + width, y + rowHeight - 0.5);
+        gc.restore();
+    }
+
+    /**
+     * Lists the blocked slots and events of {@code date}, as many as fit, with the number of those left out.
+     */
+    private void drawMonthDay(GraphicsContext gc, LocalDate date, double x, double y, double width, double height) {
+        List<BlockedSlot> daySlots = blockedSlots.getItemsOn(date);
+        List<Event> dayEvents = events.getItemsOn(date);
+        int total = daySlots.size() + dayEvents.size();
+        int lineCount = (int) (height / LINE_HEIGHT);
+        int shownCount = total <= lineCount ? total : Math.max(0, lineCount - 1);
+
+        for (int i = 0; i < shownCount; i++) {
+            double lineY = y + i * LINE_HEIGHT;
+            if (i < daySlots.size()) {
+                BlockedSlot slot = daySlots.get(i);
+                gc.setFill(BLOCKED_COLOR);
+                gc.fillText(formatTime(slot.getTimeSlot().startTime) + " blocked", x + 3, lineY);
+            } else {
+                Event event = dayEvents.get(i - daySlots.size());
+                gc.setFill(getColor(event));
+                gc.fillRect(x + 1, lineY, width - 3, LINE_HEIGHT - 1);
+                gc.setFill(getTextColor(event));
+                gc.fillText(formatTime(event.getTimeSlot().startTime) + " " + event.getName().fullName, x + 3,
+                        lineY);
+            }
+        }
+        if (shownCount < total) {
+            gc.setFill(TEXT_COLOR);
+            gc.fillText("+" + (total - shownCount) + " more", x + 3, y + shownCount * LINE_HEIGHT);
+        }
+    }
+
+    /**
+     * Draws the blocked slots and events of {@code date} at their times of day.
+     */
+    private void drawWeekDay(GraphicsContext gc, LocalDate date, double x, double y, double width) {
+        gc.setStroke(GRID_COLOR);
+        gc.setLineWidth(0.5);
+        for (int hour = 1; hour < 24; hour++) {
+            gc.strokeLine(x, y + hour * HOUR_HEIGHT, x + width, y + hour * HOUR_HEIGHT);
+        }
+
+        gc.setFill(BLOCKED_COLOR);
+        for (BlockedSlot slot : blockedSlots.getItemsOn(date)) {
+            gc.fillRect(x + 1, y + getOffset(slot.getTimeSlot().startTime), width - 3, getHeight(slot));
+        }
+        for (Event event : events.getItemsOn(date)) {
+            double top = y + getOffset(event.getTimeSlot().startTime);
+            gc.setFill(getColor(event));
+            gc.fillRect(x + 1, top, width - 3, getHeight(event));
+            gc.setFill(getTextColor(event));
+            gc.fillText(event.getName().fullName, x + 3, top + 1);
+        }
+    }
+
+    private static double getOffset(LocalTime time) {
+        return time.toSecondOfDay() / 3600.0 * HOUR_HEIGHT;
+    }
+
+    private static double getHeight(Overlappable item) {
+        return Math.max(LINE_HEIGHT / 2,
+                getOffset(item.getTimeSlot().endTime) - getOffset(item.getTimeSlot().startTime) - 1);
+    }
+
+    private static String formatTime(LocalTime time) {
+        return TIME_FORMAT.format(time);
+    }
+
+    /**
+     * Returns the colour of {@code event}, which follows its special tags like its {@code EventCard} does.
+     */
+    private static Color getColor(Event event) {
+        if (event.getTags().contains(new Tag("URGENT"))) {
+            return URGENT_COLOR;
+        } else if (event.getTags().contains(new Tag("supplementary"))) {
+            return SUPPLEMENTARY_COLOR;
+        }
+        return EVENT_COLOR;
+    }
+
+    private static Color getTextColor(Event event) {
+        return getColor(event) == SUPPLEMENTARY_COLOR ? TEXT_COLOR : Color.WHITE;
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.ui;
+
+import java.util.concurrent.CompletionStage;
+
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Region;
+import seedu.address.logic.LiveFind;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * The UI component that is responsible for receiving user command inputs.
+ */
+public class CommandBox extends UiPart<Region> {
+
+    public static final String ERROR_STYLE_CLASS = "error";
+    public static final String PENDING_STYLE_CLASS = "pending";
+    private static final String FXML = "CommandBox.fxml";
+
+    private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final LiveFind liveFind;
+    private int pendingCount;
+    private String completionStem;
+    private String completedText;
+    private int completionChoice;
+
+    @FXML
+    private TextField commandTextField;
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}, which
+     * filters the events with {@code liveFind} while a {@code find} command is typed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter, LiveFind liveFind) {
+        super(FXML);
+        this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
+        this.liveFind = liveFind;
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> {
+            setStyleToDefault();
+            liveFind.update(text);
+        });
+        // Tab would otherwise move the focus out of the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleTabPressed(event.isShiftDown());
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Handles the Tab button pressed event by completing the command.
+     * Pressing it again right after goes on to the next completion, or to the previous one with Shift.
+     */
+    private void handleTabPressed(boolean isBackwards) {
+        String commandText = commandTextField.getText();
+        if (commandText.equals(completedText)) {
+            completionChoice += isBackwards ? -1 : 1;
+        } else {
+            completionStem = commandText;
+            completionChoice = 0;
+        }
+
+        completedText = commandCompleter.complete(completionStem, completionChoice);
+        commandTextField.setText(completedText);
+        commandTextField.positionCaret(completedText.length());
+    }
+
+    /**
+     * Handles the Enter button pressed event.
+     * The command box is cleared at once, so that the next command can be typed while this one runs.
+     * If the command fails, its text is put back unless another command has been typed since.
+     */
+    @FXML
+    private void handleCommandEntered() {
+        String commandText = commandTextField.getText();
+        if (commandText.equals("")) {
+            return;
+        }
+
+        liveFind.cancel();
+        commandTextField.setText("");
+        setPending(pendingCount + 1);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setPending(pendingCount - 1);
+            if (error == null) {
+                return;
+            }
+            if (commandTextField.getText().equals("")) {
+                commandTextField.setText(commandText);
+            }
+            setStyleToIndicateCommandFailure();
+        });
+    }
+
+    /**
+     * Sets the number of commands that are still running, and shows whether there are any.
+     */
+    private void setPending(int pendingCount) {
+        this.pendingCount = pendingCount;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (pendingCount == 0) {
+            styleClass.remove(PENDING_STYLE_CLASS);
+        } else if (!styleClass.contains(PENDING_STYLE_CLASS)) {
+            styleClass.add(PENDING_STYLE_CLASS);
+        }
+    }
+
+    /**
+     * Sets the command box style to use the default style.
+     */
+    private void setStyleToDefault() {
+        commandTextField.getStyleClass().remove(ERROR_STYLE_CLASS);
+    }
+
+    /**
+     * Sets the command box style to indicate a failed command.
+     */
+    private void setStyleToIndicateCommandFailure() {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+
+        if (styleClass.contains(ERROR_STYLE_CLASS)) {
+            return;
+        }
+
+        styleClass.add(ERROR_STYLE_CLASS);
+    }
+
+    /**
+     * Represents a function that can complete commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns {@code commandText} with its last part replaced by its {@code choice}-th completion.
+         *
+         * @see seedu.address.logic.Logic#complete(String, int)
+         */
+        String complete(String commandText, int choice);
+    }
+
+    /**
+     * Represents a function that can execute commands.
+     */
+    @FunctionalInterface
+    public interface CommandExecutor {
+        /**
+         * Starts executing the command and returns its result, which completes on the JavaFX Application Thread.
+         * The result completes exceptionally if the command fails.
+         *
+         * @see seedu.address.logic.Logic#execute(String)
+         */
+        CompletionStage<CommandResult> execute(String commandText);
+    }
+
+}
@@ -41,17 +41,22 @@ public class CommandDescCard extends UiPart<TitledPane> {
         switch (commandWord) {
         case ADD:
             this.getRoot().setText("Add Command");
-            this.format.setText("add n/NAME d/DATE t/TIMESLOT l/LOCATION [tag/TAG]...[r/REMARK]");
-            this.description.setText("Adds a consultation event to DukePro(f)");
+            this.format.setText("add n/NAME d/DATE t/TIMESLOT l/LOCATION [tag/TAG]...[r/REMARK]"
+                    + "\n" + "[every/N(d|w) until/DATE [except/DATE]...]");
+            this.description.setText("Adds a consultation event to DukePro(f), optionally repeating it "
+                    + "every N days or weeks until a date");
             this.examples.setText("add n/Lulu Yousef d/2020-01-01 t/0800-0900 l/NUS tag/Important tag/supplementary"
-                    + "\n" + "add n/Ruth Poh d/2020-02-02 t/1000-1100 l/The Deck r/May have to switch to zoom");
+                    + "\n" + "add n/Ruth Poh d/2020-02-02 t/1000-1100 l/The Deck r/May have to switch to zoom"
+                    + "\n" + "add n/CS2103T Consult d/2020-01-06 t/1400-1500 l/COM1 every/w until/2020-04-13 "
+                    + "except/2020-02-24");
             break;
         case BLOCK:
             this.getRoot().setText("Block Command");
-            this.format.setText("block d/DATE t/TIMESLOT");
+            this.format.setText("block d/DATE t/TIMESLOT [every/RULE until/DATE [except/DATE]...]");
             this.description.setText("Blocks the specified time slot and prevents an event from being created at"
-                    + "the at time slot");
-            this.examples.setText("add d/2020-01-01 t/0800-0900");
+                    + "the at time slot, optionally repeating it by a rule such as 2w, weekday or mon,wed");
+            this.examples.setText("block d/2020-01-01 t/0800-0900"
+                    + "\n" + "block d/2020-01-06 t/1200-1300 every/weekday until/2020-05-01");
             break;
         case CLEAR:
             this.getRoot().setText("Clear Command");
@@ -91,12 +96,19 @@ public class CommandDescCard extends UiPart<TitledPane> {
             this.description.setText("Exits DukePro(f)");
             this.examples.setText("exit");
             break;
+        case FILTER_TAG:
+            this.getRoot().setText("Filter By Tags Command");
+            this.format.setText("filter_tag TAG_NAME [MORE_TAG_NAMES] [--archive]");
+            this.description.setText("Finds all events whose tags contain any of the specified tag names and displays "
+                    + "them as a list with index numbers. With --archive, archived events are searched too.");
+            this.examples.setText("filter_tag URGENT" + "\n" + "filter_tag URGENT --archive");
+            break;
         case FIND:
             this.getRoot().setText("Find Command");
-            this.format.setText("find KEYWORD [MORE_KEYWORDS]");
+            this.format.setText("find KEYWORD [MORE_KEYWORDS] [--archive]");
             this.description.setText("Finds all events whose names contain any of the specified keywords and displays "
-                    + "them as a list with index numbers.");
-            this.examples.setText("find Jacob");
+                    + "them as a list with index numbers. With --archive, archived events are searched too.");
+            this.examples.setText("find Jacob" + "\n" + "find Jacob --archive");
             break;
         case HELP:
             this.getRoot().setText("Help Command");
@@ -104,6 +116,13 @@ public class CommandDescCard extends UiPart<TitledPane> {
             this.description.setText("Opens a pop-up window with a link to DukePro(f)'s user guide.");
             this.examples.setText("help");
             break;
+        case HISTORY:
+            this.getRoot().setText("History Command");
+            this.format.setText("history [KEYWORD]...");
+            this.description.setText("Lists the past events that have been archived, or those whose names contain any "
+                    + "of the specified keywords.");
+            this.examples.setText("history" + "\n" + "history Jacob");
+            break;
         case LIST:
             this.getRoot().setText("List Command");
             this.format.setText("list");
@@ -129,6 +148,19 @@ public class CommandDescCard extends UiPart<TitledPane> {
             this.description.setText("Displays the next consultation event scheduled for the day in DukePro(f)");
             this.examples.setText("next_event");
             break;
+        case REDO:
+            this.getRoot().setText("Redo Command");
+            this.format.setText("redo");
+            this.description.setText("Restores the change to DukePro(f) that was last undone");
+            this.examples.setText("redo");
+            break;
+        case UNDO:
+            this.getRoot().setText("Undo Command");
+            this.format.setText("undo");
+            this.description.setText("Reverts the last change to the consultation events or blocked slots "
+                    + "in DukePro(f)");
+            this.examples.setText("undo");
+            break;
         case UPCOMING_EVENTS:
             this.getRoot().setText("Upcoming Event Command");
             this.format.setText("upcoming_events");
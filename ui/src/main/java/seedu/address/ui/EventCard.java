@@ -8,6 +8,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.event.Event;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Event}.
@@ -51,7 +52,9 @@ public class EventCard extends UiPart<Region> {
         id.setText(displayedIndex + ". ");
         name.setText(event.getName().fullName);
         name.setWrapText(true);
-        date.setText(event.getDate().value);
+        date.setText(event.getRecurrence()
+                .map(recurrence -> event.getDate().value + " (" + recurrence + ")")
+                .orElse(event.getDate().value));
         loc.setText(event.getLocation().value);
         loc.setWrapText(true);
         timeSlot.setText(event.getTimeSlot().toString());
@@ -59,7 +62,28 @@ public class EventCard extends UiPart<Region> {
         remark.setWrapText(true);
         event.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(tag.createLabel()));
+                .forEach(tag -> tags.getChildren().add(createLabel(tag)));
+    }
+
+    /**
+     * Creates a Label depending on the tag name
+     *
+     * @return a label with a background depending on the tag name.
+     * The tag name "URGENT" returns a label with a red background
+     * The tag name "supplementary" returns a label with a yellow background
+     */
+    private static Label createLabel(Tag tag) {
+        Label l;
+        if (tag.tagName.equals("URGENT")) {
+            l = new UrgentLabel();
+        } else if (tag.tagName.equals("supplementary")) {
+            l = new SupplementaryLabel();
+        } else {
+            l = new Label(tag.tagName);
+        }
+        l.setMaxWidth(100);
+        l.setWrapText(true);
+        return l;
     }
 
     @Override
@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,10 +18,11 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandWriter;
+import seedu.address.logic.LiveFind;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.reminder.Reminder;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -30,6 +36,8 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private Executor writer;
+    private CommandWriter commandWriter;
 
     // Independent Ui parts residing in this Ui container
     private EventListPanel eventListPanel;
@@ -52,18 +60,24 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private VBox resultDisplayPlaceholder;
 
+    @FXML
+    private StackPane calendarPanelPlaceholder;
+
     @FXML
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands run on
+     * {@code writer} so that the JavaFX Application Thread is never blocked by them.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, Executor writer) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.writer = writer;
+        this.commandWriter = new CommandWriter(logic, writer);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -117,16 +131,26 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(new ObservableListAdapter<>(logic.getFilteredEventList(),
+                Platform::runLater));
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
+        BiConsumer<LocalDate, LocalDate> datesInViewHandler = (from, to) ->
+                writer.execute(() -> logic.showDates(from, to));
+        CalendarPanel calendarPanel = new CalendarPanel(
+                new ObservableListAdapter<>(logic.getFilteredEventList(), Platform::runLater),
+                new ObservableListAdapter<>(logic.getFilteredBlockedSlotList(), Platform::runLater),
+                datesInViewHandler);
+        calendarPanelPlaceholder.getChildren().add(calendarPanel.getRoot());
+
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getScheduleFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::complete,
+                new LiveFind(logic, writer));
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -170,6 +194,13 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Shows a notification of {@code reminder} over this window.
+     */
+    void showReminder(Reminder reminder) {
+        new ReminderNotification(reminder).show(primaryStage);
+    }
+
     /**
      * Closes the application.
      */
@@ -177,7 +208,7 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        writer.execute(() -> logic.setGuiSettings(guiSettings));
         commandSummaryWindow.hide();
         helpWindow.hide();
         primaryStage.hide();
@@ -188,15 +219,19 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to the writer and returns its result, which is shown once the command is done.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandWriter.submit(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error != null) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
             logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser(), commandResult.getResultLines());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -209,12 +244,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
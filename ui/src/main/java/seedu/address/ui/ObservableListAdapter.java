@@ -0,0 +1,101 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.observable.ObservableSequence;
+import seedu.address.commons.observable.SequenceChange;
+
+/**
+ * Presents an {@code ObservableSequence} from the model as a JavaFX {@code ObservableList},
+ * so that the list views can follow the model without the model depending on JavaFX.
+ * <p>
+ * The sequence may be changed on another thread, such as the command writer. This list keeps its own copy of the
+ * elements, which only changes on the {@code notifier}'s thread. Changes made to the sequence are queued, and all
+ * changes queued by the time the notifier runs are passed on together as a single JavaFX change.
+ */
+public class ObservableListAdapter<T> extends ObservableListBase<T> implements ObservableList<T> {
+
+    private final List<T> elements;
+    private final Executor notifier;
+    private final Queue<SequenceChange<? extends T>> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isApplyScheduled = new AtomicBoolean();
+
+    /**
+     * Creates an {@code ObservableList} that follows {@code sequence}, changing as soon as the sequence does.
+     * The sequence must only be changed on the thread that uses this list.
+     */
+    public ObservableListAdapter(ObservableSequence<T> sequence) {
+        this(sequence, Runnable::run);
+    }
+
+    /**
+     * Creates an {@code ObservableList} that follows {@code sequence}, changing only on {@code notifier}.
+     * The sequence must not be changed while this list is being created.
+     */
+    public ObservableListAdapter(ObservableSequence<T> sequence, Executor notifier) {
+        requireAllNonNull(sequence, notifier);
+        this.elements = new ArrayList<>(sequence);
+        this.notifier = notifier;
+        sequence.addListener(this::onSequenceChanged);
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    private void onSequenceChanged(SequenceChange<? extends T> change) {
+        pendingChanges.add(change);
+        if (isApplyScheduled.compareAndSet(false, true)) {
+            notifier.execute(this::applyPendingChanges);
+        }
+    }
+
+    /**
+     * Applies every queued change to the elements and passes them on as one change.
+     */
+    private void applyPendingChanges() {
+        isApplyScheduled.set(false);
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        for (SequenceChange<? extends T> change = pendingChanges.poll(); change != null;
+                change = pendingChanges.poll()) {
+            applyChange(change);
+        }
+        endChange();
+    }
+
+    private void applyChange(SequenceChange<? extends T> change) {
+        int from = change.getFrom();
+        List<? extends T> removed = change.getRemoved();
+        List<? extends T> added = change.getAdded();
+        elements.subList(from, from + removed.size()).clear();
+        elements.addAll(from, added);
+
+        int to = from + added.size();
+        if (change.wasReplaced()) {
+            nextReplace(from, to, new ArrayList<>(removed));
+        } else if (change.wasRemoved()) {
+            nextRemove(from, new ArrayList<>(removed));
+        } else {
+            nextAdd(from, to);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.ui;
+
+import javafx.animation.PauseTransition;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.stage.Popup;
+import javafx.stage.Window;
+import javafx.util.Duration;
+import seedu.address.reminder.Reminder;
+
+/**
+ * A notification in the bottom right corner of the main window that reminds the user of an upcoming event, and
+ * hides itself after a while or when clicked away.
+ */
+public class ReminderNotification extends UiPart<Popup> {
+
+    private static final String FXML = "ReminderNotification.fxml";
+    private static final Duration SHOWN_FOR = Duration.seconds(10);
+    private static final double MARGIN = 16;
+
+    @FXML
+    private Label message;
+
+    /**
+     * Creates a notification of {@code reminder}.
+     */
+    public ReminderNotification(Reminder reminder) {
+        super(FXML, new Popup());
+        message.setText(reminder.getMessage());
+    }
+
+    /**
+     * Shows the notification over {@code owner}.
+     */
+    public void show(Window owner) {
+        Popup popup = getRoot();
+        popup.setOnShown(unused -> {
+            popup.setX(owner.getX() + owner.getWidth() - popup.getWidth() - MARGIN);
+            popup.setY(owner.getY() + owner.getHeight() - popup.getHeight() - MARGIN);
+        });
+        popup.show(owner);
+
+        PauseTransition delay = new PauseTransition(SHOWN_FOR);
+        delay.setOnFinished(unused -> popup.hide());
+        delay.play();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextArea;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+
+/**
+ * A ui for the status bar that is displayed at the header of the application.
+ * Long listings are shown in a list below the feedback, which only asks for the lines that are in view.
+ */
+public class ResultDisplay extends UiPart<Region> {
+
+    private static final String FXML = "ResultDisplay.fxml";
+    private static final int LISTING_FEEDBACK_ROW_COUNT = 1;
+
+    @FXML
+    private TextArea resultDisplay;
+
+    @FXML
+    private ListView<String> resultList;
+
+    public ResultDisplay() {
+        super(FXML);
+    }
+
+    public void setFeedbackToUser(String feedbackToUser) {
+        setFeedbackToUser(feedbackToUser, Collections.emptyList());
+    }
+
+    /**
+     * Shows {@code feedbackToUser} followed by {@code resultLines}. The lines are read as they are scrolled into
+     * view, so they can be formatted lazily.
+     */
+    public void setFeedbackToUser(String feedbackToUser, List<String> resultLines) {
+        requireNonNull(feedbackToUser);
+        requireNonNull(resultLines);
+        resultDisplay.setText(feedbackToUser);
+
+        boolean isListing = !resultLines.isEmpty();
+        // wraps the lines without copying them, so that only the cells in view read them
+        resultList.setItems(isListing
+                ? FXCollections.observableList(resultLines)
+                : FXCollections.emptyObservableList());
+        resultList.scrollTo(0);
+        resultList.setVisible(isListing);
+        resultList.setManaged(isListing);
+        resultDisplay.setPrefRowCount(isListing ? LISTING_FEEDBACK_ROW_COUNT : TextArea.DEFAULT_PREF_ROW_COUNT);
+        VBox.setVgrow(resultDisplay, isListing ? Priority.NEVER : Priority.ALWAYS);
+    }
+
+}
@@ -1,4 +1,4 @@
-package seedu.address.model.tag;
+package seedu.address.ui;
 
 import javafx.scene.control.Label;
 
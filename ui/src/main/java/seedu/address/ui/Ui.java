@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import javafx.stage.Stage;
+import seedu.address.reminder.Reminder;
 
 /**
  * API of UI component
@@ -10,4 +11,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code reminder} to the user. Must be called on the JavaFX application thread. */
+    void showReminder(Reminder reminder);
+
 }
@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -11,6 +14,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.reminder.Reminder;
 
 /**
  * The manager of the UI component.
@@ -23,14 +27,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/DukePro(f).png";
 
     private Logic logic;
+    private Executor writer;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose commands run on {@code writer}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, Executor writer) {
         super();
         this.logic = logic;
+        this.writer = writer;
     }
 
     @Override
@@ -41,7 +47,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, writer);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -51,7 +57,17 @@ public class UiManager implements Ui {
         }
     }
 
-    private Image getImage(String imagePath) {
+    @Override
+    public void showReminder(Reminder reminder) {
+        logger.info("Reminding of " + reminder);
+        mainWindow.showReminder(reminder);
+    }
+
+    /**
+     * Gets an {@code Image} from the specified path.
+     */
+    static Image getImage(String imagePath) {
+        requireNonNull(imagePath);
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
 
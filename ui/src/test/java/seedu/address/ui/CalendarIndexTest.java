@@ -0,0 +1,100 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.blockedslot.BlockedSlot;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.BlockedSlotBuilder;
+import seedu.address.testutil.EventBuilder;
+
+public class CalendarIndexTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    private final CalendarIndex<Event> index = new CalendarIndex<>();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getItemsOn_sortedByStartTime() {
+        Event late = new EventBuilder().withName("Late").withTimeSlot("1400", "1500").build();
+        Event early = new EventBuilder().withName("Early").withTimeSlot("0800", "0900").build();
+        Event otherDay = new EventBuilder().withDate("2020-01-02").build();
+        index.add(late);
+        index.add(otherDay);
+        index.add(early);
+
+        assertEquals(List.of(early, late), index.getItemsOn(FIRST_DAY));
+        assertEquals(List.of(otherDay), index.getItemsOn(FIRST_DAY.plusDays(1)));
+        assertTrue(index.getItemsOn(FIRST_DAY.plusDays(2)).isEmpty());
+    }
+
+    @Test
+    public void getItemsOn_recurringItems_expandedOnDaysTheyOccur() {
+        Event weekly = new EventBuilder().withName("Weekly").withTimeSlot("1000", "1100")
+                .withRecurrence("w", "2020-01-31", "2020-01-15").build();
+        Event once = new EventBuilder().withName("Once").withDate("2020-01-08").build();
+        index.add(weekly);
+        index.add(once);
+
+        assertEquals(List.of(weekly), index.getItemsOn(FIRST_DAY));
+        assertEquals(List.of(once, weekly), index.getItemsOn(FIRST_DAY.plusWeeks(1)));
+        // skipped as an exception
+        assertTrue(index.getItemsOn(FIRST_DAY.plusWeeks(2)).isEmpty());
+        // after its last date
+        assertTrue(index.getItemsOn(FIRST_DAY.plusWeeks(5)).isEmpty());
+        assertTrue(index.getItemsOn(FIRST_DAY.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void remove_removesThatInstanceOnly() {
+        Event event = new EventBuilder().build();
+        Event copy = new EventBuilder(event).build();
+        index.add(event);
+        index.add(copy);
+
+        index.remove(event);
+        assertEquals(1, index.getItemsOn(FIRST_DAY).size());
+        assertTrue(index.getItemsOn(FIRST_DAY).get(0) == copy);
+
+        index.remove(copy);
+        assertTrue(index.getItemsOn(FIRST_DAY).isEmpty());
+        assertEquals(Optional.empty(), index.getFirstDate());
+    }
+
+    @Test
+    public void getFirstAndLastDate() {
+        assertEquals(Optional.empty(), index.getFirstDate());
+        assertEquals(Optional.empty(), index.getLastDate());
+
+        index.add(new EventBuilder().withDate("2020-03-01").build());
+        index.add(new EventBuilder().withDate("2020-02-01").withRecurrence("d", "2020-06-30").build());
+        assertEquals(Optional.of(LocalDate.of(2020, 2, 1)), index.getFirstDate());
+        assertEquals(Optional.of(LocalDate.of(2020, 6, 30)), index.getLastDate());
+
+        index.clear();
+        assertEquals(Optional.empty(), index.getLastDate());
+    }
+
+    @Test
+    public void blockedSlots_indexedLikeEvents() {
+        CalendarIndex<BlockedSlot> slots = new CalendarIndex<>();
+        BlockedSlot slot = new BlockedSlotBuilder().withRecurrence("weekday", "2020-01-10").build();
+        slots.add(slot);
+
+        assertEquals(List.of(slot), slots.getItemsOn(FIRST_DAY));
+        // a Saturday
+        assertTrue(slots.getItemsOn(LocalDate.of(2020, 1, 4)).isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.SortedObservableList;
+
+public class ObservableListAdapterTest {
+
+    private final SortedObservableList<String> sequence = new SortedObservableList<>(Comparator.naturalOrder());
+    private final ObservableListAdapter<String> list = new ObservableListAdapter<>(sequence);
+    private final List<String> changes = new ArrayList<>();
+
+    public ObservableListAdapterTest() {
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    changes.add("set " + change.getFrom() + " " + change.getAddedSubList());
+                } else if (change.wasRemoved()) {
+                    changes.add("remove " + change.getFrom() + " " + change.getRemoved());
+                } else if (change.wasAdded()) {
+                    changes.add("add " + change.getFrom() + " " + change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void sequenceChanges_passedOnAsListChanges() {
+        sequence.insert("b");
+        sequence.insert("a");
+        sequence.replace("b", "c");
+        sequence.removeElement("a");
+
+        assertEquals(Arrays.asList("c"), list);
+        assertEquals(Arrays.asList("add 0 [b]", "add 0 [a]", "set 1 [c]", "remove 0 [a]"), changes);
+    }
+
+    @Test
+    public void sequenceChanges_notifierRunsLater_passedOnTogether() {
+        List<Runnable> notifications = new ArrayList<>();
+        ObservableListAdapter<String> laterList = new ObservableListAdapter<>(sequence, notifications::add);
+        List<Integer> changeCounts = new ArrayList<>();
+        laterList.addListener((ListChangeListener<String>) change -> changeCounts.add(laterList.size()));
+
+        sequence.insert("b");
+        sequence.insert("a");
+        sequence.removeElement("b");
+
+        // list does not change until the notifier runs
+        assertEquals(Collections.emptyList(), laterList);
+        assertEquals(1, notifications.size());
+
+        notifications.get(0).run();
+        assertEquals(Arrays.asList("a"), laterList);
+        assertEquals(Arrays.asList(1), changeCounts);
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class UiManagerTest {
+
+    @Test
+    public void getImage_exitingImage() {
+        assertNotNull(UiManager.getImage("/images/DukePro(f).png"));
+    }
+
+    @Test
+    public void getImage_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> UiManager.getImage(null));
+    }
+}